@@ -0,0 +1,387 @@
+package com.example.devmatch.job_posting_backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Driver de carga HTTP para o backend rodando com a massa do perfil "dados-sinteticos".
+ * Repete uma mistura ponderada de chamadas a /api/jobs, /api/matching e /api/admin/indicators
+ * e, ao fim, mostra por operação a vazão e os percentis de latência (p50, p90, p99, p99,9).
+ *
+ * Dois modos:
+ * <ul>
+ *   <li>laço fechado (padrão): {@code --concorrencia} usuários virtuais fazendo uma chamada atrás da outra;</li>
+ *   <li>taxa fixa ({@code --taxa N} req/s): as chamadas saem no horário planejado, independentemente das
+ *   anteriores, e a latência é medida a partir desse horário (sem omissão coordenada).</li>
+ * </ul>
+ *
+ * Execução (com a aplicação no ar):
+ * {@code mvn -Pbenchmark,carga test-compile exec:exec -Dcarga.args="--duracao 60 --concorrencia 64"}
+ * Opções: --url, --duracao, --aquecimento (segundos), --concorrencia, --taxa, --amostra-devs e
+ * --mix operacao=peso,... (ex.: {@code --mix matching-vagas=50,jobs-lista=0}).
+ */
+public class CargaApi {
+
+    private static final String DOMINIO_EMAIL = "@sintetico.devmatch.local";
+    private static final String SENHA = "senha123";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String url;
+    private final List<Long> devIds = new ArrayList<>();
+    private final List<Long> vagaIds = new ArrayList<>();
+    private final List<Long> empresaIds = new ArrayList<>();
+    private long adminId;
+
+    private final List<Operacao> operacoes = new ArrayList<>();
+    private long[] pesosAcumulados;
+
+    /**
+     * Tipo de chamada da mistura: nome, peso e como montar a requisição a partir dos IDs descobertos
+     */
+    private record Operacao(String nome, int peso, Function<ThreadLocalRandom, HttpRequest> requisicao) {}
+
+    public CargaApi(String url) {
+        this.url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opcoes = lerOpcoes(args);
+        CargaApi carga = new CargaApi(opcoes.getOrDefault("url", "http://localhost:8080"));
+        carga.descobrirDados(Integer.parseInt(opcoes.getOrDefault("amostra-devs", "100")));
+        carga.montarMistura(opcoes.get("mix"));
+
+        int duracao = Integer.parseInt(opcoes.getOrDefault("duracao", "60"));
+        int aquecimento = Integer.parseInt(opcoes.getOrDefault("aquecimento", "10"));
+        int concorrencia = Integer.parseInt(opcoes.getOrDefault("concorrencia", "32"));
+        double taxa = Double.parseDouble(opcoes.getOrDefault("taxa", "0"));
+
+        Map<String, Medicoes> resultado = taxa > 0
+                ? carga.executarTaxaFixa(taxa, aquecimento, duracao)
+                : carga.executarLacoFechado(concorrencia, aquecimento, duracao);
+        imprimirRelatorio(resultado, duracao, taxa > 0 ? "taxa fixa de " + taxa + " req/s"
+                : concorrencia + " usuários em laço fechado");
+    }
+
+    /**
+     * Descobre vagas, empresas e desenvolvedores da massa sintética (login de uma amostra de devs e do admin)
+     */
+    private void descobrirDados(int amostraDevs) throws IOException, InterruptedException {
+        JsonNode vagas = getJson("/api/jobs");
+        for (JsonNode vaga : vagas) {
+            vagaIds.add(vaga.path("id").asLong());
+            long empresaId = vaga.path("usuarioId").asLong();
+            if (empresaId > 0 && !empresaIds.contains(empresaId)) {
+                empresaIds.add(empresaId);
+            }
+        }
+        for (int i = 1; i <= amostraDevs; i++) {
+            Long id = login(String.format("dev-%06d%s", i, DOMINIO_EMAIL), "dev");
+            if (id == null) {
+                break;
+            }
+            devIds.add(id);
+        }
+        Long admin = login("admin" + DOMINIO_EMAIL, "admin");
+        if (vagaIds.isEmpty() || devIds.isEmpty() || admin == null) {
+            throw new IllegalStateException("Massa sintética não encontrada em " + url
+                    + " (suba a aplicação com o perfil dados-sinteticos)");
+        }
+        adminId = admin;
+        System.out.printf("Dados descobertos: %d vagas, %d empresas, %d desenvolvedores na amostra%n",
+                vagaIds.size(), empresaIds.size(), devIds.size());
+    }
+
+    /**
+     * Mistura padrão aproximando o uso real (listagens e matching dominam; indicadores são raros)
+     * @param mix Pesos sobrescritos no formato operacao=peso,operacao=peso (ou null)
+     */
+    private void montarMistura(String mix) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        pesos.put("jobs-lista", 5);
+        pesos.put("jobs-detalhe", 20);
+        pesos.put("jobs-empresa", 10);
+        pesos.put("matching-vagas", 30);
+        pesos.put("matching-candidatos", 10);
+        pesos.put("matching-compatibilidade", 15);
+        pesos.put("indicadores-empresa", 7);
+        pesos.put("indicadores-admin", 3);
+        if (mix != null && !mix.isBlank()) {
+            for (String item : mix.split(",")) {
+                String[] partes = item.split("=");
+                if (partes.length != 2 || !pesos.containsKey(partes[0].trim())) {
+                    throw new IllegalArgumentException("Item inválido em --mix: " + item + " (operações: " + pesos.keySet() + ")");
+                }
+                pesos.put(partes[0].trim(), Integer.parseInt(partes[1].trim()));
+            }
+        }
+
+        adicionar("jobs-lista", pesos, r -> get("/api/jobs"));
+        adicionar("jobs-detalhe", pesos, r -> get("/api/jobs/" + sortear(r, vagaIds)));
+        adicionar("jobs-empresa", pesos, r -> get("/api/jobs/usuario/" + sortear(r, empresaIds)));
+        adicionar("matching-vagas", pesos, r -> get("/api/matching/vagas-compativeis/" + sortear(r, devIds) + "?limit=20"));
+        adicionar("matching-candidatos", pesos, r -> get("/api/matching/candidatos/" + sortear(r, vagaIds) + "?limit=20"));
+        adicionar("matching-compatibilidade", pesos,
+                r -> get("/api/matching/compatibilidade/" + sortear(r, devIds) + "/" + sortear(r, vagaIds)));
+        adicionar("indicadores-empresa", pesos, r -> indicadores(sortear(r, empresaIds)));
+        adicionar("indicadores-admin", pesos, r -> indicadores(adminId));
+        if (operacoes.isEmpty()) {
+            throw new IllegalArgumentException("Todos os pesos de --mix são zero");
+        }
+
+        pesosAcumulados = new long[operacoes.size()];
+        long acumulado = 0;
+        for (int i = 0; i < operacoes.size(); i++) {
+            acumulado += operacoes.get(i).peso();
+            pesosAcumulados[i] = acumulado;
+        }
+    }
+
+    private void adicionar(String nome, Map<String, Integer> pesos, Function<ThreadLocalRandom, HttpRequest> requisicao) {
+        int peso = pesos.get(nome);
+        if (peso > 0) {
+            operacoes.add(new Operacao(nome, peso, requisicao));
+        }
+    }
+
+    private Operacao sortearOperacao(ThreadLocalRandom random) {
+        long sorteio = random.nextLong(pesosAcumulados[pesosAcumulados.length - 1]);
+        int indice = Arrays.binarySearch(pesosAcumulados, sorteio + 1);
+        return operacoes.get(indice >= 0 ? indice : -indice - 1);
+    }
+
+    /**
+     * Cada usuário virtual faz uma chamada atrás da outra; a latência é a de cada chamada
+     */
+    private Map<String, Medicoes> executarLacoFechado(int concorrencia, int aquecimento, int duracao)
+            throws InterruptedException {
+        long inicioMedicao = System.nanoTime() + TimeUnit.SECONDS.toNanos(aquecimento);
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(duracao);
+        List<Map<String, Medicoes>> porUsuario = new ArrayList<>();
+        try (ExecutorService usuarios = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concorrencia; i++) {
+                Map<String, Medicoes> medicoes = novasMedicoes();
+                porUsuario.add(medicoes);
+                usuarios.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long agora;
+                    while ((agora = System.nanoTime()) < fim) {
+                        Operacao operacao = sortearOperacao(random);
+                        boolean sucesso = chamar(operacao.requisicao().apply(random));
+                        if (agora >= inicioMedicao) {
+                            medicoes.get(operacao.nome()).registrar(System.nanoTime() - agora, sucesso);
+                        }
+                    }
+                });
+            }
+        }
+        return juntar(porUsuario);
+    }
+
+    /**
+     * Chamadas disparadas em horários fixos; a latência conta a partir do horário planejado,
+     * então uma fila no servidor aparece nos percentis em vez de reduzir a taxa enviada
+     */
+    private Map<String, Medicoes> executarTaxaFixa(double taxa, int aquecimento, int duracao)
+            throws InterruptedException {
+        long intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / taxa);
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + TimeUnit.SECONDS.toNanos(aquecimento);
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(duracao);
+        Map<String, Medicoes> medicoes = novasMedicoes();
+        AtomicLong atrasadas = new AtomicLong();
+        try (ExecutorService chamadas = Executors.newVirtualThreadPerTaskExecutor()) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (long planejado = inicio; planejado < fim; planejado += intervalo) {
+                long espera = planejado - System.nanoTime();
+                if (espera > 0) {
+                    TimeUnit.NANOSECONDS.sleep(espera);
+                } else if (espera < -TimeUnit.MILLISECONDS.toNanos(10)) {
+                    atrasadas.incrementAndGet();
+                }
+                Operacao operacao = sortearOperacao(random);
+                HttpRequest requisicao = operacao.requisicao().apply(random);
+                long horario = planejado;
+                chamadas.submit(() -> {
+                    boolean sucesso = chamar(requisicao);
+                    if (horario >= inicioMedicao) {
+                        Medicoes destino = medicoes.get(operacao.nome());
+                        synchronized (destino) {
+                            destino.registrar(System.nanoTime() - horario, sucesso);
+                        }
+                    }
+                });
+            }
+        }
+        if (atrasadas.get() > 0) {
+            System.out.printf("Aviso: %d chamadas saíram com mais de 10 ms de atraso (o driver não acompanhou a taxa)%n",
+                    atrasadas.get());
+        }
+        return medicoes;
+    }
+
+    private boolean chamar(HttpRequest requisicao) {
+        try {
+            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+            return resposta.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(url + caminho)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest indicadores(long usuarioId) {
+        return HttpRequest.newBuilder(URI.create(url + "/api/admin/indicators?periodDays=30"))
+                .timeout(TIMEOUT)
+                .header("X-User-Id", Long.toString(usuarioId))
+                .GET()
+                .build();
+    }
+
+    private JsonNode getJson(String caminho) throws IOException, InterruptedException {
+        HttpResponse<String> resposta = cliente.send(get(caminho), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(resposta.body());
+    }
+
+    /**
+     * @return ID do usuário autenticado, ou null se o login falhar
+     */
+    private Long login(String email, String tipo) throws IOException, InterruptedException {
+        String corpo = objectMapper.writeValueAsString(Map.of("email", email, "senha", SENHA, "tipo", tipo));
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url + "/api/auth/login"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        HttpResponse<String> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+        if (resposta.statusCode() != 200) {
+            return null;
+        }
+        return objectMapper.readTree(resposta.body()).path("id").asLong();
+    }
+
+    private Map<String, Medicoes> novasMedicoes() {
+        Map<String, Medicoes> medicoes = new LinkedHashMap<>();
+        for (Operacao operacao : operacoes) {
+            medicoes.put(operacao.nome(), new Medicoes());
+        }
+        return medicoes;
+    }
+
+    private Map<String, Medicoes> juntar(List<Map<String, Medicoes>> parciais) {
+        Map<String, Medicoes> total = novasMedicoes();
+        for (Map<String, Medicoes> parcial : parciais) {
+            parcial.forEach((nome, medicoes) -> total.get(nome).juntar(medicoes));
+        }
+        return total;
+    }
+
+    private static void imprimirRelatorio(Map<String, Medicoes> resultado, int duracao, String modo) {
+        System.out.printf("%nResultado (%s, %d s de medição; latências em ms)%n", modo, duracao);
+        System.out.printf("%-26s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+                "operação", "chamadas", "erros", "req/s", "p50", "p90", "p99", "p99,9", "máx");
+        Medicoes total = new Medicoes();
+        resultado.forEach((nome, medicoes) -> {
+            imprimirLinha(nome, medicoes, duracao);
+            total.juntar(medicoes);
+        });
+        imprimirLinha("total", total, duracao);
+    }
+
+    private static void imprimirLinha(String nome, Medicoes medicoes, int duracao) {
+        long[] ordenadas = medicoes.ordenadas();
+        System.out.printf("%-26s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                nome, ordenadas.length, medicoes.erros, ordenadas.length / (double) duracao,
+                percentil(ordenadas, 50), percentil(ordenadas, 90), percentil(ordenadas, 99),
+                percentil(ordenadas, 99.9), percentil(ordenadas, 100));
+    }
+
+    /**
+     * Percentil pelo método do posto mais próximo
+     * @return Latência em milissegundos (0 sem amostras)
+     */
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posto = (int) Math.ceil(percentil / 100.0 * ordenadas.length);
+        return ordenadas[Math.max(0, Math.min(ordenadas.length, posto) - 1)] / 1_000_000.0;
+    }
+
+    private static <T> T sortear(ThreadLocalRandom random, List<T> valores) {
+        return valores.get(random.nextInt(valores.size()));
+    }
+
+    private static Map<String, String> lerOpcoes(String[] args) {
+        Map<String, String> opcoes = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Argumento inválido: " + args[i] + " (use --opcao valor)");
+            }
+            opcoes.put(args[i].substring(2), args[++i]);
+        }
+        return opcoes;
+    }
+
+    /**
+     * Latências (ns) de uma operação; sem sincronização própria (uma instância por usuário virtual no laço fechado)
+     */
+    private static final class Medicoes {
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        void registrar(long latencia, boolean sucesso) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latencia;
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        void juntar(Medicoes outras) {
+            for (int i = 0; i < outras.quantidade; i++) {
+                registrar(outras.latencias[i], true);
+            }
+            erros += outras.erros;
+        }
+
+        long[] ordenadas() {
+            long[] copia = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+}
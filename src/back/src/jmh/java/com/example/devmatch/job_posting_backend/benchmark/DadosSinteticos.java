@@ -0,0 +1,121 @@
+package com.example.devmatch.job_posting_backend.benchmark;
+
+import com.example.devmatch.job_posting_backend.entity.Habilidade;
+import com.example.devmatch.job_posting_backend.entity.JobPosting;
+import com.example.devmatch.job_posting_backend.entity.JobSkill;
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Gerador determinístico (semente fixa) de perfis e vagas sintéticos para os benchmarks.
+ * Os valores seguem os formatos aceitos pelo frontend (modalidades, regimes, faixas salariais).
+ */
+public class DadosSinteticos {
+
+    private static final String[] SKILLS_BASE = {
+        "java", "spring", "react", "typescript", "javascript", "node", "python", "django", "sql",
+        "postgresql", "docker", "kubernetes", "aws", "azure", "git", "html", "css", "angular",
+        "vue", "go", "rust", "kotlin", "swift", "flutter", "graphql", "redis", "kafka", "mongodb",
+        "terraform", "linux"
+    };
+
+    private static final String[] MODALIDADES = {"Remoto", "Presencial", "Híbrido"};
+    private static final String[] REGIMES = {"CLT", "PJ", "Freelance", "Estágio"};
+    private static final String[] TITULOS = {
+        "Desenvolvedor Backend", "Desenvolvedor Frontend", "Desenvolvedor Full Stack",
+        "Engenheiro de Dados", "Desenvolvedor Mobile"
+    };
+    private static final String[] PREFERENCIAS = {
+        "Backend", "Frontend", "Full Stack", "Dados", "Mobile", "DevOps", "Segurança"
+    };
+    private static final String[] CIDADES = {"Belo Horizonte", "São Paulo", "Rio de Janeiro", "Curitiba"};
+
+    private final Random random;
+    private final String[] vocabulario;
+
+    /**
+     * @param semente Semente do gerador
+     * @param tamanhoVocabulario Quantidade de skills distintas (variações numeradas das skills base)
+     */
+    public DadosSinteticos(long semente, int tamanhoVocabulario) {
+        this.random = new Random(semente);
+        this.vocabulario = new String[tamanhoVocabulario];
+        for (int i = 0; i < tamanhoVocabulario; i++) {
+            String base = SKILLS_BASE[i % SKILLS_BASE.length];
+            vocabulario[i] = i < SKILLS_BASE.length ? base : base + "-" + (i / SKILLS_BASE.length);
+        }
+    }
+
+    public PerfilDev gerarPerfil(long usuarioId, int quantidadeSkills, int quantidadePreferencias) {
+        PerfilDev perfil = new PerfilDev();
+        perfil.setUsuarioId(usuarioId);
+        perfil.setModoTrabalho(escolher(MODALIDADES));
+        perfil.setLocalizacao(escolher(CIDADES));
+        perfil.setTipoContrato(escolher(REGIMES));
+        perfil.setFaixaSalarial(gerarFaixaSalarial());
+
+        String[] preferencias = new String[quantidadePreferencias];
+        for (int i = 0; i < quantidadePreferencias; i++) {
+            preferencias[i] = escolher(PREFERENCIAS);
+        }
+        perfil.setPreferenciasVaga(preferencias);
+
+        List<Habilidade> habilidades = new ArrayList<>();
+        for (String skill : sortearSkills(quantidadeSkills)) {
+            Habilidade habilidade = new Habilidade();
+            habilidade.setHabilidade(skill);
+            habilidade.setPerfilDev(perfil);
+            habilidades.add(habilidade);
+        }
+        perfil.setHabilidades(habilidades);
+        return perfil;
+    }
+
+    public JobPosting gerarVaga(long vagaId, int quantidadeSkills) {
+        JobPosting vaga = new JobPosting();
+        vaga.setId(vagaId);
+        vaga.setUsuarioId(1_000_000L + random.nextInt(500));
+        vaga.setTitle(escolher(TITULOS));
+        vaga.setLocalModalidade(escolher(MODALIDADES));
+        vaga.setRegime(escolher(REGIMES));
+        vaga.setValorReferencia(gerarFaixaSalarial());
+        vaga.setStatus("ativa");
+
+        List<JobSkill> skills = new ArrayList<>();
+        for (String nome : sortearSkills(quantidadeSkills)) {
+            JobSkill skill = new JobSkill();
+            skill.setSkill(nome);
+            skill.setJob(vaga);
+            skills.add(skill);
+        }
+        vaga.setSkills(skills);
+        return vaga;
+    }
+
+    private String gerarFaixaSalarial() {
+        int sorteio = random.nextInt(10);
+        if (sorteio == 0) {
+            return "A combinar";
+        }
+        int minimo = 2000 + random.nextInt(15) * 500;
+        return minimo + "-" + (minimo + 1000 + random.nextInt(10) * 500);
+    }
+
+    private Set<String> sortearSkills(int quantidade) {
+        Set<String> skills = new LinkedHashSet<>();
+        int limite = Math.min(quantidade, vocabulario.length);
+        while (skills.size() < limite) {
+            skills.add(vocabulario[random.nextInt(vocabulario.length)]);
+        }
+        return skills;
+    }
+
+    private String escolher(String[] valores) {
+        return valores[random.nextInt(valores.length)];
+    }
+}
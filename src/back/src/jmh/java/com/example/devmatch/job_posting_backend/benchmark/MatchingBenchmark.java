@@ -0,0 +1,132 @@
+package com.example.devmatch.job_posting_backend.benchmark;
+
+import com.example.devmatch.job_posting_backend.dto.JobMatchDto;
+import com.example.devmatch.job_posting_backend.entity.JobPosting;
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.service.Gazetteer;
+import com.example.devmatch.job_posting_backend.service.MatchFeatures;
+import com.example.devmatch.job_posting_backend.service.MatchFeaturesService;
+import com.example.devmatch.job_posting_backend.service.MatchScorer;
+import com.example.devmatch.job_posting_backend.service.PlanosPontuacao;
+import com.example.devmatch.job_posting_backend.service.SkillCanonicalizer;
+import com.example.devmatch.job_posting_backend.service.SkillDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks do motor de matching sobre dados sintéticos:
+ * pontuação de um par (com e sem detalhes), varredura de um catálogo inteiro e
+ * compilação das features. Rode com o profiler de GC para medir a taxa de alocação:
+ * {@code mvn -Pbenchmark test-compile exec:exec} (o perfil já passa {@code -prof gc}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchingBenchmark {
+
+    @Param({"3", "10", "30"})
+    private int skillsPorVaga;
+
+    @Param({"1000", "10000"})
+    private int vagasNoCatalogo;
+
+    @Param({"1", "5"})
+    private int preferenciasPorPerfil;
+
+    private MatchFeaturesService matchFeaturesService;
+    private MatchScorer matchScorer;
+
+    private PerfilDev perfilEntidade;
+    private JobPosting vagaEntidade;
+    private MatchFeatures.Perfil perfil;
+    private MatchFeatures.Vaga[] catalogo;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SkillDictionary skillDictionary = new SkillDictionary();
+        matchFeaturesService = new MatchFeaturesService();
+        ReflectionTestUtils.setField(matchFeaturesService, "skillDictionary", skillDictionary);
+        ReflectionTestUtils.setField(matchFeaturesService, "skillCanonicalizer", new SkillCanonicalizer());
+        ReflectionTestUtils.setField(matchFeaturesService, "planosPontuacao", new PlanosPontuacao());
+        ReflectionTestUtils.setField(matchFeaturesService, "gazetteer", new Gazetteer());
+        matchScorer = new MatchScorer();
+        ReflectionTestUtils.setField(matchScorer, "skillDictionary", skillDictionary);
+
+        DadosSinteticos dados = new DadosSinteticos(42L, 500);
+        perfilEntidade = dados.gerarPerfil(1L, 15, preferenciasPorPerfil);
+        perfil = matchFeaturesService.compilarPerfil(perfilEntidade);
+
+        catalogo = new MatchFeatures.Vaga[vagasNoCatalogo];
+        for (int i = 0; i < vagasNoCatalogo; i++) {
+            JobPosting vaga = dados.gerarVaga(i + 1L, skillsPorVaga);
+            if (i == 0) {
+                vagaEntidade = vaga;
+            }
+            catalogo[i] = matchFeaturesService.compilarVaga(vaga);
+        }
+    }
+
+    /**
+     * Pontuação de um único par, sem gerar detalhes (caminho das listagens)
+     */
+    @Benchmark
+    public double parSemDetalhes() {
+        return matchScorer.calcularCompatibilidade(perfil, catalogo[0]);
+    }
+
+    /**
+     * Pontuação de um único par com motivos, sugestões e listas de skills
+     */
+    @Benchmark
+    public double parComDetalhes() {
+        JobMatchDto.MatchingDetails details = new JobMatchDto.MatchingDetails();
+        return matchScorer.calcularCompatibilidadeDetalhada(perfil, catalogo[0], details);
+    }
+
+    /**
+     * Varredura do catálogo inteiro sem detalhes
+     */
+    @Benchmark
+    public void catalogoSemDetalhes(Blackhole blackhole) {
+        for (MatchFeatures.Vaga vaga : catalogo) {
+            blackhole.consume(matchScorer.calcularCompatibilidade(perfil, vaga));
+        }
+    }
+
+    /**
+     * Varredura do catálogo inteiro gerando os detalhes de cada vaga
+     */
+    @Benchmark
+    public void catalogoComDetalhes(Blackhole blackhole) {
+        for (MatchFeatures.Vaga vaga : catalogo) {
+            JobMatchDto.MatchingDetails details = new JobMatchDto.MatchingDetails();
+            blackhole.consume(matchScorer.calcularCompatibilidadeDetalhada(perfil, vaga, details));
+        }
+    }
+
+    /**
+     * Compilação das features de um perfil e de uma vaga (custo de uma invalidação de cache)
+     */
+    @Benchmark
+    public void compilarFeatures(Blackhole blackhole) {
+        blackhole.consume(matchFeaturesService.compilarPerfil(perfilEntidade));
+        blackhole.consume(matchFeaturesService.compilarVaga(vagaEntidade));
+    }
+}
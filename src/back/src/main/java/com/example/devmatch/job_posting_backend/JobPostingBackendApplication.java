@@ -2,12 +2,14 @@ package com.example.devmatch.job_posting_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principal da aplicação DevMatch Backend
  * Responsável por inicializar o servidor Spring Boot
  */
 @SpringBootApplication
+@EnableScheduling // Recálculo completo agendado dos matches (RecalculoMatchesService)
 public class JobPostingBackendApplication {
     
     /**
@@ -24,6 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("X-Next-Cursor") // Cursor de paginação do matching
                 .allowCredentials(true)
                 .maxAge(3600); // Cache da configuração CORS por 1 hora
     }
@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +46,7 @@ public class JobPostingController {
         job.setModeloRemuneracao(dto.getModeloRemuneracao());
         job.setValorReferencia(dto.getValorReferencia());
         job.setLocalModalidade(dto.getLocalModalidade());
+        job.setLocalizacao(dto.getLocalizacao());
         job.setPrazoEstimado(dto.getPrazoEstimado());
         job.setAnexo(dto.getAnexo());
         job.setUsuarioId(dto.getUsuarioId());
@@ -71,11 +73,13 @@ public class JobPostingController {
     @GetMapping
     public ResponseEntity<List<JobPostingResponseDto>> getAllJobs() {
         try {
-            List<JobPostingResponseDto> jobs = service.getAllJobs().stream()
-                .map(job -> {
-                    String nomeEmpresa = service.getNomeEmpresaByUsuarioId(job.getUsuarioId());
-                    return JobPostingResponseDto.fromEntity(job, nomeEmpresa);
-                })
+            List<JobPosting> vagas = service.getAllJobs();
+            // Resolve os nomes de todas as empresas em uma única consulta
+            Map<Long, String> nomesEmpresa = service.getNomesEmpresa(vagas.stream()
+                .map(JobPosting::getUsuarioId)
+                .collect(Collectors.toList()));
+            List<JobPostingResponseDto> jobs = vagas.stream()
+                .map(job -> JobPostingResponseDto.fromEntity(job, nomesEmpresa.get(job.getUsuarioId())))
                 .collect(Collectors.toList());
             return ResponseEntity.ok(jobs);
         } catch (RuntimeException e) {
@@ -1,11 +1,31 @@
 package com.example.devmatch.job_posting_backend.controller;
 
+import com.example.devmatch.job_posting_backend.dto.CandidatoMatchDto;
+import com.example.devmatch.job_posting_backend.dto.CompatibilidadeParDto;
 import com.example.devmatch.job_posting_backend.dto.JobMatchDto;
+import com.example.devmatch.job_posting_backend.dto.JobMatchPageDto;
+import com.example.devmatch.job_posting_backend.dto.NovoMatchDto;
+import com.example.devmatch.job_posting_backend.dto.ParMatchDto;
+import com.example.devmatch.job_posting_backend.dto.ProgressoRecalculoDto;
+import com.example.devmatch.job_posting_backend.entity.PerfilPesosMatching;
+import com.example.devmatch.job_posting_backend.entity.Usuario;
+import com.example.devmatch.job_posting_backend.repository.UsuarioRepository;
 import com.example.devmatch.job_posting_backend.service.MatchingService;
+import com.example.devmatch.job_posting_backend.service.NovoMatchService;
+import com.example.devmatch.job_posting_backend.service.PesosMatchingService;
+import com.example.devmatch.job_posting_backend.service.RecalculoMatchesService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Collections;
 
@@ -17,30 +37,171 @@ import java.util.Collections;
 @CrossOrigin(
     origins = {"http://localhost:5173", "http://localhost:3000"},
     allowedHeaders = "*",
+    exposedHeaders = "X-Next-Cursor",
     methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH},
     allowCredentials = "true"
 )
 public class MatchingController {
     
+    private static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+    
     @Autowired
     private MatchingService matchingService;
     
+    @Autowired
+    private NovoMatchService novoMatchService;
+    
+    @Autowired
+    private PesosMatchingService pesosMatchingService;
+    
+    @Autowired
+    private RecalculoMatchesService recalculoMatchesService;
+    
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     /**
-     * Endpoint para buscar vagas compatíveis com um desenvolvedor
+     * Endpoint para buscar vagas compatíveis com um desenvolvedor, paginado por cursor.
+     * O cursor da próxima página é retornado no header {@value #HEADER_PROXIMO_CURSOR}.
      * @param usuarioId ID do desenvolvedor
+     * @param limit Quantidade máxima de vagas (padrão 50, máximo 200)
+     * @param cursor Cursor da página anterior (opcional)
+     * @param minScore Compatibilidade mínima (padrão 60)
+     * @param raioKm Distância máxima (km) das vagas presenciais/híbridas; remotas sempre entram (opcional)
      * @return Lista de vagas com percentual de compatibilidade
      */
     @GetMapping("/vagas-compativeis/{usuarioId}")
-    public ResponseEntity<List<JobMatchDto>> getVagasCompativeis(@PathVariable Long usuarioId) {
+    public ResponseEntity<List<JobMatchDto>> getVagasCompativeis(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Double minScore,
+            @RequestParam(required = false) Double raioKm) {
+        JobMatchPageDto pagina;
         try {
-            List<JobMatchDto> matches = matchingService.getVagasCompativeis(usuarioId);
-            return ResponseEntity.ok(matches);
+            pagina = matchingService.getVagasCompativeis(usuarioId, limit, cursor, minScore, raioKm);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         } catch (RuntimeException e) {
             // Se o perfil do desenvolvedor não for encontrado, retornamos lista vazia
             return ResponseEntity.ok(Collections.emptyList());
         }
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            resposta.header(HEADER_PROXIMO_CURSOR, pagina.proximoCursor());
+        }
+        return resposta.body(pagina.matches());
+    }
+    
+    /**
+     * Versão em streaming (NDJSON, um JSON de vaga por linha) das vagas compatíveis.
+     * As vagas são enviadas em ordem de compatibilidade assim que cada faixa de score é
+     * processada, então a primeira vaga chega sem esperar o catálogo inteiro ser montado.
+     * @param usuarioId ID do desenvolvedor
+     * @param minScore Compatibilidade mínima (padrão 60)
+     * @return Stream de vagas com percentual de compatibilidade
+     */
+    @GetMapping(value = "/vagas-compativeis/{usuarioId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamVagasCompativeis(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) Double minScore) {
+        StreamingResponseBody corpo = saida -> {
+            try {
+                matchingService.emitirVagasCompativeis(usuarioId, minScore, match -> escreverLinha(saida, match));
+            } catch (RuntimeException e) {
+                // Perfil não encontrado (stream vazio, como a lista vazia acima) ou cliente desconectado
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+    
+    /**
+     * Endpoint para obter a explicação completa do matching entre um desenvolvedor e uma vaga
+     * @param usuarioId ID do desenvolvedor
+     * @param vagaId ID da vaga
+     * @return Detalhes do matching ou 404 se perfil/vaga não existirem
+     */
+    @GetMapping("/explicacao/{usuarioId}/{vagaId}")
+    public ResponseEntity<JobMatchDto.MatchingDetails> getExplicacao(
+            @PathVariable Long usuarioId,
+            @PathVariable Long vagaId) {
+        try {
+            return ResponseEntity.ok(matchingService.getExplicacao(usuarioId, vagaId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * Endpoint para listar os novos matches ainda não lidos de um desenvolvedor
+     * (vagas publicadas ou alteradas que passaram a ser compatíveis com o perfil)
+     * @param usuarioId ID do desenvolvedor
+     * @param limit Quantidade máxima de avisos (padrão 20, máximo 100)
+     * @return Avisos do mais recente para o mais antigo
+     */
+    @GetMapping("/novos/{usuarioId}")
+    public ResponseEntity<List<NovoMatchDto>> getNovosMatches(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(novoMatchService.getNaoLidos(usuarioId, limit));
+    }
+    
+    /**
+     * Endpoint para contar os novos matches não lidos de um desenvolvedor
+     * @param usuarioId ID do desenvolvedor
+     * @return Quantidade de avisos não lidos
+     */
+    @GetMapping("/novos/{usuarioId}/quantidade")
+    public ResponseEntity<Long> contarNovosMatches(@PathVariable Long usuarioId) {
+        return ResponseEntity.ok(novoMatchService.contarNaoLidos(usuarioId));
+    }
+    
+    /**
+     * Endpoint para marcar novos matches como lidos
+     * @param usuarioId ID do desenvolvedor
+     * @param vagaIds IDs das vagas a marcar (opcional; sem corpo marca todos)
+     * @return Quantidade de avisos marcados
+     */
+    @PutMapping("/novos/{usuarioId}/lidos")
+    public ResponseEntity<Integer> marcarNovosMatchesLidos(
+            @PathVariable Long usuarioId,
+            @RequestBody(required = false) List<Long> vagaIds) {
+        return ResponseEntity.ok(novoMatchService.marcarLidos(usuarioId, vagaIds));
+    }
+    
+    /**
+     * Endpoint para ranquear desenvolvedores por compatibilidade com uma vaga
+     * @param vagaId ID da vaga
+     * @param origem "candidaturas" (padrão) para ranquear quem se candidatou ou "todos" para todos os desenvolvedores
+     * @param limit Quantidade máxima de desenvolvedores (padrão 100, máximo 5000)
+     * @param minScore Compatibilidade mínima (opcional)
+     * @param detalhes true para incluir os detalhes do matching
+     * @return Lista de desenvolvedores ordenada por compatibilidade
+     */
+    @GetMapping("/candidatos/{vagaId}")
+    public ResponseEntity<List<CandidatoMatchDto>> getCandidatosCompativeis(
+            @PathVariable Long vagaId,
+            @RequestParam(defaultValue = "candidaturas") String origem,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Double minScore,
+            @RequestParam(defaultValue = "false") boolean detalhes) {
+        boolean apenasCandidaturas;
+        if ("candidaturas".equalsIgnoreCase(origem)) {
+            apenasCandidaturas = true;
+        } else if ("todos".equalsIgnoreCase(origem)) {
+            apenasCandidaturas = false;
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Origem inválida: use 'candidaturas' ou 'todos'");
+        }
+        try {
+            return ResponseEntity.ok(matchingService.getCandidatosCompativeis(vagaId, apenasCandidaturas, limit, minScore, detalhes));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
     }
-
     
     /**
      * Endpoint para calcular compatibilidade de um candidato específico com uma vaga específica
@@ -60,5 +221,175 @@ public class MatchingController {
             return ResponseEntity.ok(0.0);
         }
     }
+    
+    /**
+     * Endpoint para calcular a compatibilidade de vários pares desenvolvedor/vaga em uma chamada
+     * @param pares Lista de pares (desenvolvedorId, vagaId), no máximo 5000
+     * @return Compatibilidade de cada par, na ordem recebida
+     */
+    @PostMapping("/compatibilidade")
+    public ResponseEntity<List<CompatibilidadeParDto>> getCompatibilidades(@RequestBody List<ParMatchDto> pares) {
+        try {
+            return ResponseEntity.ok(matchingService.calcularCompatibilidades(pares));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    /**
+     * Endpoint para consultar o perfil de pesos padrão do matching
+     * @return Pesos e fatores em uso
+     */
+    @GetMapping("/pesos")
+    public ResponseEntity<PerfilPesosMatching> getPesosPadrao() {
+        return ResponseEntity.ok(pesosMatchingService.getPerfil(null));
+    }
+    
+    /**
+     * Endpoint para alterar o perfil de pesos padrão; vale imediatamente, sem reiniciar.
+     * Restrito a administradores.
+     * @param userIdHeader ID do usuário que faz a chamada (header X-User-Id)
+     * @param dados Pesos e fatores
+     * @return Perfil salvo, 400 se os valores forem inválidos ou 403 se quem chama não for admin
+     */
+    @PutMapping("/pesos")
+    public ResponseEntity<PerfilPesosMatching> salvarPesosPadrao(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @RequestBody PerfilPesosMatching dados) {
+        exigirPermissao(userIdHeader, null);
+        return salvarPesos(null, dados);
+    }
+    
+    /**
+     * Endpoint para consultar o perfil de pesos de uma empresa (o padrão, se ela não tiver um)
+     * @param empresaUsuarioId ID do usuário da empresa
+     * @return Pesos e fatores em uso
+     */
+    @GetMapping("/pesos/empresa/{empresaUsuarioId}")
+    public ResponseEntity<PerfilPesosMatching> getPesosEmpresa(@PathVariable Long empresaUsuarioId) {
+        PerfilPesosMatching perfil = pesosMatchingService.getPerfil(empresaUsuarioId);
+        if (perfil.getId() == null) {
+            perfil = pesosMatchingService.getPerfil(null);
+        }
+        return ResponseEntity.ok(perfil);
+    }
+    
+    /**
+     * Endpoint para criar ou alterar o perfil de pesos de uma empresa (pela própria empresa ou por um admin)
+     * @param userIdHeader ID do usuário que faz a chamada (header X-User-Id)
+     * @param empresaUsuarioId ID do usuário da empresa
+     * @param dados Pesos e fatores
+     * @return Perfil salvo, 400 se os valores forem inválidos ou 403 sem permissão
+     */
+    @PutMapping("/pesos/empresa/{empresaUsuarioId}")
+    public ResponseEntity<PerfilPesosMatching> salvarPesosEmpresa(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @PathVariable Long empresaUsuarioId,
+            @RequestBody PerfilPesosMatching dados) {
+        exigirPermissao(userIdHeader, empresaUsuarioId);
+        return salvarPesos(empresaUsuarioId, dados);
+    }
+    
+    /**
+     * Endpoint para remover o perfil de pesos de uma empresa (volta a usar o padrão);
+     * pela própria empresa ou por um admin
+     * @param userIdHeader ID do usuário que faz a chamada (header X-User-Id)
+     * @param empresaUsuarioId ID do usuário da empresa
+     */
+    @DeleteMapping("/pesos/empresa/{empresaUsuarioId}")
+    public ResponseEntity<Void> removerPesosEmpresa(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader,
+            @PathVariable Long empresaUsuarioId) {
+        exigirPermissao(userIdHeader, empresaUsuarioId);
+        pesosMatchingService.remover(empresaUsuarioId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Endpoint para recarregar os perfis de pesos do banco (após edições diretas na tabela).
+     * Restrito a administradores.
+     * @param userIdHeader ID do usuário que faz a chamada (header X-User-Id)
+     */
+    @PostMapping("/pesos/recarregar")
+    public ResponseEntity<Void> recarregarPesos(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
+        exigirPermissao(userIdHeader, null);
+        pesosMatchingService.recarregar();
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Endpoint para iniciar o recálculo completo dos matches (roda em segundo plano).
+     * Restrito a administradores.
+     * @param userIdHeader ID do usuário que faz a chamada (header X-User-Id)
+     * @return Progresso inicial (202), 409 se já houver um recálculo em andamento ou 403 se quem chama não for admin
+     */
+    @PostMapping("/recalculo")
+    public ResponseEntity<ProgressoRecalculoDto> iniciarRecalculo(
+            @RequestHeader(value = "X-User-Id", required = false) String userIdHeader) {
+        exigirPermissao(userIdHeader, null);
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(recalculoMatchesService.iniciar("manual"));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+    
+    /**
+     * Endpoint para acompanhar o progresso e a vazão do recálculo completo mais recente
+     * @return Progresso ou 404 se nunca houve recálculo completo
+     */
+    @GetMapping("/recalculo")
+    public ResponseEntity<ProgressoRecalculoDto> getProgressoRecalculo() {
+        ProgressoRecalculoDto progresso = recalculoMatchesService.getProgresso();
+        return progresso != null ? ResponseEntity.ok(progresso) : ResponseEntity.notFound().build();
+    }
+    
+    private ResponseEntity<PerfilPesosMatching> salvarPesos(Long empresaUsuarioId, PerfilPesosMatching dados) {
+        try {
+            return ResponseEntity.ok(pesosMatchingService.salvar(empresaUsuarioId, dados));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    /**
+     * Confere quem faz a chamada (header X-User-Id): admins sempre podem; se
+     * {@code empresaUsuarioId} for informado, a própria empresa também pode
+     * @throws ResponseStatusException 400 se o header for inválido, 403 sem permissão
+     */
+    private void exigirPermissao(String userIdHeader, Long empresaUsuarioId) {
+        if (userIdHeader == null) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "X-User-Id header é obrigatório");
+        }
+        Long userId;
+        try {
+            userId = Long.parseLong(userIdHeader.trim());
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "X-User-Id deve ser um número válido");
+        }
+        Usuario usuario = usuarioRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Usuário não encontrado"));
+        
+        String tipoUsuario = usuario.getTipo() != null ? usuario.getTipo().trim() : "";
+        boolean isAdmin = "admin".equalsIgnoreCase(tipoUsuario) || tipoUsuario.toLowerCase().contains("admin");
+        boolean isPropriaEmpresa = empresaUsuarioId != null
+                && "empresa".equalsIgnoreCase(tipoUsuario)
+                && empresaUsuarioId.equals(userId);
+        if (!isAdmin && !isPropriaEmpresa) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, empresaUsuarioId != null
+                    ? "Apenas a própria empresa ou administradores podem alterar estes pesos"
+                    : "Apenas administradores podem executar esta operação");
+        }
+    }
+    
+    private void escreverLinha(OutputStream saida, JobMatchDto match) {
+        try {
+            saida.write(objectMapper.writeValueAsBytes(match));
+            saida.write('\n');
+            saida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
-
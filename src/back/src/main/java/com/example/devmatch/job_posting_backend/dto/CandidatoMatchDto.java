@@ -0,0 +1,15 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+/**
+ * Desenvolvedor ranqueado por compatibilidade com uma vaga (matching do lado da empresa).
+ * {@code candidaturaId} e {@code statusCandidatura} são nulos para quem não se candidatou;
+ * {@code matchingDetails} só é preenchido quando solicitado.
+ */
+public record CandidatoMatchDto(
+        Long usuarioId,
+        String nome,
+        Long candidaturaId,
+        String statusCandidatura,
+        double compatibilidade,
+        JobMatchDto.MatchingDetails matchingDetails
+) {}
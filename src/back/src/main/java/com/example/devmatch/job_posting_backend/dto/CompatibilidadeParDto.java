@@ -0,0 +1,10 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+/**
+ * Compatibilidade (0-100) de um par desenvolvedor/vaga; 0 quando o perfil ou a vaga não existem
+ */
+public record CompatibilidadeParDto(
+        Long desenvolvedorId,
+        Long vagaId,
+        double compatibilidade
+) {}
@@ -1,5 +1,7 @@
 package com.example.devmatch.job_posting_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.ArrayList;
 
@@ -111,8 +113,11 @@ public class JobMatchDto {
     }
     
     /**
-     * Classe interna para detalhes do matching
+     * Classe interna para detalhes do matching.
+     * Nas listagens apenas os scores são preenchidos (as listas ficam nulas e não são
+     * serializadas); a explicação completa é obtida sob demanda.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class MatchingDetails {
         private double scoreLocalizacao;
         private double scoreSalario;
@@ -125,6 +130,24 @@ public class JobMatchDto {
         private List<String> motivosPositivos = new ArrayList<>();
         private List<String> sugestoesMelhoria = new ArrayList<>();
         
+        /**
+         * Cria um resumo com apenas os scores de cada critério, sem as listas de explicação
+         */
+        public static MatchingDetails resumo(double scoreLocalizacao, double scoreSalario, double scoreContrato,
+                                             double scorePreferencias, double scoreSkills) {
+            MatchingDetails details = new MatchingDetails();
+            details.scoreLocalizacao = scoreLocalizacao;
+            details.scoreSalario = scoreSalario;
+            details.scoreContrato = scoreContrato;
+            details.scorePreferencias = scorePreferencias;
+            details.scoreSkills = scoreSkills;
+            details.skillsEmComum = null;
+            details.skillsFaltantes = null;
+            details.motivosPositivos = null;
+            details.sugestoesMelhoria = null;
+            return details;
+        }
+        
         // Getters e Setters
         public double getScoreLocalizacao() { return scoreLocalizacao; }
         public void setScoreLocalizacao(double scoreLocalizacao) { this.scoreLocalizacao = scoreLocalizacao; }
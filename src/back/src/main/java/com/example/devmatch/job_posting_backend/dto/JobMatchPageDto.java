@@ -0,0 +1,12 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+import java.util.List;
+
+/**
+ * Página de vagas compatíveis, ordenada por compatibilidade (maior primeiro).
+ * {@code proximoCursor} é nulo quando não há mais resultados.
+ */
+public record JobMatchPageDto(
+        List<JobMatchDto> matches,
+        String proximoCursor
+) {}
@@ -26,6 +26,8 @@ public class JobPostingDto {
 
     private String localModalidade;
 
+    private String localizacao;  // Cidade da vaga (opcional; padrão: localização da empresa)
+
     private String prazoEstimado;
 
     private String anexo;
@@ -91,6 +93,14 @@ public class JobPostingDto {
         this.localModalidade = localModalidade;
     }
 
+    public String getLocalizacao() {
+        return localizacao;
+    }
+
+    public void setLocalizacao(String localizacao) {
+        this.localizacao = localizacao;
+    }
+
     public List<String> getSkills() {
         return skills;
     }
@@ -20,6 +20,7 @@ public class JobPostingResponseDto {
     private String valorReferencia;
     private String prazoEstimado;
     private String localModalidade;
+    private String localizacao;
     private List<SkillDto> skills;
     private String postedDate;
     private String status;
@@ -60,6 +61,7 @@ public class JobPostingResponseDto {
         dto.modeloRemuneracao = job.getModeloRemuneracao();
         dto.valorReferencia = job.getValorReferencia();
         dto.localModalidade = job.getLocalModalidade();
+        dto.localizacao = job.getLocalizacao();
         dto.status = job.getStatus();
         dto.applications = job.getApplications();
         dto.matches = job.getMatches();
@@ -117,6 +119,9 @@ public class JobPostingResponseDto {
     public String getLocalModalidade() { return localModalidade; }
     public void setLocalModalidade(String localModalidade) { this.localModalidade = localModalidade; }
 
+    public String getLocalizacao() { return localizacao; }
+    public void setLocalizacao(String localizacao) { this.localizacao = localizacao; }
+
     public List<SkillDto> getSkills() { return skills; }
     public void setSkills(List<SkillDto> skills) { this.skills = skills; }
 
@@ -0,0 +1,14 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aviso de vaga recém-publicada (ou alterada) que passou a ser compatível com o desenvolvedor
+ */
+public record NovoMatchDto(
+        Long vagaId,
+        String titulo,
+        String nomeEmpresa,
+        double compatibilidade,
+        LocalDateTime dataCriacao
+) {}
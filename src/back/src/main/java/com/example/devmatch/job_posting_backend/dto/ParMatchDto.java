@@ -0,0 +1,9 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+/**
+ * Par desenvolvedor/vaga para cálculo de compatibilidade em lote
+ */
+public record ParMatchDto(
+        Long desenvolvedorId,
+        Long vagaId
+) {}
@@ -0,0 +1,21 @@
+package com.example.devmatch.job_posting_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progresso e vazão de uma execução do recálculo completo dos matches
+ */
+public record ProgressoRecalculoDto(
+        Long id,
+        String status,
+        String origem,
+        int totalPartes,
+        int partesConcluidas,
+        double percentual,
+        long paresAvaliados,
+        long matchesGravados,
+        double paresPorSegundo,
+        LocalDateTime dataInicio,
+        LocalDateTime dataFim,
+        String erro
+) {}
@@ -7,7 +7,12 @@ import java.time.LocalDateTime;
  * Entidade que representa uma candidatura de um desenvolvedor a uma vaga
  */
 @Entity
-@Table(name = "candidaturas")
+@Table(name = "candidaturas", indexes = {
+    // Contagens por empresa e período dos indicadores do dashboard
+    @Index(name = "idx_candidaturas_vaga_data", columnList = "vaga_id, data_candidatura"),
+    // Recálculo dos agregados diários (IndicadoresDiariosService) por período
+    @Index(name = "idx_candidaturas_data", columnList = "data_candidatura")
+})
 public class Candidatura {
     
     @Id
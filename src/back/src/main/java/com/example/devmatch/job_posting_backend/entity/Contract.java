@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contracts")
+@Table(name = "contracts", indexes = {
+    @Index(name = "idx_contracts_company_inicio", columnList = "company_id, started_at"),
+    @Index(name = "idx_contracts_inicio", columnList = "started_at")
+})
 public class Contract {
 
     @Id
@@ -8,6 +8,10 @@ import java.time.LocalDateTime;
     name = "feedback",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"project_id", "rater_id"})
+    },
+    // Os agregados de satisfação leem as avaliações por período (IndicadoresDiariosService)
+    indexes = {
+        @Index(name = "idx_feedback_data_avaliacao", columnList = "data_avaliacao")
     }
 )
 public class Feedback {
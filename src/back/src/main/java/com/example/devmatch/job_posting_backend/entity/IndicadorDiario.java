@@ -0,0 +1,184 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Agregado diário (rollup) dos dados usados pelos indicadores do dashboard, por empresa.
+ * A linha com {@link #EMPRESA_PLATAFORMA} soma todas as empresas (visão do admin).
+ * Só guarda somas e contagens, que podem ser somadas entre dias; a tabela é mantida pelo
+ * IndicadoresDiariosService a partir de candidaturas, contracts e feedback.
+ */
+@Entity
+@IdClass(IndicadorDiarioId.class)
+@Table(name = "indicadores_diarios", indexes = {
+    @Index(name = "idx_indicadores_diarios_dia", columnList = "dia")
+})
+public class IndicadorDiario {
+
+    // empresa_id das linhas com o total da plataforma
+    public static final long EMPRESA_PLATAFORMA = 0L;
+
+    @Id
+    @Column(name = "empresa_id")
+    private Long empresaId;
+
+    @Id
+    @Column(name = "dia")
+    private LocalDate dia;
+
+    // Candidaturas feitas no dia às vagas da empresa, por status atual
+    @Column(name = "candidaturas", nullable = false)
+    private long candidaturas;
+
+    @Column(name = "candidaturas_pendentes", nullable = false)
+    private long candidaturasPendentes;
+
+    @Column(name = "candidaturas_em_analise", nullable = false)
+    private long candidaturasEmAnalise;
+
+    @Column(name = "candidaturas_aceitas", nullable = false)
+    private long candidaturasAceitas;
+
+    @Column(name = "candidaturas_rejeitadas", nullable = false)
+    private long candidaturasRejeitadas;
+
+    // Contratos efetivos (ativos ou finalizados) iniciados no dia, no total e por tipo
+    @Column(name = "contratos_efetivos", nullable = false)
+    private long contratosEfetivos;
+
+    @Column(name = "contratos_clt", nullable = false)
+    private long contratosClt;
+
+    @Column(name = "contratos_pj", nullable = false)
+    private long contratosPj;
+
+    @Column(name = "contratos_contrato", nullable = false)
+    private long contratosContrato;
+
+    @Column(name = "contratos_cooperado", nullable = false)
+    private long contratosCooperado;
+
+    // Tempo de contratação (dias entre a publicação da vaga e o início do contrato) dos contratos do dia
+    @Column(name = "contratacoes_com_tempo", nullable = false)
+    private long contratacoesComTempo;
+
+    @Column(name = "soma_dias_contratacao", nullable = false)
+    private double somaDiasContratacao;
+
+    @Column(name = "min_dias_contratacao")
+    private Double minDiasContratacao;
+
+    @Column(name = "max_dias_contratacao")
+    private Double maxDiasContratacao;
+
+    // Avaliações feitas no dia sobre vagas da empresa; as notas somam os quatro critérios (4 a 20 por avaliação)
+    @Column(name = "avaliacoes", nullable = false)
+    private long avaliacoes;
+
+    @Column(name = "soma_notas", nullable = false)
+    private long somaNotas;
+
+    @Column(name = "avaliacoes_empresa_para_dev", nullable = false)
+    private long avaliacoesEmpresaParaDev;
+
+    @Column(name = "soma_notas_empresa_para_dev", nullable = false)
+    private long somaNotasEmpresaParaDev;
+
+    @Column(name = "avaliacoes_dev_para_empresa", nullable = false)
+    private long avaliacoesDevParaEmpresa;
+
+    @Column(name = "soma_notas_dev_para_empresa", nullable = false)
+    private long somaNotasDevParaEmpresa;
+
+    @Column(name = "soma_qualidade_tecnica", nullable = false)
+    private long somaQualidadeTecnica;
+
+    @Column(name = "soma_cumprimento_prazos", nullable = false)
+    private long somaCumprimentoPrazos;
+
+    @Column(name = "soma_comunicacao", nullable = false)
+    private long somaComunicacao;
+
+    @Column(name = "soma_colaboracao", nullable = false)
+    private long somaColaboracao;
+
+    // Getters e Setters
+    public Long getEmpresaId() { return empresaId; }
+    public void setEmpresaId(Long empresaId) { this.empresaId = empresaId; }
+
+    public LocalDate getDia() { return dia; }
+    public void setDia(LocalDate dia) { this.dia = dia; }
+
+    public long getCandidaturas() { return candidaturas; }
+    public void setCandidaturas(long candidaturas) { this.candidaturas = candidaturas; }
+
+    public long getCandidaturasPendentes() { return candidaturasPendentes; }
+    public void setCandidaturasPendentes(long candidaturasPendentes) { this.candidaturasPendentes = candidaturasPendentes; }
+
+    public long getCandidaturasEmAnalise() { return candidaturasEmAnalise; }
+    public void setCandidaturasEmAnalise(long candidaturasEmAnalise) { this.candidaturasEmAnalise = candidaturasEmAnalise; }
+
+    public long getCandidaturasAceitas() { return candidaturasAceitas; }
+    public void setCandidaturasAceitas(long candidaturasAceitas) { this.candidaturasAceitas = candidaturasAceitas; }
+
+    public long getCandidaturasRejeitadas() { return candidaturasRejeitadas; }
+    public void setCandidaturasRejeitadas(long candidaturasRejeitadas) { this.candidaturasRejeitadas = candidaturasRejeitadas; }
+
+    public long getContratosEfetivos() { return contratosEfetivos; }
+    public void setContratosEfetivos(long contratosEfetivos) { this.contratosEfetivos = contratosEfetivos; }
+
+    public long getContratosClt() { return contratosClt; }
+    public void setContratosClt(long contratosClt) { this.contratosClt = contratosClt; }
+
+    public long getContratosPj() { return contratosPj; }
+    public void setContratosPj(long contratosPj) { this.contratosPj = contratosPj; }
+
+    public long getContratosContrato() { return contratosContrato; }
+    public void setContratosContrato(long contratosContrato) { this.contratosContrato = contratosContrato; }
+
+    public long getContratosCooperado() { return contratosCooperado; }
+    public void setContratosCooperado(long contratosCooperado) { this.contratosCooperado = contratosCooperado; }
+
+    public long getContratacoesComTempo() { return contratacoesComTempo; }
+    public void setContratacoesComTempo(long contratacoesComTempo) { this.contratacoesComTempo = contratacoesComTempo; }
+
+    public double getSomaDiasContratacao() { return somaDiasContratacao; }
+    public void setSomaDiasContratacao(double somaDiasContratacao) { this.somaDiasContratacao = somaDiasContratacao; }
+
+    public Double getMinDiasContratacao() { return minDiasContratacao; }
+    public void setMinDiasContratacao(Double minDiasContratacao) { this.minDiasContratacao = minDiasContratacao; }
+
+    public Double getMaxDiasContratacao() { return maxDiasContratacao; }
+    public void setMaxDiasContratacao(Double maxDiasContratacao) { this.maxDiasContratacao = maxDiasContratacao; }
+
+    public long getAvaliacoes() { return avaliacoes; }
+    public void setAvaliacoes(long avaliacoes) { this.avaliacoes = avaliacoes; }
+
+    public long getSomaNotas() { return somaNotas; }
+    public void setSomaNotas(long somaNotas) { this.somaNotas = somaNotas; }
+
+    public long getAvaliacoesEmpresaParaDev() { return avaliacoesEmpresaParaDev; }
+    public void setAvaliacoesEmpresaParaDev(long avaliacoesEmpresaParaDev) { this.avaliacoesEmpresaParaDev = avaliacoesEmpresaParaDev; }
+
+    public long getSomaNotasEmpresaParaDev() { return somaNotasEmpresaParaDev; }
+    public void setSomaNotasEmpresaParaDev(long somaNotasEmpresaParaDev) { this.somaNotasEmpresaParaDev = somaNotasEmpresaParaDev; }
+
+    public long getAvaliacoesDevParaEmpresa() { return avaliacoesDevParaEmpresa; }
+    public void setAvaliacoesDevParaEmpresa(long avaliacoesDevParaEmpresa) { this.avaliacoesDevParaEmpresa = avaliacoesDevParaEmpresa; }
+
+    public long getSomaNotasDevParaEmpresa() { return somaNotasDevParaEmpresa; }
+    public void setSomaNotasDevParaEmpresa(long somaNotasDevParaEmpresa) { this.somaNotasDevParaEmpresa = somaNotasDevParaEmpresa; }
+
+    public long getSomaQualidadeTecnica() { return somaQualidadeTecnica; }
+    public void setSomaQualidadeTecnica(long somaQualidadeTecnica) { this.somaQualidadeTecnica = somaQualidadeTecnica; }
+
+    public long getSomaCumprimentoPrazos() { return somaCumprimentoPrazos; }
+    public void setSomaCumprimentoPrazos(long somaCumprimentoPrazos) { this.somaCumprimentoPrazos = somaCumprimentoPrazos; }
+
+    public long getSomaComunicacao() { return somaComunicacao; }
+    public void setSomaComunicacao(long somaComunicacao) { this.somaComunicacao = somaComunicacao; }
+
+    public long getSomaColaboracao() { return somaColaboracao; }
+    public void setSomaColaboracao(long somaColaboracao) { this.somaColaboracao = somaColaboracao; }
+}
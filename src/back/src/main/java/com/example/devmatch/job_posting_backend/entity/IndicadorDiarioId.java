@@ -0,0 +1,37 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Chave composta de {@link IndicadorDiario}: par (empresa, dia)
+ */
+public class IndicadorDiarioId implements Serializable {
+    private Long empresaId;
+    private LocalDate dia;
+
+    public IndicadorDiarioId() {
+    }
+
+    public IndicadorDiarioId(Long empresaId, LocalDate dia) {
+        this.empresaId = empresaId;
+        this.dia = dia;
+    }
+
+    public Long getEmpresaId() { return empresaId; }
+    public LocalDate getDia() { return dia; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndicadorDiarioId)) return false;
+        IndicadorDiarioId that = (IndicadorDiarioId) o;
+        return Objects.equals(empresaId, that.empresaId) && Objects.equals(dia, that.dia);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(empresaId, dia);
+    }
+}
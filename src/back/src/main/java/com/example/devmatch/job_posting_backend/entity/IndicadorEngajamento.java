@@ -0,0 +1,47 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Contador diário (HyperLogLog) dos desenvolvedores distintos que se candidataram às vagas de
+ * uma empresa: uma linha por registro ocupado (ver HyperLogLog). Como em {@link IndicadorDiario},
+ * empresa_id {@link IndicadorDiario#EMPRESA_PLATAFORMA} cobre todas as empresas. Atualizado a
+ * cada candidatura e refeito pelo IndicadoresDiariosService junto com os agregados diários.
+ */
+@Entity
+@IdClass(IndicadorEngajamentoId.class)
+@Table(name = "indicadores_engajamento", indexes = {
+    @Index(name = "idx_indicadores_engajamento_dia", columnList = "dia")
+})
+public class IndicadorEngajamento {
+
+    @Id
+    @Column(name = "empresa_id")
+    private Long empresaId;
+
+    @Id
+    @Column(name = "dia")
+    private LocalDate dia;
+
+    @Id
+    @Column(name = "registro")
+    private Integer registro;
+
+    // Maior rho dos candidatos do dia que caem no registro
+    @Column(name = "rho", nullable = false)
+    private int rho;
+
+    // Getters e Setters
+    public Long getEmpresaId() { return empresaId; }
+    public void setEmpresaId(Long empresaId) { this.empresaId = empresaId; }
+
+    public LocalDate getDia() { return dia; }
+    public void setDia(LocalDate dia) { this.dia = dia; }
+
+    public Integer getRegistro() { return registro; }
+    public void setRegistro(Integer registro) { this.registro = registro; }
+
+    public int getRho() { return rho; }
+    public void setRho(int rho) { this.rho = rho; }
+}
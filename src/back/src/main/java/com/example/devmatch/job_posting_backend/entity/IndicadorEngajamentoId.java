@@ -0,0 +1,41 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Chave composta de {@link IndicadorEngajamento}: (empresa, dia, registro)
+ */
+public class IndicadorEngajamentoId implements Serializable {
+    private Long empresaId;
+    private LocalDate dia;
+    private Integer registro;
+
+    public IndicadorEngajamentoId() {
+    }
+
+    public IndicadorEngajamentoId(Long empresaId, LocalDate dia, Integer registro) {
+        this.empresaId = empresaId;
+        this.dia = dia;
+        this.registro = registro;
+    }
+
+    public Long getEmpresaId() { return empresaId; }
+    public LocalDate getDia() { return dia; }
+    public Integer getRegistro() { return registro; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndicadorEngajamentoId)) return false;
+        IndicadorEngajamentoId that = (IndicadorEngajamentoId) o;
+        return Objects.equals(empresaId, that.empresaId) && Objects.equals(dia, that.dia)
+                && Objects.equals(registro, that.registro);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(empresaId, dia, registro);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Esboço diário de quantis do tempo de contratação (dias entre a publicação da vaga e o início
+ * do contrato), por empresa: uma linha por faixa logarítmica não vazia
+ * (ver HistogramaLogaritmico). Como em {@link IndicadorDiario}, empresa_id
+ * {@link IndicadorDiario#EMPRESA_PLATAFORMA} soma todas as empresas. Mantido pelo
+ * IndicadoresDiariosService junto com os agregados diários.
+ */
+@Entity
+@IdClass(IndicadorTempoContratacaoId.class)
+@Table(name = "indicadores_tempo_contratacao", indexes = {
+    @Index(name = "idx_indicadores_tempo_contratacao_dia", columnList = "dia")
+})
+public class IndicadorTempoContratacao {
+
+    @Id
+    @Column(name = "empresa_id")
+    private Long empresaId;
+
+    @Id
+    @Column(name = "dia")
+    private LocalDate dia;
+
+    @Id
+    @Column(name = "faixa")
+    private Integer faixa;
+
+    // Contratos do dia cujo tempo de contratação cai na faixa
+    @Column(name = "quantidade", nullable = false)
+    private long quantidade;
+
+    // Getters e Setters
+    public Long getEmpresaId() { return empresaId; }
+    public void setEmpresaId(Long empresaId) { this.empresaId = empresaId; }
+
+    public LocalDate getDia() { return dia; }
+    public void setDia(LocalDate dia) { this.dia = dia; }
+
+    public Integer getFaixa() { return faixa; }
+    public void setFaixa(Integer faixa) { this.faixa = faixa; }
+
+    public long getQuantidade() { return quantidade; }
+    public void setQuantidade(long quantidade) { this.quantidade = quantidade; }
+}
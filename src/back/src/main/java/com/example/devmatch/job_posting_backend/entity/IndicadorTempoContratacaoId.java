@@ -0,0 +1,41 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Chave composta de {@link IndicadorTempoContratacao}: (empresa, dia, faixa)
+ */
+public class IndicadorTempoContratacaoId implements Serializable {
+    private Long empresaId;
+    private LocalDate dia;
+    private Integer faixa;
+
+    public IndicadorTempoContratacaoId() {
+    }
+
+    public IndicadorTempoContratacaoId(Long empresaId, LocalDate dia, Integer faixa) {
+        this.empresaId = empresaId;
+        this.dia = dia;
+        this.faixa = faixa;
+    }
+
+    public Long getEmpresaId() { return empresaId; }
+    public LocalDate getDia() { return dia; }
+    public Integer getFaixa() { return faixa; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndicadorTempoContratacaoId)) return false;
+        IndicadorTempoContratacaoId that = (IndicadorTempoContratacaoId) o;
+        return Objects.equals(empresaId, that.empresaId) && Objects.equals(dia, that.dia)
+                && Objects.equals(faixa, that.faixa);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(empresaId, dia, faixa);
+    }
+}
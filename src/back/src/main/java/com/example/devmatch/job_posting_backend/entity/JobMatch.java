@@ -0,0 +1,84 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa um match materializado entre um desenvolvedor e uma vaga ativa.
+ * Só são guardados os pares com compatibilidade mínima; a tabela é mantida pelo
+ * JobMatchMaterializer sempre que um perfil ou uma vaga muda.
+ */
+@Entity
+@IdClass(JobMatchId.class)
+@Table(name = "job_matches", indexes = {
+    @Index(name = "idx_job_matches_usuario_ranking", columnList = "usuario_id, score_ranking DESC, vaga_id"),
+    @Index(name = "idx_job_matches_vaga", columnList = "vaga_id")
+})
+public class JobMatch {
+    @Id
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Id
+    @Column(name = "vaga_id")
+    private Long vagaId;
+
+    // Compatibilidade total (0-100)
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    // Compatibilidade combinada com a reputação da empresa (ReputacaoService.ranquear), usada na ordenação.
+    // Nula nas linhas gravadas antes da coluna existir, até o perfil ser rematerializado.
+    @Column(name = "score_ranking")
+    private Double scoreRanking;
+
+    // Percentual de cada critério (0-100)
+    @Column(name = "score_localizacao")
+    private double scoreLocalizacao;
+
+    @Column(name = "score_salario")
+    private double scoreSalario;
+
+    @Column(name = "score_contrato")
+    private double scoreContrato;
+
+    @Column(name = "score_preferencias")
+    private double scorePreferencias;
+
+    @Column(name = "score_skills")
+    private double scoreSkills;
+
+    @Column(name = "data_calculo")
+    private LocalDateTime dataCalculo;
+
+    // Getters e Setters
+    public Long getUsuarioId() { return usuarioId; }
+    public void setUsuarioId(Long usuarioId) { this.usuarioId = usuarioId; }
+
+    public Long getVagaId() { return vagaId; }
+    public void setVagaId(Long vagaId) { this.vagaId = vagaId; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public Double getScoreRanking() { return scoreRanking; }
+    public void setScoreRanking(Double scoreRanking) { this.scoreRanking = scoreRanking; }
+
+    public double getScoreLocalizacao() { return scoreLocalizacao; }
+    public void setScoreLocalizacao(double scoreLocalizacao) { this.scoreLocalizacao = scoreLocalizacao; }
+
+    public double getScoreSalario() { return scoreSalario; }
+    public void setScoreSalario(double scoreSalario) { this.scoreSalario = scoreSalario; }
+
+    public double getScoreContrato() { return scoreContrato; }
+    public void setScoreContrato(double scoreContrato) { this.scoreContrato = scoreContrato; }
+
+    public double getScorePreferencias() { return scorePreferencias; }
+    public void setScorePreferencias(double scorePreferencias) { this.scorePreferencias = scorePreferencias; }
+
+    public double getScoreSkills() { return scoreSkills; }
+    public void setScoreSkills(double scoreSkills) { this.scoreSkills = scoreSkills; }
+
+    public LocalDateTime getDataCalculo() { return dataCalculo; }
+    public void setDataCalculo(LocalDateTime dataCalculo) { this.dataCalculo = dataCalculo; }
+}
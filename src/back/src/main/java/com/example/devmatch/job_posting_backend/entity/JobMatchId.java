@@ -0,0 +1,36 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Chave composta de {@link JobMatch}: par (desenvolvedor, vaga)
+ */
+public class JobMatchId implements Serializable {
+    private Long usuarioId;
+    private Long vagaId;
+
+    public JobMatchId() {
+    }
+
+    public JobMatchId(Long usuarioId, Long vagaId) {
+        this.usuarioId = usuarioId;
+        this.vagaId = vagaId;
+    }
+
+    public Long getUsuarioId() { return usuarioId; }
+    public Long getVagaId() { return vagaId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JobMatchId)) return false;
+        JobMatchId that = (JobMatchId) o;
+        return Objects.equals(usuarioId, that.usuarioId) && Objects.equals(vagaId, that.vagaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(usuarioId, vagaId);
+    }
+}
@@ -50,6 +50,17 @@ public class JobPosting {
     @Column(name = "local_modalidade")
     private String localModalidade;
 
+    // Cidade da vaga em texto livre; se vazia, vale a localização do perfil da empresa
+    @Column(name = "localizacao", length = 200)
+    private String localizacao;
+
+    // Coordenadas do município da vaga, resolvidas pelo Gazetteer ao salvar a vaga
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToMany(mappedBy = "vaga", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference  // Serializa este lado da relação
     private List<JobSkill> skills = new ArrayList<>();
@@ -64,7 +75,8 @@ public class JobPosting {
     @Column(name = "candidaturas")
     private Integer applications = 0;
 
-    @Column(name = "matches")
+    // Quantidade de desenvolvedores em job_matches para a vaga (atualizada apenas pelo JobMatchMaterializer)
+    @Column(name = "matches", updatable = false)
     private Integer matches = 0;
 
     @Lob
@@ -96,6 +108,15 @@ public class JobPosting {
     public String getLocalModalidade() { return localModalidade; }
     public void setLocalModalidade(String localModalidade) { this.localModalidade = localModalidade; }
 
+    public String getLocalizacao() { return localizacao; }
+    public void setLocalizacao(String localizacao) { this.localizacao = localizacao; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public List<JobSkill> getSkills() { return skills; }
     public void setSkills(List<JobSkill> skills) { this.skills = skills; }
 
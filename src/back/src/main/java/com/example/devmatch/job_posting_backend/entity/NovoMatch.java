@@ -0,0 +1,60 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa o aviso de uma vaga que passou a ser compatível com um desenvolvedor.
+ * As entradas são gravadas pelo JobMatchMaterializer quando uma vaga é publicada (ou alterada)
+ * e passa a ter match com perfis completos; ficam não lidas até o desenvolvedor visualizá-las.
+ */
+@Entity
+@Table(name = "novos_matches",
+    uniqueConstraints = @UniqueConstraint(name = "uk_novos_matches_usuario_vaga", columnNames = {"usuario_id", "vaga_id"}),
+    indexes = @Index(name = "idx_novos_matches_usuario_lido", columnList = "usuario_id, lido, data_criacao DESC"))
+public class NovoMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(name = "vaga_id", nullable = false)
+    private Long vagaId;
+
+    // Compatibilidade total (0-100) no momento do aviso
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "lido", nullable = false)
+    private boolean lido = false;
+
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_leitura")
+    private LocalDateTime dataLeitura;
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUsuarioId() { return usuarioId; }
+    public void setUsuarioId(Long usuarioId) { this.usuarioId = usuarioId; }
+
+    public Long getVagaId() { return vagaId; }
+    public void setVagaId(Long vagaId) { this.vagaId = vagaId; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public boolean isLido() { return lido; }
+    public void setLido(boolean lido) { this.lido = lido; }
+
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+    public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
+
+    public LocalDateTime getDataLeitura() { return dataLeitura; }
+    public void setDataLeitura(LocalDateTime dataLeitura) { this.dataLeitura = dataLeitura; }
+}
@@ -29,6 +29,13 @@ public class PerfilDev {
     @Column(name = "localizacao")
     private String localizacao;
 
+    // Coordenadas do município da localização, resolvidas pelo Gazetteer ao salvar o perfil
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "github")
     private String github;
 
@@ -62,6 +69,10 @@ public class PerfilDev {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao = LocalDateTime.now();
 
+    // Última materialização dos matches do perfil em job_matches (escrita apenas pelo JobMatchMaterializer)
+    @Column(name = "matches_calculados_em", insertable = false, updatable = false)
+    private LocalDateTime matchesCalculadosEm;
+
     // Relacionamentos com outras entidades
     @OneToMany(mappedBy = "perfilDev", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
@@ -99,6 +110,12 @@ public class PerfilDev {
     public String getLocalizacao() { return localizacao; }
     public void setLocalizacao(String localizacao) { this.localizacao = localizacao; }
 
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
     public String getGithub() { return github; }
     public void setGithub(String github) { this.github = github; }
 
@@ -132,6 +149,8 @@ public class PerfilDev {
     public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
     public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
 
+    public LocalDateTime getMatchesCalculadosEm() { return matchesCalculadosEm; }
+
     public List<Certificacao> getCertificacoes() { return certificacoes; }
     public void setCertificacoes(List<Certificacao> certificacoes) { this.certificacoes = certificacoes; }
 
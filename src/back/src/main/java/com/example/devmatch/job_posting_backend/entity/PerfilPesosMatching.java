@@ -0,0 +1,141 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que armazena um perfil de pesos do matching: pesos dos cinco critérios e fatores
+ * de crédito parcial. O perfil sem empresa ({@code empresaUsuarioId} nulo) é o padrão; cada
+ * empresa pode ter o seu. Os valores iniciais reproduzem as regras originais do matching.
+ */
+@Entity
+@Table(name = "perfis_pesos_matching", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"empresa_usuario_id"})
+})
+public class PerfilPesosMatching {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Nulo para o perfil padrão
+    @Column(name = "empresa_usuario_id")
+    private Long empresaUsuarioId;
+
+    // Pesos dos critérios (proporcionais; a compatibilidade é normalizada pela soma)
+    @Column(name = "peso_localizacao", nullable = false)
+    private double pesoLocalizacao = 20.0;
+
+    @Column(name = "peso_salario", nullable = false)
+    private double pesoSalario = 25.0;
+
+    @Column(name = "peso_contrato", nullable = false)
+    private double pesoContrato = 15.0;
+
+    @Column(name = "peso_preferencias", nullable = false)
+    private double pesoPreferencias = 15.0;
+
+    @Column(name = "peso_skills", nullable = false)
+    private double pesoSkills = 25.0;
+
+    // Crédito (0-1) de um critério não informado por um dos lados
+    @Column(name = "fator_neutro", nullable = false)
+    private double fatorNeutro = 0.5;
+
+    @Column(name = "fator_hibrido", nullable = false)
+    private double fatorHibrido = 0.7;
+
+    @Column(name = "fator_presencial_outra_localizacao", nullable = false)
+    private double fatorPresencialOutraLocalizacao = 0.3;
+
+    @Column(name = "fator_modalidade_divergente", nullable = false)
+    private double fatorModalidadeDivergente = 0.4;
+
+    @Column(name = "fator_salario_a_combinar", nullable = false)
+    private double fatorSalarioACombinar = 0.8;
+
+    @Column(name = "fator_salario_sem_overlap", nullable = false)
+    private double fatorSalarioSemOverlap = 0.3;
+
+    @Column(name = "fator_contrato_similar", nullable = false)
+    private double fatorContratoSimilar = 0.8;
+
+    @Column(name = "fator_contrato_diferente", nullable = false)
+    private double fatorContratoDiferente = 0.3;
+
+    @Column(name = "fator_vaga_sem_regime", nullable = false)
+    private double fatorVagaSemRegime = 0.7;
+
+    @Column(name = "fator_preferencia_divergente", nullable = false)
+    private double fatorPreferenciaDivergente = 0.4;
+
+    // Bônus (0-1) somado ao percentual de skills encontradas
+    @Column(name = "bonus_skills", nullable = false)
+    private double bonusSkills = 0.2;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao = LocalDateTime.now();
+
+    @PreUpdate
+    public void onUpdate() {
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getEmpresaUsuarioId() { return empresaUsuarioId; }
+    public void setEmpresaUsuarioId(Long empresaUsuarioId) { this.empresaUsuarioId = empresaUsuarioId; }
+
+    public double getPesoLocalizacao() { return pesoLocalizacao; }
+    public void setPesoLocalizacao(double pesoLocalizacao) { this.pesoLocalizacao = pesoLocalizacao; }
+
+    public double getPesoSalario() { return pesoSalario; }
+    public void setPesoSalario(double pesoSalario) { this.pesoSalario = pesoSalario; }
+
+    public double getPesoContrato() { return pesoContrato; }
+    public void setPesoContrato(double pesoContrato) { this.pesoContrato = pesoContrato; }
+
+    public double getPesoPreferencias() { return pesoPreferencias; }
+    public void setPesoPreferencias(double pesoPreferencias) { this.pesoPreferencias = pesoPreferencias; }
+
+    public double getPesoSkills() { return pesoSkills; }
+    public void setPesoSkills(double pesoSkills) { this.pesoSkills = pesoSkills; }
+
+    public double getFatorNeutro() { return fatorNeutro; }
+    public void setFatorNeutro(double fatorNeutro) { this.fatorNeutro = fatorNeutro; }
+
+    public double getFatorHibrido() { return fatorHibrido; }
+    public void setFatorHibrido(double fatorHibrido) { this.fatorHibrido = fatorHibrido; }
+
+    public double getFatorPresencialOutraLocalizacao() { return fatorPresencialOutraLocalizacao; }
+    public void setFatorPresencialOutraLocalizacao(double fatorPresencialOutraLocalizacao) { this.fatorPresencialOutraLocalizacao = fatorPresencialOutraLocalizacao; }
+
+    public double getFatorModalidadeDivergente() { return fatorModalidadeDivergente; }
+    public void setFatorModalidadeDivergente(double fatorModalidadeDivergente) { this.fatorModalidadeDivergente = fatorModalidadeDivergente; }
+
+    public double getFatorSalarioACombinar() { return fatorSalarioACombinar; }
+    public void setFatorSalarioACombinar(double fatorSalarioACombinar) { this.fatorSalarioACombinar = fatorSalarioACombinar; }
+
+    public double getFatorSalarioSemOverlap() { return fatorSalarioSemOverlap; }
+    public void setFatorSalarioSemOverlap(double fatorSalarioSemOverlap) { this.fatorSalarioSemOverlap = fatorSalarioSemOverlap; }
+
+    public double getFatorContratoSimilar() { return fatorContratoSimilar; }
+    public void setFatorContratoSimilar(double fatorContratoSimilar) { this.fatorContratoSimilar = fatorContratoSimilar; }
+
+    public double getFatorContratoDiferente() { return fatorContratoDiferente; }
+    public void setFatorContratoDiferente(double fatorContratoDiferente) { this.fatorContratoDiferente = fatorContratoDiferente; }
+
+    public double getFatorVagaSemRegime() { return fatorVagaSemRegime; }
+    public void setFatorVagaSemRegime(double fatorVagaSemRegime) { this.fatorVagaSemRegime = fatorVagaSemRegime; }
+
+    public double getFatorPreferenciaDivergente() { return fatorPreferenciaDivergente; }
+    public void setFatorPreferenciaDivergente(double fatorPreferenciaDivergente) { this.fatorPreferenciaDivergente = fatorPreferenciaDivergente; }
+
+    public double getBonusSkills() { return bonusSkills; }
+    public void setBonusSkills(double bonusSkills) { this.bonusSkills = bonusSkills; }
+
+    public LocalDateTime getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
+}
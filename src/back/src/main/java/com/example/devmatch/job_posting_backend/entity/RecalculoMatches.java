@@ -0,0 +1,78 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa uma execução do recálculo completo da matriz desenvolvedor × vaga
+ * (tabela job_matches inteira). A execução é dividida em partes (RecalculoMatchesParte) que
+ * funcionam como checkpoints: os contadores abaixo só avançam no commit de cada parte.
+ */
+@Entity
+@Table(name = "recalculos_matches")
+public class RecalculoMatches {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private StatusRecalculo status = StatusRecalculo.EM_ANDAMENTO;
+
+    // Origem da execução: "agendado" ou "manual"
+    @Column(name = "origem")
+    private String origem;
+
+    @Column(name = "total_partes", nullable = false)
+    private int totalPartes;
+
+    @Column(name = "partes_concluidas", nullable = false)
+    private int partesConcluidas;
+
+    // Pares desenvolvedor × vaga pontuados e pares gravados em job_matches
+    @Column(name = "pares_avaliados", nullable = false)
+    private long paresAvaliados;
+
+    @Column(name = "matches_gravados", nullable = false)
+    private long matchesGravados;
+
+    @Column(name = "data_inicio")
+    private LocalDateTime dataInicio;
+
+    @Column(name = "data_fim")
+    private LocalDateTime dataFim;
+
+    @Column(name = "erro", length = 1000)
+    private String erro;
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public StatusRecalculo getStatus() { return status; }
+    public void setStatus(StatusRecalculo status) { this.status = status; }
+
+    public String getOrigem() { return origem; }
+    public void setOrigem(String origem) { this.origem = origem; }
+
+    public int getTotalPartes() { return totalPartes; }
+    public void setTotalPartes(int totalPartes) { this.totalPartes = totalPartes; }
+
+    public int getPartesConcluidas() { return partesConcluidas; }
+    public void setPartesConcluidas(int partesConcluidas) { this.partesConcluidas = partesConcluidas; }
+
+    public long getParesAvaliados() { return paresAvaliados; }
+    public void setParesAvaliados(long paresAvaliados) { this.paresAvaliados = paresAvaliados; }
+
+    public long getMatchesGravados() { return matchesGravados; }
+    public void setMatchesGravados(long matchesGravados) { this.matchesGravados = matchesGravados; }
+
+    public LocalDateTime getDataInicio() { return dataInicio; }
+    public void setDataInicio(LocalDateTime dataInicio) { this.dataInicio = dataInicio; }
+
+    public LocalDateTime getDataFim() { return dataFim; }
+    public void setDataFim(LocalDateTime dataFim) { this.dataFim = dataFim; }
+
+    public String getErro() { return erro; }
+    public void setErro(String erro) { this.erro = erro; }
+}
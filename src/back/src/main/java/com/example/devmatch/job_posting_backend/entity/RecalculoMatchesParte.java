@@ -0,0 +1,79 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que representa uma parte (faixa de IDs de desenvolvedores) de um recálculo completo
+ * dos matches. Cada parte é gravada na mesma transação que os seus matches, então uma parte
+ * CONCLUIDO nunca é refeita quando a execução é retomada após uma queda.
+ */
+@Entity
+@Table(name = "recalculos_matches_partes",
+    uniqueConstraints = @UniqueConstraint(name = "uk_recalculos_partes_execucao_numero", columnNames = {"recalculo_id", "numero"}),
+    indexes = @Index(name = "idx_recalculos_partes_status", columnList = "recalculo_id, status"))
+public class RecalculoMatchesParte {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recalculo_id", nullable = false)
+    private Long recalculoId;
+
+    @Column(name = "numero", nullable = false)
+    private int numero;
+
+    // Faixa inclusiva de IDs de usuário dos desenvolvedores da parte
+    @Column(name = "usuario_id_inicio", nullable = false)
+    private Long usuarioIdInicio;
+
+    @Column(name = "usuario_id_fim", nullable = false)
+    private Long usuarioIdFim;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private StatusRecalculo status = StatusRecalculo.PENDENTE;
+
+    @Column(name = "tentativas", nullable = false)
+    private int tentativas;
+
+    @Column(name = "pares_avaliados", nullable = false)
+    private long paresAvaliados;
+
+    @Column(name = "matches_gravados", nullable = false)
+    private long matchesGravados;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getRecalculoId() { return recalculoId; }
+    public void setRecalculoId(Long recalculoId) { this.recalculoId = recalculoId; }
+
+    public int getNumero() { return numero; }
+    public void setNumero(int numero) { this.numero = numero; }
+
+    public Long getUsuarioIdInicio() { return usuarioIdInicio; }
+    public void setUsuarioIdInicio(Long usuarioIdInicio) { this.usuarioIdInicio = usuarioIdInicio; }
+
+    public Long getUsuarioIdFim() { return usuarioIdFim; }
+    public void setUsuarioIdFim(Long usuarioIdFim) { this.usuarioIdFim = usuarioIdFim; }
+
+    public StatusRecalculo getStatus() { return status; }
+    public void setStatus(StatusRecalculo status) { this.status = status; }
+
+    public int getTentativas() { return tentativas; }
+    public void setTentativas(int tentativas) { this.tentativas = tentativas; }
+
+    public long getParesAvaliados() { return paresAvaliados; }
+    public void setParesAvaliados(long paresAvaliados) { this.paresAvaliados = paresAvaliados; }
+
+    public long getMatchesGravados() { return matchesGravados; }
+    public void setMatchesGravados(long matchesGravados) { this.matchesGravados = matchesGravados; }
+
+    public LocalDateTime getDataConclusao() { return dataConclusao; }
+    public void setDataConclusao(LocalDateTime dataConclusao) { this.dataConclusao = dataConclusao; }
+}
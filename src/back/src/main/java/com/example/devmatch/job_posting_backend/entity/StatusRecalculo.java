@@ -0,0 +1,11 @@
+package com.example.devmatch.job_posting_backend.entity;
+
+/**
+ * Situação de um recálculo completo dos matches e de cada uma das suas partes
+ */
+public enum StatusRecalculo {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDO,
+    FALHOU
+}
@@ -50,14 +50,6 @@ public interface CandidaturaRepository extends JpaRepository<Candidatura, Long>
      */
     long countByStatusIgnoreCase(String status);
 
-    /**
-     * Conta quantos desenvolvedores distintos geraram candidaturas no período informado
-     * @param since Limite inferior da janela (inclusive)
-     * @return Número de desenvolvedores com pelo menos uma candidatura na janela
-     */
-    @Query("SELECT COUNT(DISTINCT c.usuarioId) FROM Candidatura c WHERE c.dataCandidatura >= :since")
-    long countDistinctUsuariosAtivosDesde(@Param("since") LocalDateTime since);
-
     /**
      * Conta candidaturas aceitas de vagas de uma empresa específica
      */
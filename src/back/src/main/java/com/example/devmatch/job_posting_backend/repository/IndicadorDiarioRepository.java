@@ -0,0 +1,24 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.IndicadorDiario;
+import com.example.devmatch.job_posting_backend.entity.IndicadorDiarioId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório dos agregados diários dos indicadores (tabela indicadores_diarios)
+ */
+@Repository
+public interface IndicadorDiarioRepository extends JpaRepository<IndicadorDiario, IndicadorDiarioId> {
+
+    /**
+     * Agregados de uma empresa (ou da plataforma) a partir de um dia
+     * @param empresaId ID da empresa ou IndicadorDiario.EMPRESA_PLATAFORMA
+     * @param inicio Primeiro dia (inclusive)
+     * @return No máximo uma linha por dia
+     */
+    List<IndicadorDiario> findByEmpresaIdAndDiaGreaterThanEqual(Long empresaId, LocalDate inicio);
+}
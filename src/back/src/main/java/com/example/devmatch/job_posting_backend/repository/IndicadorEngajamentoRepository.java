@@ -0,0 +1,28 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.IndicadorEngajamento;
+import com.example.devmatch.job_posting_backend.entity.IndicadorEngajamentoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório dos contadores diários de desenvolvedores distintos (tabela indicadores_engajamento)
+ */
+@Repository
+public interface IndicadorEngajamentoRepository extends JpaRepository<IndicadorEngajamento, IndicadorEngajamentoId> {
+
+    /**
+     * Une os contadores diários de uma empresa (ou da plataforma) a partir de um dia
+     * @param empresaId ID da empresa ou IndicadorDiario.EMPRESA_PLATAFORMA
+     * @param inicio Primeiro dia (inclusive)
+     * @return Linhas {registro, rho}, no máximo uma por registro
+     */
+    @Query("SELECT e.registro, MAX(e.rho) FROM IndicadorEngajamento e "
+            + "WHERE e.empresaId = :empresaId AND e.dia >= :inicio GROUP BY e.registro")
+    List<Object[]> unirRegistrosDesde(@Param("empresaId") Long empresaId, @Param("inicio") LocalDate inicio);
+}
@@ -0,0 +1,28 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.IndicadorTempoContratacao;
+import com.example.devmatch.job_posting_backend.entity.IndicadorTempoContratacaoId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório dos esboços diários do tempo de contratação (tabela indicadores_tempo_contratacao)
+ */
+@Repository
+public interface IndicadorTempoContratacaoRepository extends JpaRepository<IndicadorTempoContratacao, IndicadorTempoContratacaoId> {
+
+    /**
+     * Une os esboços diários de uma empresa (ou da plataforma) a partir de um dia
+     * @param empresaId ID da empresa ou IndicadorDiario.EMPRESA_PLATAFORMA
+     * @param inicio Primeiro dia (inclusive)
+     * @return Linhas {faixa, quantidade} ordenadas por faixa
+     */
+    @Query("SELECT t.faixa, SUM(t.quantidade) FROM IndicadorTempoContratacao t "
+            + "WHERE t.empresaId = :empresaId AND t.dia >= :inicio GROUP BY t.faixa ORDER BY t.faixa")
+    List<Object[]> somarFaixasDesde(@Param("empresaId") Long empresaId, @Param("inicio") LocalDate inicio);
+}
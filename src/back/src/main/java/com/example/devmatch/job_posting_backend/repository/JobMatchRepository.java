@@ -0,0 +1,77 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.JobMatch;
+import com.example.devmatch.job_posting_backend.entity.JobMatchId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório dos matches materializados (tabela job_matches)
+ */
+@Repository
+public interface JobMatchRepository extends JpaRepository<JobMatch, JobMatchId> {
+
+    /**
+     * Primeira página de matches de um desenvolvedor, ordenada pelo score de ranking (maior primeiro)
+     * @param usuarioId ID do desenvolvedor
+     * @param minScore Compatibilidade mínima
+     * @param pageable Tamanho da página
+     * @return Matches do desenvolvedor
+     */
+    @Query("select m from JobMatch m where m.usuarioId = :usuarioId and m.score >= :minScore " +
+           "order by m.scoreRanking desc, m.vagaId asc")
+    List<JobMatch> findPagina(@Param("usuarioId") Long usuarioId,
+                              @Param("minScore") double minScore,
+                              Pageable pageable);
+
+    /**
+     * Página seguinte de matches de um desenvolvedor, a partir do último item da página anterior
+     * @param usuarioId ID do desenvolvedor
+     * @param minScore Compatibilidade mínima
+     * @param score Score de ranking do último item entregue
+     * @param vagaId ID da vaga do último item entregue
+     * @param pageable Tamanho da página
+     * @return Matches do desenvolvedor
+     */
+    @Query("select m from JobMatch m where m.usuarioId = :usuarioId and m.score >= :minScore " +
+           "and (m.scoreRanking < :score or (m.scoreRanking = :score and m.vagaId > :vagaId)) " +
+           "order by m.scoreRanking desc, m.vagaId asc")
+    List<JobMatch> findPaginaApos(@Param("usuarioId") Long usuarioId,
+                                  @Param("minScore") double minScore,
+                                  @Param("score") double score,
+                                  @Param("vagaId") Long vagaId,
+                                  Pageable pageable);
+
+    /**
+     * IDs das vagas com match materializado para um desenvolvedor
+     */
+    @Query("select m.vagaId from JobMatch m where m.usuarioId = :usuarioId")
+    List<Long> findVagaIdsByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * IDs dos desenvolvedores com match materializado para uma vaga
+     */
+    @Query("select m.usuarioId from JobMatch m where m.vagaId = :vagaId")
+    List<Long> findUsuarioIdsByVagaId(@Param("vagaId") Long vagaId);
+
+    /**
+     * Remove os matches materializados de um desenvolvedor
+     */
+    @Modifying
+    @Query("delete from JobMatch m where m.usuarioId = :usuarioId")
+    int deleteByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    /**
+     * Remove os matches materializados de uma vaga com os desenvolvedores informados
+     */
+    @Modifying
+    @Query("delete from JobMatch m where m.vagaId = :vagaId and m.usuarioId in :usuarioIds")
+    int deleteByVagaIdAndUsuarioIdIn(@Param("vagaId") Long vagaId, @Param("usuarioIds") Collection<Long> usuarioIds);
+}
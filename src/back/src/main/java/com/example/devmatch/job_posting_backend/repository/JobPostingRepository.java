@@ -2,10 +2,12 @@ package com.example.devmatch.job_posting_backend.repository;
 
 import com.example.devmatch.job_posting_backend.entity.JobPosting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,10 +31,42 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
      */
     List<JobPosting> findByUsuarioId(Long usuarioId);
 
+    /**
+     * Conta as vagas de um usuário (empresa)
+     * @param usuarioId ID do usuário (empresa)
+     * @return Número de vagas
+     */
+    long countByUsuarioId(Long usuarioId);
+
     /**
      * Busca vagas por ID do usuário já carregando a coleção de skills para evitar
      * LazyInitializationException durante a serialização para DTO.
      */
     @Query("select distinct j from JobPosting j left join fetch j.skills where j.usuarioId = :usuarioId")
     List<JobPosting> findByUsuarioIdWithSkills(@Param("usuarioId") Long usuarioId);
-}
\ No newline at end of file
+
+    /**
+     * Busca todas as vagas ativas já carregando as skills (usado para montar o índice de matching)
+     * @return Lista de vagas com status "ativa"
+     */
+    @Query("select distinct j from JobPosting j left join fetch j.skills where lower(j.status) = 'ativa'")
+    List<JobPosting> findAtivasWithSkills();
+
+    /**
+     * Busca vagas pelos IDs já carregando a coleção de skills em uma única consulta
+     * @param ids IDs das vagas
+     * @return Lista de vagas encontradas
+     */
+    @Query("select distinct j from JobPosting j left join fetch j.skills where j.id in :ids")
+    List<JobPosting> findAllByIdWithSkills(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recalcula o contador de matches das vagas a partir da tabela job_matches
+     * @param ids IDs das vagas
+     * @return Número de vagas atualizadas
+     */
+    @Modifying
+    @Query(value = "update vagas v set matches = (select count(*) from job_matches m where m.vaga_id = v.id) where v.id in (:ids)",
+           nativeQuery = true)
+    int atualizarContadorMatches(@Param("ids") Collection<Long> ids);
+}
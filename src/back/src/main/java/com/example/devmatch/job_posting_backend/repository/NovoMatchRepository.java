@@ -0,0 +1,69 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.NovoMatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório dos avisos de novos matches (tabela novos_matches)
+ */
+@Repository
+public interface NovoMatchRepository extends JpaRepository<NovoMatch, Long> {
+
+    /**
+     * Novos matches ainda não lidos de um desenvolvedor, do mais recente para o mais antigo
+     * @param usuarioId ID do desenvolvedor
+     * @param pageable Tamanho da página
+     * @return Avisos não lidos
+     */
+    @Query("select n from NovoMatch n where n.usuarioId = :usuarioId and n.lido = false " +
+           "order by n.dataCriacao desc, n.vagaId asc")
+    List<NovoMatch> findNaoLidos(@Param("usuarioId") Long usuarioId, Pageable pageable);
+
+    /**
+     * Quantidade de novos matches não lidos de um desenvolvedor
+     */
+    long countByUsuarioIdAndLidoFalse(Long usuarioId);
+
+    /**
+     * Marca como lidos todos os novos matches de um desenvolvedor
+     */
+    @Modifying
+    @Query("update NovoMatch n set n.lido = true, n.dataLeitura = :quando " +
+           "where n.usuarioId = :usuarioId and n.lido = false")
+    int marcarTodosLidos(@Param("usuarioId") Long usuarioId, @Param("quando") LocalDateTime quando);
+
+    /**
+     * Marca como lidos os novos matches de um desenvolvedor para as vagas informadas
+     */
+    @Modifying
+    @Query("update NovoMatch n set n.lido = true, n.dataLeitura = :quando " +
+           "where n.usuarioId = :usuarioId and n.vagaId in :vagaIds and n.lido = false")
+    int marcarLidos(@Param("usuarioId") Long usuarioId,
+                    @Param("vagaIds") Collection<Long> vagaIds,
+                    @Param("quando") LocalDateTime quando);
+
+    /**
+     * Remove os avisos não lidos de uma vaga que deixaram de ter match materializado
+     */
+    @Modifying
+    @Query("delete from NovoMatch n where n.vagaId = :vagaId and n.lido = false and not exists " +
+           "(select m from JobMatch m where m.vagaId = n.vagaId and m.usuarioId = n.usuarioId)")
+    int deleteNaoLidosSemMatchByVagaId(@Param("vagaId") Long vagaId);
+
+    /**
+     * Remove os avisos não lidos de um desenvolvedor que deixaram de ter match materializado
+     */
+    @Modifying
+    @Query("delete from NovoMatch n where n.usuarioId = :usuarioId and n.lido = false and not exists " +
+           "(select m from JobMatch m where m.vagaId = n.vagaId and m.usuarioId = n.usuarioId)")
+    int deleteNaoLidosSemMatchByUsuarioId(@Param("usuarioId") Long usuarioId);
+}
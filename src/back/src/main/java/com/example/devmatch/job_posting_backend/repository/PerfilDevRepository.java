@@ -2,8 +2,14 @@ package com.example.devmatch.job_posting_backend.repository;
 
 import com.example.devmatch.job_posting_backend.entity.PerfilDev;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,5 +31,67 @@ public interface PerfilDevRepository extends JpaRepository<PerfilDev, Long> {
      * @return true se existir, false caso contrário
      */
     boolean existsByUsuarioId(Long usuarioId);
+    
+    /**
+     * Busca em lote os perfis dos usuários informados, já com as habilidades carregadas
+     * @param usuarioIds IDs dos usuários
+     * @return Perfis encontrados
+     */
+    @Query("select distinct p from PerfilDev p left join fetch p.habilidades where p.usuarioId in :usuarioIds")
+    List<PerfilDev> findAllByUsuarioIdInWithHabilidades(@Param("usuarioIds") Collection<Long> usuarioIds);
+    
+    /**
+     * Lista os IDs de usuário de todos os perfis de desenvolvedor
+     * @return IDs dos usuários com perfil
+     */
+    @Query("select p.usuarioId from PerfilDev p where p.usuarioId is not null")
+    List<Long> findAllUsuarioIds();
+    
+    /**
+     * Filtra, entre os usuários informados, os que têm o perfil marcado como completo
+     * @param usuarioIds IDs dos usuários
+     * @return IDs dos usuários com perfil completo
+     */
+    @Query("select p.usuarioId from PerfilDev p where p.usuarioId in :usuarioIds and p.perfilCompleto = true")
+    List<Long> findUsuarioIdsComPerfilCompleto(@Param("usuarioIds") Collection<Long> usuarioIds);
+    
+    /**
+     * Busca quando os matches do perfil foram materializados pela última vez
+     * @param usuarioId ID do usuário
+     * @return Data da última materialização, vazio se nunca materializado
+     */
+    @Query("select p.matchesCalculadosEm from PerfilDev p where p.usuarioId = :usuarioId")
+    Optional<LocalDateTime> findMatchesCalculadosEm(@Param("usuarioId") Long usuarioId);
+    
+    /**
+     * Lista os usuários cujos matches ainda não foram materializados
+     * @return IDs dos usuários
+     */
+    @Query("select p.usuarioId from PerfilDev p where p.usuarioId is not null and p.matchesCalculadosEm is null")
+    List<Long> findUsuarioIdsSemMatchesCalculados();
+    
+    /**
+     * Registra a materialização dos matches do perfil
+     * @param usuarioId ID do usuário
+     * @param quando Momento do cálculo
+     */
+    @Modifying
+    @Query("update PerfilDev p set p.matchesCalculadosEm = :quando where p.usuarioId = :usuarioId")
+    void marcarMatchesCalculados(@Param("usuarioId") Long usuarioId, @Param("quando") LocalDateTime quando);
+    
+    /**
+     * IDs dos desenvolvedores com perfil em uma faixa de IDs de usuário, em ordem
+     * @param inicio Primeiro ID (inclusivo)
+     * @param fim Último ID (inclusivo)
+     */
+    @Query("select p.usuarioId from PerfilDev p where p.usuarioId between :inicio and :fim order by p.usuarioId")
+    List<Long> findUsuarioIdsEntre(@Param("inicio") Long inicio, @Param("fim") Long fim);
+    
+    /**
+     * Registra a materialização dos matches dos perfis de uma faixa de IDs de usuário
+     */
+    @Modifying
+    @Query("update PerfilDev p set p.matchesCalculadosEm = :quando where p.usuarioId between :inicio and :fim")
+    int marcarMatchesCalculadosEntre(@Param("inicio") Long inicio, @Param("fim") Long fim,
+                                     @Param("quando") LocalDateTime quando);
 }
-
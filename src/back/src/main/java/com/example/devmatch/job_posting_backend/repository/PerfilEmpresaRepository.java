@@ -2,12 +2,24 @@ package com.example.devmatch.job_posting_backend.repository;
 
 import com.example.devmatch.job_posting_backend.entity.PerfilEmpresa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PerfilEmpresaRepository extends JpaRepository<PerfilEmpresa, Long> {
     Optional<PerfilEmpresa> findByUsuarioId(Long usuarioId);
     boolean existsByUsuarioId(Long usuarioId);
+
+    /**
+     * Busca em uma única consulta os nomes das empresas dos usuários informados
+     * @param usuarioIds IDs dos usuários (empresas)
+     * @return Pares [ID do usuário, nome da empresa]
+     */
+    @Query("select p.usuario.id, p.nomeEmpresa from PerfilEmpresa p where p.usuario.id in :usuarioIds")
+    List<Object[]> findNomesEmpresaByUsuarioIds(@Param("usuarioIds") Collection<Long> usuarioIds);
 }
 
@@ -0,0 +1,27 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.PerfilPesosMatching;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositório dos perfis de pesos do matching
+ */
+@Repository
+public interface PerfilPesosMatchingRepository extends JpaRepository<PerfilPesosMatching, Long> {
+
+    /**
+     * Busca o perfil de pesos de uma empresa
+     * @param empresaUsuarioId ID do usuário da empresa
+     * @return Perfil da empresa, se existir
+     */
+    Optional<PerfilPesosMatching> findByEmpresaUsuarioId(Long empresaUsuarioId);
+
+    /**
+     * Busca o perfil de pesos padrão (sem empresa)
+     * @return Perfil padrão, se existir
+     */
+    Optional<PerfilPesosMatching> findFirstByEmpresaUsuarioIdIsNullOrderByIdAsc();
+}
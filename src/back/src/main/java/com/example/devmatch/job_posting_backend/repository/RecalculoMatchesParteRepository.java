@@ -0,0 +1,20 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.RecalculoMatchesParte;
+import com.example.devmatch.job_posting_backend.entity.StatusRecalculo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositório das partes (checkpoints) do recálculo completo dos matches
+ */
+@Repository
+public interface RecalculoMatchesParteRepository extends JpaRepository<RecalculoMatchesParte, Long> {
+
+    /**
+     * Partes de uma execução que ainda não foram concluídas, na ordem
+     */
+    List<RecalculoMatchesParte> findByRecalculoIdAndStatusNotOrderByNumero(Long recalculoId, StatusRecalculo status);
+}
@@ -0,0 +1,37 @@
+package com.example.devmatch.job_posting_backend.repository;
+
+import com.example.devmatch.job_posting_backend.entity.RecalculoMatches;
+import com.example.devmatch.job_posting_backend.entity.StatusRecalculo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositório das execuções do recálculo completo dos matches
+ */
+@Repository
+public interface RecalculoMatchesRepository extends JpaRepository<RecalculoMatches, Long> {
+
+    /**
+     * Execução mais recente com o status informado (ex.: a que estava em andamento antes de uma queda)
+     */
+    Optional<RecalculoMatches> findFirstByStatusOrderByIdDesc(StatusRecalculo status);
+
+    /**
+     * Execução mais recente
+     */
+    Optional<RecalculoMatches> findFirstByOrderByIdDesc();
+
+    /**
+     * Soma o resultado de uma parte concluída aos contadores da execução (na transação da parte)
+     */
+    @Modifying
+    @Query("update RecalculoMatches r set r.partesConcluidas = r.partesConcluidas + 1, " +
+           "r.paresAvaliados = r.paresAvaliados + :pares, r.matchesGravados = r.matchesGravados + :matches " +
+           "where r.id = :id")
+    int registrarParteConcluida(@Param("id") Long id, @Param("pares") long pares, @Param("matches") long matches);
+}
@@ -2,33 +2,42 @@ package com.example.devmatch.job_posting_backend.service;
 
 import com.example.devmatch.job_posting_backend.dto.AdminIndicatorsResponse;
 import com.example.devmatch.job_posting_backend.dto.PerformanceIndicatorDto;
-import com.example.devmatch.job_posting_backend.entity.Candidatura;
 import com.example.devmatch.job_posting_backend.entity.CompanyIndicatorTarget;
-import com.example.devmatch.job_posting_backend.entity.Contract;
 import com.example.devmatch.job_posting_backend.entity.ContractStatus;
-import com.example.devmatch.job_posting_backend.entity.Feedback;
-import com.example.devmatch.job_posting_backend.entity.JobPosting;
+import com.example.devmatch.job_posting_backend.entity.ContractType;
+import com.example.devmatch.job_posting_backend.entity.IndicadorDiario;
 import com.example.devmatch.job_posting_backend.repository.CandidaturaRepository;
 import com.example.devmatch.job_posting_backend.repository.CompanyIndicatorTargetRepository;
 import com.example.devmatch.job_posting_backend.repository.ContractRepository;
-import com.example.devmatch.job_posting_backend.repository.FeedbackRepository;
 import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
 import com.example.devmatch.job_posting_backend.repository.UsuarioRepository;
+import com.example.devmatch.job_posting_backend.util.HistogramaLogaritmico;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 @Service
 public class AdminIndicatorsService {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminIndicatorsService.class);
+
     private static final List<ContractStatus> EFFECTIVE_CONTRACT_STATUSES = List.of(
             ContractStatus.ACTIVE,
             ContractStatus.FINISHED
@@ -40,38 +49,87 @@ public class AdminIndicatorsService {
     private static final double DEFAULT_DEVELOPER_ENGAGEMENT_RATE = 60.0;
     private static final double DEFAULT_POST_HIRING_SATISFACTION = 4.5;
 
+    // Máximo de respostas guardadas; acima disso as vencidas são descartadas e, se não bastar,
+    // as mais antigas, até sobrar MANTER_CACHE (a folga evita ordenar o mapa a cada inserção)
+    private static final int LIMITE_CACHE = 5000;
+    private static final int MANTER_CACHE = LIMITE_CACHE * 9 / 10;
+
     private final CandidaturaRepository candidaturaRepository;
     private final ContractRepository contractRepository;
     private final UsuarioRepository usuarioRepository;
-    private final FeedbackRepository feedbackRepository;
     private final CompanyIndicatorTargetRepository targetRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final IndicadoresDiariosService indicadoresDiariosService;
+
+    // Respostas montadas por (usuário, escopo, período); servidas sem recalcular enquanto frescas
+    private final Map<ChaveCache, RespostaCache> cache = new ConcurrentHashMap<>();
+
+    // Chaves com recálculo em segundo plano em andamento
+    private final Set<ChaveCache> revalidando = ConcurrentHashMap.newKeySet();
+
+    // Cada indicador é montado em uma virtual thread: as consultas de um dashboard correm em paralelo
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long cacheTtlMs;
+    private final long cacheVencidoMs;
 
     public AdminIndicatorsService(CandidaturaRepository candidaturaRepository,
                                   ContractRepository contractRepository,
                                   UsuarioRepository usuarioRepository,
-                                  FeedbackRepository feedbackRepository,
                                   CompanyIndicatorTargetRepository targetRepository,
-                                  JobPostingRepository jobPostingRepository) {
+                                  JobPostingRepository jobPostingRepository,
+                                  IndicadoresDiariosService indicadoresDiariosService,
+                                  @Value("${indicadores.cache.ttl-ms:60000}") long cacheTtlMs,
+                                  @Value("${indicadores.cache.vencido-ms:300000}") long cacheVencidoMs) {
         this.candidaturaRepository = candidaturaRepository;
         this.contractRepository = contractRepository;
         this.usuarioRepository = usuarioRepository;
-        this.feedbackRepository = feedbackRepository;
         this.targetRepository = targetRepository;
         this.jobPostingRepository = jobPostingRepository;
+        this.indicadoresDiariosService = indicadoresDiariosService;
+        this.cacheTtlMs = cacheTtlMs;
+        this.cacheVencidoMs = cacheVencidoMs;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
     }
 
-    @Transactional(readOnly = true)
     public AdminIndicatorsResponse getIndicators(Long companyId, int requestedPeriodDays) {
         int periodDays = sanitizePeriod(requestedPeriodDays);
+        return obter(new ChaveCache(companyId, false, periodDays), () -> calcularIndicadores(companyId, periodDays));
+    }
+
+    public AdminIndicatorsResponse getIndicatorsForAdmin(Long adminUserId, int requestedPeriodDays) {
+        System.out.println("DEBUG AdminIndicatorsService: getIndicatorsForAdmin() chamado - buscando dados de TODAS as empresas");
+        int periodDays = sanitizePeriod(requestedPeriodDays);
+        return obter(new ChaveCache(adminUserId, true, periodDays), () -> calcularIndicadoresForAdmin(adminUserId, periodDays));
+    }
+
+    /**
+     * Descarta as respostas guardadas de um usuário (ex.: após alterar suas metas)
+     * @param usuarioId ID da empresa ou do admin
+     */
+    public void invalidarCache(Long usuarioId) {
+        cache.keySet().removeIf(chave -> chave.usuarioId().equals(usuarioId));
+    }
+
+    private AdminIndicatorsResponse calcularIndicadores(Long companyId, int periodDays) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime since = now.minusDays(periodDays);
+        // Engajamento não usa os totais diários: começa enquanto eles são carregados
+        Future<PerformanceIndicatorDto> engajamento = executor.submit(() -> buildEngagementIndicator(companyId, periodDays));
+        // Somas dos agregados diários da empresa (no máximo uma linha por dia), compartilhadas pelos demais indicadores
+        IndicadorDiario totais = indicadoresDiariosService.getTotais(companyId, periodDays);
+        Future<PerformanceIndicatorDto> matchSuccess = executor.submit(() -> buildMatchSuccessIndicator(companyId, totais));
+        Future<PerformanceIndicatorDto> hiringTime = executor.submit(() -> buildAverageHiringTimeIndicator(companyId, totais, periodDays));
+        Future<PerformanceIndicatorDto> satisfacao = executor.submit(() -> buildSatisfactionIndicator(companyId, totais));
 
         List<PerformanceIndicatorDto> indicadores = new ArrayList<>();
-        indicadores.add(buildMatchSuccessIndicator(companyId, since));
-        indicadores.add(buildAverageHiringTimeIndicator(companyId, since));
-        indicadores.add(buildEngagementIndicator(companyId, since, periodDays));
-        indicadores.add(buildSatisfactionIndicator(companyId, since));
+        indicadores.add(aguardar(matchSuccess));
+        indicadores.add(aguardar(hiringTime));
+        indicadores.add(aguardar(engajamento));
+        indicadores.add(aguardar(satisfacao));
 
         return AdminIndicatorsResponse.builder()
                 .periodDays(periodDays)
@@ -80,18 +138,20 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public AdminIndicatorsResponse getIndicatorsForAdmin(Long adminUserId, int requestedPeriodDays) {
-        System.out.println("DEBUG AdminIndicatorsService: getIndicatorsForAdmin() chamado - buscando dados de TODAS as empresas");
-        int periodDays = sanitizePeriod(requestedPeriodDays);
+    private AdminIndicatorsResponse calcularIndicadoresForAdmin(Long adminUserId, int periodDays) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime since = now.minusDays(periodDays);
+        Future<PerformanceIndicatorDto> engajamento = executor.submit(() -> buildEngagementIndicatorForAdmin(adminUserId, periodDays));
+        // Somas dos agregados diários da plataforma (todas as empresas)
+        IndicadorDiario totais = indicadoresDiariosService.getTotais(IndicadorDiario.EMPRESA_PLATAFORMA, periodDays);
+        Future<PerformanceIndicatorDto> matchSuccess = executor.submit(() -> buildMatchSuccessIndicatorForAdmin(adminUserId, totais));
+        Future<PerformanceIndicatorDto> hiringTime = executor.submit(() -> buildAverageHiringTimeIndicatorForAdmin(adminUserId, totais, periodDays));
+        Future<PerformanceIndicatorDto> satisfacao = executor.submit(() -> buildSatisfactionIndicatorForAdmin(adminUserId, totais));
 
         List<PerformanceIndicatorDto> indicadores = new ArrayList<>();
-        indicadores.add(buildMatchSuccessIndicatorForAdmin(adminUserId, since));
-        indicadores.add(buildAverageHiringTimeIndicatorForAdmin(adminUserId, since));
-        indicadores.add(buildEngagementIndicatorForAdmin(adminUserId, since, periodDays));
-        indicadores.add(buildSatisfactionIndicatorForAdmin(adminUserId, since));
+        indicadores.add(aguardar(matchSuccess));
+        indicadores.add(aguardar(hiringTime));
+        indicadores.add(aguardar(engajamento));
+        indicadores.add(aguardar(satisfacao));
 
         System.out.println("DEBUG AdminIndicatorsService: Retornando " + indicadores.size() + " indicadores para admin");
         return AdminIndicatorsResponse.builder()
@@ -101,6 +161,78 @@ public class AdminIndicatorsService {
                 .build();
     }
 
+    /**
+     * Resposta guardada se ainda fresca (até indicadores.cache.ttl-ms). Depois disso, por mais
+     * indicadores.cache.vencido-ms, a resposta vencida é devolvida na hora e recalculada em
+     * segundo plano; passado esse prazo, o cálculo é feito na requisição.
+     */
+    private AdminIndicatorsResponse obter(ChaveCache chave, Supplier<AdminIndicatorsResponse> calculo) {
+        RespostaCache atual = cache.get(chave);
+        if (atual != null) {
+            long idade = System.currentTimeMillis() - atual.calculadaEm();
+            if (idade < cacheTtlMs) {
+                return atual.resposta();
+            }
+            if (idade < cacheTtlMs + cacheVencidoMs) {
+                if (revalidando.add(chave)) {
+                    executor.execute(() -> {
+                        try {
+                            guardar(chave, calculo.get());
+                        } catch (RuntimeException e) {
+                            log.warn("Falha ao recalcular indicadores de {} ({} dias)", chave.usuarioId(), chave.periodDays(), e);
+                        } finally {
+                            revalidando.remove(chave);
+                        }
+                    });
+                }
+                return atual.resposta();
+            }
+        }
+        AdminIndicatorsResponse resposta = calculo.get();
+        guardar(chave, resposta);
+        return resposta;
+    }
+
+    private void guardar(ChaveCache chave, AdminIndicatorsResponse resposta) {
+        if (cacheTtlMs <= 0) {
+            return;
+        }
+        long agora = System.currentTimeMillis();
+        cache.put(chave, new RespostaCache(resposta, agora));
+        if (cache.size() > LIMITE_CACHE) {
+            cache.values().removeIf(r -> agora - r.calculadaEm() >= cacheTtlMs + cacheVencidoMs);
+        }
+        int excedente = cache.size() - MANTER_CACHE;
+        if (cache.size() > LIMITE_CACHE && excedente > 0) {
+            cache.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entrada -> entrada.getValue().calculadaEm()))
+                    .limit(excedente)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(cache::remove);
+        }
+    }
+
+    private static <T> T aguardar(Future<T> tarefa) {
+        try {
+            return tarefa.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cálculo dos indicadores interrompido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record ChaveCache(Long usuarioId, boolean plataforma, int periodDays) {
+    }
+
+    private record RespostaCache(AdminIndicatorsResponse resposta, long calculadaEm) {
+    }
+
     private Double getTargetValue(Long companyId, String indicatorId, double defaultValue) {
         Optional<CompanyIndicatorTarget> target = targetRepository.findByCompanyIdAndIndicatorId(companyId, indicatorId);
         return target.map(CompanyIndicatorTarget::getTargetValue).orElse(defaultValue);
@@ -116,36 +248,18 @@ public class AdminIndicatorsService {
         return periodDays;
     }
 
-    private PerformanceIndicatorDto buildMatchSuccessIndicator(Long companyId, LocalDateTime since) {
-        // Buscar todas as vagas da empresa primeiro
-        List<JobPosting> vagas = jobPostingRepository.findByUsuarioId(companyId);
-        List<Long> vagaIds = vagas.stream().map(JobPosting::getId).toList();
-        
-        // Buscar todas as candidaturas das vagas da empresa e filtrar por período
-        List<Candidatura> todasCandidaturas = candidaturaRepository.findAll().stream()
-                .filter(c -> vagaIds.contains(c.getVagaId()))
-                .filter(c -> c.getDataCandidatura() != null && !c.getDataCandidatura().isBefore(since))
-                .toList();
-        
-        long totalCandidaturas = todasCandidaturas.size();
-        long candidaturasPendentes = todasCandidaturas.stream()
-                .filter(c -> "pendente".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long candidaturasEmAnalise = todasCandidaturas.stream()
-                .filter(c -> "em_analise".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long matchesAceitos = todasCandidaturas.stream()
-                .filter(c -> "aceito".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long candidaturasRejeitadas = todasCandidaturas.stream()
-                .filter(c -> "rejeitado".equalsIgnoreCase(c.getStatus()))
-                .count();
+    private PerformanceIndicatorDto buildMatchSuccessIndicator(Long companyId, IndicadorDiario totais) {
+        long totalVagas = jobPostingRepository.countByUsuarioId(companyId);
+
+        // Candidaturas às vagas da empresa no período, por status
+        long totalCandidaturas = totais.getCandidaturas();
+        long candidaturasPendentes = totais.getCandidaturasPendentes();
+        long candidaturasEmAnalise = totais.getCandidaturasEmAnalise();
+        long matchesAceitos = totais.getCandidaturasAceitas();
+        long candidaturasRejeitadas = totais.getCandidaturasRejeitadas();
         
-        // Buscar contratos da empresa e filtrar por período (usando startedAt)
-        List<Contract> todosContratos = contractRepository.findByCompanyIdAndStatusIn(companyId, EFFECTIVE_CONTRACT_STATUSES);
-        long contratosEfetivos = todosContratos.stream()
-                .filter(c -> c.getStartedAt() != null && !c.getStartedAt().isBefore(since))
-                .count();
+        // Contratos efetivos da empresa iniciados no período (usando startedAt)
+        long contratosEfetivos = totais.getContratosEfetivos();
         
         // Taxa principal: (contratos gerados / candidaturas aceitas) * 100
         // Taxa secundária: (contratos gerados / total de candidaturas) * 100
@@ -178,14 +292,14 @@ public class AdminIndicatorsService {
         detalhes.put("taxaAceitosParaContrato", round(taxaAceitosParaContrato));
         detalhes.put("taxaPendenteParaAnalise", round(taxaPendenteParaAnalise));
         detalhes.put("taxaAnaliseParaAceito", round(taxaAnaliseParaAceito));
-        detalhes.put("totalVagas", vagas.size());
+        detalhes.put("totalVagas", totalVagas);
         detalhes.put("consideraStatus", "Todas candidaturas x contratos ativos/finalizados");
 
         String observacoes = null;
-        if (vagas.isEmpty()) {
+        if (totalVagas == 0) {
             observacoes = "Você ainda não publicou nenhuma vaga.";
         } else if (totalCandidaturas == 0 && contratosEfetivos == 0) {
-            observacoes = "Há " + vagas.size() + " vaga(s) publicada(s), mas ainda não há candidaturas ou contratos registrados.";
+            observacoes = "Há " + totalVagas + " vaga(s) publicada(s), mas ainda não há candidaturas ou contratos registrados.";
         } else if (totalCandidaturas > 0 && contratosEfetivos == 0) {
             observacoes = "Há " + totalCandidaturas + " candidatura(s), mas nenhum contrato foi gerado ainda. Taxa de conversão de aceitos para contrato: " + round(taxaAceitosParaContrato) + "%.";
         } else if (matchesAceitos > 0 && contratosEfetivos < matchesAceitos) {
@@ -208,48 +322,28 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    private PerformanceIndicatorDto buildAverageHiringTimeIndicator(Long companyId, LocalDateTime since) {
-        List<Contract> contratos = contractRepository.findByCompanyIdAndStatusIn(companyId, EFFECTIVE_CONTRACT_STATUSES);
-        List<Double> temposDias = contratos.stream()
-                .filter(contrato -> contrato.getVaga() != null && contrato.getVaga().getPostedDate() != null && contrato.getStartedAt() != null)
-                .filter(contrato -> contrato.getStartedAt() != null && !contrato.getStartedAt().isBefore(since))
-                .mapToDouble(contrato -> {
-                    Duration duracao = Duration.between(contrato.getVaga().getPostedDate(), contrato.getStartedAt());
-                    double dias = duracao.toHours() / 24d;
-                    return Math.max(0d, dias);
-                })
-                .boxed()
-                .sorted()
-                .toList();
+    private PerformanceIndicatorDto buildAverageHiringTimeIndicator(Long companyId, IndicadorDiario totais, int periodDays) {
+        // Contratos efetivos da empresa iniciados no período cuja vaga tem data de publicação
+        long contratosConsiderados = totais.getContratacoesComTempo();
+        double mediaDias = contratosConsiderados == 0 ? 0d : totais.getSomaDiasContratacao() / contratosConsiderados;
+        double tempoMinimo = totais.getMinDiasContratacao() != null ? totais.getMinDiasContratacao() : 0d;
+        double tempoMaximo = totais.getMaxDiasContratacao() != null ? totais.getMaxDiasContratacao() : 0d;
+        // Quantis pelos esboços diários unidos no período (erro relativo de até 1%)
+        HistogramaLogaritmico tempos = indicadoresDiariosService.getTemposContratacao(companyId, periodDays);
+        double medianaDias = tempos.quantil(0.5);
+        double percentil90Dias = tempos.quantil(0.9);
+        double percentil99Dias = tempos.quantil(0.99);
         
-        double mediaDias = temposDias.stream().mapToDouble(Double::doubleValue).average().orElse(0d);
-        double medianaDias = 0d;
-        double tempoMinimo = temposDias.isEmpty() ? 0d : temposDias.get(0);
-        double tempoMaximo = temposDias.isEmpty() ? 0d : temposDias.get(temposDias.size() - 1);
-        
-        if (!temposDias.isEmpty()) {
-            int meio = temposDias.size() / 2;
-            if (temposDias.size() % 2 == 0) {
-                medianaDias = (temposDias.get(meio - 1) + temposDias.get(meio)) / 2d;
-            } else {
-                medianaDias = temposDias.get(meio);
-            }
-        }
-        
-        // Separar por tipo de contrato
-        Map<String, Long> contratosPorTipo = contratos.stream()
-                .filter(c -> c.getStartedAt() != null && !c.getStartedAt().isBefore(since))
-                .collect(java.util.stream.Collectors.groupingBy(
-                        c -> c.getContractType() != null ? c.getContractType().toString() : "N/A",
-                        java.util.stream.Collectors.counting()
-                ));
+        Map<String, Long> contratosPorTipo = contarPorTipo(totais);
         
         double meta = getTargetValue(companyId, "average-hiring-time", DEFAULT_AVERAGE_HIRING_TIME);
 
         Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("contratosConsiderados", temposDias.size());
+        detalhes.put("contratosConsiderados", contratosConsiderados);
         detalhes.put("mediaDias", round(mediaDias));
         detalhes.put("medianaDias", round(medianaDias));
+        detalhes.put("percentil90Dias", round(percentil90Dias));
+        detalhes.put("percentil99Dias", round(percentil99Dias));
         detalhes.put("tempoMinimo", round(tempoMinimo));
         detalhes.put("tempoMaximo", round(tempoMaximo));
         detalhes.put("contratosPorTipo", contratosPorTipo);
@@ -271,9 +365,10 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    private PerformanceIndicatorDto buildEngagementIndicator(Long companyId, LocalDateTime since, int periodDays) {
+    private PerformanceIndicatorDto buildEngagementIndicator(Long companyId, int periodDays) {
         // Para engajamento, consideramos apenas devs que se candidataram a vagas desta empresa
-        long devsEngajados = candidaturaRepository.countDistinctUsuariosAtivosDesdeByCompany(since, companyId);
+        // (estimativa pela união dos contadores HyperLogLog diários do período)
+        long devsEngajados = indicadoresDiariosService.getDesenvolvedoresDistintos(companyId, periodDays);
         // Total de devs ativos na plataforma (não filtrado por empresa, pois é um indicador geral)
         long devsAtivos = usuarioRepository.countByTipoIgnoreCaseAndPerfilCompletoTrue("dev");
         double taxa = devsAtivos == 0 ? 0d : (devsEngajados / (double) devsAtivos) * 100d;
@@ -296,92 +391,33 @@ public class AdminIndicatorsService {
                 .meta(meta)
                 .metaDescricao("Manter ao menos " + meta + "% da base ativa engajada em oportunidades.")
                 .detalhes(detalhes)
-                .observacoes("Considera desenvolvedores com perfil completo como base ativa e apenas candidaturas às vagas desta empresa.")
+                .observacoes("Considera desenvolvedores com perfil completo como base ativa e apenas candidaturas às vagas desta empresa. Desenvolvedores distintos estimados com erro de cerca de 2%.")
                 .build();
     }
 
-    private PerformanceIndicatorDto buildSatisfactionIndicator(Long companyId, LocalDateTime since) {
-        // Buscar feedbacks relacionados a contratos da empresa
-        List<Contract> contratos = contractRepository.findByCompanyIdAndStatusIn(companyId, EFFECTIVE_CONTRACT_STATUSES);
-        List<Long> contractIds = contratos.stream().map(Contract::getId).toList();
-        
-        List<Feedback> allFeedbacks = feedbackRepository.findAll();
-        List<Feedback> feedbacks = allFeedbacks.stream()
-                .filter(f -> {
-                    // Filtrar por período primeiro
-                    if (f.getDataAvaliacao() == null || f.getDataAvaliacao().isBefore(since)) {
-                        return false;
-                    }
-                    // Se projectId corresponde a um contrato da empresa
-                    if (contractIds.contains(f.getProjectId())) {
-                        return true;
-                    }
-                    // Ou se o raterId ou ratedId corresponde à empresa ou a um dev de contrato da empresa
-                    if (f.getRaterId().equals(companyId) || f.getRatedId().equals(companyId)) {
-                        return true;
-                    }
-                    // Verificar se ratedId ou raterId são developers de contratos da empresa
-                    return contratos.stream().anyMatch(c -> 
-                        c.getDeveloperId() != null && 
-                        (c.getDeveloperId().equals(f.getRatedId()) || 
-                         c.getDeveloperId().equals(f.getRaterId()))
-                    );
-                })
-                .toList();
-        
-        // Separar feedbacks da empresa sobre devs e feedbacks de devs sobre a empresa
-        List<Feedback> feedbacksEmpresaParaDev = feedbacks.stream()
-                .filter(f -> f.getRatedRole() != null && f.getRatedRole().toString().equals("DEVELOPER"))
-                .toList();
-        List<Feedback> feedbacksDevParaEmpresa = feedbacks.stream()
-                .filter(f -> f.getRatedRole() != null && f.getRatedRole().toString().equals("COMPANY"))
-                .toList();
-        
-        // Calcular médias gerais e por critério
-        double mediaGeral = feedbacks.stream()
-                .mapToDouble(feedback ->
-                        (feedback.getQualidadeTecnica()
-                         + feedback.getCumprimentoPrazos()
-                         + feedback.getComunicacao()
-                         + feedback.getColaboracao()) / 4d
-                )
-                .average()
-                .orElse(0d);
-        
-        double mediaEmpresaParaDev = feedbacksEmpresaParaDev.stream()
-                .mapToDouble(f -> (f.getQualidadeTecnica() + f.getCumprimentoPrazos() + f.getComunicacao() + f.getColaboracao()) / 4d)
-                .average()
-                .orElse(0d);
+    private PerformanceIndicatorDto buildSatisfactionIndicator(Long companyId, IndicadorDiario totais) {
+        // Avaliações (nos dois sentidos) dos projetos das vagas da empresa, feitas no período
+        long avaliacoes = totais.getAvaliacoes();
+        long avaliacoesEmpresaParaDev = totais.getAvaliacoesEmpresaParaDev();
+        long avaliacoesDevParaEmpresa = totais.getAvaliacoesDevParaEmpresa();
         
-        double mediaDevParaEmpresa = feedbacksDevParaEmpresa.stream()
-                .mapToDouble(f -> (f.getQualidadeTecnica() + f.getCumprimentoPrazos() + f.getComunicacao() + f.getColaboracao()) / 4d)
-                .average()
-                .orElse(0d);
+        // Médias gerais: cada avaliação soma os quatro critérios
+        double mediaGeral = media(totais.getSomaNotas(), avaliacoes * 4);
+        double mediaEmpresaParaDev = media(totais.getSomaNotasEmpresaParaDev(), avaliacoesEmpresaParaDev * 4);
+        double mediaDevParaEmpresa = media(totais.getSomaNotasDevParaEmpresa(), avaliacoesDevParaEmpresa * 4);
         
         // Médias por critério
-        double mediaQualidadeTecnica = feedbacks.stream()
-                .mapToDouble(Feedback::getQualidadeTecnica)
-                .average()
-                .orElse(0d);
-        double mediaCumprimentoPrazos = feedbacks.stream()
-                .mapToDouble(Feedback::getCumprimentoPrazos)
-                .average()
-                .orElse(0d);
-        double mediaComunicacao = feedbacks.stream()
-                .mapToDouble(Feedback::getComunicacao)
-                .average()
-                .orElse(0d);
-        double mediaColaboracao = feedbacks.stream()
-                .mapToDouble(Feedback::getColaboracao)
-                .average()
-                .orElse(0d);
+        double mediaQualidadeTecnica = media(totais.getSomaQualidadeTecnica(), avaliacoes);
+        double mediaCumprimentoPrazos = media(totais.getSomaCumprimentoPrazos(), avaliacoes);
+        double mediaComunicacao = media(totais.getSomaComunicacao(), avaliacoes);
+        double mediaColaboracao = media(totais.getSomaColaboracao(), avaliacoes);
         
         double meta = getTargetValue(companyId, "post-hiring-satisfaction", DEFAULT_POST_HIRING_SATISFACTION);
 
         Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("avaliacoesConsideradas", feedbacks.size());
-        detalhes.put("avaliacoesEmpresaParaDev", feedbacksEmpresaParaDev.size());
-        detalhes.put("avaliacoesDevParaEmpresa", feedbacksDevParaEmpresa.size());
+        detalhes.put("avaliacoesConsideradas", avaliacoes);
+        detalhes.put("avaliacoesEmpresaParaDev", avaliacoesEmpresaParaDev);
+        detalhes.put("avaliacoesDevParaEmpresa", avaliacoesDevParaEmpresa);
         detalhes.put("mediaGeral", round(mediaGeral));
         detalhes.put("mediaEmpresaParaDev", round(mediaEmpresaParaDev));
         detalhes.put("mediaDevParaEmpresa", round(mediaDevParaEmpresa));
@@ -407,180 +443,46 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    // ========== Métodos para indicadores gerais (admin) ==========
-
-    private PerformanceIndicatorDto buildGeneralMatchSuccessIndicator() {
-        // Buscar todas as vagas
-        List<JobPosting> todasVagas = jobPostingRepository.findAll();
-        // Contar todas as candidaturas (JpaRepository já fornece count())
-        long totalCandidaturas = candidaturaRepository.count();
-        long contratosEfetivos = contractRepository.countByStatusIn(EFFECTIVE_CONTRACT_STATUSES);
-        
-        double taxa = totalCandidaturas == 0 ? (contratosEfetivos > 0 ? 100d : 0d) 
-                : (contratosEfetivos / (double) totalCandidaturas) * 100d;
-        double valor = round(Math.min(taxa, 100d));
-        double meta = DEFAULT_MATCH_SUCCESS_RATE;
-
-        Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("totalCandidaturas", totalCandidaturas);
-        detalhes.put("contratosGerados", contratosEfetivos);
-        detalhes.put("totalVagas", todasVagas.size());
-
-        String observacoes = null;
-        if (todasVagas.isEmpty()) {
-            observacoes = "Nenhuma vaga publicada na plataforma ainda.";
-        } else if (totalCandidaturas == 0 && contratosEfetivos == 0) {
-            observacoes = "Há " + todasVagas.size() + " vaga(s) publicada(s), mas ainda não há candidaturas ou contratos registrados.";
-        }
-
-        return PerformanceIndicatorDto.builder()
-                .id("match-success-rate")
-                .indicador("Taxa de match bem-sucedido (Geral)")
-                .objetivo("Medir a eficácia geral do algoritmo de matching na plataforma")
-                .descricao("Percentual de candidaturas que resultaram em contratação efetiva em toda a plataforma.")
-                .fonteDados(List.of("Candidaturas", "Contracts"))
-                .formula("(número de contratos gerados / número total de candidaturas) * 100")
-                .valor(valor)
-                .unidade("%")
-                .meta(meta)
-                .metaDescricao("Meta mínima de " + meta + "% para garantir que os matches evoluam para contratação.")
-                .detalhes(detalhes)
-                .observacoes(observacoes)
-                .build();
-    }
-
-    private PerformanceIndicatorDto buildGeneralAverageHiringTimeIndicator() {
-        List<Contract> todosContratos = contractRepository.findByStatusIn(EFFECTIVE_CONTRACT_STATUSES);
-        double mediaDias = todosContratos.stream()
-                .filter(contrato -> contrato.getVaga() != null && contrato.getVaga().getPostedDate() != null && contrato.getStartedAt() != null)
-                .mapToDouble(contrato -> {
-                    Duration duracao = Duration.between(contrato.getVaga().getPostedDate(), contrato.getStartedAt());
-                    double dias = duracao.toHours() / 24d;
-                    return Math.max(0d, dias);
-                })
-                .average()
-                .orElse(0d);
-        double meta = DEFAULT_AVERAGE_HIRING_TIME;
-
-        Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("contratosConsiderados", todosContratos.size());
-        detalhes.put("janelaAnalise", "Todos os contratos ativos e finalizados da plataforma");
-
-        return PerformanceIndicatorDto.builder()
-                .id("average-hiring-time")
-                .indicador("Tempo médio de contratação (Geral)")
-                .objetivo("Acompanhar o tempo médio de contratação em toda a plataforma")
-                .descricao("Média de dias entre a data de criação da vaga e a data de início do contrato em toda a plataforma.")
-                .fonteDados(List.of("Vagas", "Contracts"))
-                .formula("soma(data_contratacao - data_abertura_vaga) / número total de contratações")
-                .valor(round(mediaDias))
-                .unidade("dias")
-                .meta(meta)
-                .metaDescricao("Manter o ciclo de contratação abaixo de " + meta + " dias na plataforma.")
-                .detalhes(detalhes)
-                .observacoes("Considera todos os contratos ativos ou finalizados da plataforma.")
-                .build();
-    }
-
-    private PerformanceIndicatorDto buildGeneralEngagementIndicator(LocalDateTime since, int periodDays) {
-        long devsEngajados = candidaturaRepository.countDistinctUsuariosAtivosDesde(since);
-        long devsAtivos = usuarioRepository.countByTipoIgnoreCaseAndPerfilCompletoTrue("dev");
-        double taxa = devsAtivos == 0 ? 0d : (devsEngajados / (double) devsAtivos) * 100d;
-        double meta = DEFAULT_DEVELOPER_ENGAGEMENT_RATE;
-
-        Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("desenvolvedoresAtivos", devsAtivos);
-        detalhes.put("desenvolvedoresComCandidaturaNoPeriodo", devsEngajados);
-        detalhes.put("janelaDias", periodDays);
-
-        return PerformanceIndicatorDto.builder()
-                .id("developer-engagement-rate")
-                .indicador("Taxa de engajamento dos desenvolvedores (Geral)")
-                .objetivo("Acompanhar o engajamento geral dos devs com as oportunidades da plataforma")
-                .descricao("Percentual de desenvolvedores ativos que se candidataram a pelo menos uma vaga no período.")
-                .fonteDados(List.of("Usuários", "Candidaturas"))
-                .formula("(devs com candidatura no período / devs ativos no período) * 100")
-                .valor(round(taxa))
-                .unidade("%")
-                .meta(meta)
-                .metaDescricao("Manter ao menos " + meta + "% da base ativa engajada em oportunidades.")
-                .detalhes(detalhes)
-                .observacoes("Considera todos os desenvolvedores com perfil completo e todas as candidaturas da plataforma.")
-                .build();
+    private double round(double value) {
+        return Math.round(value * 100d) / 100d;
     }
 
-    private PerformanceIndicatorDto buildGeneralSatisfactionIndicator() {
-        List<Feedback> todosFeedbacks = feedbackRepository.findAll();
-        
-        double media = todosFeedbacks.stream()
-                .mapToDouble(feedback ->
-                        (feedback.getQualidadeTecnica()
-                         + feedback.getCumprimentoPrazos()
-                         + feedback.getComunicacao()
-                         + feedback.getColaboracao()) / 4d
-                )
-                .average()
-                .orElse(0d);
-        double meta = DEFAULT_POST_HIRING_SATISFACTION;
-
-        Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("avaliacoesConsideradas", todosFeedbacks.size());
-        detalhes.put("pontuacaoNormalizada", round(media == 0 ? 0d : (media / 5d) * 100d));
-
-        return PerformanceIndicatorDto.builder()
-                .id("post-hiring-satisfaction")
-                .indicador("Índice de satisfação pós-contratação (Geral)")
-                .objetivo("Avaliar a qualidade percebida após contratações em toda a plataforma")
-                .descricao("Média das avaliações dadas em todos os contratos concluídos ou ativos da plataforma.")
-                .fonteDados(List.of("Contratacoes", "Avaliacoes"))
-                .formula("soma das notas das avaliações / número total de avaliações registradas")
-                .valor(round(media))
-                .unidade("pt")
-                .meta(meta)
-                .metaDescricao("Operar com média igual ou superior a " + meta + " pontos na plataforma.")
-                .detalhes(detalhes)
-                .observacoes("Calcula a média simples dos quatro critérios do formulário de feedback (escala 1-5) para toda a plataforma.")
-                .build();
+    private static double media(long soma, long quantidade) {
+        return quantidade == 0 ? 0d : soma / (double) quantidade;
     }
 
-    private double round(double value) {
-        return Math.round(value * 100d) / 100d;
+    /**
+     * Contratos efetivos do período por tipo, omitindo os tipos sem contratos
+     */
+    private static Map<String, Long> contarPorTipo(IndicadorDiario totais) {
+        Map<String, Long> porTipo = new LinkedHashMap<>();
+        if (totais.getContratosClt() > 0) porTipo.put(ContractType.CLT.name(), totais.getContratosClt());
+        if (totais.getContratosPj() > 0) porTipo.put(ContractType.PJ.name(), totais.getContratosPj());
+        if (totais.getContratosContrato() > 0) porTipo.put(ContractType.CONTRATO.name(), totais.getContratosContrato());
+        if (totais.getContratosCooperado() > 0) porTipo.put(ContractType.COOPERADO.name(), totais.getContratosCooperado());
+        return porTipo;
     }
 
     // Métodos para Admin (sem filtro por empresa - dados de todas as empresas)
 
-    private PerformanceIndicatorDto buildMatchSuccessIndicatorForAdmin(Long adminUserId, LocalDateTime since) {
+    private PerformanceIndicatorDto buildMatchSuccessIndicatorForAdmin(Long adminUserId, IndicadorDiario totais) {
         System.out.println("DEBUG: buildMatchSuccessIndicatorForAdmin() - buscando TODAS as vagas, candidaturas e contratos");
-        // Buscar todas as vagas de todas as empresas
-        List<JobPosting> todasVagas = jobPostingRepository.findAll();
-        System.out.println("DEBUG: Total de vagas encontradas: " + todasVagas.size());
+        // Contar as vagas de todas as empresas
+        long totalVagas = jobPostingRepository.count();
+        System.out.println("DEBUG: Total de vagas encontradas: " + totalVagas);
         
-        // Buscar todas as candidaturas e filtrar por período
-        List<Candidatura> todasCandidaturas = candidaturaRepository.findAll().stream()
-                .filter(c -> c.getDataCandidatura() != null && !c.getDataCandidatura().isBefore(since))
-                .toList();
-        long totalCandidaturas = todasCandidaturas.size();
+        // Candidaturas no período, por status
+        long totalCandidaturas = totais.getCandidaturas();
         System.out.println("DEBUG: Total de candidaturas (todas, no período): " + totalCandidaturas);
         
-        long candidaturasPendentes = todasCandidaturas.stream()
-                .filter(c -> "pendente".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long candidaturasEmAnalise = todasCandidaturas.stream()
-                .filter(c -> "em_analise".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long matchesAceitos = todasCandidaturas.stream()
-                .filter(c -> "aceito".equalsIgnoreCase(c.getStatus()))
-                .count();
-        long candidaturasRejeitadas = todasCandidaturas.stream()
-                .filter(c -> "rejeitado".equalsIgnoreCase(c.getStatus()))
-                .count();
+        long candidaturasPendentes = totais.getCandidaturasPendentes();
+        long candidaturasEmAnalise = totais.getCandidaturasEmAnalise();
+        long matchesAceitos = totais.getCandidaturasAceitas();
+        long candidaturasRejeitadas = totais.getCandidaturasRejeitadas();
         System.out.println("DEBUG: Candidaturas aceitas (todas, no período): " + matchesAceitos);
         
-        // Buscar todos os contratos efetivos e filtrar por período
-        List<Contract> todosContratos = contractRepository.findByStatusIn(EFFECTIVE_CONTRACT_STATUSES);
-        long contratosEfetivos = todosContratos.stream()
-                .filter(c -> c.getStartedAt() != null && !c.getStartedAt().isBefore(since))
-                .count();
+        // Contratos efetivos iniciados no período
+        long contratosEfetivos = totais.getContratosEfetivos();
         System.out.println("DEBUG: Contratos efetivos (todos, no período): " + contratosEfetivos);
         
         double taxaAceitosParaContrato = matchesAceitos > 0 
@@ -610,15 +512,15 @@ public class AdminIndicatorsService {
         detalhes.put("taxaAceitosParaContrato", round(taxaAceitosParaContrato));
         detalhes.put("taxaPendenteParaAnalise", round(taxaPendenteParaAnalise));
         detalhes.put("taxaAnaliseParaAceito", round(taxaAnaliseParaAceito));
-        detalhes.put("totalVagas", todasVagas.size());
+        detalhes.put("totalVagas", totalVagas);
         detalhes.put("escopo", "Todas as empresas da plataforma");
         detalhes.put("consideraStatus", "Todas candidaturas x contratos ativos/finalizados");
 
         String observacoes = null;
-        if (todasVagas.isEmpty()) {
+        if (totalVagas == 0) {
             observacoes = "Ainda não há vagas publicadas na plataforma.";
         } else if (totalCandidaturas == 0 && contratosEfetivos == 0) {
-            observacoes = "Há " + todasVagas.size() + " vaga(s) publicada(s), mas ainda não há candidaturas ou contratos registrados.";
+            observacoes = "Há " + totalVagas + " vaga(s) publicada(s), mas ainda não há candidaturas ou contratos registrados.";
         } else if (totalCandidaturas > 0 && contratosEfetivos == 0) {
             observacoes = "Há " + totalCandidaturas + " candidatura(s), mas nenhum contrato foi gerado ainda.";
         }
@@ -639,48 +541,28 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    private PerformanceIndicatorDto buildAverageHiringTimeIndicatorForAdmin(Long adminUserId, LocalDateTime since) {
-        // Buscar todos os contratos efetivos (de todas as empresas) e filtrar por período
-        List<Contract> contratos = contractRepository.findByStatusIn(EFFECTIVE_CONTRACT_STATUSES);
-        List<Double> temposDias = contratos.stream()
-                .filter(contrato -> contrato.getVaga() != null && contrato.getVaga().getPostedDate() != null && contrato.getStartedAt() != null)
-                .filter(contrato -> contrato.getStartedAt() != null && !contrato.getStartedAt().isBefore(since))
-                .mapToDouble(contrato -> {
-                    Duration duracao = Duration.between(contrato.getVaga().getPostedDate(), contrato.getStartedAt());
-                    double dias = duracao.toHours() / 24d;
-                    return Math.max(0d, dias);
-                })
-                .boxed()
-                .sorted()
-                .toList();
+    private PerformanceIndicatorDto buildAverageHiringTimeIndicatorForAdmin(Long adminUserId, IndicadorDiario totais, int periodDays) {
+        // Contratos efetivos iniciados no período (todas as empresas) cuja vaga tem data de publicação
+        long contratosConsiderados = totais.getContratacoesComTempo();
+        double mediaDias = contratosConsiderados == 0 ? 0d : totais.getSomaDiasContratacao() / contratosConsiderados;
+        double tempoMinimo = totais.getMinDiasContratacao() != null ? totais.getMinDiasContratacao() : 0d;
+        double tempoMaximo = totais.getMaxDiasContratacao() != null ? totais.getMaxDiasContratacao() : 0d;
+        // Quantis pelos esboços diários unidos no período (erro relativo de até 1%)
+        HistogramaLogaritmico tempos = indicadoresDiariosService.getTemposContratacao(IndicadorDiario.EMPRESA_PLATAFORMA, periodDays);
+        double medianaDias = tempos.quantil(0.5);
+        double percentil90Dias = tempos.quantil(0.9);
+        double percentil99Dias = tempos.quantil(0.99);
         
-        double mediaDias = temposDias.stream().mapToDouble(Double::doubleValue).average().orElse(0d);
-        double medianaDias = 0d;
-        double tempoMinimo = temposDias.isEmpty() ? 0d : temposDias.get(0);
-        double tempoMaximo = temposDias.isEmpty() ? 0d : temposDias.get(temposDias.size() - 1);
-        
-        if (!temposDias.isEmpty()) {
-            int meio = temposDias.size() / 2;
-            if (temposDias.size() % 2 == 0) {
-                medianaDias = (temposDias.get(meio - 1) + temposDias.get(meio)) / 2d;
-            } else {
-                medianaDias = temposDias.get(meio);
-            }
-        }
-        
-        Map<String, Long> contratosPorTipo = contratos.stream()
-                .filter(c -> c.getStartedAt() != null && !c.getStartedAt().isBefore(since))
-                .collect(Collectors.groupingBy(
-                        c -> c.getContractType() != null ? c.getContractType().toString() : "N/A",
-                        Collectors.counting()
-                ));
+        Map<String, Long> contratosPorTipo = contarPorTipo(totais);
         
         double meta = getTargetValue(adminUserId, "average-hiring-time", DEFAULT_AVERAGE_HIRING_TIME);
 
         Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("contratosConsiderados", temposDias.size());
+        detalhes.put("contratosConsiderados", contratosConsiderados);
         detalhes.put("mediaDias", round(mediaDias));
         detalhes.put("medianaDias", round(medianaDias));
+        detalhes.put("percentil90Dias", round(percentil90Dias));
+        detalhes.put("percentil99Dias", round(percentil99Dias));
         detalhes.put("tempoMinimo", round(tempoMinimo));
         detalhes.put("tempoMaximo", round(tempoMaximo));
         detalhes.put("contratosPorTipo", contratosPorTipo);
@@ -703,9 +585,9 @@ public class AdminIndicatorsService {
                 .build();
     }
 
-    private PerformanceIndicatorDto buildEngagementIndicatorForAdmin(Long adminUserId, LocalDateTime since, int periodDays) {
-        // Contar devs que se candidataram no período (todas as empresas)
-        long devsEngajados = candidaturaRepository.countDistinctUsuariosAtivosDesde(since);
+    private PerformanceIndicatorDto buildEngagementIndicatorForAdmin(Long adminUserId, int periodDays) {
+        // Contar devs que se candidataram no período (todas as empresas), pelos contadores diários
+        long devsEngajados = indicadoresDiariosService.getDesenvolvedoresDistintos(IndicadorDiario.EMPRESA_PLATAFORMA, periodDays);
         // Total de devs ativos na plataforma
         long devsAtivos = usuarioRepository.countByTipoIgnoreCaseAndPerfilCompletoTrue("dev");
         double taxa = devsAtivos == 0 ? 0d : (devsEngajados / (double) devsAtivos) * 100d;
@@ -729,75 +611,33 @@ public class AdminIndicatorsService {
                 .meta(meta)
                 .metaDescricao("Manter ao menos " + meta + "% da base ativa engajada em oportunidades.")
                 .detalhes(detalhes)
-                .observacoes("Considera desenvolvedores com perfil completo como base ativa e candidaturas a vagas de todas as empresas.")
+                .observacoes("Considera desenvolvedores com perfil completo como base ativa e candidaturas a vagas de todas as empresas. Desenvolvedores distintos estimados com erro de cerca de 2%.")
                 .build();
     }
 
-    private PerformanceIndicatorDto buildSatisfactionIndicatorForAdmin(Long adminUserId, LocalDateTime since) {
-        // Buscar todos os contratos efetivos (de todas as empresas)
-        List<Contract> contratos = contractRepository.findByStatusIn(EFFECTIVE_CONTRACT_STATUSES);
-        List<Long> contractIds = contratos.stream().map(Contract::getId).toList();
-        
-        // Buscar todos os feedbacks e filtrar por período
-        List<Feedback> allFeedbacks = feedbackRepository.findAll();
-        List<Feedback> feedbacks = allFeedbacks.stream()
-                .filter(f -> f.getDataAvaliacao() != null && !f.getDataAvaliacao().isBefore(since))
-                .filter(f -> contractIds.contains(f.getProjectId()))
-                .toList();
-        
-        // Separar feedbacks da empresa sobre devs e feedbacks de devs sobre a empresa
-        List<Feedback> feedbacksEmpresaParaDev = feedbacks.stream()
-                .filter(f -> f.getRatedRole() != null && f.getRatedRole().toString().equals("DEVELOPER"))
-                .toList();
-        List<Feedback> feedbacksDevParaEmpresa = feedbacks.stream()
-                .filter(f -> f.getRatedRole() != null && f.getRatedRole().toString().equals("COMPANY"))
-                .toList();
-        
-        // Calcular médias gerais e por critério
-        double mediaGeral = feedbacks.stream()
-                .mapToDouble(feedback ->
-                        (feedback.getQualidadeTecnica()
-                         + feedback.getCumprimentoPrazos()
-                         + feedback.getComunicacao()
-                         + feedback.getColaboracao()) / 4d
-                )
-                .average()
-                .orElse(0d);
-        
-        double mediaEmpresaParaDev = feedbacksEmpresaParaDev.stream()
-                .mapToDouble(f -> (f.getQualidadeTecnica() + f.getCumprimentoPrazos() + f.getComunicacao() + f.getColaboracao()) / 4d)
-                .average()
-                .orElse(0d);
+    private PerformanceIndicatorDto buildSatisfactionIndicatorForAdmin(Long adminUserId, IndicadorDiario totais) {
+        // Avaliações de todos os projetos feitas no período
+        long avaliacoes = totais.getAvaliacoes();
+        long avaliacoesEmpresaParaDev = totais.getAvaliacoesEmpresaParaDev();
+        long avaliacoesDevParaEmpresa = totais.getAvaliacoesDevParaEmpresa();
         
-        double mediaDevParaEmpresa = feedbacksDevParaEmpresa.stream()
-                .mapToDouble(f -> (f.getQualidadeTecnica() + f.getCumprimentoPrazos() + f.getComunicacao() + f.getColaboracao()) / 4d)
-                .average()
-                .orElse(0d);
+        // Médias gerais: cada avaliação soma os quatro critérios
+        double mediaGeral = media(totais.getSomaNotas(), avaliacoes * 4);
+        double mediaEmpresaParaDev = media(totais.getSomaNotasEmpresaParaDev(), avaliacoesEmpresaParaDev * 4);
+        double mediaDevParaEmpresa = media(totais.getSomaNotasDevParaEmpresa(), avaliacoesDevParaEmpresa * 4);
         
         // Médias por critério
-        double mediaQualidadeTecnica = feedbacks.stream()
-                .mapToDouble(Feedback::getQualidadeTecnica)
-                .average()
-                .orElse(0d);
-        double mediaCumprimentoPrazos = feedbacks.stream()
-                .mapToDouble(Feedback::getCumprimentoPrazos)
-                .average()
-                .orElse(0d);
-        double mediaComunicacao = feedbacks.stream()
-                .mapToDouble(Feedback::getComunicacao)
-                .average()
-                .orElse(0d);
-        double mediaColaboracao = feedbacks.stream()
-                .mapToDouble(Feedback::getColaboracao)
-                .average()
-                .orElse(0d);
+        double mediaQualidadeTecnica = media(totais.getSomaQualidadeTecnica(), avaliacoes);
+        double mediaCumprimentoPrazos = media(totais.getSomaCumprimentoPrazos(), avaliacoes);
+        double mediaComunicacao = media(totais.getSomaComunicacao(), avaliacoes);
+        double mediaColaboracao = media(totais.getSomaColaboracao(), avaliacoes);
         
         double meta = getTargetValue(adminUserId, "post-hiring-satisfaction", DEFAULT_POST_HIRING_SATISFACTION);
 
         Map<String, Object> detalhes = new LinkedHashMap<>();
-        detalhes.put("avaliacoesConsideradas", feedbacks.size());
-        detalhes.put("avaliacoesEmpresaParaDev", feedbacksEmpresaParaDev.size());
-        detalhes.put("avaliacoesDevParaEmpresa", feedbacksDevParaEmpresa.size());
+        detalhes.put("avaliacoesConsideradas", avaliacoes);
+        detalhes.put("avaliacoesEmpresaParaDev", avaliacoesEmpresaParaDev);
+        detalhes.put("avaliacoesDevParaEmpresa", avaliacoesDevParaEmpresa);
         detalhes.put("mediaGeral", round(mediaGeral));
         detalhes.put("mediaEmpresaParaDev", round(mediaEmpresaParaDev));
         detalhes.put("mediaDevParaEmpresa", round(mediaDevParaEmpresa));
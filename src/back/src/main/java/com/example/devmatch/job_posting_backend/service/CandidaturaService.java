@@ -4,6 +4,7 @@ import com.example.devmatch.job_posting_backend.entity.Candidatura;
 import com.example.devmatch.job_posting_backend.entity.JobPosting;
 import com.example.devmatch.job_posting_backend.repository.CandidaturaRepository;
 import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +25,9 @@ public class CandidaturaService {
     @Autowired
     private JobPostingRepository jobPostingRepository;
     
+    @Autowired
+    private IndicadoresDiariosService indicadoresDiariosService;
+    
     /**
      * Cria uma nova candidatura
      * @param candidatura Candidatura a ser criada
@@ -54,6 +58,11 @@ public class CandidaturaService {
         vaga.setApplications(vaga.getApplications() + 1);
         jobPostingRepository.save(vaga);
         
+        // Conta o desenvolvedor no engajamento do dia (empresa e plataforma)
+        Long empresaId = vaga.getUsuarioId();
+        TransactionUtils.aposCommit(() -> indicadoresDiariosService.registrarCandidatura(
+                empresaId, savedCandidatura.getUsuarioId(), savedCandidatura.getDataCandidatura()));
+        
         return savedCandidatura;
     }
     
@@ -97,7 +106,11 @@ public class CandidaturaService {
                 .orElseThrow(() -> new RuntimeException("Candidatura não encontrada"));
         
         candidatura.setStatus(status);
-        return candidaturaRepository.save(candidatura);
+        Candidatura salva = candidaturaRepository.save(candidatura);
+        // O status conta no agregado do dia da candidatura, que pode já ter passado
+        LocalDateTime dia = salva.getDataCandidatura();
+        TransactionUtils.aposCommit(() -> indicadoresDiariosService.marcarDia(dia));
+        return salva;
     }
     
     /**
@@ -2,6 +2,7 @@ package com.example.devmatch.job_posting_backend.service;
 
 import com.example.devmatch.job_posting_backend.entity.CompanyIndicatorTarget;
 import com.example.devmatch.job_posting_backend.repository.CompanyIndicatorTargetRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +15,12 @@ import java.util.Optional;
 public class CompanyIndicatorTargetService {
 
     private final CompanyIndicatorTargetRepository targetRepository;
+    private final AdminIndicatorsService adminIndicatorsService;
 
-    public CompanyIndicatorTargetService(CompanyIndicatorTargetRepository targetRepository) {
+    public CompanyIndicatorTargetService(CompanyIndicatorTargetRepository targetRepository,
+                                         AdminIndicatorsService adminIndicatorsService) {
         this.targetRepository = targetRepository;
+        this.adminIndicatorsService = adminIndicatorsService;
     }
 
     @Transactional
@@ -34,6 +38,8 @@ public class CompanyIndicatorTargetService {
             target.setTargetValue(targetValue);
             targetRepository.save(target);
         }
+        // A meta aparece nos indicadores: descarta as respostas guardadas da empresa
+        TransactionUtils.aposCommit(() -> adminIndicatorsService.invalidarCache(companyId));
     }
 
     @Transactional(readOnly = true)
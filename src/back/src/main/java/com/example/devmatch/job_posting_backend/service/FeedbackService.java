@@ -6,6 +6,7 @@ import com.example.devmatch.job_posting_backend.repository.FeedbackDisputeReposi
 import com.example.devmatch.job_posting_backend.repository.FeedbackRepository;
 import com.example.devmatch.job_posting_backend.repository.UserReputationRepository;
 import com.example.devmatch.job_posting_backend.repository.ContractRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -20,15 +21,21 @@ public class FeedbackService {
     private final UserReputationRepository reputationRepository;
     private final FeedbackDisputeRepository disputeRepository;
     private final ContractRepository contractRepository;
+    private final ReputacaoService reputacaoService;
+    private final JobMatchMaterializer jobMatchMaterializer;
 
     public FeedbackService(FeedbackRepository feedbackRepository,
                            UserReputationRepository reputationRepository,
                            FeedbackDisputeRepository disputeRepository,
-                           ContractRepository contractRepository) {
+                           ContractRepository contractRepository,
+                           ReputacaoService reputacaoService,
+                           JobMatchMaterializer jobMatchMaterializer) {
         this.feedbackRepository = feedbackRepository;
         this.reputationRepository = reputationRepository;
         this.disputeRepository = disputeRepository;
         this.contractRepository = contractRepository;
+        this.reputacaoService = reputacaoService;
+        this.jobMatchMaterializer = jobMatchMaterializer;
     }
 
     @org.springframework.transaction.annotation.Transactional
@@ -74,6 +81,9 @@ public class FeedbackService {
         Feedback saved = feedbackRepository.save(fb);
         atualizarReputacao(req.ratedId());
 
+        // A reputação da empresa (e a média da plataforma) entra no ranking materializado das vagas
+        jobMatchMaterializer.agendarRanking(req.ratedRole() == UserRoleInProject.COMPANY ? req.ratedId() : null);
+
         return saved.getId();
     }
 
@@ -145,6 +155,7 @@ public class FeedbackService {
 
         if (feedbacks.isEmpty()) {
             reputationRepository.deleteById(ratedId);
+            TransactionUtils.aposCommit(() -> reputacaoService.atualizar(ratedId, null, 0));
             return;
         }
 
@@ -168,6 +179,7 @@ public class FeedbackService {
         rep.setUpdatedAt(LocalDateTime.now());
 
         reputationRepository.save(rep);
+        TransactionUtils.aposCommit(() -> reputacaoService.atualizar(ratedId, rep.getScoreMedio(), rep.getTotalFeedbacks()));
     }
 }
 
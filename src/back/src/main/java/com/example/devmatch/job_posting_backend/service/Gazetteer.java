@@ -0,0 +1,168 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gazetteer de municípios (arquivo geo/municipios.csv embutido na aplicação) usado para
+ * transformar a localização em texto livre de perfis e vagas ("São Paulo - SP, Brasil",
+ * "Belo Horizonte/MG", "Curitiba") em cidade, UF e coordenadas.
+ */
+@Component
+public class Gazetteer {
+
+    private static final String ARQUIVO_MUNICIPIOS = "geo/municipios.csv";
+
+    private static final double RAIO_TERRA_KM = 6371.0;
+
+    private static final Set<String> UFS = Set.of(
+            "ac", "al", "ap", "am", "ba", "ce", "df", "es", "go", "ma", "mt", "ms", "mg", "pa",
+            "pb", "pr", "pe", "pi", "rj", "rn", "rs", "ro", "rr", "sc", "sp", "se", "to");
+
+    // Nome normalizado → municípios com esse nome (em ordem do arquivo)
+    private final Map<String, List<Localidade>> municipiosPorNome = new HashMap<>();
+
+    // Nomes normalizados do mais longo para o mais curto, para a busca por trecho do texto
+    private final List<String> nomesPorTamanho = new ArrayList<>();
+
+    public Gazetteer() {
+        carregarMunicipios();
+    }
+
+    /**
+     * Município e coordenadas de uma localização
+     */
+    public record Localidade(String cidade, String uf, double latitude, double longitude) {}
+
+    /**
+     * Interpreta uma localização em texto livre
+     * @param texto Localização digitada (cidade, opcionalmente com UF e país)
+     * @return Município encontrado, ou null se o texto não citar um município conhecido
+     */
+    public Localidade resolver(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return null;
+        }
+        String normalizado = normalizar(texto);
+
+        // Separa o texto nas partes delimitadas por pontuação ("sao paulo", "sp", "brasil")
+        String uf = null;
+        List<String> partes = new ArrayList<>();
+        for (String parte : normalizado.split("[^a-z ]+")) {
+            parte = parte.trim();
+            if (parte.isEmpty()) {
+                continue;
+            }
+            if (UFS.contains(parte)) {
+                uf = parte;
+                continue;
+            }
+            // UF colada ao nome da cidade ("sao paulo sp")
+            int espaco = parte.lastIndexOf(' ');
+            if (espaco > 0 && UFS.contains(parte.substring(espaco + 1))) {
+                uf = parte.substring(espaco + 1);
+                parte = parte.substring(0, espaco).trim();
+            }
+            partes.add(parte);
+        }
+
+        for (String parte : partes) {
+            Localidade localidade = escolher(municipiosPorNome.get(parte), uf);
+            if (localidade != null) {
+                return localidade;
+            }
+        }
+
+        // Município citado no meio do texto ("moro em campinas, interior de sp")
+        String comEspacos = " " + String.join(" ", partes) + " ";
+        for (String nome : nomesPorTamanho) {
+            if (comEspacos.contains(" " + nome + " ")) {
+                Localidade localidade = escolher(municipiosPorNome.get(nome), uf);
+                if (localidade != null) {
+                    return localidade;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Distância em linha reta (fórmula de haversine) entre duas coordenadas
+     * @return Distância em quilômetros
+     */
+    public static double distanciaKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Escolhe, entre municípios homônimos, o da UF informada (ou o primeiro, sem UF)
+     */
+    private static Localidade escolher(List<Localidade> candidatos, String uf) {
+        if (candidatos == null) {
+            return null;
+        }
+        if (uf == null) {
+            return candidatos.get(0);
+        }
+        for (Localidade candidato : candidatos) {
+            if (candidato.uf().equalsIgnoreCase(uf)) {
+                return candidato;
+            }
+        }
+        return null;
+    }
+
+    private void carregarMunicipios() {
+        ClassPathResource recurso = new ClassPathResource(ARQUIVO_MUNICIPIOS);
+        if (!recurso.exists()) {
+            return;
+        }
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(recurso.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(";");
+                if (campos.length < 4) {
+                    continue;
+                }
+                Localidade localidade = new Localidade(campos[0].trim(), campos[1].trim().toUpperCase(Locale.ROOT),
+                        Double.parseDouble(campos[2].trim()), Double.parseDouble(campos[3].trim()));
+                municipiosPorNome.computeIfAbsent(normalizar(localidade.cidade()), n -> new ArrayList<>()).add(localidade);
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Erro ao carregar municípios: " + e.getMessage(), e);
+        }
+        nomesPorTamanho.addAll(municipiosPorNome.keySet());
+        nomesPorTamanho.sort(Comparator.comparingInt(String::length).reversed());
+    }
+
+    /**
+     * Minúsculas, sem acentos e com espaços simples
+     */
+    private static String normalizar(String texto) {
+        String semAcentos = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcentos.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+}
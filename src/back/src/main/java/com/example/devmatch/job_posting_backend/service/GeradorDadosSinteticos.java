@@ -0,0 +1,586 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.ContractStatus;
+import com.example.devmatch.job_posting_backend.entity.ContractType;
+import com.example.devmatch.job_posting_backend.entity.UserRoleInProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Gerador de dados sintéticos para testes de carga locais (perfil Spring "dados-sinteticos").
+ * Ao subir a aplicação com o perfil ativo, preenche o banco configurado em
+ * application-dados-sinteticos.properties com empresas, desenvolvedores (habilidades e
+ * experiências), vagas, candidaturas, contratos, milestones, entregas e avaliações, em volumes
+ * definidos pelas propriedades {@code gerador.*} multiplicados por {@code gerador.escala}.
+ * As linhas são gravadas com inserts em lote (sem passar pelas entidades) e, como o gerador roda
+ * antes das cargas em memória do matching, os índices e a materialização já sobem com os dados
+ * novos. A semente fixa torna a massa reproduzível; todos os usuários gerados têm e-mail no domínio
+ * {@value #DOMINIO_EMAIL} e a senha {@value #SENHA}, o que permite ao driver de carga
+ * (CargaApi, em src/jmh/java) autenticar-se com eles.
+ *
+ * Execução: {@code mvn spring-boot:run -Dspring-boot.run.profiles=dados-sinteticos}
+ */
+@Component
+@Profile("dados-sinteticos")
+public class GeradorDadosSinteticos {
+
+    private static final Logger log = LoggerFactory.getLogger(GeradorDadosSinteticos.class);
+
+    public static final String DOMINIO_EMAIL = "@sintetico.devmatch.local";
+    public static final String SENHA = "senha123";
+
+    private static final String PADRAO_EMAIL = "%" + DOMINIO_EMAIL;
+    private static final String PADRAO_EMAIL_EMPRESA = "empresa-%" + DOMINIO_EMAIL;
+    private static final String PADRAO_EMAIL_DEV = "dev-%" + DOMINIO_EMAIL;
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final String SQL_INSERIR_USUARIO = "insert into usuarios "
+            + "(nome, email, senha, tipo, data_criacao, perfil_completo) values (?, ?, ?, ?, ?, true)";
+
+    private static final String SQL_INSERIR_PERFIL_EMPRESA = "insert into perfil_empresa "
+            + "(usuario_id, nome_empresa, setor, tamanho, localizacao, data_criacao, data_atualizacao) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_PERFIL_DEV = "insert into perfis_dev "
+            + "(usuario_id, titular, resumo, localizacao, latitude, longitude, faixa_salarial, tipo_contrato, "
+            + "modo_trabalho, disponibilidade, preferencias_vaga, idiomas, perfil_completo, data_atualizacao) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, cast(? as text[]), cast(? as text[]), true, ?)";
+
+    private static final String SQL_INSERIR_HABILIDADE = "insert into habilidades "
+            + "(perfil_dev_id, categoria, habilidade) values (?, ?, ?)";
+
+    private static final String SQL_INSERIR_EXPERIENCIA = "insert into experiencias "
+            + "(perfil_dev_id, cargo, empresa, data_inicio, data_fim, descricao, trabalhando_atualmente) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_VAGA = "insert into vagas "
+            + "(usuario_id, titulo, descricao, nivel_experiencia, regime, modelo_remuneracao, valor_referencia, "
+            + "local_modalidade, localizacao, latitude, longitude, data_publicacao, status, candidaturas, matches) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private static final String SQL_INSERIR_SKILL_VAGA = "insert into habilidades_vagas "
+            + "(vaga_id, habilidade) values (?, ?)";
+
+    private static final String SQL_INSERIR_CANDIDATURA = "insert into candidaturas "
+            + "(vaga_id, usuario_id, status, data_candidatura, mensagem) values (?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_CONTRATO = "insert into contracts "
+            + "(vaga_id, company_id, developer_id, contract_type, status, started_at, ended_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_MILESTONE = "insert into milestones "
+            + "(contract_id, vaga_id, titulo, descricao, prazo_entrega, valor_milestone, criterios_aceitacao) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_ENTREGA = "insert into deliveries "
+            + "(milestone_id, perfil_dev_id, descricao_entrega, horas_trabalhadas, submitted_at, reviewed, approved, "
+            + "comentario_revisao, data_revisao) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_FEEDBACK = "insert into feedback "
+            + "(project_id, rater_id, rated_id, rated_role, qualidade_tecnica, cumprimento_prazos, comunicacao, "
+            + "colaboracao, data_avaliacao) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Contadores desnormalizados e reputação (o FeedbackService mantém esses valores fora do gerador)
+    private static final String SQL_ATUALIZAR_CANDIDATURAS = "update vagas v set candidaturas = "
+            + "(select count(*) from candidaturas c where c.vaga_id = v.id) "
+            + "where v.usuario_id in (select id from usuarios where email like ?)";
+
+    private static final String SQL_INSERIR_REPUTACOES = "insert into user_reputation "
+            + "(user_id, score_medio, total_feedbacks, updated_at) "
+            + "select f.rated_id, round(avg((f.qualidade_tecnica + f.cumprimento_prazos + f.comunicacao "
+            + "+ f.colaboracao) / 4.0), 1), count(*), now() "
+            + "from feedback f join usuarios u on u.id = f.rated_id where u.email like ? group by f.rated_id "
+            + "on conflict (user_id) do update set score_medio = excluded.score_medio, "
+            + "total_feedbacks = excluded.total_feedbacks, updated_at = excluded.updated_at";
+
+    // Skills por categoria (categorias aceitas pelo formulário de perfil)
+    private static final String[][] SKILLS = {
+        {"linguagens", "Java", "JavaScript", "TypeScript", "Python", "Go", "Kotlin", "C#", "PHP", "Rust", "Swift"},
+        {"frameworks", "Spring Boot", "React", "Angular", "Vue.js", "Node.js", "Django", "Flask", ".NET", "Next.js", "Flutter"},
+        {"bancos_dados", "PostgreSQL", "MySQL", "MongoDB", "Redis", "Oracle", "SQL Server", "Elasticsearch"},
+        {"ferramentas", "Docker", "Kubernetes", "AWS", "Azure", "Git", "Terraform", "Kafka", "Jenkins", "Linux", "GraphQL"}
+    };
+
+    private static final String[] CIDADES = {
+        "São Paulo - SP", "Rio de Janeiro - RJ", "Belo Horizonte - MG", "Curitiba - PR", "Porto Alegre - RS",
+        "Recife - PE", "Florianópolis - SC", "Brasília - DF", "Campinas - SP", "Fortaleza - CE"
+    };
+
+    private static final String[] MODALIDADES = {"Remoto", "Presencial", "Híbrido"};
+    private static final String[] REGIMES = {"CLT", "PJ", "Cooperado", "Contrato"};
+    private static final String[] NIVEIS = {"Junior", "Pleno", "Senior"};
+    private static final String[] MODELOS_REMUNERACAO = {"Fixo", "Por hora", "Por projeto"};
+    private static final String[] DISPONIBILIDADES = {"Imediata", "15 dias", "30 dias", "A combinar"};
+    private static final String[] PREFERENCIAS = {"Backend", "Frontend", "Full Stack", "Dados", "Mobile", "DevOps"};
+    private static final String[] IDIOMAS = {"Português", "Inglês", "Espanhol"};
+    private static final String[] SETORES = {"Tecnologia", "Financeiro", "Saúde", "Varejo", "Educação", "Logística"};
+    private static final String[] TAMANHOS = {"1-10", "11-50", "51-200", "201-500", "500+"};
+    private static final String[] CARGOS = {
+        "Desenvolvedor Backend", "Desenvolvedor Frontend", "Desenvolvedor Full Stack",
+        "Engenheiro de Dados", "Desenvolvedor Mobile", "Engenheiro DevOps"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    // Multiplicador aplicado às quantidades de empresas e desenvolvedores
+    @Value("${gerador.escala:1.0}")
+    private double escala = 1.0;
+
+    @Value("${gerador.semente:42}")
+    private long semente = 42;
+
+    @Value("${gerador.empresas:100}")
+    private int empresas = 100;
+
+    @Value("${gerador.desenvolvedores:2000}")
+    private int desenvolvedores = 2000;
+
+    @Value("${gerador.vagas-por-empresa:8}")
+    private int vagasPorEmpresa = 8;
+
+    @Value("${gerador.habilidades-por-desenvolvedor:8}")
+    private int habilidadesPorDesenvolvedor = 8;
+
+    @Value("${gerador.skills-por-vaga:6}")
+    private int skillsPorVaga = 6;
+
+    @Value("${gerador.candidaturas-por-desenvolvedor:6}")
+    private int candidaturasPorDesenvolvedor = 6;
+
+    // Fração das candidaturas aceitas que viram contrato (no máximo um contrato por vaga)
+    @Value("${gerador.taxa-contratacao:0.7}")
+    private double taxaContratacao = 0.7;
+
+    @Value("${gerador.milestones-por-contrato:3}")
+    private int milestonesPorContrato = 3;
+
+    // Fração dos contratos avaliados pelos dois lados
+    @Value("${gerador.taxa-feedback:0.8}")
+    private double taxaFeedback = 0.8;
+
+    // Janela (em dias até hoje) em que as datas de cadastro, publicação e candidatura são sorteadas
+    @Value("${gerador.dias:180}")
+    private int dias = 180;
+
+    private record VagaGerada(long id, long empresaId, String regime, LocalDateTime publicacao) {}
+
+    private record ContratoGerado(VagaGerada vaga, long desenvolvedorId, ContractStatus status,
+                                  LocalDateTime inicio, LocalDateTime fim) {}
+
+    /**
+     * Gera a massa de dados ao subir a aplicação (antes das cargas em memória do matching).
+     * Não faz nada se o banco já tiver usuários sintéticos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(-20)
+    public void gerar() {
+        Integer existentes = jdbcTemplate.queryForObject(
+                "select count(*) from usuarios where email like ?", Integer.class, PADRAO_EMAIL);
+        if (existentes != null && existentes > 0) {
+            log.info("Dados sintéticos já presentes ({} usuários); geração ignorada", existentes);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        Random random = new Random(semente);
+        LocalDateTime agora = LocalDateTime.now();
+        String senhaCriptografada = new BCryptPasswordEncoder().encode(SENHA);
+        int quantidadeEmpresas = Math.max(1, (int) Math.round(empresas * escala));
+        int quantidadeDevs = Math.max(1, (int) Math.round(desenvolvedores * escala));
+
+        inserirEmLotes(SQL_INSERIR_USUARIO, List.<Object[]>of(new Object[] {
+                "Administrador Sintético", "admin" + DOMINIO_EMAIL, senhaCriptografada, "admin", agora.minusDays(dias)}));
+
+        List<Long> empresaIds = inserirEmpresas(random, quantidadeEmpresas, senhaCriptografada, agora);
+        Map<Long, Long> perfilPorDev = inserirDesenvolvedores(random, quantidadeDevs, senhaCriptografada, agora);
+        List<Long> devIds = new ArrayList<>(perfilPorDev.keySet());
+        List<VagaGerada> vagas = inserirVagas(random, empresaIds, agora);
+        List<ContratoGerado> contratos = inserirCandidaturasEContratos(random, vagas, devIds, agora);
+        int milestones = inserirMilestonesEEntregas(random, contratos, perfilPorDev, agora);
+        int feedbacks = inserirFeedbacks(random, contratos, agora);
+
+        jdbcTemplate.update(SQL_ATUALIZAR_CANDIDATURAS, PADRAO_EMAIL);
+        jdbcTemplate.update(SQL_INSERIR_REPUTACOES, PADRAO_EMAIL);
+
+        log.info("Dados sintéticos gerados em {} ms: {} empresas, {} desenvolvedores, {} vagas, {} contratos, "
+                        + "{} milestones, {} avaliações (login: <tipo>-NNNNNN{} / {}, admin{})",
+                (System.nanoTime() - inicio) / 1_000_000, empresaIds.size(), devIds.size(), vagas.size(),
+                contratos.size(), milestones, feedbacks, DOMINIO_EMAIL, SENHA, DOMINIO_EMAIL);
+    }
+
+    private List<Long> inserirEmpresas(Random random, int quantidade, String senha, LocalDateTime agora) {
+        List<Object[]> usuarios = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            usuarios.add(new Object[] {"Empresa Sintética " + i, email("empresa", i), senha, "empresa",
+                    dataNaJanela(random, agora)});
+        }
+        inserirEmLotes(SQL_INSERIR_USUARIO, usuarios);
+        List<Long> ids = idsGerados("select id from usuarios where email like ? order by email",
+                PADRAO_EMAIL_EMPRESA, quantidade);
+
+        List<Object[]> perfis = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            perfis.add(new Object[] {ids.get(i), "Empresa Sintética " + (i + 1), escolher(random, SETORES),
+                    escolher(random, TAMANHOS), escolher(random, CIDADES), agora, agora});
+        }
+        inserirEmLotes(SQL_INSERIR_PERFIL_EMPRESA, perfis);
+        return ids;
+    }
+
+    /**
+     * @return ID do perfil_dev de cada desenvolvedor gerado (por ID de usuário, na ordem de geração)
+     */
+    private Map<Long, Long> inserirDesenvolvedores(Random random, int quantidade, String senha, LocalDateTime agora) {
+        List<Object[]> usuarios = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            usuarios.add(new Object[] {"Desenvolvedor Sintético " + i, email("dev", i), senha, "dev",
+                    dataNaJanela(random, agora)});
+        }
+        inserirEmLotes(SQL_INSERIR_USUARIO, usuarios);
+        List<Long> usuarioIds = idsGerados("select id from usuarios where email like ? order by email",
+                PADRAO_EMAIL_DEV, quantidade);
+
+        List<Object[]> perfis = new ArrayList<>(quantidade);
+        for (Long usuarioId : usuarioIds) {
+            String cidade = escolher(random, CIDADES);
+            Gazetteer.Localidade localidade = gazetteer.resolver(cidade);
+            perfis.add(new Object[] {usuarioId, escolher(random, CARGOS), "Perfil gerado para testes de carga.",
+                    cidade, localidade != null ? localidade.latitude() : null,
+                    localidade != null ? localidade.longitude() : null, faixaSalarial(random),
+                    escolher(random, REGIMES), escolher(random, MODALIDADES), escolher(random, DISPONIBILIDADES),
+                    arrayTexto(sortear(random, PREFERENCIAS, 1 + random.nextInt(2))),
+                    arrayTexto(sortear(random, IDIOMAS, 1 + random.nextInt(2))), agora});
+        }
+        inserirEmLotes(SQL_INSERIR_PERFIL_DEV, perfis);
+        List<Long> perfilIds = idsGerados("select p.id from perfis_dev p join usuarios u on u.id = p.usuario_id "
+                + "where u.email like ? order by u.email", PADRAO_EMAIL_DEV, quantidade);
+
+        Map<Long, Long> perfilPorDev = new LinkedHashMap<>();
+        List<Object[]> habilidades = new ArrayList<>();
+        List<Object[]> experiencias = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Long perfilId = perfilIds.get(i);
+            perfilPorDev.put(usuarioIds.get(i), perfilId);
+            for (String[] skill : sortearSkills(random, habilidadesPorDesenvolvedor)) {
+                habilidades.add(new Object[] {perfilId, skill[0], skill[1]});
+            }
+            int quantidadeExperiencias = random.nextInt(4);
+            LocalDateTime fim = agora;
+            for (int j = 0; j < quantidadeExperiencias; j++) {
+                LocalDateTime inicioExperiencia = fim.minusMonths(6 + random.nextInt(36));
+                boolean atual = j == 0 && random.nextBoolean();
+                experiencias.add(new Object[] {perfilId, escolher(random, CARGOS),
+                        "Empresa Anterior " + (1 + random.nextInt(500)), inicioExperiencia.toLocalDate(),
+                        atual ? null : fim.toLocalDate(), "Experiência gerada para testes de carga.", atual});
+                fim = inicioExperiencia.minusMonths(random.nextInt(6));
+            }
+        }
+        inserirEmLotes(SQL_INSERIR_HABILIDADE, habilidades);
+        inserirEmLotes(SQL_INSERIR_EXPERIENCIA, experiencias);
+        return perfilPorDev;
+    }
+
+    private List<VagaGerada> inserirVagas(Random random, List<Long> empresaIds, LocalDateTime agora) {
+        List<Object[]> linhas = new ArrayList<>();
+        List<VagaGerada> vagas = new ArrayList<>();
+        for (Long empresaId : empresaIds) {
+            int quantidade = 1 + random.nextInt(Math.max(1, vagasPorEmpresa * 2 - 1));
+            for (int i = 0; i < quantidade; i++) {
+                String regime = escolher(random, REGIMES);
+                String modalidade = escolher(random, MODALIDADES);
+                String cidade = "Remoto".equals(modalidade) ? null : escolher(random, CIDADES);
+                Gazetteer.Localidade localidade = gazetteer.resolver(cidade);
+                LocalDateTime publicacao = dataNaJanela(random, agora);
+                // Vagas antigas tendem a estar encerradas
+                String status = publicacao.isBefore(agora.minusDays(dias / 2)) && random.nextBoolean()
+                        ? "fechada" : "ativa";
+                linhas.add(new Object[] {empresaId, escolher(random, CARGOS), "Vaga gerada para testes de carga.",
+                        escolher(random, NIVEIS), regime, escolher(random, MODELOS_REMUNERACAO), faixaSalarial(random),
+                        modalidade, cidade, localidade != null ? localidade.latitude() : null,
+                        localidade != null ? localidade.longitude() : null, publicacao, status});
+                vagas.add(new VagaGerada(0, empresaId, regime, publicacao));
+            }
+        }
+        inserirEmLotes(SQL_INSERIR_VAGA, linhas);
+        List<Long> ids = idsGerados("select v.id from vagas v join usuarios u on u.id = v.usuario_id "
+                + "where u.email like ? order by v.id", PADRAO_EMAIL, vagas.size());
+
+        List<Object[]> skills = new ArrayList<>();
+        for (int i = 0; i < vagas.size(); i++) {
+            VagaGerada vaga = vagas.get(i);
+            vagas.set(i, new VagaGerada(ids.get(i), vaga.empresaId(), vaga.regime(), vaga.publicacao()));
+            for (String[] skill : sortearSkills(random, skillsPorVaga)) {
+                skills.add(new Object[] {ids.get(i), skill[1]});
+            }
+        }
+        inserirEmLotes(SQL_INSERIR_SKILL_VAGA, skills);
+        return vagas;
+    }
+
+    private List<ContratoGerado> inserirCandidaturasEContratos(Random random, List<VagaGerada> vagas,
+                                                               List<Long> devIds, LocalDateTime agora) {
+        List<Object[]> candidaturas = new ArrayList<>();
+        Map<Long, ContratoGerado> contratoPorVaga = new LinkedHashMap<>();
+        for (Long devId : devIds) {
+            int quantidade = random.nextInt(candidaturasPorDesenvolvedor * 2 + 1);
+            Set<Integer> escolhidas = new LinkedHashSet<>();
+            while (escolhidas.size() < Math.min(quantidade, vagas.size())) {
+                // Popularidade desigual: as primeiras vagas recebem mais candidaturas
+                double sorteio = random.nextDouble();
+                escolhidas.add((int) (sorteio * sorteio * vagas.size()));
+            }
+            for (int indice : escolhidas) {
+                VagaGerada vaga = vagas.get(indice);
+                LocalDateTime data = limitar(vaga.publicacao().plusHours(random.nextInt(20 * 24)), agora);
+                String status = statusCandidatura(random, data, agora);
+                candidaturas.add(new Object[] {vaga.id(), devId, status, data,
+                        random.nextInt(3) == 0 ? "Tenho interesse na vaga." : null});
+
+                if ("aceito".equals(status) && !contratoPorVaga.containsKey(vaga.id())
+                        && random.nextDouble() < taxaContratacao) {
+                    contratoPorVaga.put(vaga.id(), gerarContrato(random, vaga, devId, data, agora));
+                }
+            }
+        }
+        inserirEmLotes(SQL_INSERIR_CANDIDATURA, candidaturas);
+
+        List<ContratoGerado> contratos = new ArrayList<>(contratoPorVaga.values());
+        List<Object[]> linhas = new ArrayList<>(contratos.size());
+        for (ContratoGerado contrato : contratos) {
+            linhas.add(new Object[] {contrato.vaga().id(), contrato.vaga().empresaId(), contrato.desenvolvedorId(),
+                    tipoContrato(contrato.vaga().regime()).name(), contrato.status().name(), contrato.inicio(),
+                    contrato.fim()});
+        }
+        inserirEmLotes(SQL_INSERIR_CONTRATO, linhas);
+        return contratos;
+    }
+
+    private ContratoGerado gerarContrato(Random random, VagaGerada vaga, long devId, LocalDateTime candidatura,
+                                         LocalDateTime agora) {
+        LocalDateTime inicio = limitar(candidatura.plusHours(24 + random.nextInt(20 * 24)), agora);
+        ContractStatus status = ContractStatus.ACTIVE;
+        LocalDateTime fim = null;
+        int sorteio = random.nextInt(20);
+        if (sorteio == 0) {
+            status = ContractStatus.CANCELLED;
+            fim = limitar(inicio.plusDays(1 + random.nextInt(30)), agora);
+        } else if (inicio.isBefore(agora.minusDays(30)) && sorteio < 11) {
+            status = ContractStatus.FINISHED;
+            fim = limitar(inicio.plusDays(30 + random.nextInt(60)), agora);
+        }
+        return new ContratoGerado(vaga, devId, status, inicio, fim);
+    }
+
+    /**
+     * @return Quantidade de milestones gravados
+     */
+    private int inserirMilestonesEEntregas(Random random, List<ContratoGerado> contratos, Map<Long, Long> perfilPorDev,
+                                           LocalDateTime agora) {
+        List<Long> contratoIds = idsGerados("select c.id from contracts c join usuarios u on u.id = c.company_id "
+                + "where u.email like ? order by c.id", PADRAO_EMAIL, contratos.size());
+
+        List<Object[]> milestones = new ArrayList<>();
+        List<ContratoGerado> contratoDoMilestone = new ArrayList<>();
+        List<LocalDateTime> prazos = new ArrayList<>();
+        for (int i = 0; i < contratos.size(); i++) {
+            ContratoGerado contrato = contratos.get(i);
+            for (int j = 1; j <= milestonesPorContrato; j++) {
+                LocalDateTime prazo = contrato.inicio().plusDays(14L * j);
+                milestones.add(new Object[] {contratoIds.get(i), contrato.vaga().id(), "Entrega " + j,
+                        "Milestone gerado para testes de carga.", prazo,
+                        BigDecimal.valueOf(500 + random.nextInt(46) * 100L), "Funcionalidade entregue e revisada."});
+                contratoDoMilestone.add(contrato);
+                prazos.add(prazo);
+            }
+        }
+        inserirEmLotes(SQL_INSERIR_MILESTONE, milestones);
+        List<Long> milestoneIds = idsGerados("select m.id from milestones m join contracts c on c.id = m.contract_id "
+                + "join usuarios u on u.id = c.company_id where u.email like ? order by m.id",
+                PADRAO_EMAIL, milestones.size());
+
+        // Entregas dos milestones cujo prazo já chegou
+        List<Object[]> entregas = new ArrayList<>();
+        for (int i = 0; i < milestoneIds.size(); i++) {
+            LocalDateTime prazo = prazos.get(i);
+            if (prazo.isAfter(agora) || random.nextInt(10) == 0) {
+                continue;
+            }
+            LocalDateTime envio = prazo.minusHours(random.nextInt(5 * 24)).plusHours(random.nextInt(3 * 24));
+            boolean revisada = random.nextInt(5) != 0;
+            Boolean aprovada = revisada ? random.nextInt(7) != 0 : null;
+            entregas.add(new Object[] {milestoneIds.get(i), perfilPorDev.get(contratoDoMilestone.get(i).desenvolvedorId()),
+                    "Entrega gerada para testes de carga.", 4.0 + random.nextInt(80), limitar(envio, agora), revisada,
+                    aprovada, revisada ? "Revisão gerada para testes de carga." : null,
+                    revisada ? limitar(envio.plusHours(1 + random.nextInt(72)), agora) : null});
+        }
+        inserirEmLotes(SQL_INSERIR_ENTREGA, entregas);
+        return milestones.size();
+    }
+
+    /**
+     * Avaliações mútuas (desenvolvedor → empresa e empresa → desenvolvedor) dos contratos encerrados
+     * e de parte dos ativos
+     * @return Quantidade de avaliações gravadas
+     */
+    private int inserirFeedbacks(Random random, List<ContratoGerado> contratos, LocalDateTime agora) {
+        List<Object[]> feedbacks = new ArrayList<>();
+        for (ContratoGerado contrato : contratos) {
+            boolean encerrado = contrato.status() == ContractStatus.FINISHED;
+            if (contrato.status() == ContractStatus.CANCELLED || random.nextDouble() >= (encerrado ? taxaFeedback : taxaFeedback / 3)) {
+                continue;
+            }
+            LocalDateTime base = encerrado ? contrato.fim() : contrato.inicio();
+            long vagaId = contrato.vaga().id();
+            long empresaId = contrato.vaga().empresaId();
+            feedbacks.add(linhaFeedback(random, vagaId, contrato.desenvolvedorId(), empresaId,
+                    UserRoleInProject.COMPANY, limitar(base.plusHours(random.nextInt(10 * 24)), agora)));
+            feedbacks.add(linhaFeedback(random, vagaId, empresaId, contrato.desenvolvedorId(),
+                    UserRoleInProject.DEVELOPER, limitar(base.plusHours(random.nextInt(10 * 24)), agora)));
+        }
+        inserirEmLotes(SQL_INSERIR_FEEDBACK, feedbacks);
+        return feedbacks.size();
+    }
+
+    private Object[] linhaFeedback(Random random, long vagaId, long avaliadorId, long avaliadoId,
+                                   UserRoleInProject papel, LocalDateTime data) {
+        // Cada avaliado tem um "nível" e as notas variam em torno dele (1 a 5)
+        int nivel = 2 + (int) (Long.hashCode(avaliadoId * 0x9E3779B97F4A7C15L) & 3);
+        return new Object[] {vagaId, avaliadorId, avaliadoId, papel.name(), nota(random, nivel), nota(random, nivel),
+                nota(random, nivel), nota(random, nivel), data};
+    }
+
+    private static int nota(Random random, int nivel) {
+        return Math.max(1, Math.min(5, nivel + random.nextInt(3) - 1));
+    }
+
+    private static String statusCandidatura(Random random, LocalDateTime data, LocalDateTime agora) {
+        if (data.isAfter(agora.minusDays(3))) {
+            return "pendente";
+        }
+        int sorteio = random.nextInt(100);
+        if (sorteio < 30) {
+            return "pendente";
+        }
+        if (sorteio < 55) {
+            return "em_analise";
+        }
+        return sorteio < 75 ? "aceito" : "rejeitado";
+    }
+
+    private static ContractType tipoContrato(String regime) {
+        return switch (regime) {
+            case "PJ" -> ContractType.PJ;
+            case "Cooperado" -> ContractType.COOPERADO;
+            case "Contrato" -> ContractType.CONTRATO;
+            default -> ContractType.CLT;
+        };
+    }
+
+    private void inserirEmLotes(String sql, List<Object[]> linhas) {
+        for (int i = 0; i < linhas.size(); i += TAMANHO_LOTE) {
+            jdbcTemplate.batchUpdate(sql, linhas.subList(i, Math.min(i + TAMANHO_LOTE, linhas.size())));
+        }
+    }
+
+    /**
+     * IDs gerados pelo banco para as linhas recém-inseridas, na ordem em que foram geradas
+     * (os inserts são sequenciais, então a ordem dos IDs acompanha a das linhas)
+     */
+    private List<Long> idsGerados(String sql, String padraoEmail, int esperados) {
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, padraoEmail);
+        if (ids.size() != esperados) {
+            throw new IllegalStateException("Esperados " + esperados + " registros gerados, encontrados " + ids.size()
+                    + " (o banco deve estar vazio de dados sintéticos e sem gravações concorrentes)");
+        }
+        return ids;
+    }
+
+    private static String email(String tipo, int numero) {
+        return String.format("%s-%06d%s", tipo, numero, DOMINIO_EMAIL);
+    }
+
+    private LocalDateTime dataNaJanela(Random random, LocalDateTime agora) {
+        return agora.minusMinutes(random.nextInt(dias * 24 * 60));
+    }
+
+    private static LocalDateTime limitar(LocalDateTime data, LocalDateTime agora) {
+        return data.isAfter(agora) ? agora : data;
+    }
+
+    private static String faixaSalarial(Random random) {
+        if (random.nextInt(10) == 0) {
+            return "A combinar";
+        }
+        int minimo = 2000 + random.nextInt(15) * 500;
+        return minimo + "-" + (minimo + 1000 + random.nextInt(10) * 500);
+    }
+
+    /**
+     * Sorteia skills distintas de qualquer categoria
+     * @return Pares {categoria, skill}
+     */
+    private static List<String[]> sortearSkills(Random random, int quantidade) {
+        Map<String, String[]> sorteadas = new LinkedHashMap<>();
+        int total = 0;
+        for (String[] categoria : SKILLS) {
+            total += categoria.length - 1;
+        }
+        int limite = Math.min(quantidade, total);
+        while (sorteadas.size() < limite) {
+            String[] categoria = SKILLS[random.nextInt(SKILLS.length)];
+            String skill = categoria[1 + random.nextInt(categoria.length - 1)];
+            sorteadas.putIfAbsent(skill, new String[] {categoria[0], skill});
+        }
+        return new ArrayList<>(sorteadas.values());
+    }
+
+    private static List<String> sortear(Random random, String[] valores, int quantidade) {
+        Set<String> sorteados = new LinkedHashSet<>();
+        while (sorteados.size() < Math.min(quantidade, valores.length)) {
+            sorteados.add(escolher(random, valores));
+        }
+        return new ArrayList<>(sorteados);
+    }
+
+    private static String escolher(Random random, String[] valores) {
+        return valores[random.nextInt(valores.length)];
+    }
+
+    /**
+     * Literal de array do PostgreSQL ({"Full Stack","Dados"}) para as colunas text[]
+     */
+    private static String arrayTexto(List<String> valores) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"').append(valores.get(i).replace("\"", "\\\"")).append('"');
+        }
+        return literal.append('}').toString();
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.IndicadorDiario;
+import com.example.devmatch.job_posting_backend.repository.IndicadorDiarioRepository;
+import com.example.devmatch.job_posting_backend.repository.IndicadorEngajamentoRepository;
+import com.example.devmatch.job_posting_backend.repository.IndicadorTempoContratacaoRepository;
+import com.example.devmatch.job_posting_backend.util.HistogramaLogaritmico;
+import com.example.devmatch.job_posting_backend.util.HyperLogLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém a tabela indicadores_diarios: por empresa e por dia, as contagens e somas usadas pelos
+ * indicadores do dashboard (candidaturas por status, contratos iniciados, tempo de contratação e
+ * notas das avaliações), além de uma linha por dia com o total da plataforma. Um dashboard soma no
+ * máximo {@value #DIAS_MAXIMOS} linhas, qualquer que seja o volume de candidaturas. Na tabela
+ * indicadores_tempo_contratacao mantém, com as mesmas chaves, esboços diários de quantis do tempo
+ * de contratação, unidos na leitura para a mediana e os percentis; e, em indicadores_engajamento,
+ * contadores diários (HyperLogLog) dos desenvolvedores distintos com candidatura.
+ *
+ * Cada recálculo apaga e regrava os dias de um intervalo a partir das tabelas de origem, então
+ * repetir um recálculo nunca duplica valores. O dia corrente é recalculado periodicamente
+ * ({@code indicadores.rollup.intervalo-ms}); mudanças que afetam dias passados (status de uma
+ * candidatura antiga) marcam o dia para o próximo ciclo; e o fechamento diário refaz a janela inteira,
+ * corrigindo o que tiver escapado (exclusões, alterações diretas no banco, reinícios).
+ */
+@Service
+public class IndicadoresDiariosService {
+
+    private static final Logger log = LoggerFactory.getLogger(IndicadoresDiariosService.class);
+
+    // Maior janela de um dashboard (mesmo limite de AdminIndicatorsService.sanitizePeriod)
+    public static final int DIAS_MAXIMOS = 365;
+
+    private static final String SQL_APAGAR = "delete from indicadores_diarios where dia >= ? and dia < ?";
+
+    // Dias entre a publicação da vaga (v) e o início do contrato (ct): mesmo cálculo de
+    // Duration.toHours() / 24 (sem negativos) usado antes do rollup; nulo sem data de publicação
+    // (greatest ignora argumentos nulos, então sem o case esses contratos entrariam como 0 dias)
+    private static final String DIAS_CONTRATACAO = "case when v.data_publicacao is null then null else "
+            + "greatest(0, trunc(extract(epoch from (ct.started_at - v.data_publicacao)) / 3600) / 24.0) end";
+
+    // Uma linha por evento (candidatura, contrato efetivo ou avaliação) com as colunas que ele soma,
+    // agrupadas por empresa dona da vaga e dia do evento. Contratos efetivos = ACTIVE ou FINISHED
+    // (AdminIndicatorsService.EFFECTIVE_CONTRACT_STATUSES); feedback.project_id guarda o ID da vaga.
+    private static final String SQL_AGREGAR_EMPRESAS = "insert into indicadores_diarios (empresa_id, dia, "
+            + "candidaturas, candidaturas_pendentes, candidaturas_em_analise, candidaturas_aceitas, candidaturas_rejeitadas, "
+            + "contratos_efetivos, contratos_clt, contratos_pj, contratos_contrato, contratos_cooperado, "
+            + "contratacoes_com_tempo, soma_dias_contratacao, min_dias_contratacao, max_dias_contratacao, "
+            + "avaliacoes, soma_notas, avaliacoes_empresa_para_dev, soma_notas_empresa_para_dev, "
+            + "avaliacoes_dev_para_empresa, soma_notas_dev_para_empresa, soma_qualidade_tecnica, "
+            + "soma_cumprimento_prazos, soma_comunicacao, soma_colaboracao) "
+            + "select empresa_id, dia, sum(candidatura), sum(pendente), sum(em_analise), sum(aceita), sum(rejeitada), "
+            + "sum(contrato), sum(clt), sum(pj), sum(contrato_tipo), sum(cooperado), "
+            + "count(dias), coalesce(sum(dias), 0), min(dias), max(dias), "
+            + "sum(avaliacao), sum(nota), sum(avaliacao_dev), sum(nota_dev), sum(avaliacao_empresa), sum(nota_empresa), "
+            + "sum(qualidade), sum(prazos), sum(comunicacao), sum(colaboracao) "
+            + "from ("
+            + "  select v.usuario_id as empresa_id, cast(c.data_candidatura as date) as dia, 1 as candidatura, "
+            + "    case lower(c.status) when 'pendente' then 1 else 0 end as pendente, "
+            + "    case lower(c.status) when 'em_analise' then 1 else 0 end as em_analise, "
+            + "    case lower(c.status) when 'aceito' then 1 else 0 end as aceita, "
+            + "    case lower(c.status) when 'rejeitado' then 1 else 0 end as rejeitada, "
+            + "    0 as contrato, 0 as clt, 0 as pj, 0 as contrato_tipo, 0 as cooperado, "
+            + "    cast(null as double precision) as dias, "
+            + "    0 as avaliacao, 0 as nota, 0 as avaliacao_dev, 0 as nota_dev, 0 as avaliacao_empresa, 0 as nota_empresa, "
+            + "    0 as qualidade, 0 as prazos, 0 as comunicacao, 0 as colaboracao "
+            + "  from candidaturas c join vagas v on v.id = c.vaga_id "
+            + "  where c.data_candidatura >= ? and c.data_candidatura < ? "
+            + "  union all "
+            + "  select ct.company_id, cast(ct.started_at as date), 0, 0, 0, 0, 0, "
+            + "    1, "
+            + "    case ct.contract_type when 'CLT' then 1 else 0 end, "
+            + "    case ct.contract_type when 'PJ' then 1 else 0 end, "
+            + "    case ct.contract_type when 'CONTRATO' then 1 else 0 end, "
+            + "    case ct.contract_type when 'COOPERADO' then 1 else 0 end, "
+            + "    " + DIAS_CONTRATACAO + ", "
+            + "    0, 0, 0, 0, 0, 0, 0, 0, 0, 0 "
+            + "  from contracts ct join vagas v on v.id = ct.vaga_id "
+            + "  where ct.status in ('ACTIVE', 'FINISHED') and ct.started_at >= ? and ct.started_at < ? "
+            + "  union all "
+            + "  select v.usuario_id, cast(f.data_avaliacao as date), 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, "
+            + "    cast(null as double precision), "
+            + "    1, f.qualidade_tecnica + f.cumprimento_prazos + f.comunicacao + f.colaboracao, "
+            + "    case f.rated_role when 'DEVELOPER' then 1 else 0 end, "
+            + "    case f.rated_role when 'DEVELOPER' then f.qualidade_tecnica + f.cumprimento_prazos + f.comunicacao + f.colaboracao else 0 end, "
+            + "    case f.rated_role when 'COMPANY' then 1 else 0 end, "
+            + "    case f.rated_role when 'COMPANY' then f.qualidade_tecnica + f.cumprimento_prazos + f.comunicacao + f.colaboracao else 0 end, "
+            + "    f.qualidade_tecnica, f.cumprimento_prazos, f.comunicacao, f.colaboracao "
+            + "  from feedback f join vagas v on v.id = f.project_id "
+            + "  where f.data_avaliacao >= ? and f.data_avaliacao < ? "
+            + ") eventos "
+            + "where empresa_id is not null "
+            + "group by empresa_id, dia";
+
+    private static final String SQL_AGREGAR_PLATAFORMA = "insert into indicadores_diarios (empresa_id, dia, "
+            + "candidaturas, candidaturas_pendentes, candidaturas_em_analise, candidaturas_aceitas, candidaturas_rejeitadas, "
+            + "contratos_efetivos, contratos_clt, contratos_pj, contratos_contrato, contratos_cooperado, "
+            + "contratacoes_com_tempo, soma_dias_contratacao, min_dias_contratacao, max_dias_contratacao, "
+            + "avaliacoes, soma_notas, avaliacoes_empresa_para_dev, soma_notas_empresa_para_dev, "
+            + "avaliacoes_dev_para_empresa, soma_notas_dev_para_empresa, soma_qualidade_tecnica, "
+            + "soma_cumprimento_prazos, soma_comunicacao, soma_colaboracao) "
+            + "select " + IndicadorDiario.EMPRESA_PLATAFORMA + ", dia, "
+            + "sum(candidaturas), sum(candidaturas_pendentes), sum(candidaturas_em_analise), sum(candidaturas_aceitas), "
+            + "sum(candidaturas_rejeitadas), sum(contratos_efetivos), sum(contratos_clt), sum(contratos_pj), "
+            + "sum(contratos_contrato), sum(contratos_cooperado), sum(contratacoes_com_tempo), sum(soma_dias_contratacao), "
+            + "min(min_dias_contratacao), max(max_dias_contratacao), sum(avaliacoes), sum(soma_notas), "
+            + "sum(avaliacoes_empresa_para_dev), sum(soma_notas_empresa_para_dev), sum(avaliacoes_dev_para_empresa), "
+            + "sum(soma_notas_dev_para_empresa), sum(soma_qualidade_tecnica), sum(soma_cumprimento_prazos), "
+            + "sum(soma_comunicacao), sum(soma_colaboracao) "
+            + "from indicadores_diarios where empresa_id <> " + IndicadorDiario.EMPRESA_PLATAFORMA
+            + " and dia >= ? and dia < ? group by dia";
+
+    private static final String SQL_APAGAR_TEMPOS = "delete from indicadores_tempo_contratacao where dia >= ? and dia < ?";
+
+    // Esboço de quantis do tempo de contratação: contratos efetivos por empresa, dia e faixa
+    private static final String SQL_AGREGAR_TEMPOS_EMPRESAS = "insert into indicadores_tempo_contratacao "
+            + "(empresa_id, dia, faixa, quantidade) "
+            + "select ct.company_id, cast(ct.started_at as date), "
+            + HistogramaLogaritmico.faixaSql(DIAS_CONTRATACAO) + " as faixa, count(*) "
+            + "from contracts ct join vagas v on v.id = ct.vaga_id "
+            + "where ct.status in ('ACTIVE', 'FINISHED') and ct.started_at >= ? and ct.started_at < ? "
+            + "and v.data_publicacao is not null "
+            + "group by ct.company_id, cast(ct.started_at as date), faixa";
+
+    private static final String SQL_AGREGAR_TEMPOS_PLATAFORMA = "insert into indicadores_tempo_contratacao "
+            + "(empresa_id, dia, faixa, quantidade) "
+            + "select " + IndicadorDiario.EMPRESA_PLATAFORMA + ", dia, faixa, sum(quantidade) "
+            + "from indicadores_tempo_contratacao where empresa_id <> " + IndicadorDiario.EMPRESA_PLATAFORMA
+            + " and dia >= ? and dia < ? group by dia, faixa";
+
+    private static final String SQL_APAGAR_ENGAJAMENTO = "delete from indicadores_engajamento where dia >= ? and dia < ?";
+
+    // Registro do contador HyperLogLog; mantém o maior rho (a união é o máximo por registro)
+    private static final String SQL_GRAVAR_ENGAJAMENTO = "insert into indicadores_engajamento "
+            + "(empresa_id, dia, registro, rho) values (?, ?, ?, ?) "
+            + "on conflict (empresa_id, dia, registro) "
+            + "do update set rho = greatest(indicadores_engajamento.rho, excluded.rho)";
+
+    private static final String SQL_CANDIDATOS = "select v.usuario_id, c.usuario_id "
+            + "from candidaturas c join vagas v on v.id = c.vaga_id "
+            + "where c.data_candidatura >= ? and c.data_candidatura < ? and v.usuario_id is not null";
+
+    @Autowired
+    private IndicadorDiarioRepository indicadorDiarioRepository;
+
+    @Autowired
+    private IndicadorTempoContratacaoRepository indicadorTempoContratacaoRepository;
+
+    @Autowired
+    private IndicadorEngajamentoRepository indicadorEngajamentoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Dias passados alterados desde o último ciclo
+    private final Set<LocalDate> diasPendentes = ConcurrentHashMap.newKeySet();
+
+    public IndicadoresDiariosService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Ao subir a aplicação: monta a janela inteira se a tabela estiver vazia, senão
+     * atualiza ontem e hoje (o que pode ter mudado enquanto a aplicação estava fora)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(30)
+    public void carregar() {
+        LocalDate hoje = LocalDate.now();
+        if (indicadorDiarioRepository.count() == 0) {
+            fechamento();
+        } else {
+            recalcular(hoje.minusDays(1), hoje.plusDays(1));
+        }
+    }
+
+    /**
+     * Ciclo incremental: recalcula o dia corrente e os dias marcados por {@link #marcarDia}
+     */
+    @Scheduled(fixedDelayString = "${indicadores.rollup.intervalo-ms:300000}",
+               initialDelayString = "${indicadores.rollup.intervalo-ms:300000}")
+    public void atualizar() {
+        LocalDate hoje = LocalDate.now();
+        List<LocalDate> dias = new ArrayList<>(diasPendentes);
+        diasPendentes.removeAll(dias);
+        recalcular(hoje, hoje.plusDays(1));
+        for (LocalDate dia : dias) {
+            if (!dia.equals(hoje)) {
+                recalcular(dia, dia.plusDays(1));
+            }
+        }
+    }
+
+    /**
+     * Fechamento diário (por padrão logo após a meia-noite): consolida o dia anterior e refaz a
+     * janela de {@value #DIAS_MAXIMOS} dias a partir das tabelas de origem
+     */
+    @Scheduled(cron = "${indicadores.rollup.cron-fechamento:0 5 0 * * *}")
+    public void fechamento() {
+        long inicio = System.nanoTime();
+        LocalDate hoje = LocalDate.now();
+        diasPendentes.clear();
+        recalcular(hoje.minusDays(DIAS_MAXIMOS), hoje.plusDays(1));
+        log.info("Agregados diários dos indicadores refeitos em {} ms", (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Marca um dia passado cujos dados mudaram (ex.: status de uma candidatura feita naquele dia).
+     * Deve ser chamado após o commit da alteração.
+     * @param data Data do evento alterado (dia da candidatura, do contrato ou da avaliação)
+     */
+    public void marcarDia(LocalDateTime data) {
+        if (data != null) {
+            diasPendentes.add(data.toLocalDate());
+        }
+    }
+
+    /**
+     * Soma os agregados diários de uma empresa (ou da plataforma) nos últimos dias
+     * @param empresaId ID da empresa ou {@link IndicadorDiario#EMPRESA_PLATAFORMA}
+     * @param dias Quantidade de dias, contando hoje
+     * @return Totais da janela (entidade não persistida; {@code dia} é o primeiro dia da janela)
+     */
+    public IndicadorDiario getTotais(Long empresaId, int dias) {
+        LocalDate inicio = LocalDate.now().minusDays(dias - 1L);
+        IndicadorDiario total = new IndicadorDiario();
+        total.setEmpresaId(empresaId);
+        total.setDia(inicio);
+        for (IndicadorDiario linha : indicadorDiarioRepository.findByEmpresaIdAndDiaGreaterThanEqual(empresaId, inicio)) {
+            somar(total, linha);
+        }
+        return total;
+    }
+
+    /**
+     * Une os esboços diários do tempo de contratação de uma empresa (ou da plataforma) nos últimos
+     * dias. Lê no máximo uma linha por faixa, qualquer que seja a quantidade de contratos.
+     * @param empresaId ID da empresa ou {@link IndicadorDiario#EMPRESA_PLATAFORMA}
+     * @param dias Quantidade de dias, contando hoje
+     * @return Esboço com os quantis da janela
+     */
+    public HistogramaLogaritmico getTemposContratacao(Long empresaId, int dias) {
+        LocalDate inicio = LocalDate.now().minusDays(dias - 1L);
+        return HistogramaLogaritmico.deLinhas(indicadorTempoContratacaoRepository.somarFaixasDesde(empresaId, inicio));
+    }
+
+    /**
+     * Une os contadores diários de desenvolvedores distintos com candidatura às vagas de uma empresa
+     * (ou da plataforma) nos últimos dias. Lê no máximo {@value HyperLogLog#REGISTROS} linhas,
+     * qualquer que seja a quantidade de candidaturas.
+     * @param empresaId ID da empresa ou {@link IndicadorDiario#EMPRESA_PLATAFORMA}
+     * @param dias Quantidade de dias, contando hoje
+     * @return Estimativa de desenvolvedores distintos (erro padrão de cerca de 2%)
+     */
+    public long getDesenvolvedoresDistintos(Long empresaId, int dias) {
+        LocalDate inicio = LocalDate.now().minusDays(dias - 1L);
+        return HyperLogLog.deLinhas(indicadorEngajamentoRepository.unirRegistrosDesde(empresaId, inicio)).estimativa();
+    }
+
+    /**
+     * Conta uma candidatura nos contadores de desenvolvedores distintos do dia (da empresa e da
+     * plataforma). Repetir a chamada não altera os contadores. Deve ser chamado após o commit.
+     * @param empresaId ID da empresa dona da vaga (nulo não conta, como na reconstrução do dia)
+     * @param usuarioId ID do desenvolvedor
+     * @param data Data da candidatura
+     */
+    public void registrarCandidatura(Long empresaId, Long usuarioId, LocalDateTime data) {
+        if (empresaId == null) {
+            return;
+        }
+        LocalDate dia = data.toLocalDate();
+        int registro = HyperLogLog.registro(usuarioId);
+        int rho = HyperLogLog.rho(usuarioId);
+        jdbcTemplate.batchUpdate(SQL_GRAVAR_ENGAJAMENTO, List.of(
+                new Object[]{empresaId, dia, registro, rho},
+                new Object[]{IndicadorDiario.EMPRESA_PLATAFORMA, dia, registro, rho}));
+    }
+
+    /**
+     * Apaga e regrava os agregados dos dias no intervalo [inicio, fim), em uma transação
+     */
+    private synchronized void recalcular(LocalDate inicio, LocalDate fim) {
+        LocalDateTime de = inicio.atStartOfDay();
+        LocalDateTime ate = fim.atStartOfDay();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(SQL_APAGAR, inicio, fim);
+            jdbcTemplate.update(SQL_AGREGAR_EMPRESAS, de, ate, de, ate, de, ate);
+            jdbcTemplate.update(SQL_AGREGAR_PLATAFORMA, inicio, fim);
+            jdbcTemplate.update(SQL_APAGAR_TEMPOS, inicio, fim);
+            jdbcTemplate.update(SQL_AGREGAR_TEMPOS_EMPRESAS, de, ate);
+            jdbcTemplate.update(SQL_AGREGAR_TEMPOS_PLATAFORMA, inicio, fim);
+            jdbcTemplate.update(SQL_APAGAR_ENGAJAMENTO, inicio, fim);
+            // Um dia por vez: a memória fica limitada às candidaturas de um dia
+            for (LocalDate dia = inicio; dia.isBefore(fim); dia = dia.plusDays(1)) {
+                reconstruirEngajamento(dia);
+            }
+        });
+    }
+
+    /**
+     * Refaz, a partir das candidaturas, os contadores de desenvolvedores distintos de um dia
+     * (gravação idempotente: convive com candidaturas registradas ao mesmo tempo)
+     */
+    private void reconstruirEngajamento(LocalDate dia) {
+        Map<Long, HyperLogLog> porEmpresa = new HashMap<>();
+        HyperLogLog plataforma = new HyperLogLog();
+        jdbcTemplate.query(SQL_CANDIDATOS, (RowCallbackHandler) rs -> {
+            long usuarioId = rs.getLong(2);
+            porEmpresa.computeIfAbsent(rs.getLong(1), id -> new HyperLogLog()).adicionar(usuarioId);
+            plataforma.adicionar(usuarioId);
+        }, dia.atStartOfDay(), dia.plusDays(1).atStartOfDay());
+        if (porEmpresa.isEmpty()) {
+            return;
+        }
+        porEmpresa.put(IndicadorDiario.EMPRESA_PLATAFORMA, plataforma);
+
+        List<Object[]> linhas = new ArrayList<>();
+        porEmpresa.forEach((empresaId, contador) -> {
+            for (int registro = 0; registro < HyperLogLog.REGISTROS; registro++) {
+                int rho = contador.valor(registro);
+                if (rho > 0) {
+                    linhas.add(new Object[]{empresaId, dia, registro, rho});
+                }
+            }
+        });
+        jdbcTemplate.batchUpdate(SQL_GRAVAR_ENGAJAMENTO, linhas);
+    }
+
+    private static void somar(IndicadorDiario total, IndicadorDiario linha) {
+        total.setCandidaturas(total.getCandidaturas() + linha.getCandidaturas());
+        total.setCandidaturasPendentes(total.getCandidaturasPendentes() + linha.getCandidaturasPendentes());
+        total.setCandidaturasEmAnalise(total.getCandidaturasEmAnalise() + linha.getCandidaturasEmAnalise());
+        total.setCandidaturasAceitas(total.getCandidaturasAceitas() + linha.getCandidaturasAceitas());
+        total.setCandidaturasRejeitadas(total.getCandidaturasRejeitadas() + linha.getCandidaturasRejeitadas());
+        total.setContratosEfetivos(total.getContratosEfetivos() + linha.getContratosEfetivos());
+        total.setContratosClt(total.getContratosClt() + linha.getContratosClt());
+        total.setContratosPj(total.getContratosPj() + linha.getContratosPj());
+        total.setContratosContrato(total.getContratosContrato() + linha.getContratosContrato());
+        total.setContratosCooperado(total.getContratosCooperado() + linha.getContratosCooperado());
+        total.setContratacoesComTempo(total.getContratacoesComTempo() + linha.getContratacoesComTempo());
+        total.setSomaDiasContratacao(total.getSomaDiasContratacao() + linha.getSomaDiasContratacao());
+        total.setMinDiasContratacao(menor(total.getMinDiasContratacao(), linha.getMinDiasContratacao()));
+        total.setMaxDiasContratacao(maior(total.getMaxDiasContratacao(), linha.getMaxDiasContratacao()));
+        total.setAvaliacoes(total.getAvaliacoes() + linha.getAvaliacoes());
+        total.setSomaNotas(total.getSomaNotas() + linha.getSomaNotas());
+        total.setAvaliacoesEmpresaParaDev(total.getAvaliacoesEmpresaParaDev() + linha.getAvaliacoesEmpresaParaDev());
+        total.setSomaNotasEmpresaParaDev(total.getSomaNotasEmpresaParaDev() + linha.getSomaNotasEmpresaParaDev());
+        total.setAvaliacoesDevParaEmpresa(total.getAvaliacoesDevParaEmpresa() + linha.getAvaliacoesDevParaEmpresa());
+        total.setSomaNotasDevParaEmpresa(total.getSomaNotasDevParaEmpresa() + linha.getSomaNotasDevParaEmpresa());
+        total.setSomaQualidadeTecnica(total.getSomaQualidadeTecnica() + linha.getSomaQualidadeTecnica());
+        total.setSomaCumprimentoPrazos(total.getSomaCumprimentoPrazos() + linha.getSomaCumprimentoPrazos());
+        total.setSomaComunicacao(total.getSomaComunicacao() + linha.getSomaComunicacao());
+        total.setSomaColaboracao(total.getSomaColaboracao() + linha.getSomaColaboracao());
+    }
+
+    private static Double menor(Double a, Double b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Double maior(Double a, Double b) {
+        return a == null ? b : b == null ? a : Math.max(a, b);
+    }
+}
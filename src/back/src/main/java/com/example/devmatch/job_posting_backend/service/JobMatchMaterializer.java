@@ -0,0 +1,344 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.repository.JobMatchRepository;
+import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
+import com.example.devmatch.job_posting_backend.repository.NovoMatchRepository;
+import com.example.devmatch.job_posting_backend.repository.PerfilDevRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Mantém a tabela job_matches (matches materializados) e o contador {@code matches} das vagas.
+ * Após o commit de uma alteração de perfil, o desenvolvedor é repontuado contra as vagas
+ * ativas candidatas ({@link JobMatchingIndex}); após o commit de uma alteração de vaga, a vaga é
+ * repontuada contra os perfis candidatos ({@link PerfilMatchingIndex}), em lotes com uma
+ * transação cada, e os desenvolvedores de perfil completo que passaram a ter match com ela
+ * recebem um aviso de novo match (tabela novos_matches).
+ * Os recálculos rodam em uma única thread, em ordem, para que dois recálculos nunca
+ * escrevam o mesmo par ao mesmo tempo.
+ */
+@Service
+public class JobMatchMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(JobMatchMaterializer.class);
+
+    // Quantidade de perfis carregados e de linhas inseridas por lote
+    private static final int TAMANHO_LOTE = 1000;
+
+    // Upsert: o recálculo completo (RecalculoMatchesService) pode gravar o mesmo par em paralelo
+    private static final String SQL_INSERIR = "insert into job_matches "
+            + "(usuario_id, vaga_id, score, score_ranking, score_localizacao, score_salario, score_contrato, "
+            + "score_preferencias, score_skills, data_calculo) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "on conflict (usuario_id, vaga_id) do update set score = excluded.score, "
+            + "score_ranking = excluded.score_ranking, score_localizacao = excluded.score_localizacao, "
+            + "score_salario = excluded.score_salario, score_contrato = excluded.score_contrato, "
+            + "score_preferencias = excluded.score_preferencias, score_skills = excluded.score_skills, "
+            + "data_calculo = excluded.data_calculo";
+
+    // Score de ranking das vagas de uma empresa a partir do score gravado (ReputacaoService.ranquear)
+    private static final String SQL_ATUALIZAR_RANKING_EMPRESA = "update job_matches set score_ranking = ? * score + ? "
+            + "where vaga_id in (select id from vagas where usuario_id = ?)";
+
+    // Score de ranking de todas as linhas, com a nota suavizada de cada empresa calculada no banco
+    // (mesma média bayesiana de ReputacaoService; sem avaliações, a média da plataforma)
+    private static final String SQL_ATUALIZAR_RANKING = "update job_matches m set score_ranking = ? * m.score + ? * coalesce("
+            + "(select (? * ? + r.score_medio * r.total_feedbacks) / (? + r.total_feedbacks) "
+            + "from vagas v join user_reputation r on r.user_id = v.usuario_id "
+            + "where v.id = m.vaga_id and r.score_medio is not null and r.total_feedbacks > 0), ?)";
+
+    // Variação da média da plataforma (em estrelas) a partir da qual todas as linhas são reordenadas;
+    // abaixo disso o ranking de uma empresa sem avaliações muda no máximo peso * 0,05 / 5 * 100 pontos
+    private static final double TOLERANCIA_MEDIA_GLOBAL = 0.05;
+
+    // Um aviso por par; se a vaga voltar a dar match (ex.: reaberta), o aviso volta a ficar não lido
+    private static final String SQL_INSERIR_NOVO_MATCH = "insert into novos_matches "
+            + "(usuario_id, vaga_id, score, lido, data_criacao) values (?, ?, ?, false, ?) "
+            + "on conflict (usuario_id, vaga_id) do update set score = excluded.score, lido = false, "
+            + "data_criacao = excluded.data_criacao, data_leitura = null";
+
+    @Autowired
+    private JobMatchRepository jobMatchRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private PerfilDevRepository perfilDevRepository;
+
+    @Autowired
+    private NovoMatchRepository novoMatchRepository;
+
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private PerfilMatchingIndex perfilMatchingIndex;
+
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+
+    @Autowired
+    private MatchScorer matchScorer;
+
+    @Autowired
+    private ReputacaoService reputacaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // Média da plataforma usada na última atualização completa do score de ranking
+    // (só acessada pela thread do executor)
+    private double mediaGlobalRanking = Double.NaN;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "job-matches");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobMatchMaterializer(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Agenda, após o commit da transação corrente, o recálculo dos matches de um desenvolvedor
+     * @param usuarioId ID do desenvolvedor
+     */
+    public void agendarPerfil(Long usuarioId) {
+        TransactionUtils.aposCommit(() -> executar(() -> recalcularPerfil(usuarioId), "perfil " + usuarioId));
+    }
+
+    /**
+     * Agenda, após o commit da transação corrente, o recálculo dos matches de uma vaga
+     * @param vagaId ID da vaga
+     */
+    public void agendarVaga(Long vagaId) {
+        TransactionUtils.aposCommit(() -> executarEmLotes(() -> recalcularVaga(vagaId), "vaga " + vagaId));
+    }
+
+    /**
+     * Agenda, após o commit de uma avaliação, a atualização do score de ranking em job_matches:
+     * as linhas das vagas da empresa avaliada e, se a média da plataforma tiver mudado mais que
+     * {@value #TOLERANCIA_MEDIA_GLOBAL} estrela desde a última atualização completa, todas as linhas.
+     * Cada caso é um único update a partir do score gravado, sem repontuar nenhum par.
+     * @param empresaId ID da empresa avaliada (null se o avaliado foi um desenvolvedor)
+     */
+    public void agendarRanking(Long empresaId) {
+        TransactionUtils.aposCommit(() -> executar(() -> atualizarRanking(empresaId), "ranking da empresa " + empresaId));
+    }
+
+    /**
+     * Atualiza, em segundo plano, o score de ranking de todas as linhas (reputações podem ter mudado
+     * com a aplicação parada) e materializa os perfis que ainda não têm matches calculados.
+     * Roda depois do carregamento do índice de vagas e das reputações.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(10)
+    public void materializarPendentes() {
+        executar(this::atualizarRankingCompleto, "ranking completo");
+        Set<Long> pendentes = new LinkedHashSet<>(perfilDevRepository.findUsuarioIdsSemMatchesCalculados());
+        for (Long usuarioId : pendentes) {
+            executar(() -> recalcularPerfil(usuarioId), "perfil " + usuarioId);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void executar(Runnable recalculo, String descricao) {
+        executarEmLotes(() -> transactionTemplate.executeWithoutResult(status -> recalculo.run()), descricao);
+    }
+
+    /**
+     * Enfileira um recálculo que abre as próprias transações (uma por lote)
+     */
+    private void executarEmLotes(Runnable recalculo, String descricao) {
+        executor.execute(() -> {
+            try {
+                recalculo.run();
+            } catch (RuntimeException e) {
+                log.error("Falha ao materializar matches do {}", descricao, e);
+            }
+        });
+    }
+
+    private void atualizarRanking(Long empresaId) {
+        double mediaGlobal = reputacaoService.getMediaGlobal();
+        if (Double.isNaN(mediaGlobalRanking) || Math.abs(mediaGlobal - mediaGlobalRanking) >= TOLERANCIA_MEDIA_GLOBAL) {
+            atualizarRankingCompleto();
+        } else if (empresaId != null) {
+            jdbcTemplate.update(SQL_ATUALIZAR_RANKING_EMPRESA, reputacaoService.getFatorCompatibilidade(),
+                    reputacaoService.getFatorReputacao() * reputacaoService.getNotaSuavizada(empresaId), empresaId);
+        }
+    }
+
+    private void atualizarRankingCompleto() {
+        double mediaGlobal = reputacaoService.getMediaGlobal();
+        double prior = reputacaoService.getPrior();
+        jdbcTemplate.update(SQL_ATUALIZAR_RANKING, reputacaoService.getFatorCompatibilidade(),
+                reputacaoService.getFatorReputacao(), prior, mediaGlobal, prior, mediaGlobal);
+        mediaGlobalRanking = mediaGlobal;
+    }
+
+    /**
+     * Repontua um desenvolvedor contra todas as vagas ativas
+     */
+    private void recalcularPerfil(Long usuarioId) {
+        LocalDateTime agora = LocalDateTime.now();
+        Set<Long> vagasAfetadas = new HashSet<>(jobMatchRepository.findVagaIdsByUsuarioId(usuarioId));
+        jobMatchRepository.deleteByUsuarioId(usuarioId);
+
+        Map<Long, MatchFeatures.Perfil> perfis = matchFeaturesService.getPerfis(List.of(usuarioId));
+        MatchFeatures.Perfil perfil = perfis.get(usuarioId);
+        if (perfil == null) {
+            perfilMatchingIndex.remover(usuarioId);
+        } else {
+            perfilMatchingIndex.atualizar(perfil);
+            List<Object[]> linhas = new ArrayList<>();
+            Set<Long> candidatas = jobMatchingIndex.buscarCandidatas(perfil, MatchScorer.COMPATIBILIDADE_MINIMA);
+            for (Long vagaId : candidatas) {
+                MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+                if (vaga != null && adicionarSeCompativel(linhas, perfil, vaga, agora) != null) {
+                    vagasAfetadas.add(vagaId);
+                }
+            }
+            inserir(linhas);
+            perfilDevRepository.marcarMatchesCalculados(usuarioId, agora);
+        }
+        novoMatchRepository.deleteNaoLidosSemMatchByUsuarioId(usuarioId);
+
+        List<Long> afetadas = new ArrayList<>(vagasAfetadas);
+        for (int i = 0; i < afetadas.size(); i += TAMANHO_LOTE) {
+            jobPostingRepository.atualizarContadorMatches(afetadas.subList(i, Math.min(i + TAMANHO_LOTE, afetadas.size())));
+        }
+    }
+
+    /**
+     * Repontua uma vaga contra os perfis candidatos do {@link PerfilMatchingIndex} (ou apenas remove
+     * seus matches, se ela não estiver mais ativa) e avisa quem passou a ter match com ela. Cada lote
+     * de {@value #TAMANHO_LOTE} perfis é compilado direto do banco, sem passar pelo cache de features,
+     * e gravado (upsert) na própria transação; no fim, são apagadas só as linhas dos desenvolvedores
+     * que tinham match antes e não deram match nesta execução, então a vaga nunca fica sem matches
+     * enquanto o recálculo anda e as linhas gravadas em paralelo pelo recálculo noturno
+     * ({@link RecalculoMatchesService}) para pares que este recálculo confirmou não são apagadas.
+     */
+    private void recalcularVaga(Long vagaId) {
+        LocalDateTime agora = LocalDateTime.now();
+        Set<Long> anteriores = new HashSet<>(jobMatchRepository.findUsuarioIdsByVagaId(vagaId));
+        Set<Long> comMatch = new HashSet<>();
+
+        MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+        if (vaga != null) {
+            List<Long> usuarioIds = new ArrayList<>(perfilMatchingIndex.buscarCandidatos(vaga, MatchScorer.COMPATIBILIDADE_MINIMA));
+            for (int i = 0; i < usuarioIds.size(); i += TAMANHO_LOTE) {
+                List<Long> lote = usuarioIds.subList(i, Math.min(i + TAMANHO_LOTE, usuarioIds.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Object[]> linhas = new ArrayList<>();
+                    Map<Long, Double> novos = new HashMap<>();
+                    for (PerfilDev entidade : perfilDevRepository.findAllByUsuarioIdInWithHabilidades(lote)) {
+                        MatchFeatures.Perfil perfil = matchFeaturesService.compilarPerfil(entidade);
+                        MatchScorer.Componentes componentes = adicionarSeCompativel(linhas, perfil, vaga, agora);
+                        if (componentes == null) {
+                            continue;
+                        }
+                        comMatch.add(perfil.getUsuarioId());
+                        if (!anteriores.contains(perfil.getUsuarioId())) {
+                            novos.put(perfil.getUsuarioId(), componentes.total());
+                        }
+                    }
+                    inserir(linhas);
+                    avisarNovosMatches(vagaId, novos, agora);
+                });
+            }
+        }
+        anteriores.removeAll(comMatch);
+        List<Long> semMatch = new ArrayList<>(anteriores);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < semMatch.size(); i += TAMANHO_LOTE) {
+                jobMatchRepository.deleteByVagaIdAndUsuarioIdIn(vagaId,
+                        semMatch.subList(i, Math.min(i + TAMANHO_LOTE, semMatch.size())));
+            }
+            novoMatchRepository.deleteNaoLidosSemMatchByVagaId(vagaId);
+            jobPostingRepository.atualizarContadorMatches(List.of(vagaId));
+        });
+    }
+
+    /**
+     * Grava os avisos de novo match para os desenvolvedores de perfil completo
+     * @param novos ID do desenvolvedor → compatibilidade com a vaga
+     */
+    private void avisarNovosMatches(Long vagaId, Map<Long, Double> novos, LocalDateTime agora) {
+        if (novos.isEmpty()) {
+            return;
+        }
+        Timestamp quando = Timestamp.valueOf(agora);
+        List<Object[]> linhas = new ArrayList<>();
+        for (Long usuarioId : perfilDevRepository.findUsuarioIdsComPerfilCompleto(novos.keySet())) {
+            linhas.add(new Object[] {usuarioId, vagaId, novos.get(usuarioId), quando});
+        }
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_NOVO_MATCH, linhas);
+        }
+    }
+
+    /**
+     * Pontua o par e, se for compatível, acrescenta a linha a inserir em job_matches
+     * @return Componentes do score, ou null se o par não atingir a compatibilidade mínima
+     */
+    MatchScorer.Componentes adicionarSeCompativel(List<Object[]> linhas, MatchFeatures.Perfil perfil,
+                                                         MatchFeatures.Vaga vaga, LocalDateTime agora) {
+        MatchScorer.Componentes componentes = matchScorer.calcularComponentes(perfil, vaga);
+        if (componentes.total() < MatchScorer.COMPATIBILIDADE_MINIMA) {
+            return null;
+        }
+        linhas.add(new Object[] {
+                perfil.getUsuarioId(),
+                vaga.getVagaId(),
+                componentes.total(),
+                reputacaoService.ranquear(componentes.total(), vaga.getUsuarioId()),
+                componentes.localizacao(),
+                componentes.salario(),
+                componentes.contrato(),
+                componentes.preferencias(),
+                componentes.skills(),
+                Timestamp.valueOf(agora)
+        });
+        return componentes;
+    }
+
+    /**
+     * Grava em job_matches, em lotes de {@value #TAMANHO_LOTE}, as linhas montadas por adicionarSeCompativel
+     */
+    void inserir(List<Object[]> linhas) {
+        for (int i = 0; i < linhas.size(); i += TAMANHO_LOTE) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR, linhas.subList(i, Math.min(i + TAMANHO_LOTE, linhas.size())));
+        }
+    }
+}
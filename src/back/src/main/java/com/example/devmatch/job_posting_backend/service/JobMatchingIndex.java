@@ -0,0 +1,285 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.JobPosting;
+import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido em memória das vagas ativas, usado pelo matching.
+ * Mapeia o ID de cada skill (ver {@link SkillDictionary}) para os IDs das vagas ativas
+ * que a exigem e mantém as features compiladas de cada vaga, evitando varrer a
+ * tabela de vagas a cada requisição. As vagas com skills também ficam agrupadas por
+ * {@link MatchScorer.GrupoSemSkills}, para descartar de uma vez os grupos que não têm como
+ * atingir a compatibilidade mínima sem nenhuma skill em comum. As vagas não remotas com localização reconhecida
+ * também ficam em uma grade espacial (células de {@value #TAMANHO_CELULA_GRAUS} grau),
+ * para encontrar as vagas próximas de um desenvolvedor sem percorrer o catálogo.
+ */
+@Component
+public class JobMatchingIndex {
+
+    // Lado de cada célula da grade espacial, em graus de latitude/longitude (~55 km no equador)
+    private static final double TAMANHO_CELULA_GRAUS = 0.5;
+
+    private static final double KM_POR_GRAU = 111.2;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private MatchScorer matchScorer;
+
+    // ID da skill -> IDs das vagas ativas que exigem a skill
+    private final Map<Integer, Set<Long>> vagasPorSkill = new ConcurrentHashMap<>();
+
+    // IDs das vagas ativas que não exigem nenhuma skill
+    private final Set<Long> vagasSemSkills = ConcurrentHashMap.newKeySet();
+
+    // Grupo (empresa, modalidade, estado do salário, regime informado) -> IDs das vagas ativas com skills
+    private final Map<MatchScorer.GrupoSemSkills, Set<Long>> vagasPorGrupo = new ConcurrentHashMap<>();
+
+    // ID da vaga -> features da vaga ativa
+    private final Map<Long, MatchFeatures.Vaga> vagas = new ConcurrentHashMap<>();
+
+    // Célula da grade (ver celula) -> IDs das vagas presenciais/híbridas ativas localizadas nela
+    private final Map<Long, Set<Long>> vagasPorCelula = new ConcurrentHashMap<>();
+
+    /**
+     * Carrega todas as vagas ativas ao subir a aplicação (antes dos demais listeners que usam o índice)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void carregar() {
+        jobPostingRepository.findAtivasWithSkills().forEach(vaga -> aplicar(matchFeaturesService.compilarVaga(vaga)));
+    }
+
+    /**
+     * Atualiza a vaga no índice após o commit da transação corrente (ou imediatamente
+     * quando não há transação). Vagas que não estão ativas são removidas.
+     * @param vaga Vaga criada ou alterada
+     */
+    public void atualizarVaga(JobPosting vaga) {
+        if (vaga.getId() == null) {
+            return;
+        }
+        if (!"ativa".equalsIgnoreCase(vaga.getStatus())) {
+            removerVaga(vaga.getId());
+            return;
+        }
+        // As features são compiladas agora, enquanto as skills ainda podem ser carregadas
+        MatchFeatures.Vaga features = matchFeaturesService.compilarVaga(vaga);
+        TransactionUtils.aposCommit(() -> aplicar(features));
+    }
+
+    /**
+     * Remove a vaga do índice após o commit da transação corrente
+     * @param vagaId ID da vaga
+     */
+    public void removerVaga(Long vagaId) {
+        TransactionUtils.aposCommit(() -> remover(vagaId));
+    }
+
+    /**
+     * Seleciona as vagas ativas candidatas para um perfil: as que compartilham ao menos
+     * uma skill (listas do índice invertido), as que não exigem skills e as demais que ainda
+     * podem atingir a compatibilidade mínima sem skills em comum. Estas só são conferidas vaga
+     * a vaga nos grupos cujo teto ({@link MatchScorer#calcularTetoSemSkills}) alcança o mínimo.
+     * @param perfil Features do perfil
+     * @param minimo Compatibilidade mínima
+     * @return IDs das vagas candidatas
+     */
+    public Set<Long> buscarCandidatas(MatchFeatures.Perfil perfil, double minimo) {
+        long[] skillBitsPerfil = perfil.getSkillBits();
+        Set<Long> candidatas = new LinkedHashSet<>();
+        for (int palavra = 0; palavra < skillBitsPerfil.length; palavra++) {
+            long bits = skillBitsPerfil[palavra];
+            while (bits != 0) {
+                int skillId = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Set<Long> ids = vagasPorSkill.get(skillId);
+                if (ids != null) {
+                    candidatas.addAll(ids);
+                }
+            }
+        }
+        candidatas.addAll(vagasSemSkills);
+        for (Set<Long> grupo : vagasPorGrupo.values()) {
+            MatchFeatures.Vaga representante = primeira(grupo);
+            if (representante == null || matchScorer.calcularTetoSemSkills(perfil, representante) < minimo) {
+                continue;
+            }
+            for (Long vagaId : grupo) {
+                if (candidatas.contains(vagaId)) {
+                    continue;
+                }
+                MatchFeatures.Vaga vaga = vagas.get(vagaId);
+                if (vaga != null && matchScorer.calcularCompatibilidadeMaximaSemSkills(perfil, vaga) >= minimo) {
+                    candidatas.add(vagaId);
+                }
+            }
+        }
+        return candidatas;
+    }
+
+    /**
+     * Busca as vagas ativas não remotas a até {@code raioKm} de um ponto, consultando apenas
+     * as células da grade que cobrem o raio e conferindo a distância exata de cada vaga
+     * @param latitude Latitude do ponto
+     * @param longitude Longitude do ponto
+     * @param raioKm Raio da busca em quilômetros
+     * @return IDs das vagas dentro do raio
+     */
+    public Set<Long> buscarProximas(double latitude, double longitude, double raioKm) {
+        Set<Long> proximas = new LinkedHashSet<>();
+        if (Double.isNaN(latitude) || Double.isNaN(longitude) || raioKm < 0) {
+            return proximas;
+        }
+        double deltaLatitude = raioKm / KM_POR_GRAU;
+        double deltaLongitude = raioKm / (KM_POR_GRAU * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+        int linhaInicial = indiceCelula(latitude - deltaLatitude);
+        int linhaFinal = indiceCelula(latitude + deltaLatitude);
+        int colunaInicial = indiceCelula(longitude - deltaLongitude);
+        int colunaFinal = indiceCelula(longitude + deltaLongitude);
+        for (int linha = linhaInicial; linha <= linhaFinal; linha++) {
+            for (int coluna = colunaInicial; coluna <= colunaFinal; coluna++) {
+                Set<Long> ids = vagasPorCelula.get(celula(linha, coluna));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long vagaId : ids) {
+                    MatchFeatures.Vaga vaga = vagas.get(vagaId);
+                    if (vaga != null && Gazetteer.distanciaKm(latitude, longitude,
+                            vaga.getLatitude(), vaga.getLongitude()) <= raioKm) {
+                        proximas.add(vagaId);
+                    }
+                }
+            }
+        }
+        return proximas;
+    }
+
+    /**
+     * Busca as features de uma vaga ativa
+     * @param vagaId ID da vaga
+     * @return Features da vaga ou null se ela não estiver ativa no índice
+     */
+    public MatchFeatures.Vaga getVaga(Long vagaId) {
+        return vagas.get(vagaId);
+    }
+
+    /**
+     * @return Features de todas as vagas ativas indexadas
+     */
+    public Collection<MatchFeatures.Vaga> getVagas() {
+        return vagas.values();
+    }
+
+    /**
+     * @return Quantidade de vagas ativas indexadas
+     */
+    public int tamanho() {
+        return vagas.size();
+    }
+
+    private MatchFeatures.Vaga primeira(Set<Long> grupo) {
+        for (Long vagaId : grupo) {
+            MatchFeatures.Vaga vaga = vagas.get(vagaId);
+            if (vaga != null) {
+                return vaga;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void aplicar(MatchFeatures.Vaga vaga) {
+        remover(vaga.getVagaId());
+        vagas.put(vaga.getVagaId(), vaga);
+        if (vaga.getSkills().length == 0) {
+            vagasSemSkills.add(vaga.getVagaId());
+        } else {
+            vagasPorGrupo.computeIfAbsent(MatchScorer.GrupoSemSkills.de(vaga), k -> ConcurrentHashMap.newKeySet())
+                    .add(vaga.getVagaId());
+        }
+        for (String skill : vaga.getSkills()) {
+            vagasPorSkill.computeIfAbsent(skillDictionary.getOuRegistrar(skill), k -> ConcurrentHashMap.newKeySet())
+                    .add(vaga.getVagaId());
+        }
+        if (estaNaGrade(vaga)) {
+            vagasPorCelula.computeIfAbsent(celula(vaga), k -> ConcurrentHashMap.newKeySet()).add(vaga.getVagaId());
+        }
+    }
+
+    private synchronized void remover(Long vagaId) {
+        MatchFeatures.Vaga anterior = vagas.remove(vagaId);
+        if (anterior == null) {
+            return;
+        }
+        if (anterior.getSkills().length == 0) {
+            vagasSemSkills.remove(vagaId);
+        } else {
+            MatchScorer.GrupoSemSkills grupo = MatchScorer.GrupoSemSkills.de(anterior);
+            Set<Long> ids = vagasPorGrupo.get(grupo);
+            if (ids != null) {
+                ids.remove(vagaId);
+                if (ids.isEmpty()) {
+                    vagasPorGrupo.remove(grupo);
+                }
+            }
+        }
+        for (String skill : anterior.getSkills()) {
+            Integer skillId = skillDictionary.getOuRegistrar(skill);
+            Set<Long> ids = vagasPorSkill.get(skillId);
+            if (ids != null) {
+                ids.remove(vagaId);
+                if (ids.isEmpty()) {
+                    vagasPorSkill.remove(skillId);
+                }
+            }
+        }
+        if (estaNaGrade(anterior)) {
+            Long celula = celula(anterior);
+            Set<Long> ids = vagasPorCelula.get(celula);
+            if (ids != null) {
+                ids.remove(vagaId);
+                if (ids.isEmpty()) {
+                    vagasPorCelula.remove(celula);
+                }
+            }
+        }
+    }
+
+    private static boolean estaNaGrade(MatchFeatures.Vaga vaga) {
+        return vaga.getModalidade() != MatchFeatures.Modalidade.REMOTO && vaga.temCoordenadas();
+    }
+
+    private static int indiceCelula(double graus) {
+        return (int) Math.floor(graus / TAMANHO_CELULA_GRAUS);
+    }
+
+    private static long celula(MatchFeatures.Vaga vaga) {
+        return celula(indiceCelula(vaga.getLatitude()), indiceCelula(vaga.getLongitude()));
+    }
+
+    /**
+     * Chave da célula: linha nos 32 bits altos e coluna nos 32 bits baixos
+     */
+    private static long celula(int linha, int coluna) {
+        return ((long) linha << 32) | (coluna & 0xFFFFFFFFL);
+    }
+}
@@ -3,12 +3,21 @@ package com.example.devmatch.job_posting_backend.service;
 import com.example.devmatch.job_posting_backend.dto.JobPostingDto;
 import com.example.devmatch.job_posting_backend.entity.JobPosting;
 import com.example.devmatch.job_posting_backend.entity.JobSkill;
+import com.example.devmatch.job_posting_backend.entity.PerfilEmpresa;
 import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
 import com.example.devmatch.job_posting_backend.repository.PerfilEmpresaRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,12 +27,34 @@ import java.util.Optional;
 @Service
 public class JobPostingService {
 
+    // Quantidade máxima de nomes de empresa em cache e de IDs por consulta IN
+    private static final int LIMITE_CACHE_NOMES = 1000;
+    private static final int TAMANHO_LOTE_NOMES = 1000;
+
+    // Cache LRU de nomes de empresa por ID do usuário (Optional vazio = empresa sem perfil)
+    private final Map<Long, Optional<String>> cacheNomesEmpresa = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Optional<String>> maisAntigo) {
+                    return size() > LIMITE_CACHE_NOMES;
+                }
+            });
+
     @Autowired
     private JobPostingRepository repository;
     
     @Autowired
     private PerfilEmpresaRepository perfilEmpresaRepository;
 
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private JobMatchMaterializer jobMatchMaterializer;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
     /**
      * Cria uma nova vaga de emprego
      * @param job Vaga a ser criada
@@ -39,7 +70,11 @@ public class JobPostingService {
         if (job.getMatches() == null) {
             job.setMatches(0);
         }
-        return repository.save(job);
+        resolverCoordenadas(job);
+        JobPosting saved = repository.save(job);
+        jobMatchingIndex.atualizarVaga(saved);
+        jobMatchMaterializer.agendarVaga(saved.getId());
+        return saved;
     }
 
     /**
@@ -91,6 +126,7 @@ public class JobPostingService {
         job.setModeloRemuneracao(dto.getModeloRemuneracao());
         job.setValorReferencia(dto.getValorReferencia());
         job.setLocalModalidade(dto.getLocalModalidade());
+        job.setLocalizacao(dto.getLocalizacao());
         job.setPrazoEstimado(dto.getPrazoEstimado());
         job.setAnexo(dto.getAnexo());
 
@@ -107,7 +143,57 @@ public class JobPostingService {
             });
         }
 
-        return repository.save(job);
+        resolverCoordenadas(job);
+        JobPosting saved = repository.save(job);
+        jobMatchingIndex.atualizarVaga(saved);
+        jobMatchMaterializer.agendarVaga(saved.getId());
+        return saved;
+    }
+
+    /**
+     * Preenche as coordenadas da vaga a partir da sua localização ou, se ela estiver vazia,
+     * da localização do perfil da empresa. Localizações não reconhecidas deixam as coordenadas nulas.
+     * @param job Vaga a ser salva
+     */
+    private void resolverCoordenadas(JobPosting job) {
+        Gazetteer.Localidade localidade = gazetteer.resolver(localizacaoEfetiva(job));
+        job.setLatitude(localidade != null ? localidade.latitude() : null);
+        job.setLongitude(localidade != null ? localidade.longitude() : null);
+    }
+
+    /**
+     * Recalcula as coordenadas das vagas da empresa que usam a localização do perfil dela
+     * (vagas sem localização própria) após a empresa alterar a localização
+     * @param usuarioId ID do usuário (empresa)
+     */
+    @Transactional
+    public void atualizarLocalizacaoEmpresa(Long usuarioId) {
+        for (JobPosting job : repository.findByUsuarioIdWithSkills(usuarioId)) {
+            if (job.getLocalizacao() != null && !job.getLocalizacao().isBlank()) {
+                continue;
+            }
+            resolverCoordenadas(job);
+            JobPosting saved = repository.save(job);
+            jobMatchingIndex.atualizarVaga(saved);
+            jobMatchMaterializer.agendarVaga(saved.getId());
+        }
+    }
+
+    /**
+     * Localização considerada para a vaga: a informada nela ou a do perfil da empresa
+     * @param job Vaga
+     * @return Localização em texto livre ou null
+     */
+    public String localizacaoEfetiva(JobPosting job) {
+        if (job.getLocalizacao() != null && !job.getLocalizacao().isBlank()) {
+            return job.getLocalizacao();
+        }
+        if (job.getUsuarioId() == null) {
+            return null;
+        }
+        return perfilEmpresaRepository.findByUsuarioId(job.getUsuarioId())
+                .map(PerfilEmpresa::getLocalizacao)
+                .orElse(null);
     }
 
     /**
@@ -123,7 +209,10 @@ public class JobPostingService {
                 .orElseThrow(() -> new RuntimeException("Vaga não encontrada com ID: " + id));
         
         job.setStatus(status);
-        return repository.save(job);
+        JobPosting saved = repository.save(job);
+        jobMatchingIndex.atualizarVaga(saved);
+        jobMatchMaterializer.agendarVaga(saved.getId());
+        return saved;
     }
 
     /**
@@ -137,6 +226,8 @@ public class JobPostingService {
             throw new RuntimeException("Vaga não encontrada com ID: " + id);
         }
         repository.deleteById(id);
+        jobMatchingIndex.removerVaga(id);
+        jobMatchMaterializer.agendarVaga(id);
     }
     
     /**
@@ -148,8 +239,52 @@ public class JobPostingService {
         if (usuarioId == null) {
             return null;
         }
-        return perfilEmpresaRepository.findByUsuarioId(usuarioId)
-                .map(perfil -> perfil.getNomeEmpresa())
-                .orElse(null);
+        return getNomesEmpresa(List.of(usuarioId)).get(usuarioId);
+    }
+
+    /**
+     * Busca os nomes das empresas de vários usuários. Os nomes em cache são reaproveitados e
+     * os demais são buscados em uma única consulta IN (em lotes de {@value #TAMANHO_LOTE_NOMES} IDs).
+     * @param usuarioIds IDs dos usuários (empresas)
+     * @return Nome da empresa por ID do usuário (ausente se a empresa não tiver perfil)
+     */
+    public Map<Long, String> getNomesEmpresa(Collection<Long> usuarioIds) {
+        Map<Long, String> nomes = new HashMap<>();
+        List<Long> faltantes = new ArrayList<>();
+        for (Long usuarioId : new LinkedHashSet<>(usuarioIds)) {
+            if (usuarioId == null) {
+                continue;
+            }
+            Optional<String> nome = cacheNomesEmpresa.get(usuarioId);
+            if (nome == null) {
+                faltantes.add(usuarioId);
+            } else {
+                nome.ifPresent(valor -> nomes.put(usuarioId, valor));
+            }
+        }
+        for (int i = 0; i < faltantes.size(); i += TAMANHO_LOTE_NOMES) {
+            List<Long> lote = faltantes.subList(i, Math.min(i + TAMANHO_LOTE_NOMES, faltantes.size()));
+            Map<Long, String> encontrados = new HashMap<>();
+            for (Object[] linha : perfilEmpresaRepository.findNomesEmpresaByUsuarioIds(lote)) {
+                encontrados.put((Long) linha[0], (String) linha[1]);
+            }
+            for (Long usuarioId : lote) {
+                String nome = encontrados.get(usuarioId);
+                cacheNomesEmpresa.put(usuarioId, Optional.ofNullable(nome));
+                if (nome != null) {
+                    nomes.put(usuarioId, nome);
+                }
+            }
+        }
+        return nomes;
+    }
+
+    /**
+     * Descarta o nome em cache de uma empresa após o commit da transação corrente
+     * @param usuarioId ID do usuário (empresa)
+     */
+    public void invalidarNomeEmpresa(Long usuarioId) {
+        cacheNomesEmpresa.remove(usuarioId);
+        TransactionUtils.aposCommit(() -> cacheNomesEmpresa.remove(usuarioId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Representações "compiladas" de vagas e perfis usadas pelo matching.
+ * Todo o trabalho com strings (lowercase, regex, parse de salário) é feito uma única vez
+ * na compilação, e o cálculo de compatibilidade passa a comparar enums, máscaras de bits
+ * e inteiros. As instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class MatchFeatures {
+
+    private MatchFeatures() {
+    }
+
+    /**
+     * Modalidade de trabalho, na ordem de precedência usada pelo matching
+     */
+    public enum Modalidade {
+        REMOTO, HIBRIDO, PRESENCIAL, OUTRA, NAO_INFORMADA
+    }
+
+    /**
+     * Tipos de contrato reconhecidos no texto do regime/preferência.
+     * Um mesmo texto pode conter mais de um tipo (ex.: "CLT ou PJ"), por isso são
+     * combinados em uma máscara de bits.
+     */
+    public enum TipoContrato {
+        CLT, PJ, FREELANCE, COOPERADO, CONTRATO;
+
+        public int bit() {
+            return 1 << ordinal();
+        }
+
+        public static boolean presente(int mascara, TipoContrato tipo) {
+            return (mascara & tipo.bit()) != 0;
+        }
+    }
+
+    /**
+     * Situação da faixa salarial após o parse
+     */
+    public enum EstadoSalario {
+        NAO_INFORMADO, A_COMBINAR, FAIXA, SEM_FAIXA, INVALIDO
+    }
+
+    // Áreas reconhecidas nos títulos de vaga e nas preferências do desenvolvedor
+    public static final int AREA_FULL = 1;
+    public static final int AREA_FRONT = 1 << 1;
+    public static final int AREA_BACK = 1 << 2;
+
+    /**
+     * Faixa salarial já interpretada
+     */
+    public static class Salario {
+        public static final Salario NAO_INFORMADO = new Salario(EstadoSalario.NAO_INFORMADO, 0, 0);
+
+        private final EstadoSalario estado;
+        private final int minimo;
+        private final int maximo;
+
+        public Salario(EstadoSalario estado, int minimo, int maximo) {
+            this.estado = estado;
+            this.minimo = minimo;
+            this.maximo = maximo;
+        }
+
+        public EstadoSalario getEstado() { return estado; }
+        public int getMinimo() { return minimo; }
+        public int getMaximo() { return maximo; }
+    }
+
+    /**
+     * Tipo de contrato já interpretado: ID do texto normalizado (para match exato)
+     * e máscara dos tipos reconhecidos. ID negativo indica valor não informado.
+     */
+    public static class Contrato {
+        public static final Contrato NAO_INFORMADO = new Contrato(null, -1, 0);
+
+        private final String original;
+        private final int id;
+        private final int tipos;
+
+        public Contrato(String original, int id, int tipos) {
+            this.original = original;
+            this.id = id;
+            this.tipos = tipos;
+        }
+
+        public boolean isInformado() { return id >= 0; }
+        public String getOriginal() { return original; }
+        public int getId() { return id; }
+        public int getTipos() { return tipos; }
+    }
+
+    /**
+     * Features de uma vaga
+     */
+    public static class Vaga {
+        private final Long vagaId;
+        private final Long usuarioId;
+        private final String titulo;
+        private final String tituloNormalizado;
+        private final int areasTitulo;
+        private final String localModalidade;
+        private final String localModalidadeNormalizada;
+        private final Modalidade modalidade;
+        private final String localizacaoNormalizada;
+        // Coordenadas do município da vaga (NaN quando a localização não foi reconhecida)
+        private final double latitude;
+        private final double longitude;
+        private final String valorReferencia;
+        private final Salario salario;
+        private final Contrato regime;
+        private final String[] skills;
+        private final long[] skillBits;
+        // Referência compartilhada com as demais vagas da empresa; o conteúdo é trocado ao publicar novos pesos
+        private final AtomicReference<PlanoPontuacao> plano;
+
+        public Vaga(Long vagaId, Long usuarioId, String titulo, String tituloNormalizado, int areasTitulo,
+                    String localModalidade, String localModalidadeNormalizada, Modalidade modalidade,
+                    String localizacaoNormalizada, double latitude, double longitude, String valorReferencia, Salario salario, Contrato regime, String[] skills, long[] skillBits,
+                    AtomicReference<PlanoPontuacao> plano) {
+            this.vagaId = vagaId;
+            this.usuarioId = usuarioId;
+            this.titulo = titulo;
+            this.tituloNormalizado = tituloNormalizado;
+            this.areasTitulo = areasTitulo;
+            this.localModalidade = localModalidade;
+            this.localModalidadeNormalizada = localModalidadeNormalizada;
+            this.modalidade = modalidade;
+            this.localizacaoNormalizada = localizacaoNormalizada;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.valorReferencia = valorReferencia;
+            this.salario = salario;
+            this.regime = regime;
+            this.skills = skills;
+            this.skillBits = skillBits;
+            this.plano = plano;
+        }
+
+        public Long getVagaId() { return vagaId; }
+        public Long getUsuarioId() { return usuarioId; }
+        public String getTitulo() { return titulo; }
+        public String getTituloNormalizado() { return tituloNormalizado; }
+        public int getAreasTitulo() { return areasTitulo; }
+        public String getLocalModalidade() { return localModalidade; }
+        public String getLocalModalidadeNormalizada() { return localModalidadeNormalizada; }
+        public Modalidade getModalidade() { return modalidade; }
+        public String getLocalizacaoNormalizada() { return localizacaoNormalizada; }
+        public double getLatitude() { return latitude; }
+        public double getLongitude() { return longitude; }
+        public boolean temCoordenadas() { return !Double.isNaN(latitude) && !Double.isNaN(longitude); }
+        public String getValorReferencia() { return valorReferencia; }
+        public Salario getSalario() { return salario; }
+        public Contrato getRegime() { return regime; }
+        public String[] getSkills() { return skills; }
+        public long[] getSkillBits() { return skillBits; }
+        public PlanoPontuacao getPlano() { return plano.get(); }
+    }
+
+    /**
+     * Features do perfil de um desenvolvedor
+     */
+    public static class Perfil {
+        private final Long usuarioId;
+        private final Modalidade modalidade;
+        private final String localizacaoNormalizada;
+        // Coordenadas do município do desenvolvedor (NaN quando a localização não foi reconhecida)
+        private final double latitude;
+        private final double longitude;
+        private final Salario salario;
+        private final Contrato tipoContrato;
+        private final String[] preferencias;
+        private final String[] preferenciasNormalizadas;
+        private final int[] areasPreferencias;
+        private final int areasPreferenciasUniao;
+        private final long[] skillBits;
+
+        public Perfil(Long usuarioId, Modalidade modalidade, String localizacaoNormalizada,
+                      double latitude, double longitude, Salario salario,
+                      Contrato tipoContrato, String[] preferencias, String[] preferenciasNormalizadas,
+                      int[] areasPreferencias, long[] skillBits) {
+            this.usuarioId = usuarioId;
+            this.modalidade = modalidade;
+            this.localizacaoNormalizada = localizacaoNormalizada;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.salario = salario;
+            this.tipoContrato = tipoContrato;
+            this.preferencias = preferencias;
+            this.preferenciasNormalizadas = preferenciasNormalizadas;
+            this.areasPreferencias = areasPreferencias;
+            int uniao = 0;
+            for (int areas : areasPreferencias) {
+                uniao |= areas;
+            }
+            this.areasPreferenciasUniao = uniao;
+            this.skillBits = skillBits;
+        }
+
+        public Long getUsuarioId() { return usuarioId; }
+        public Modalidade getModalidade() { return modalidade; }
+        public String getLocalizacaoNormalizada() { return localizacaoNormalizada; }
+        public double getLatitude() { return latitude; }
+        public double getLongitude() { return longitude; }
+        public boolean temCoordenadas() { return !Double.isNaN(latitude) && !Double.isNaN(longitude); }
+        public Salario getSalario() { return salario; }
+        public Contrato getTipoContrato() { return tipoContrato; }
+        public String[] getPreferencias() { return preferencias; }
+        public String[] getPreferenciasNormalizadas() { return preferenciasNormalizadas; }
+        public int[] getAreasPreferencias() { return areasPreferencias; }
+        public int getAreasPreferenciasUniao() { return areasPreferenciasUniao; }
+        public long[] getSkillBits() { return skillBits; }
+    }
+}
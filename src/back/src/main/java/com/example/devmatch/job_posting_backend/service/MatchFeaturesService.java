@@ -0,0 +1,344 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.Habilidade;
+import com.example.devmatch.job_posting_backend.entity.JobPosting;
+import com.example.devmatch.job_posting_backend.entity.JobSkill;
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.repository.PerfilDevRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço que compila vagas e perfis em {@link MatchFeatures} e mantém em cache as
+ * features dos perfis de desenvolvedores (LRU de até {@value #LIMITE_CACHE_PERFIS}). As features
+ * das vagas ativas ficam no {@link JobMatchingIndex}; as dos perfis são invalidadas sempre que o
+ * perfil é salvo.
+ */
+@Service
+public class MatchFeaturesService {
+
+    // Quantidade máxima de IDs por consulta IN ao carregar perfis em lote
+    private static final int TAMANHO_LOTE = 1000;
+
+    // Quantidade máxima de perfis com features em cache
+    private static final int LIMITE_CACHE_PERFIS = 20_000;
+
+    @Autowired
+    private PerfilDevRepository perfilDevRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private SkillCanonicalizer skillCanonicalizer;
+
+    @Autowired
+    private PlanosPontuacao planosPontuacao;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    // Cache LRU: ID do usuário -> features do perfil
+    private final Map<Long, MatchFeatures.Perfil> perfis = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, MatchFeatures.Perfil> maisAntigo) {
+                    return size() > LIMITE_CACHE_PERFIS;
+                }
+            });
+
+    // Invalidações feitas até agora; um perfil compilado enquanto este número mudou pode ter
+    // sido lido antes do commit que o alterou e não fica no cache
+    private final AtomicLong invalidacoes = new AtomicLong();
+
+    // Texto de regime/tipo de contrato normalizado -> ID (para match exato por inteiro)
+    private final Map<String, Integer> idsContrato = new ConcurrentHashMap<>();
+    private final AtomicInteger proximoIdContrato = new AtomicInteger();
+
+    /**
+     * Busca as features do perfil de um desenvolvedor, compilando e guardando em cache se necessário.
+     * Deve ser chamado dentro de uma transação para permitir carregar as habilidades.
+     * @param usuarioId ID do desenvolvedor
+     * @return Features do perfil
+     * @throws RuntimeException se o perfil não existir
+     */
+    public MatchFeatures.Perfil getPerfil(Long usuarioId) {
+        MatchFeatures.Perfil features = perfis.get(usuarioId);
+        if (features != null) {
+            return features;
+        }
+        long geracao = invalidacoes.get();
+        PerfilDev perfil = perfilDevRepository.findByUsuarioId(usuarioId)
+                .orElseThrow(() -> new RuntimeException("Perfil não encontrado"));
+        features = compilarPerfil(perfil);
+        guardar(usuarioId, features, geracao);
+        return features;
+    }
+
+    /**
+     * Busca em lote as features dos perfis informados. Os que não estão em cache são
+     * carregados com as habilidades em consultas IN de até {@value #TAMANHO_LOTE} IDs.
+     * Usuários sem perfil são ignorados.
+     * @param usuarioIds IDs dos desenvolvedores
+     * @return Features por ID do usuário
+     */
+    public Map<Long, MatchFeatures.Perfil> getPerfis(Collection<Long> usuarioIds) {
+        Map<Long, MatchFeatures.Perfil> resultado = new HashMap<>();
+        List<Long> faltantes = new ArrayList<>();
+        for (Long usuarioId : usuarioIds) {
+            MatchFeatures.Perfil features = perfis.get(usuarioId);
+            if (features != null) {
+                resultado.put(usuarioId, features);
+            } else if (usuarioId != null) {
+                faltantes.add(usuarioId);
+            }
+        }
+        for (int i = 0; i < faltantes.size(); i += TAMANHO_LOTE) {
+            List<Long> lote = faltantes.subList(i, Math.min(i + TAMANHO_LOTE, faltantes.size()));
+            long geracao = invalidacoes.get();
+            for (PerfilDev perfil : perfilDevRepository.findAllByUsuarioIdInWithHabilidades(lote)) {
+                MatchFeatures.Perfil features = compilarPerfil(perfil);
+                guardar(perfil.getUsuarioId(), features, geracao);
+                resultado.put(perfil.getUsuarioId(), features);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Descarta as features em cache de um perfil após o commit da transação corrente
+     * @param usuarioId ID do desenvolvedor
+     */
+    public void invalidarPerfil(Long usuarioId) {
+        descartar(usuarioId);
+        TransactionUtils.aposCommit(() -> descartar(usuarioId));
+    }
+
+    private void descartar(Long usuarioId) {
+        invalidacoes.incrementAndGet();
+        perfis.remove(usuarioId);
+    }
+
+    /**
+     * Guarda as features compiladas a partir de uma leitura iniciada na geração informada.
+     * Grava antes e confere depois: se alguma invalidação aconteceu desde a leitura, a entrada
+     * é retirada (só se ainda for a mesma); uma invalidação posterior à conferência já a remove.
+     */
+    private void guardar(Long usuarioId, MatchFeatures.Perfil features, long geracao) {
+        perfis.put(usuarioId, features);
+        if (invalidacoes.get() != geracao) {
+            perfis.remove(usuarioId, features);
+        }
+    }
+
+    /**
+     * Compila as features de um perfil
+     * @param perfil Perfil com as habilidades carregadas
+     * @return Features do perfil
+     */
+    public MatchFeatures.Perfil compilarPerfil(PerfilDev perfil) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (perfil.getHabilidades() != null) {
+            for (Habilidade habilidade : perfil.getHabilidades()) {
+                String skill = skillCanonicalizer.canonizar(habilidade.getHabilidade());
+                if (!skill.isEmpty()) {
+                    skills.add(skill);
+                }
+            }
+        }
+
+        List<String> preferencias = new ArrayList<>();
+        if (perfil.getPreferenciasVaga() != null) {
+            for (String preferencia : perfil.getPreferenciasVaga()) {
+                if (preferencia != null) {
+                    preferencias.add(preferencia);
+                }
+            }
+        }
+        String[] preferenciasNormalizadas = new String[preferencias.size()];
+        int[] areasPreferencias = new int[preferencias.size()];
+        for (int i = 0; i < preferencias.size(); i++) {
+            preferenciasNormalizadas[i] = preferencias.get(i).toLowerCase();
+            areasPreferencias[i] = extrairAreas(preferenciasNormalizadas[i]);
+        }
+
+        double[] coordenadas = compilarCoordenadas(perfil.getLatitude(), perfil.getLongitude(), perfil.getLocalizacao());
+        return new MatchFeatures.Perfil(
+                perfil.getUsuarioId(),
+                compilarModalidade(perfil.getModoTrabalho()),
+                perfil.getLocalizacao() != null ? perfil.getLocalizacao().toLowerCase() : null,
+                coordenadas[0],
+                coordenadas[1],
+                compilarSalario(perfil.getFaixaSalarial()),
+                compilarContrato(perfil.getTipoContrato()),
+                preferencias.toArray(new String[0]),
+                preferenciasNormalizadas,
+                areasPreferencias,
+                skillDictionary.criarBitset(skills));
+    }
+
+    /**
+     * Compila as features de uma vaga
+     * @param vaga Vaga com as skills carregadas
+     * @return Features da vaga
+     */
+    public MatchFeatures.Vaga compilarVaga(JobPosting vaga) {
+        Set<String> skills = new LinkedHashSet<>();
+        if (vaga.getSkills() != null) {
+            for (JobSkill skill : vaga.getSkills()) {
+                String normalizada = skillCanonicalizer.canonizar(skill.getSkill());
+                if (!normalizada.isEmpty()) {
+                    skills.add(normalizada);
+                }
+            }
+        }
+        String titulo = vaga.getTitle() != null ? vaga.getTitle().toLowerCase() : "";
+        double[] coordenadas = compilarCoordenadas(vaga.getLatitude(), vaga.getLongitude(), vaga.getLocalizacao());
+        return new MatchFeatures.Vaga(
+                vaga.getId(),
+                vaga.getUsuarioId(),
+                vaga.getTitle(),
+                titulo,
+                extrairAreas(titulo),
+                vaga.getLocalModalidade(),
+                vaga.getLocalModalidade() != null ? vaga.getLocalModalidade().toLowerCase() : null,
+                compilarModalidade(vaga.getLocalModalidade()),
+                vaga.getLocalizacao() != null && !vaga.getLocalizacao().isBlank() ? vaga.getLocalizacao().toLowerCase() : null,
+                coordenadas[0],
+                coordenadas[1],
+                vaga.getValorReferencia(),
+                compilarSalario(vaga.getValorReferencia()),
+                compilarContrato(vaga.getRegime()),
+                skills.toArray(new String[0]),
+                skillDictionary.criarBitset(skills),
+                planosPontuacao.referencia(vaga.getUsuarioId()));
+    }
+
+    /**
+     * @return Quantidade de perfis com features em cache
+     */
+    public int tamanhoCachePerfis() {
+        return perfis.size();
+    }
+
+    /**
+     * Coordenadas gravadas no registro ou, para registros salvos antes delas existirem,
+     * as do município reconhecido na localização em texto livre
+     * @return {latitude, longitude}, com NaN quando a localização é desconhecida
+     */
+    private double[] compilarCoordenadas(Double latitude, Double longitude, String localizacao) {
+        if (latitude != null && longitude != null) {
+            return new double[] {latitude, longitude};
+        }
+        Gazetteer.Localidade localidade = gazetteer.resolver(localizacao);
+        return localidade != null
+                ? new double[] {localidade.latitude(), localidade.longitude()}
+                : new double[] {Double.NaN, Double.NaN};
+    }
+
+    private MatchFeatures.Modalidade compilarModalidade(String modalidade) {
+        if (modalidade == null) {
+            return MatchFeatures.Modalidade.NAO_INFORMADA;
+        }
+        String valor = modalidade.toLowerCase();
+        if (valor.contains("remoto")) {
+            return MatchFeatures.Modalidade.REMOTO;
+        }
+        if (valor.contains("híbrido")) {
+            return MatchFeatures.Modalidade.HIBRIDO;
+        }
+        if (valor.contains("presencial")) {
+            return MatchFeatures.Modalidade.PRESENCIAL;
+        }
+        return MatchFeatures.Modalidade.OUTRA;
+    }
+
+    private MatchFeatures.Salario compilarSalario(String faixa) {
+        if (faixa == null) {
+            return MatchFeatures.Salario.NAO_INFORMADO;
+        }
+        String valor = faixa.toLowerCase();
+        if (valor.contains("combinar")) {
+            return new MatchFeatures.Salario(MatchFeatures.EstadoSalario.A_COMBINAR, 0, 0);
+        }
+        // Extrai números da string (mesma regra usada anteriormente a cada comparação)
+        String[] valores = valor.replaceAll("[^0-9-]", "").split("-");
+        if (valores.length < 2) {
+            return new MatchFeatures.Salario(MatchFeatures.EstadoSalario.SEM_FAIXA, 0, 0);
+        }
+        try {
+            int minimo = Integer.parseInt(valores[0].trim());
+            int maximo = Integer.parseInt(valores[1].trim());
+            return new MatchFeatures.Salario(MatchFeatures.EstadoSalario.FAIXA, minimo, maximo);
+        } catch (NumberFormatException e) {
+            return new MatchFeatures.Salario(MatchFeatures.EstadoSalario.INVALIDO, 0, 0);
+        }
+    }
+
+    private MatchFeatures.Contrato compilarContrato(String contrato) {
+        if (contrato == null) {
+            return MatchFeatures.Contrato.NAO_INFORMADO;
+        }
+        String normalizado = normalizarString(contrato);
+        int tipos = 0;
+        if (normalizado.contains("clt")) {
+            tipos |= MatchFeatures.TipoContrato.CLT.bit();
+        }
+        if (normalizado.contains("pj")) {
+            tipos |= MatchFeatures.TipoContrato.PJ.bit();
+        }
+        if (normalizado.contains("freelance")) {
+            tipos |= MatchFeatures.TipoContrato.FREELANCE.bit();
+        }
+        if (normalizado.contains("cooperado")) {
+            tipos |= MatchFeatures.TipoContrato.COOPERADO.bit();
+        }
+        if (normalizado.contains("contrato")) {
+            tipos |= MatchFeatures.TipoContrato.CONTRATO.bit();
+        }
+        int id = idsContrato.computeIfAbsent(normalizado, s -> proximoIdContrato.getAndIncrement());
+        return new MatchFeatures.Contrato(contrato, id, tipos);
+    }
+
+    private int extrairAreas(String texto) {
+        int areas = 0;
+        if (texto.contains("full")) {
+            areas |= MatchFeatures.AREA_FULL;
+        }
+        if (texto.contains("front")) {
+            areas |= MatchFeatures.AREA_FRONT;
+        }
+        if (texto.contains("back")) {
+            areas |= MatchFeatures.AREA_BACK;
+        }
+        return areas;
+    }
+
+    /**
+     * Normaliza uma string para comparação (lowercase, trim, remove espaços extras)
+     * @param str String a ser normalizada
+     * @return String normalizada
+     */
+    private String normalizarString(String str) {
+        // Normaliza: lowercase, trim, remove múltiplos espaços, remove caracteres especiais
+        // Remove apenas caracteres não alfanuméricos (mantém letras e números)
+        String normalized = str.toLowerCase().trim().replaceAll("\\s+", " ");
+        // Remove caracteres especiais mas mantém letras acentuadas normalizadas
+        normalized = normalized.replaceAll("[^a-z0-9]", "").trim();
+        return normalized;
+    }
+}
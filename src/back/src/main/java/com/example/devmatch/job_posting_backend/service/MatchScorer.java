@@ -0,0 +1,567 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.dto.JobMatchDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regras de pontuação da compatibilidade entre um perfil de desenvolvedor e uma vaga.
+ * Opera apenas sobre {@link MatchFeatures} já compiladas e não acessa o banco, podendo
+ * ser usado tanto nas consultas quanto na materialização dos matches. Pesos e fatores de
+ * crédito parcial vêm do {@link PlanoPontuacao} da empresa dona da vaga, lido uma vez por par.
+ */
+@Component
+public class MatchScorer {
+
+    // Compatibilidade mínima para uma vaga ser sugerida ao desenvolvedor
+    public static final double COMPATIBILIDADE_MINIMA = 60.0;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    // Distância máxima entre o município do desenvolvedor e o da vaga presencial para contar como mesma localização
+    @Value("${matching.presencial.raio-km:50}")
+    private double raioPresencialKm = 50;
+
+    /**
+     * Calcula o percentual de compatibilidade entre um perfil e uma vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga a ser analisada
+     * @return Percentual de compatibilidade (0-100)
+     */
+    public double calcularCompatibilidade(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        return calcularCompatibilidadeDetalhada(perfil, vaga, null);
+    }
+
+    /**
+     * @return Raio (km) dentro do qual uma vaga presencial é considerada na mesma localização do desenvolvedor
+     */
+    public double getRaioPresencialKm() {
+        return raioPresencialKm;
+    }
+
+    /**
+     * Calcula compatibilidade com detalhes
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga a ser analisada
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Percentual de compatibilidade (0-100)
+     */
+    public double calcularCompatibilidadeDetalhada(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga,
+                                                   JobMatchDto.MatchingDetails details) {
+        PlanoPontuacao plano = vaga.getPlano();
+        double pontuacao = 0.0;
+
+        // 1. LOCALIZAÇÃO/MODALIDADE (peso padrão: 20)
+        double pontuacaoLocalizacao = pontuarLocalizacao(plano, perfil, vaga, details);
+        pontuacao += pontuacaoLocalizacao;
+        if (details != null) {
+            details.setScoreLocalizacao(percentual(pontuacaoLocalizacao, plano.getPesoLocalizacao()));
+        }
+
+        // 2. FAIXA SALARIAL (peso padrão: 25)
+        double pontuacaoSalario = pontuarSalario(plano, perfil, vaga, details);
+        pontuacao += pontuacaoSalario;
+        if (details != null) {
+            details.setScoreSalario(percentual(pontuacaoSalario, plano.getPesoSalario()));
+        }
+
+        // 3. TIPO DE CONTRATO (peso padrão: 15)
+        double pontuacaoContrato = pontuarContrato(plano, perfil, vaga, details);
+        pontuacao += pontuacaoContrato;
+        if (details != null) {
+            details.setScoreContrato(percentual(pontuacaoContrato, plano.getPesoContrato()));
+        }
+
+        // 4. PREFERÊNCIAS DE VAGA (peso padrão: 15)
+        double pontuacaoPreferencias = pontuarPreferencias(plano, perfil, vaga, details);
+        pontuacao += pontuacaoPreferencias;
+        if (details != null) {
+            details.setScorePreferencias(percentual(pontuacaoPreferencias, plano.getPesoPreferencias()));
+        }
+
+        // 5. HABILIDADES/SKILLS (peso padrão: 25) - MAIS IMPORTANTE
+        double pontuacaoSkills = pontuarSkills(plano, perfil, vaga, details);
+        pontuacao += pontuacaoSkills;
+        if (details != null) {
+            details.setScoreSkills(percentual(pontuacaoSkills, plano.getPesoSkills()));
+        }
+
+        // Calcula percentual final
+        return (pontuacao / plano.getPesoTotal()) * 100.0;
+    }
+
+    /**
+     * Calcula a maior compatibilidade que a vaga pode atingir para o perfil caso nenhuma
+     * skill seja compartilhada (usada para descartar vagas antes do cálculo completo)
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @return Percentual máximo de compatibilidade (0-100)
+     */
+    public double calcularCompatibilidadeMaximaSemSkills(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        PlanoPontuacao plano = vaga.getPlano();
+        double pontuacao = pontuarLocalizacao(plano, perfil, vaga, null)
+                + pontuarSalario(plano, perfil, vaga, null)
+                + pontuarContrato(plano, perfil, vaga, null)
+                + pontuarPreferencias(plano, perfil, vaga, null)
+                + plano.getPesoSkills() * plano.getBonusSkills();
+        return (pontuacao / plano.getPesoTotal()) * 100.0;
+    }
+
+    /**
+     * Calcula a maior compatibilidade que a vaga pode atingir para o perfil olhando só as skills
+     * em comum (os demais critérios contam com o peso cheio). Mais barato que o cálculo completo,
+     * serve para ordenar as vagas antes de pontuá-las.
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @return Percentual máximo de compatibilidade (0-100)
+     */
+    public double calcularCompatibilidadeMaxima(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        PlanoPontuacao plano = vaga.getPlano();
+        double outros = plano.getPesoLocalizacao() + plano.getPesoSalario() + plano.getPesoContrato()
+                + plano.getPesoPreferencias();
+        return ((outros + pontuarSkills(plano, perfil, vaga, null)) / plano.getPesoTotal()) * 100.0;
+    }
+
+    /**
+     * Limite superior de {@link #calcularCompatibilidadeMaximaSemSkills} para todos os pares
+     * formados por um perfil do mesmo {@link GrupoPerfil} e uma vaga do mesmo
+     * {@link GrupoSemSkills} dos informados, usado pelos índices para descartar grupos inteiros
+     * sem olhar cada vaga ou perfil. O que varia dentro dos grupos (faixas salariais, municípios,
+     * textos dos regimes, preferências e título) entra com o maior valor possível.
+     * @param perfil Qualquer perfil do grupo
+     * @param vaga Qualquer vaga do grupo
+     * @return Percentual máximo de compatibilidade sem skills em comum (0-100)
+     */
+    public double calcularTetoSemSkills(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        PlanoPontuacao plano = vaga.getPlano();
+        double localizacao = vaga.getModalidade() == MatchFeatures.Modalidade.PRESENCIAL
+                && perfil.getModalidade() == MatchFeatures.Modalidade.PRESENCIAL
+                ? plano.getPesoLocalizacao() * Math.max(1.0, plano.getFatorPresencialOutraLocalizacao())
+                : pontuarLocalizacao(plano, perfil, vaga, null);
+        double salario = vaga.getSalario().getEstado() == MatchFeatures.EstadoSalario.FAIXA
+                && perfil.getSalario().getEstado() == MatchFeatures.EstadoSalario.FAIXA
+                ? plano.getPesoSalario() * Math.max(1.0, plano.getFatorSalarioSemOverlap())
+                : pontuarSalario(plano, perfil, vaga, null);
+        double contrato = vaga.getRegime().isInformado() && perfil.getTipoContrato().isInformado()
+                ? plano.getPesoContrato() * Math.max(1.0, Math.max(plano.getFatorContratoSimilar(), plano.getFatorContratoDiferente()))
+                : pontuarContrato(plano, perfil, vaga, null);
+        double preferencias = perfil.getPreferenciasNormalizadas().length > 0
+                ? plano.getPesoPreferencias() * Math.max(1.0, plano.getFatorPreferenciaDivergente())
+                : pontuarPreferencias(plano, perfil, vaga, null);
+        double pontuacao = localizacao + salario + contrato + preferencias
+                + plano.getPesoSkills() * plano.getBonusSkills();
+        return (pontuacao / plano.getPesoTotal()) * 100.0;
+    }
+
+    /**
+     * Calcula a compatibilidade e o percentual de cada critério, sem gerar os textos de detalhes
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @return Compatibilidade total e por critério (0-100)
+     */
+    public Componentes calcularComponentes(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        PlanoPontuacao plano = vaga.getPlano();
+        double localizacao = pontuarLocalizacao(plano, perfil, vaga, null);
+        double salario = pontuarSalario(plano, perfil, vaga, null);
+        double contrato = pontuarContrato(plano, perfil, vaga, null);
+        double preferencias = pontuarPreferencias(plano, perfil, vaga, null);
+        double skills = pontuarSkills(plano, perfil, vaga, null);
+        return new Componentes(
+                ((localizacao + salario + contrato + preferencias + skills) / plano.getPesoTotal()) * 100.0,
+                percentual(localizacao, plano.getPesoLocalizacao()),
+                percentual(salario, plano.getPesoSalario()),
+                percentual(contrato, plano.getPesoContrato()),
+                percentual(preferencias, plano.getPesoPreferencias()),
+                percentual(skills, plano.getPesoSkills()));
+    }
+
+    /**
+     * Percentual de um critério; critérios com peso zero contam como 0%
+     */
+    private static double percentual(double pontuacao, double peso) {
+        return peso > 0 ? (pontuacao / peso) * 100 : 0.0;
+    }
+
+    /**
+     * Verifica se um desenvolvedor e uma vaga presencial estão na mesma localização
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @return true se os municípios estão dentro do raio configurado (ou, sem coordenadas, se o texto coincide)
+     */
+    private boolean mesmaLocalizacao(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        // Com os dois municípios reconhecidos, compara pela distância entre eles
+        if (perfil.temCoordenadas() && vaga.temCoordenadas()) {
+            return Gazetteer.distanciaKm(perfil.getLatitude(), perfil.getLongitude(),
+                    vaga.getLatitude(), vaga.getLongitude()) <= raioPresencialKm;
+        }
+        // Caso contrário, verifica se a localização é similar pelo texto
+        String localVaga = vaga.getLocalizacaoNormalizada() != null
+                ? vaga.getLocalizacaoNormalizada()
+                : vaga.getLocalModalidadeNormalizada();
+        return perfil.getLocalizacaoNormalizada() != null && localVaga != null
+                && perfil.getLocalizacaoNormalizada().contains(localVaga);
+    }
+
+    /**
+     * Pontua o critério de localização/modalidade
+     * @param plano Plano de pontuação da vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Pontuação de 0 ao peso do critério no plano
+     */
+    private double pontuarLocalizacao(PlanoPontuacao plano, MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga, JobMatchDto.MatchingDetails details) {
+        double pontuacaoLocalizacao = plano.getPesoLocalizacao() * plano.getFatorNeutro(); // Valor padrão neutro
+        MatchFeatures.Modalidade vagaModalidade = vaga.getModalidade();
+        MatchFeatures.Modalidade perfilModalidade = perfil.getModalidade();
+
+        if (vagaModalidade != MatchFeatures.Modalidade.NAO_INFORMADA
+                && perfilModalidade != MatchFeatures.Modalidade.NAO_INFORMADA) {
+            // Remoto é compatível com todos
+            if (vagaModalidade == MatchFeatures.Modalidade.REMOTO || perfilModalidade == MatchFeatures.Modalidade.REMOTO) {
+                pontuacaoLocalizacao = plano.getPesoLocalizacao();
+                if (details != null) {
+                    details.getMotivosPositivos().add("Modalidade de trabalho compatível (remoto)");
+                }
+            }
+            // Híbrido é parcialmente compatível
+            else if (vagaModalidade == MatchFeatures.Modalidade.HIBRIDO || perfilModalidade == MatchFeatures.Modalidade.HIBRIDO) {
+                pontuacaoLocalizacao = plano.getPesoLocalizacao() * plano.getFatorHibrido();
+                if (details != null) {
+                    details.getMotivosPositivos().add("Modalidade híbrida oferece flexibilidade");
+                }
+            }
+            // Presencial precisa que o desenvolvedor esteja na mesma localização da vaga
+            else if (vagaModalidade == MatchFeatures.Modalidade.PRESENCIAL && perfilModalidade == MatchFeatures.Modalidade.PRESENCIAL) {
+                if (mesmaLocalizacao(perfil, vaga)) {
+                    pontuacaoLocalizacao = plano.getPesoLocalizacao();
+                    if (details != null) {
+                        details.getMotivosPositivos().add("Localização é compatível");
+                    }
+                } else {
+                    pontuacaoLocalizacao = plano.getPesoLocalizacao() * plano.getFatorPresencialOutraLocalizacao();
+                    if (details != null) {
+                        details.getSugestoesMelhoria().add("Considere vagas remotas ou híbridas para ampliar suas opções");
+                    }
+                }
+            } else {
+                pontuacaoLocalizacao = plano.getPesoLocalizacao() * plano.getFatorModalidadeDivergente();
+            }
+        } else if (details != null) {
+            details.getSugestoesMelhoria().add("Complete suas preferências de modalidade de trabalho no perfil");
+        }
+        return pontuacaoLocalizacao;
+    }
+
+    /**
+     * Pontua o critério de faixa salarial
+     * @param plano Plano de pontuação da vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Pontuação de 0 ao peso do critério no plano
+     */
+    private double pontuarSalario(PlanoPontuacao plano, MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga, JobMatchDto.MatchingDetails details) {
+        double pontuacaoSalario = plano.getPesoSalario() * plano.getFatorNeutro(); // Valor padrão neutro
+        MatchFeatures.Salario vagaSalario = vaga.getSalario();
+        MatchFeatures.Salario perfilSalario = perfil.getSalario();
+
+        if (vagaSalario.getEstado() != MatchFeatures.EstadoSalario.NAO_INFORMADO
+                && perfilSalario.getEstado() != MatchFeatures.EstadoSalario.NAO_INFORMADO) {
+            // Faixa "a combinar" em qualquer um dos lados é considerada flexível
+            if (vagaSalario.getEstado() == MatchFeatures.EstadoSalario.A_COMBINAR
+                    || perfilSalario.getEstado() == MatchFeatures.EstadoSalario.A_COMBINAR) {
+                pontuacaoSalario = plano.getPesoSalario() * plano.getFatorSalarioACombinar();
+                if (details != null) {
+                    details.getMotivosPositivos().add("Faixa salarial a combinar oferece flexibilidade");
+                }
+            } else {
+                // Calcula overlap de faixas salariais
+                double overlapSalarial = calcularOverlapSalarial(plano, vagaSalario, perfilSalario);
+                pontuacaoSalario = plano.getPesoSalario() * overlapSalarial;
+                if (details != null && overlapSalarial > 0.7) {
+                    details.getMotivosPositivos().add("Faixa salarial alinhada com suas expectativas");
+                } else if (details != null && overlapSalarial < 0.5) {
+                    details.getSugestoesMelhoria().add("Verifique se a faixa salarial atende suas expectativas");
+                }
+            }
+        } else if (details != null) {
+            if (perfilSalario.getEstado() == MatchFeatures.EstadoSalario.NAO_INFORMADO) {
+                details.getSugestoesMelhoria().add("Adicione sua expectativa salarial no perfil para melhorar o matching");
+            }
+        }
+        return pontuacaoSalario;
+    }
+
+    /**
+     * Pontua o critério de tipo de contrato
+     * @param plano Plano de pontuação da vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Pontuação de 0 ao peso do critério no plano
+     */
+    private double pontuarContrato(PlanoPontuacao plano, MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga, JobMatchDto.MatchingDetails details) {
+        double pontuacaoContrato;
+        MatchFeatures.Contrato vagaRegime = vaga.getRegime();
+        MatchFeatures.Contrato perfilContrato = perfil.getTipoContrato();
+
+        if (vagaRegime.isInformado() && perfilContrato.isInformado()) {
+            int tiposVaga = vagaRegime.getTipos();
+            int tiposPerfil = perfilContrato.getTipos();
+
+            // Match exato (mesmo texto após normalização) - SEMPRE dá 100%
+            if (vagaRegime.getId() == perfilContrato.getId()) {
+                pontuacaoContrato = plano.getPesoContrato(); // 100% do peso
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato corresponde à sua preferência (" + vagaRegime.getOriginal() + ")");
+                }
+            }
+            // Match por tipo (para casos como "PJ - Pessoa Jurídica" ou variações)
+            else if (ambos(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.PJ) &&
+                     nenhum(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.CLT)) {
+                pontuacaoContrato = plano.getPesoContrato(); // 100% do peso
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato compatível (PJ)");
+                }
+            }
+            else if (ambos(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.CLT) &&
+                     nenhum(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.PJ)) {
+                pontuacaoContrato = plano.getPesoContrato(); // 100% do peso
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato compatível (CLT)");
+                }
+            }
+            // Match para "Cooperado"
+            else if (ambos(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.COOPERADO)) {
+                pontuacaoContrato = plano.getPesoContrato(); // 100% do peso
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato compatível (Cooperado)");
+                }
+            }
+            // Match para "Contrato" (sem ser Cooperado)
+            else if (ambos(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.CONTRATO) &&
+                     nenhum(tiposVaga, tiposPerfil, MatchFeatures.TipoContrato.COOPERADO)) {
+                pontuacaoContrato = plano.getPesoContrato(); // 100% do peso
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato compatível (Contrato)");
+                }
+            }
+            // Match parcial: PJ e Freelancer são similares
+            else if ((MatchFeatures.TipoContrato.presente(tiposVaga, MatchFeatures.TipoContrato.PJ)
+                        && MatchFeatures.TipoContrato.presente(tiposPerfil, MatchFeatures.TipoContrato.FREELANCE)) ||
+                     (MatchFeatures.TipoContrato.presente(tiposVaga, MatchFeatures.TipoContrato.FREELANCE)
+                        && MatchFeatures.TipoContrato.presente(tiposPerfil, MatchFeatures.TipoContrato.PJ))) {
+                pontuacaoContrato = plano.getPesoContrato() * plano.getFatorContratoSimilar();
+                if (details != null) {
+                    details.getMotivosPositivos().add("Tipo de contrato similar (PJ/Freelancer)");
+                }
+            }
+            // Sem match - penalização
+            else {
+                pontuacaoContrato = plano.getPesoContrato() * plano.getFatorContratoDiferente();
+                if (details != null) {
+                    details.getSugestoesMelhoria().add("Tipo de contrato da vaga (" + vagaRegime.getOriginal() + ") difere da sua preferência (" + perfilContrato.getOriginal() + ")");
+                }
+            }
+        } else if (!vagaRegime.isInformado()) {
+            // Vaga sem regime definido - não penaliza muito
+            pontuacaoContrato = plano.getPesoContrato() * plano.getFatorVagaSemRegime();
+        } else {
+            // Perfil sem preferência definida: pontuação neutra
+            pontuacaoContrato = plano.getPesoContrato() * plano.getFatorNeutro();
+        }
+        if (details != null && !perfilContrato.isInformado()) {
+            details.getSugestoesMelhoria().add("Defina seu tipo de contrato preferido no perfil para melhorar o matching");
+        }
+        return pontuacaoContrato;
+    }
+
+    private static boolean ambos(int tiposVaga, int tiposPerfil, MatchFeatures.TipoContrato tipo) {
+        return MatchFeatures.TipoContrato.presente(tiposVaga & tiposPerfil, tipo);
+    }
+
+    private static boolean nenhum(int tiposVaga, int tiposPerfil, MatchFeatures.TipoContrato tipo) {
+        return !MatchFeatures.TipoContrato.presente(tiposVaga | tiposPerfil, tipo);
+    }
+
+    /**
+     * Pontua o critério de preferências de vaga
+     * @param plano Plano de pontuação da vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Pontuação de 0 ao peso do critério no plano
+     */
+    private double pontuarPreferencias(PlanoPontuacao plano, MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga, JobMatchDto.MatchingDetails details) {
+        double pontuacaoPreferencias = plano.getPesoPreferencias() * plano.getFatorNeutro(); // Valor padrão neutro
+        String[] preferencias = perfil.getPreferenciasNormalizadas();
+
+        if (preferencias.length > 0) {
+            boolean temMatch;
+            if (details == null) {
+                // Caminho rápido: uma área em comum (full/front/back) já basta
+                temMatch = (perfil.getAreasPreferenciasUniao() & vaga.getAreasTitulo()) != 0
+                        || algumaPreferenciaNoTitulo(preferencias, vaga.getTituloNormalizado());
+            } else {
+                temMatch = false;
+                for (int i = 0; i < preferencias.length; i++) {
+                    if ((perfil.getAreasPreferencias()[i] & vaga.getAreasTitulo()) != 0
+                            || vaga.getTituloNormalizado().contains(preferencias[i])) {
+                        temMatch = true;
+                        details.getMotivosPositivos().add("Vaga alinhada com suas preferências: " + perfil.getPreferencias()[i]);
+                        break;
+                    }
+                }
+            }
+
+            if (temMatch) {
+                pontuacaoPreferencias = plano.getPesoPreferencias();
+            } else {
+                pontuacaoPreferencias = plano.getPesoPreferencias() * plano.getFatorPreferenciaDivergente();
+            }
+        } else if (details != null) {
+            details.getSugestoesMelhoria().add("Adicione suas preferências de vaga no perfil");
+        }
+        return pontuacaoPreferencias;
+    }
+
+    private static boolean algumaPreferenciaNoTitulo(String[] preferencias, String titulo) {
+        for (String preferencia : preferencias) {
+            if (titulo.contains(preferencia)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pontua o critério de habilidades/skills pela interseção dos bitsets de skills
+     * @param plano Plano de pontuação da vaga
+     * @param perfil Features do perfil do desenvolvedor
+     * @param vaga Features da vaga
+     * @param details Objeto para armazenar detalhes do matching (opcional)
+     * @return Pontuação de 0 ao peso do critério no plano
+     */
+    private double pontuarSkills(PlanoPontuacao plano, MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga, JobMatchDto.MatchingDetails details) {
+        double pontuacaoSkills = plano.getPesoSkills() * plano.getFatorNeutro(); // Valor padrão neutro
+
+        String[] vagaSkills = vaga.getSkills();
+        if (vagaSkills.length > 0) {
+            int skillsMatch = SkillDictionary.contarEmComum(perfil.getSkillBits(), vaga.getSkillBits());
+            double percentualSkills = (double) skillsMatch / vagaSkills.length;
+
+            pontuacaoSkills = plano.getPesoSkills() * Math.min(1.0, percentualSkills + plano.getBonusSkills());
+
+            // Popula detalhes das skills
+            if (details != null) {
+                List<String> skillsEncontradas = new ArrayList<>();
+                List<String> skillsNaoEncontradas = new ArrayList<>();
+                for (String skill : vagaSkills) {
+                    if (SkillDictionary.contem(perfil.getSkillBits(), skillDictionary.getOuRegistrar(skill))) {
+                        skillsEncontradas.add(skill);
+                    } else {
+                        skillsNaoEncontradas.add(skill);
+                    }
+                }
+                details.setSkillsEmComum(skillsEncontradas);
+                details.setSkillsFaltantes(skillsNaoEncontradas);
+
+                if (!skillsEncontradas.isEmpty()) {
+                    details.getMotivosPositivos().add("Você possui " + skillsEncontradas.size() +
+                        " de " + vagaSkills.length + " habilidades requeridas");
+                } else if (!skillsNaoEncontradas.isEmpty()) {
+                    details.getSugestoesMelhoria().add("Considere adicionar as habilidades requeridas ao seu perfil");
+                }
+
+                if (!skillsNaoEncontradas.isEmpty() && skillsNaoEncontradas.size() <= 3) {
+                    details.getSugestoesMelhoria().add("Considere aprender: " +
+                        String.join(", ", skillsNaoEncontradas.subList(0, Math.min(3, skillsNaoEncontradas.size()))));
+                }
+            }
+        }
+        return pontuacaoSkills;
+    }
+
+    /**
+     * Calcula o overlap entre duas faixas salariais já interpretadas
+     * @param plano Plano de pontuação da vaga
+     * @param faixa1 Primeira faixa salarial
+     * @param faixa2 Segunda faixa salarial
+     * @return Percentual de overlap (0-1)
+     */
+    private double calcularOverlapSalarial(PlanoPontuacao plano, MatchFeatures.Salario faixa1, MatchFeatures.Salario faixa2) {
+        if (faixa1.getEstado() == MatchFeatures.EstadoSalario.SEM_FAIXA
+                || faixa2.getEstado() == MatchFeatures.EstadoSalario.SEM_FAIXA) {
+            return plano.getFatorSalarioSemOverlap(); // Baixa compatibilidade se não houver faixa
+        }
+        if (faixa1.getEstado() == MatchFeatures.EstadoSalario.INVALIDO
+                || faixa2.getEstado() == MatchFeatures.EstadoSalario.INVALIDO) {
+            // Se não conseguiu parsear, retorna valor neutro
+            return plano.getFatorNeutro();
+        }
+
+        // Calcula overlap
+        int overlapMin = Math.max(faixa1.getMinimo(), faixa2.getMinimo());
+        int overlapMax = Math.min(faixa1.getMaximo(), faixa2.getMaximo());
+
+        if (overlapMax > overlapMin) {
+            int overlapRange = overlapMax - overlapMin;
+            int totalRange = Math.max(faixa1.getMaximo(), faixa2.getMaximo()) - Math.min(faixa1.getMinimo(), faixa2.getMinimo());
+            return (double) overlapRange / totalRange;
+        }
+
+        return plano.getFatorSalarioSemOverlap(); // Baixa compatibilidade se não houver overlap
+    }
+
+    /**
+     * Vagas cuja compatibilidade sem skills em comum é limitada pelo mesmo teto
+     * ({@link #calcularTetoSemSkills}): mesma empresa (mesmo plano de pontuação), modalidade,
+     * estado da faixa salarial e regime informado ou não
+     */
+    public record GrupoSemSkills(
+            Long empresaUsuarioId,
+            MatchFeatures.Modalidade modalidade,
+            MatchFeatures.EstadoSalario salario,
+            boolean regimeInformado
+    ) {
+        public static GrupoSemSkills de(MatchFeatures.Vaga vaga) {
+            return new GrupoSemSkills(vaga.getUsuarioId(), vaga.getModalidade(),
+                    vaga.getSalario().getEstado(), vaga.getRegime().isInformado());
+        }
+    }
+
+    /**
+     * Perfis cuja compatibilidade sem skills em comum é limitada pelo mesmo teto
+     * ({@link #calcularTetoSemSkills}): mesma modalidade, estado da faixa salarial, contrato
+     * informado ou não e preferências informadas ou não
+     */
+    public record GrupoPerfil(
+            MatchFeatures.Modalidade modalidade,
+            MatchFeatures.EstadoSalario salario,
+            boolean contratoInformado,
+            boolean temPreferencias
+    ) {
+        public static GrupoPerfil de(MatchFeatures.Perfil perfil) {
+            return new GrupoPerfil(perfil.getModalidade(), perfil.getSalario().getEstado(),
+                    perfil.getTipoContrato().isInformado(), perfil.getPreferenciasNormalizadas().length > 0);
+        }
+    }
+
+    /**
+     * Compatibilidade total e percentual de cada critério (0-100)
+     */
+    public record Componentes(
+            double total,
+            double localizacao,
+            double salario,
+            double contrato,
+            double preferencias,
+            double skills
+    ) {}
+}
@@ -1,15 +1,35 @@
 package com.example.devmatch.job_posting_backend.service;
 
+import com.example.devmatch.job_posting_backend.dto.CandidatoMatchDto;
+import com.example.devmatch.job_posting_backend.dto.CompatibilidadeParDto;
 import com.example.devmatch.job_posting_backend.dto.JobMatchDto;
+import com.example.devmatch.job_posting_backend.dto.JobMatchPageDto;
+import com.example.devmatch.job_posting_backend.dto.ParMatchDto;
+import com.example.devmatch.job_posting_backend.entity.Candidatura;
+import com.example.devmatch.job_posting_backend.entity.JobMatch;
 import com.example.devmatch.job_posting_backend.entity.JobPosting;
-import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.entity.Usuario;
+import com.example.devmatch.job_posting_backend.repository.CandidaturaRepository;
+import com.example.devmatch.job_posting_backend.repository.JobMatchRepository;
 import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
 import com.example.devmatch.job_posting_backend.repository.PerfilDevRepository;
+import com.example.devmatch.job_posting_backend.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 /**
@@ -17,432 +37,579 @@ import java.util.stream.Collectors;
  */
 @Service
 public class MatchingService {
-    
+
+    // Tamanho padrão e máximo de uma página de vagas compatíveis
+    private static final int LIMITE_PADRAO = 50;
+    private static final int LIMITE_MAXIMO = 200;
+
+    // Tamanho padrão e máximo do ranking de desenvolvedores de uma vaga
+    private static final int LIMITE_PADRAO_CANDIDATOS = 100;
+    private static final int LIMITE_MAXIMO_CANDIDATOS = 5000;
+
+    // Quantidade máxima de pares no cálculo de compatibilidade em lote
+    private static final int LIMITE_MAXIMO_PARES = 5000;
+
+    // Quantidade de vagas convertidas em DTO por vez no streaming
+    private static final int LOTE_STREAM = 50;
+
+    // Folga na comparação com o teto, para arredondamentos entre as duas somas de pontos
+    private static final double FOLGA_TETO = 1e-9;
+
     @Autowired
     private JobPostingRepository jobPostingRepository;
-    
+
+    @Autowired
+    private JobPostingService jobPostingService;
+
+    @Autowired
+    private CandidaturaRepository candidaturaRepository;
+
     @Autowired
     private PerfilDevRepository perfilDevRepository;
-    
+
     @Autowired
-    private JobPostingService jobPostingService;
-    
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+
+    @Autowired
+    private MatchScorer matchScorer;
+
+    @Autowired
+    private ReputacaoService reputacaoService;
+
+    @Autowired
+    private JobMatchRepository jobMatchRepository;
+
+    @Autowired
+    private ScoringExecutor scoringExecutor;
+
     /**
-     * Calcula vagas compatíveis para um desenvolvedor
+     * Calcula vagas compatíveis para um desenvolvedor (primeira página, tamanho padrão)
      * @param usuarioId ID do desenvolvedor
      * @return Lista de vagas com percentual de compatibilidade
      */
+    @Transactional(readOnly = true)
     public List<JobMatchDto> getVagasCompativeis(Long usuarioId) {
-        // Busca o perfil do desenvolvedor
-        PerfilDev perfil = perfilDevRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new RuntimeException("Perfil não encontrado"));
-        
-        // Busca todas as vagas ativas
-        List<JobPosting> vagasAtivas = jobPostingRepository.findAll().stream()
-                .filter(vaga -> "ativa".equalsIgnoreCase(vaga.getStatus()))
-                .collect(Collectors.toList());
-        
-        // Calcula compatibilidade para cada vaga
-        List<JobMatchDto> matches = new ArrayList<>();
-        for (JobPosting vaga : vagasAtivas) {
-            // Cria objeto para armazenar detalhes do matching
-            JobMatchDto.MatchingDetails details = new JobMatchDto.MatchingDetails();
-            double compatibilidade = calcularCompatibilidadeDetalhada(perfil, vaga, details);
-            
-            // Apenas vagas com 60% ou mais de compatibilidade
-            if (compatibilidade >= 60.0) {
-                JobMatchDto match = new JobMatchDto();
-                match.setVagaId(vaga.getId());
-                match.setTitulo(vaga.getTitle());
-                match.setDescricao(vaga.getDescription());
-                match.setExperienceLevel(vaga.getExperienceLevel());
-                match.setLocalModalidade(vaga.getLocalModalidade());
-                match.setValorReferencia(vaga.getValorReferencia());
-                match.setRegime(vaga.getRegime());
-                match.setCompatibilidade(compatibilidade);
-                match.setMatchingDetails(details); // Adiciona detalhes do matching
-                
-                // Busca o nome da empresa
-                String nomeEmpresa = jobPostingService.getNomeEmpresaByUsuarioId(vaga.getUsuarioId());
-                match.setNomeEmpresa(nomeEmpresa);
-                
-                // Adiciona skills da vaga
-                if (vaga.getSkills() != null) {
-                    match.setSkills(vaga.getSkills().stream()
-                            .map(skill -> skill.getSkill())
-                            .collect(Collectors.toList()));
-                }
-                
-                matches.add(match);
-            }
-        }
-        
-        // Ordena por compatibilidade (maior primeiro)
-        matches.sort((a, b) -> Double.compare(b.getCompatibilidade(), a.getCompatibilidade()));
-        
-        return matches;
-    }
-    
-    /**
-     * Calcula compatibilidade de um candidato específico com uma vaga específica
-     * @param desenvolvedorId ID do desenvolvedor
-     * @param vagaId ID da vaga
-     * @return Percentual de compatibilidade (0-100)
-     */
-    public double calcularCompatibilidadeCandidato(Long desenvolvedorId, Long vagaId) {
-        // Busca o perfil do desenvolvedor
-        PerfilDev perfil = perfilDevRepository.findByUsuarioId(desenvolvedorId)
-                .orElseThrow(() -> new RuntimeException("Perfil não encontrado"));
-        
-        // Busca a vaga
-        JobPosting vaga = jobPostingRepository.findById(vagaId)
-                .orElseThrow(() -> new RuntimeException("Vaga não encontrada"));
-        
-        // Calcula compatibilidade
-        return calcularCompatibilidade(perfil, vaga);
+        return getVagasCompativeis(usuarioId, null, null, null, null).matches();
     }
-    
+
     /**
-     * Calcula o percentual de compatibilidade entre um perfil e uma vaga
-     * @param perfil Perfil do desenvolvedor
-     * @param vaga Vaga a ser analisada
-     * @return Percentual de compatibilidade (0-100)
+     * Calcula uma página de vagas compatíveis para um desenvolvedor.
+     * Quando os matches do perfil já estão materializados em job_matches, a página é uma
+     * leitura por faixa no índice (usuario_id, score). Caso contrário, as vagas candidatas
+     * recebem apenas a pontuação (sem detalhes) e somente as {@code limit} melhores são
+     * mantidas em um heap limitado. Só as vagas da página viram DTOs completos.
+     * @param usuarioId ID do desenvolvedor
+     * @param limit Quantidade máxima de vagas na página (padrão 50, máximo 200)
+     * @param cursor Cursor retornado pela página anterior (opcional)
+     * @param minScore Compatibilidade mínima (padrão 60)
+     * @param raioKm Se informado, mantém apenas as vagas remotas e as vagas presenciais/híbridas
+     *               a até essa distância do desenvolvedor (buscadas na grade espacial do índice)
+     * @return Página de vagas ordenadas por ranking (compatibilidade e reputação da empresa) e cursor da próxima página
+     * @throws IllegalArgumentException se o cursor for inválido ou se o raio for informado e a
+     *                                  localização do perfil não for reconhecida
      */
-    private double calcularCompatibilidade(PerfilDev perfil, JobPosting vaga) {
-        return calcularCompatibilidadeDetalhada(perfil, vaga, null);
+    @Transactional(readOnly = true)
+    public JobMatchPageDto getVagasCompativeis(Long usuarioId, Integer limit, String cursor, Double minScore, Double raioKm) {
+        int tamanhoPagina = limit == null || limit <= 0 ? LIMITE_PADRAO : Math.min(limit, LIMITE_MAXIMO);
+        double minimo = minScore == null ? MatchScorer.COMPATIBILIDADE_MINIMA : Math.max(0.0, Math.min(100.0, minScore));
+        Pontuacao inicio = cursor == null || cursor.isBlank() ? null : Pontuacao.deCursor(cursor);
+
+        // Busca as features do perfil do desenvolvedor (em cache após o primeiro acesso)
+        MatchFeatures.Perfil perfil = matchFeaturesService.getPerfil(usuarioId);
+
+        // Vagas não remotas dentro do raio, direto da grade espacial
+        Set<Long> proximas = null;
+        if (raioKm != null) {
+            if (!perfil.temCoordenadas()) {
+                throw new IllegalArgumentException("Localização do perfil não reconhecida; não é possível filtrar por distância");
+            }
+            proximas = jobMatchingIndex.buscarProximas(perfil.getLatitude(), perfil.getLongitude(), Math.max(0.0, raioKm));
+        }
+
+        // job_matches só guarda pares acima da compatibilidade mínima padrão (e não é filtrado por distância)
+        boolean materializado = proximas == null
+                && minimo >= MatchScorer.COMPATIBILIDADE_MINIMA
+                && perfilDevRepository.findMatchesCalculadosEm(usuarioId).isPresent();
+        Selecao selecao = materializado
+                ? selecionarMaterializadas(usuarioId, tamanhoPagina, inicio, minimo)
+                : selecionarAoVivo(perfil, tamanhoPagina, inicio, minimo, proximas);
+        List<Pontuacao> pagina = selecao.pagina();
+        if (pagina.isEmpty()) {
+            return new JobMatchPageDto(new ArrayList<>(), null);
+        }
+
+        List<JobMatchDto> matches = montarMatches(perfil, pagina, selecao.componentes());
+        String proximoCursor = selecao.temMais() ? pagina.get(pagina.size() - 1).paraCursor() : null;
+        return new JobMatchPageDto(matches, proximoCursor);
     }
-    
+
     /**
-     * Calcula compatibilidade com detalhes
-     * @param perfil Perfil do desenvolvedor
-     * @param vaga Vaga a ser analisada
-     * @param details Objeto para armazenar detalhes do matching (opcional)
-     * @return Percentual de compatibilidade (0-100)
+     * Emite as vagas compatíveis com um desenvolvedor aos poucos, em ordem de ranking,
+     * para respostas em streaming. Com os matches materializados, job_matches é lido em lotes
+     * já ordenados; caso contrário as vagas candidatas são ordenadas por um teto barato do ranking
+     * ({@link MatchScorer#calcularCompatibilidadeMaxima}, só skills em comum) e pontuadas nessa
+     * ordem. Cada vaga pontuada é enviada assim que nenhuma das ainda não pontuadas pode passar
+     * dela, em lotes de {@value #LOTE_STREAM} convertidos em DTOs, então a primeira resposta não
+     * espera a pontuação do catálogo inteiro.
+     * Não é transacional de propósito: o envio pode durar o tempo que o cliente levar para ler,
+     * e cada consulta abre e fecha sua própria transação.
+     * @param usuarioId ID do desenvolvedor
+     * @param minScore Compatibilidade mínima (padrão 60)
+     * @param destino Recebe cada vaga compatível, na ordem
+     * @throws RuntimeException se o perfil não for encontrado
      */
-    private double calcularCompatibilidadeDetalhada(PerfilDev perfil, JobPosting vaga, JobMatchDto.MatchingDetails details) {
-        double pontuacao = 0.0;
-        double pesoTotal = 0.0;
-        
-        // 1. LOCALIZAÇÃO/MODALIDADE (Peso: 20%)
-        double pesoLocalizacao = 20.0;
-        pesoTotal += pesoLocalizacao;
-        double pontuacaoLocalizacao = pesoLocalizacao * 0.5; // Valor padrão neutro
-        
-        if (vaga.getLocalModalidade() != null && perfil.getModoTrabalho() != null) {
-            String vagaModalidade = vaga.getLocalModalidade().toLowerCase();
-            String perfilModalidade = perfil.getModoTrabalho().toLowerCase();
-            
-            // Remoto é compatível com todos
-            if (vagaModalidade.contains("remoto") || perfilModalidade.contains("remoto")) {
-                pontuacaoLocalizacao = pesoLocalizacao;
-                if (details != null) {
-                    details.getMotivosPositivos().add("Modalidade de trabalho compatível (remoto)");
+    public void emitirVagasCompativeis(Long usuarioId, Double minScore, Consumer<JobMatchDto> destino) {
+        double minimo = minScore == null ? MatchScorer.COMPATIBILIDADE_MINIMA : Math.max(0.0, Math.min(100.0, minScore));
+        MatchFeatures.Perfil perfil = matchFeaturesService.getPerfil(usuarioId);
+
+        if (minimo >= MatchScorer.COMPATIBILIDADE_MINIMA
+                && perfilDevRepository.findMatchesCalculadosEm(usuarioId).isPresent()) {
+            Pontuacao inicio = null;
+            Selecao selecao;
+            do {
+                selecao = selecionarMaterializadas(usuarioId, LOTE_STREAM, inicio, minimo);
+                if (selecao.pagina().isEmpty()) {
+                    return;
                 }
-            }
-            // Híbrido é parcialmente compatível
-            else if (vagaModalidade.contains("híbrido") || perfilModalidade.contains("híbrido")) {
-                pontuacaoLocalizacao = pesoLocalizacao * 0.7;
-                if (details != null) {
-                    details.getMotivosPositivos().add("Modalidade híbrida oferece flexibilidade");
+                montarMatches(perfil, selecao.pagina(), selecao.componentes()).forEach(destino);
+                inicio = selecao.pagina().get(selecao.pagina().size() - 1);
+            } while (selecao.temMais());
+            return;
+        }
+
+        List<Teto> tetos = new ArrayList<>();
+        for (Long vagaId : jobMatchingIndex.buscarCandidatas(perfil, minimo)) {
+            MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+            if (vaga != null) {
+                double teto = matchScorer.calcularCompatibilidadeMaxima(perfil, vaga);
+                if (teto >= minimo) {
+                    tetos.add(new Teto(vaga, reputacaoService.ranquear(teto, vaga.getUsuarioId())));
                 }
             }
-            // Presencial precisa de match exato de localização
-            else if (vagaModalidade.contains("presencial") && perfilModalidade.contains("presencial")) {
-                // Verifica se a localização é similar
-                if (perfil.getLocalizacao() != null && 
-                    perfil.getLocalizacao().toLowerCase().contains(vaga.getLocalModalidade().toLowerCase())) {
-                    pontuacaoLocalizacao = pesoLocalizacao;
-                    if (details != null) {
-                        details.getMotivosPositivos().add("Localização é compatível");
-                    }
-                } else {
-                    pontuacaoLocalizacao = pesoLocalizacao * 0.3;
-                    if (details != null) {
-                        details.getSugestoesMelhoria().add("Considere vagas remotas ou híbridas para ampliar suas opções");
-                    }
+        }
+        tetos.sort(Comparator.comparingDouble(Teto::score).reversed());
+
+        PriorityQueue<Pontuacao> pontuadas = new PriorityQueue<>(Pontuacao.ORDEM);
+        List<Pontuacao> prontas = new ArrayList<>(LOTE_STREAM);
+        for (int i = 0; i < tetos.size(); i++) {
+            Pontuacao pontuacao = pontuarVaga(perfil, tetos.get(i).vaga());
+            if (pontuacao.compatibilidade() >= minimo) {
+                pontuadas.add(pontuacao);
+            }
+            // Nenhuma vaga ainda não pontuada passa do teto da próxima
+            double limite = i + 1 < tetos.size() ? tetos.get(i + 1).score() + FOLGA_TETO : Double.NEGATIVE_INFINITY;
+            while (!pontuadas.isEmpty() && pontuadas.peek().score() > limite) {
+                prontas.add(pontuadas.poll());
+                if (prontas.size() == LOTE_STREAM) {
+                    montarMatches(perfil, prontas, Map.of()).forEach(destino);
+                    prontas.clear();
                 }
-            } else {
-                pontuacaoLocalizacao = pesoLocalizacao * 0.4;
             }
-        } else if (details != null) {
-            details.getSugestoesMelhoria().add("Complete suas preferências de modalidade de trabalho no perfil");
         }
-        pontuacao += pontuacaoLocalizacao;
-        if (details != null) {
-            details.setScoreLocalizacao((pontuacaoLocalizacao / pesoLocalizacao) * 100);
+        if (!prontas.isEmpty()) {
+            montarMatches(perfil, prontas, Map.of()).forEach(destino);
         }
-        
-        // 2. FAIXA SALARIAL (Peso: 25%)
-        double pesoSalario = 25.0;
-        pesoTotal += pesoSalario;
-        double pontuacaoSalario = pesoSalario * 0.5; // Valor padrão neutro
-        
-        if (vaga.getValorReferencia() != null && perfil.getFaixaSalarial() != null) {
-            // Extrai valores numéricos das faixas (simplificado)
-            String vagaSalario = vaga.getValorReferencia().toLowerCase();
-            String perfilSalario = perfil.getFaixaSalarial().toLowerCase();
-            
-            // Se ambos têm valores, considera compatível se houver overlap
-            // Simplificação: se os textos são similares ou "a combinar"
-            if (vagaSalario.contains("combinar") || perfilSalario.contains("combinar")) {
-                pontuacaoSalario = pesoSalario * 0.8;
-                if (details != null) {
-                    details.getMotivosPositivos().add("Faixa salarial a combinar oferece flexibilidade");
-                }
-            } else {
-                // Calcula overlap de faixas salariais
-                double overlapSalarial = calcularOverlapSalarial(vagaSalario, perfilSalario);
-                pontuacaoSalario = pesoSalario * overlapSalarial;
-                if (details != null && overlapSalarial > 0.7) {
-                    details.getMotivosPositivos().add("Faixa salarial alinhada com suas expectativas");
-                } else if (details != null && overlapSalarial < 0.5) {
-                    details.getSugestoesMelhoria().add("Verifique se a faixa salarial atende suas expectativas");
-                }
-            }
-        } else if (details != null) {
-            if (perfil.getFaixaSalarial() == null) {
-                details.getSugestoesMelhoria().add("Adicione sua expectativa salarial no perfil para melhorar o matching");
-            }
+    }
+
+    /**
+     * Pontua uma vaga para o desenvolvedor; o ranking considera a reputação da empresa dona da vaga
+     */
+    private Pontuacao pontuarVaga(MatchFeatures.Perfil perfil, MatchFeatures.Vaga vaga) {
+        double compatibilidade = matchScorer.calcularCompatibilidade(perfil, vaga);
+        return new Pontuacao(vaga.getVagaId(), reputacaoService.ranquear(compatibilidade, vaga.getUsuarioId()), compatibilidade);
+    }
+
+    /**
+     * Converte pontuações de vagas em DTOs completos, carregando do banco apenas essas vagas.
+     * Vagas desativadas no meio do caminho são descartadas.
+     * @param componentes Scores por critério já conhecidos (os demais são calculados)
+     */
+    private List<JobMatchDto> montarMatches(MatchFeatures.Perfil perfil, List<Pontuacao> pagina,
+                                            Map<Long, MatchScorer.Componentes> componentes) {
+        // Carrega do banco apenas as vagas da página para montar a resposta
+        Map<Long, JobPosting> vagasPorId = new HashMap<>();
+        for (JobPosting vaga : jobPostingRepository.findAllByIdWithSkills(
+                pagina.stream().map(Pontuacao::id).collect(Collectors.toList()))) {
+            vagasPorId.put(vaga.getId(), vaga);
         }
-        pontuacao += pontuacaoSalario;
-        if (details != null) {
-            details.setScoreSalario((pontuacaoSalario / pesoSalario) * 100);
+
+        // Mantém apenas as vagas ainda ativas, na ordem da página
+        List<Pontuacao> ativas = new ArrayList<>(pagina.size());
+        for (Pontuacao pontuacao : pagina) {
+            if (vagasPorId.containsKey(pontuacao.id()) && jobMatchingIndex.getVaga(pontuacao.id()) != null) {
+                ativas.add(pontuacao);
+            }
         }
-        
-        // 3. TIPO DE CONTRATO (Peso: 15%)
-        double pesoContrato = 15.0;
-        pesoTotal += pesoContrato;
-        double pontuacaoContrato = 0.0; // Inicializa como 0, será calculado
-        
-        if (vaga.getRegime() != null && perfil.getTipoContrato() != null) {
-            // Normaliza strings: lowercase, trim, remove espaços extras
-            String vagaRegime = normalizarString(vaga.getRegime());
-            String perfilContrato = normalizarString(perfil.getTipoContrato());
-            
-            // Match exato (comparação direta após normalização) - SEMPRE dá 100%
-            if (vagaRegime.equals(perfilContrato)) {
-                pontuacaoContrato = pesoContrato; // 100% do peso (15 pontos)
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato corresponde à sua preferência (" + vaga.getRegime() + ")");
-                }
-            } 
-            // Match usando contains (para casos como "PJ - Pessoa Jurídica" ou variações)
-            else if (vagaRegime.contains("pj") && perfilContrato.contains("pj") && 
-                     !vagaRegime.contains("clt") && !perfilContrato.contains("clt")) {
-                pontuacaoContrato = pesoContrato; // 100% do peso
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato compatível (PJ)");
-                }
+
+        // Busca os nomes das empresas em uma única consulta (ou no cache)
+        Map<Long, String> nomesEmpresa = jobPostingService.getNomesEmpresa(ativas.stream()
+                .map(pontuacao -> vagasPorId.get(pontuacao.id()).getUsuarioId())
+                .collect(Collectors.toList()));
+
+        List<JobMatchDto> matches = new ArrayList<>(ativas.size());
+        for (Pontuacao pontuacao : ativas) {
+            JobPosting vaga = vagasPorId.get(pontuacao.id());
+            MatchFeatures.Vaga features = jobMatchingIndex.getVaga(pontuacao.id());
+            if (features == null) {
+                continue; // Vaga removida durante o cálculo
             }
-            else if (vagaRegime.contains("clt") && perfilContrato.contains("clt") && 
-                     !vagaRegime.contains("pj") && !perfilContrato.contains("pj")) {
-                pontuacaoContrato = pesoContrato; // 100% do peso
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato compatível (CLT)");
-                }
+
+            // Apenas os scores por critério; a explicação completa é obtida em getExplicacao
+            MatchScorer.Componentes scores = componentes.get(pontuacao.id());
+            if (scores == null) {
+                scores = matchScorer.calcularComponentes(perfil, features);
             }
-            // Match para "Cooperado"
-            else if (vagaRegime.contains("cooperado") && perfilContrato.contains("cooperado")) {
-                pontuacaoContrato = pesoContrato; // 100% do peso
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato compatível (Cooperado)");
-                }
+            JobMatchDto.MatchingDetails details = JobMatchDto.MatchingDetails.resumo(
+                    scores.localizacao(), scores.salario(), scores.contrato(),
+                    scores.preferencias(), scores.skills());
+
+            JobMatchDto match = new JobMatchDto();
+            match.setVagaId(vaga.getId());
+            match.setTitulo(vaga.getTitle());
+            match.setDescricao(vaga.getDescription());
+            match.setExperienceLevel(vaga.getExperienceLevel());
+            match.setLocalModalidade(vaga.getLocalModalidade());
+            match.setValorReferencia(vaga.getValorReferencia());
+            match.setRegime(vaga.getRegime());
+            match.setCompatibilidade(pontuacao.compatibilidade());
+            match.setMatchingDetails(details); // Adiciona o resumo do matching
+            match.setNomeEmpresa(nomesEmpresa.get(vaga.getUsuarioId()));
+
+            // Adiciona skills da vaga
+            if (vaga.getSkills() != null) {
+                match.setSkills(vaga.getSkills().stream()
+                        .map(skill -> skill.getSkill())
+                        .collect(Collectors.toList()));
             }
-            // Match para "Contrato" (sem ser Cooperado)
-            else if (vagaRegime.contains("contrato") && perfilContrato.contains("contrato") && 
-                     !vagaRegime.contains("cooperado") && !perfilContrato.contains("cooperado")) {
-                pontuacaoContrato = pesoContrato; // 100% do peso
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato compatível (Contrato)");
-                }
+
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    /**
+     * Lê uma página de vagas compatíveis da tabela job_matches
+     */
+    private Selecao selecionarMaterializadas(Long usuarioId, int tamanhoPagina, Pontuacao inicio, double minimo) {
+        // Busca um item a mais para saber se existe próxima página
+        PageRequest pagina = PageRequest.of(0, tamanhoPagina + 1);
+        List<JobMatch> linhas = inicio == null
+                ? jobMatchRepository.findPagina(usuarioId, minimo, pagina)
+                : jobMatchRepository.findPaginaApos(usuarioId, minimo, inicio.score(), inicio.id(), pagina);
+        List<Pontuacao> pontuacoes = new ArrayList<>(Math.min(linhas.size(), tamanhoPagina));
+        Map<Long, MatchScorer.Componentes> componentes = new HashMap<>();
+        for (int i = 0; i < linhas.size() && i < tamanhoPagina; i++) {
+            JobMatch linha = linhas.get(i);
+            double ranking = linha.getScoreRanking() != null ? linha.getScoreRanking() : linha.getScore();
+            pontuacoes.add(new Pontuacao(linha.getVagaId(), ranking, linha.getScore()));
+            // Os scores por critério já estão materializados
+            componentes.put(linha.getVagaId(), new MatchScorer.Componentes(linha.getScore(),
+                    linha.getScoreLocalizacao(), linha.getScoreSalario(), linha.getScoreContrato(),
+                    linha.getScorePreferencias(), linha.getScoreSkills()));
+        }
+        return new Selecao(pontuacoes, linhas.size() > tamanhoPagina, componentes);
+    }
+
+    /**
+     * Calcula uma página de vagas compatíveis pontuando as vagas candidatas do índice
+     * @param proximas Vagas não remotas permitidas (filtro por distância) ou null para não filtrar
+     */
+    private Selecao selecionarAoVivo(MatchFeatures.Perfil perfil, int tamanhoPagina, Pontuacao inicio, double minimo,
+                                     Set<Long> proximas) {
+        // Seleciona pelo índice apenas as vagas ativas que podem atingir a compatibilidade mínima:
+        // vagas sem nenhuma skill em comum só entram se os demais critérios compensarem
+        Set<Long> candidatas = jobMatchingIndex.buscarCandidatas(perfil, minimo);
+        if (proximas != null) {
+            candidatas.removeIf(vagaId -> {
+                MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+                return vaga == null || (vaga.getModalidade() != MatchFeatures.Modalidade.REMOTO && !proximas.contains(vagaId));
+            });
+        }
+
+        // Pontua sem detalhes e mantém apenas as melhores em heaps limitados; catálogos
+        // grandes são divididos entre os núcleos e os heaps parciais são combinados
+        List<Long> ids = new ArrayList<>(candidatas);
+        Collector<Long, MelhoresPontuacoes, MelhoresPontuacoes> coletor = Collector.of(
+                () -> new MelhoresPontuacoes(tamanhoPagina),
+                (melhores, vagaId) -> {
+                    MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+                    if (vaga == null) {
+                        return; // Vaga desativada entre a busca e o cálculo
+                    }
+                    Pontuacao pontuacao = pontuarVaga(perfil, vaga);
+                    if (pontuacao.compatibilidade() < minimo) {
+                        return;
+                    }
+                    if (inicio != null && Pontuacao.ORDEM.compare(pontuacao, inicio) <= 0) {
+                        return; // Já entregue em páginas anteriores
+                    }
+                    melhores.oferecer(pontuacao);
+                },
+                MelhoresPontuacoes::juntar);
+        MelhoresPontuacoes melhores = scoringExecutor.deveParalelizar(ids.size())
+                ? scoringExecutor.executarCpu(() -> ids.parallelStream().collect(coletor))
+                : ids.stream().collect(coletor);
+        return melhores.paraSelecao();
+    }
+
+    /**
+     * Calcula compatibilidade de um candidato específico com uma vaga específica
+     * @param desenvolvedorId ID do desenvolvedor
+     * @param vagaId ID da vaga
+     * @return Percentual de compatibilidade (0-100)
+     */
+    @Transactional(readOnly = true)
+    public double calcularCompatibilidadeCandidato(Long desenvolvedorId, Long vagaId) {
+        // Busca as features do perfil do desenvolvedor
+        MatchFeatures.Perfil perfil = matchFeaturesService.getPerfil(desenvolvedorId);
+
+        // Busca a vaga (do índice quando ativa, do banco caso contrário)
+        MatchFeatures.Vaga vaga = getFeaturesVaga(vagaId);
+
+        // Calcula compatibilidade
+        return matchScorer.calcularCompatibilidade(perfil, vaga);
+    }
+
+    /**
+     * Calcula a compatibilidade de vários pares desenvolvedor/vaga de uma vez.
+     * Os perfis fora do cache são carregados com as habilidades em uma consulta IN e as vagas
+     * fora do índice (inativas) com as skills em outra, em vez de duas consultas por par.
+     * @param pares Pares desenvolvedor/vaga (no máximo {@value #LIMITE_MAXIMO_PARES})
+     * @return Compatibilidade de cada par, na ordem recebida (0 se perfil ou vaga não existirem)
+     * @throws IllegalArgumentException se houver pares demais
+     */
+    @Transactional(readOnly = true)
+    public List<CompatibilidadeParDto> calcularCompatibilidades(List<ParMatchDto> pares) {
+        if (pares.size() > LIMITE_MAXIMO_PARES) {
+            throw new IllegalArgumentException("Máximo de " + LIMITE_MAXIMO_PARES + " pares por requisição");
+        }
+        Set<Long> desenvolvedorIds = new HashSet<>();
+        Map<Long, MatchFeatures.Vaga> vagas = new HashMap<>();
+        List<Long> vagasFaltantes = new ArrayList<>();
+        for (ParMatchDto par : pares) {
+            if (par.desenvolvedorId() == null || par.vagaId() == null) {
+                continue;
             }
-            // Match parcial: PJ e Freelancer são similares
-            else if ((vagaRegime.contains("pj") && (perfilContrato.contains("freelance") || perfilContrato.contains("freelancer"))) ||
-                     ((vagaRegime.contains("freelance") || vagaRegime.contains("freelancer")) && perfilContrato.contains("pj"))) {
-                pontuacaoContrato = pesoContrato * 0.8; // 80% do peso
-                if (details != null) {
-                    details.getMotivosPositivos().add("Tipo de contrato similar (PJ/Freelancer)");
-                }
-            } 
-            // Sem match - penalização
-            else {
-                pontuacaoContrato = pesoContrato * 0.3; // 30% do peso
-                if (details != null) {
-                    details.getSugestoesMelhoria().add("Tipo de contrato da vaga (" + vaga.getRegime() + ") difere da sua preferência (" + perfil.getTipoContrato() + ")");
+            desenvolvedorIds.add(par.desenvolvedorId());
+            if (!vagas.containsKey(par.vagaId())) {
+                MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(par.vagaId());
+                vagas.put(par.vagaId(), vaga);
+                if (vaga == null) {
+                    vagasFaltantes.add(par.vagaId());
                 }
             }
-        } else {
-            // Se algum valor for null, dá pontuação neutra (50%)
-            pontuacaoContrato = pesoContrato * 0.5;
-            if (details != null) {
-                if (perfil.getTipoContrato() == null) {
-                    details.getSugestoesMelhoria().add("Defina seu tipo de contrato preferido no perfil para melhorar o matching");
-                }
-                if (vaga.getRegime() == null) {
-                    // Vaga sem regime definido - não penaliza muito
-                    pontuacaoContrato = pesoContrato * 0.7;
-                }
+        }
+
+        Map<Long, MatchFeatures.Perfil> perfis = matchFeaturesService.getPerfis(desenvolvedorIds);
+        if (!vagasFaltantes.isEmpty()) {
+            for (JobPosting vaga : jobPostingRepository.findAllByIdWithSkills(vagasFaltantes)) {
+                vagas.put(vaga.getId(), matchFeaturesService.compilarVaga(vaga));
             }
         }
-        pontuacao += pontuacaoContrato;
-        if (details != null) {
-            details.setScoreContrato((pontuacaoContrato / pesoContrato) * 100);
+
+        List<CompatibilidadeParDto> resultado = new ArrayList<>(pares.size());
+        for (ParMatchDto par : pares) {
+            MatchFeatures.Perfil perfil = par.desenvolvedorId() != null ? perfis.get(par.desenvolvedorId()) : null;
+            MatchFeatures.Vaga vaga = par.vagaId() != null ? vagas.get(par.vagaId()) : null;
+            double compatibilidade = perfil != null && vaga != null
+                    ? matchScorer.calcularCompatibilidade(perfil, vaga)
+                    : 0.0;
+            resultado.add(new CompatibilidadeParDto(par.desenvolvedorId(), par.vagaId(), compatibilidade));
+        }
+        return resultado;
+    }
+
+    /**
+     * Gera sob demanda a explicação completa do matching entre um desenvolvedor e uma vaga
+     * (motivos, sugestões e skills em comum/faltantes)
+     * @param usuarioId ID do desenvolvedor
+     * @param vagaId ID da vaga
+     * @return Detalhes do matching
+     * @throws RuntimeException se o perfil ou a vaga não forem encontrados
+     */
+    @Transactional(readOnly = true)
+    public JobMatchDto.MatchingDetails getExplicacao(Long usuarioId, Long vagaId) {
+        MatchFeatures.Perfil perfil = matchFeaturesService.getPerfil(usuarioId);
+        MatchFeatures.Vaga vaga = getFeaturesVaga(vagaId);
+
+        JobMatchDto.MatchingDetails details = new JobMatchDto.MatchingDetails();
+        matchScorer.calcularCompatibilidadeDetalhada(perfil, vaga, details);
+        return details;
+    }
+
+    /**
+     * Ranqueia desenvolvedores por compatibilidade com uma vaga (matching do lado da empresa).
+     * Os perfis são carregados em lote (com as habilidades) e pontuados em paralelo com as
+     * mesmas regras de {@link MatchScorer}, em paralelo quando há muitos perfis.
+     * @param vagaId ID da vaga
+     * @param apenasCandidaturas true para ranquear apenas quem se candidatou à vaga,
+     *                           false para ranquear todos os desenvolvedores com perfil
+     * @param limit Quantidade máxima de desenvolvedores (padrão 100, máximo 5000)
+     * @param minScore Compatibilidade mínima (padrão 0 para candidaturas e 60 para todos)
+     * @param detalhes true para incluir os detalhes do matching de cada desenvolvedor
+     * @return Desenvolvedores ordenados por ranking (compatibilidade e reputação do desenvolvedor)
+     * @throws RuntimeException se a vaga não for encontrada
+     */
+    @Transactional(readOnly = true)
+    public List<CandidatoMatchDto> getCandidatosCompativeis(Long vagaId, boolean apenasCandidaturas,
+                                                            Integer limit, Double minScore, boolean detalhes) {
+        int tamanho = limit == null || limit <= 0 ? LIMITE_PADRAO_CANDIDATOS : Math.min(limit, LIMITE_MAXIMO_CANDIDATOS);
+        double minimo = minScore == null
+                ? (apenasCandidaturas ? 0.0 : MatchScorer.COMPATIBILIDADE_MINIMA)
+                : Math.max(0.0, Math.min(100.0, minScore));
+
+        MatchFeatures.Vaga vaga = getFeaturesVaga(vagaId);
+
+        // Candidaturas da vaga (uma por desenvolvedor, a mais recente) para marcar quem se candidatou
+        Map<Long, Candidatura> candidaturas = new HashMap<>();
+        for (Candidatura candidatura : candidaturaRepository.findByVagaId(vagaId)) {
+            candidaturas.merge(candidatura.getUsuarioId(), candidatura,
+                    (atual, nova) -> nova.getId() > atual.getId() ? nova : atual);
         }
-        
-        // 4. PREFERÊNCIAS DE VAGA (Peso: 15%)
-        double pesoPreferencias = 15.0;
-        pesoTotal += pesoPreferencias;
-        double pontuacaoPreferencias = pesoPreferencias * 0.5; // Valor padrão neutro
-        
-        if (perfil.getPreferenciasVaga() != null && perfil.getPreferenciasVaga().length > 0) {
-            String tituloVaga = vaga.getTitle() != null ? vaga.getTitle().toLowerCase() : "";
-            boolean temMatch = false;
-            
-            for (String preferencia : perfil.getPreferenciasVaga()) {
-                String pref = preferencia.toLowerCase();
-                if (tituloVaga.contains(pref) || 
-                    (pref.contains("full") && tituloVaga.contains("full")) ||
-                    (pref.contains("front") && tituloVaga.contains("front")) ||
-                    (pref.contains("back") && tituloVaga.contains("back"))) {
-                    temMatch = true;
-                    if (details != null) {
-                        details.getMotivosPositivos().add("Vaga alinhada com suas preferências: " + preferencia);
+        Collection<Long> usuarioIds = apenasCandidaturas
+                ? candidaturas.keySet()
+                : perfilDevRepository.findAllUsuarioIds();
+
+        // Carrega os perfis em lote e pontua sem detalhes (em paralelo para muitos perfis)
+        Map<Long, MatchFeatures.Perfil> perfis = matchFeaturesService.getPerfis(usuarioIds);
+        Collector<MatchFeatures.Perfil, MelhoresPontuacoes, MelhoresPontuacoes> coletor = Collector.of(
+                () -> new MelhoresPontuacoes(tamanho),
+                (melhores, perfil) -> {
+                    double compatibilidade = matchScorer.calcularCompatibilidade(perfil, vaga);
+                    if (compatibilidade >= minimo) {
+                        // Do lado da empresa, o ranking considera a reputação do desenvolvedor
+                        melhores.oferecer(new Pontuacao(perfil.getUsuarioId(),
+                                reputacaoService.ranquear(compatibilidade, perfil.getUsuarioId()), compatibilidade));
                     }
-                    break;
-                }
-            }
-            
-            if (temMatch) {
-                pontuacaoPreferencias = pesoPreferencias;
-            } else {
-                pontuacaoPreferencias = pesoPreferencias * 0.4;
-            }
-        } else if (details != null) {
-            details.getSugestoesMelhoria().add("Adicione suas preferências de vaga no perfil");
+                },
+                MelhoresPontuacoes::juntar);
+        List<MatchFeatures.Perfil> avaliados = new ArrayList<>(perfis.values());
+        List<Pontuacao> ranking = (scoringExecutor.deveParalelizar(avaliados.size())
+                ? scoringExecutor.executarCpu(() -> avaliados.parallelStream().collect(coletor))
+                : avaliados.stream().collect(coletor))
+                .paraSelecao().pagina();
+        if (ranking.isEmpty()) {
+            return new ArrayList<>();
         }
-        pontuacao += pontuacaoPreferencias;
-        if (details != null) {
-            details.setScorePreferencias((pontuacaoPreferencias / pesoPreferencias) * 100);
+
+        // Busca os nomes apenas dos desenvolvedores retornados
+        Map<Long, String> nomes = new HashMap<>();
+        for (Usuario usuario : usuarioRepository.findAllById(
+                ranking.stream().map(Pontuacao::id).collect(Collectors.toList()))) {
+            nomes.put(usuario.getId(), usuario.getNome());
         }
-        
-        // 5. HABILIDADES/SKILLS (Peso: 25%) - MAIS IMPORTANTE
-        double pesoSkills = 25.0;
-        pesoTotal += pesoSkills;
-        double pontuacaoSkills = pesoSkills * 0.5; // Valor padrão neutro
-        
-        if (vaga.getSkills() != null && !vaga.getSkills().isEmpty()) {
-            // Busca as skills requeridas pela vaga
-            List<String> vagaSkills = vaga.getSkills().stream()
-                    .map(skill -> skill.getSkill().toLowerCase())
-                    .collect(Collectors.toList());
-            
-            // Busca as skills do desenvolvedor da tabela habilidades
-            List<String> perfilSkills = perfil.getHabilidades() != null ? 
-                    perfil.getHabilidades().stream()
-                            .map(h -> h.getHabilidade().toLowerCase())
-                            .collect(Collectors.toList()) 
-                    : new ArrayList<>();
-            
-            int skillsMatch = 0;
-            List<String> skillsEncontradas = new ArrayList<>();
-            List<String> skillsNaoEncontradas = new ArrayList<>();
-            
-            for (String skill : vagaSkills) {
-                boolean encontrada = perfilSkills.contains(skill);
-                if (encontrada) {
-                    skillsMatch++;
-                    skillsEncontradas.add(skill);
-                } else {
-                    skillsNaoEncontradas.add(skill);
-                }
-            }
-            
-            double percentualSkills = vagaSkills.isEmpty() ? 0.5 : 
-                    (double) skillsMatch / vagaSkills.size();
-            
-            pontuacaoSkills = pesoSkills * Math.min(1.0, percentualSkills + 0.2);
-            
-            // Popula detalhes das skills
-            if (details != null) {
-                details.setSkillsEmComum(skillsEncontradas);
-                details.setSkillsFaltantes(skillsNaoEncontradas);
-                
-                if (!skillsEncontradas.isEmpty()) {
-                    details.getMotivosPositivos().add("Você possui " + skillsEncontradas.size() + 
-                        " de " + vagaSkills.size() + " habilidades requeridas");
-                } else if (!skillsNaoEncontradas.isEmpty()) {
-                    details.getSugestoesMelhoria().add("Considere adicionar as habilidades requeridas ao seu perfil");
-                }
-                
-                if (!skillsNaoEncontradas.isEmpty() && skillsNaoEncontradas.size() <= 3) {
-                    details.getSugestoesMelhoria().add("Considere aprender: " + 
-                        String.join(", ", skillsNaoEncontradas.subList(0, Math.min(3, skillsNaoEncontradas.size()))));
-                }
+
+        List<CandidatoMatchDto> resultado = new ArrayList<>(ranking.size());
+        for (Pontuacao pontuacao : ranking) {
+            JobMatchDto.MatchingDetails details = null;
+            if (detalhes) {
+                details = new JobMatchDto.MatchingDetails();
+                matchScorer.calcularCompatibilidadeDetalhada(perfis.get(pontuacao.id()), vaga, details);
             }
-        } else if (details != null) {
-            // Se não há skills na vaga, dá pontuação neutra
-            pontuacaoSkills = pesoSkills * 0.5;
+            Candidatura candidatura = candidaturas.get(pontuacao.id());
+            resultado.add(new CandidatoMatchDto(
+                    pontuacao.id(),
+                    nomes.get(pontuacao.id()),
+                    candidatura != null ? candidatura.getId() : null,
+                    candidatura != null ? candidatura.getStatus() : null,
+                    pontuacao.compatibilidade(),
+                    details));
         }
-        pontuacao += pontuacaoSkills;
-        if (details != null) {
-            details.setScoreSkills((pontuacaoSkills / pesoSkills) * 100);
+        return resultado;
+    }
+
+    /**
+     * Busca as features de uma vaga, compilando-as a partir do banco se ela não estiver no índice
+     * @param vagaId ID da vaga
+     * @return Features da vaga
+     * @throws RuntimeException se a vaga não for encontrada
+     */
+    private MatchFeatures.Vaga getFeaturesVaga(Long vagaId) {
+        MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+        if (vaga != null) {
+            return vaga;
         }
-        
-        // Calcula percentual final
-        return (pontuacao / pesoTotal) * 100.0;
+        JobPosting entidade = jobPostingRepository.findById(vagaId)
+                .orElseThrow(() -> new RuntimeException("Vaga não encontrada"));
+        return matchFeaturesService.compilarVaga(entidade);
     }
-    
+
+
     /**
-     * Calcula o overlap entre duas faixas salariais
-     * @param faixa1 Primeira faixa salarial
-     * @param faixa2 Segunda faixa salarial
-     * @return Percentual de overlap (0-1)
+     * Heap limitado com as melhores pontuações (a pior fica no topo para ser descartada).
+     * Cada thread preenche o seu e os parciais são combinados no final.
      */
-    private double calcularOverlapSalarial(String faixa1, String faixa2) {
-        try {
-            // Extrai números das strings
-            String[] valores1 = faixa1.replaceAll("[^0-9-]", "").split("-");
-            String[] valores2 = faixa2.replaceAll("[^0-9-]", "").split("-");
-            
-            if (valores1.length >= 2 && valores2.length >= 2) {
-                int min1 = Integer.parseInt(valores1[0].trim());
-                int max1 = Integer.parseInt(valores1[1].trim());
-                int min2 = Integer.parseInt(valores2[0].trim());
-                int max2 = Integer.parseInt(valores2[1].trim());
-                
-                // Calcula overlap
-                int overlapMin = Math.max(min1, min2);
-                int overlapMax = Math.min(max1, max2);
-                
-                if (overlapMax > overlapMin) {
-                    int overlapRange = overlapMax - overlapMin;
-                    int totalRange = Math.max(max1, max2) - Math.min(min1, min2);
-                    return (double) overlapRange / totalRange;
-                }
+    private static final class MelhoresPontuacoes {
+        private final int limite;
+        private final PriorityQueue<Pontuacao> heap;
+        private boolean descartou;
+
+        MelhoresPontuacoes(int limite) {
+            this.limite = limite;
+            this.heap = new PriorityQueue<>(limite + 1, Pontuacao.ORDEM.reversed());
+        }
+
+        void oferecer(Pontuacao pontuacao) {
+            heap.offer(pontuacao);
+            if (heap.size() > limite) {
+                heap.poll();
+                descartou = true;
             }
-        } catch (Exception e) {
-            // Se não conseguir parsear, retorna valor neutro
-            return 0.5;
         }
-        
-        return 0.3; // Baixa compatibilidade se não houver overlap
+
+        MelhoresPontuacoes juntar(MelhoresPontuacoes outro) {
+            outro.heap.forEach(this::oferecer);
+            descartou |= outro.descartou;
+            return this;
+        }
+
+        Selecao paraSelecao() {
+            List<Pontuacao> pagina = new ArrayList<>(heap);
+            pagina.sort(Pontuacao.ORDEM);
+            return new Selecao(pagina, descartou, Map.of());
+        }
     }
-    
+
     /**
-     * Normaliza uma string para comparação (lowercase, trim, remove espaços extras)
-     * @param str String a ser normalizada
-     * @return String normalizada
+     * Página de pontuações selecionada, indicação de que há mais resultados e os scores por
+     * critério já conhecidos (quando lidos de job_matches)
      */
-    private String normalizarString(String str) {
-        if (str == null) {
-            return "";
+    private record Selecao(List<Pontuacao> pagina, boolean temMais, Map<Long, MatchScorer.Componentes> componentes) {}
+
+    /**
+     * Vaga candidata com o maior score de ranking que ela pode atingir
+     */
+    private record Teto(MatchFeatures.Vaga vaga, double score) {}
+
+    /**
+     * Pontuação sem detalhes de uma vaga (ou de um desenvolvedor, no matching reverso):
+     * score de ranking (compatibilidade combinada com a reputação, ver {@link ReputacaoService})
+     * e a compatibilidade exibida. A ordem (ranking decrescente, ID crescente) é total, o que
+     * permite usar o último item de uma página como cursor da próxima.
+     */
+    private record Pontuacao(Long id, double score, double compatibilidade) {
+        static final Comparator<Pontuacao> ORDEM = Comparator
+                .comparingDouble(Pontuacao::score).reversed()
+                .thenComparing(Pontuacao::id);
+
+        String paraCursor() {
+            return score + "_" + id;
+        }
+
+        static Pontuacao deCursor(String cursor) {
+            int separador = cursor.lastIndexOf('_');
+            try {
+                double score = Double.parseDouble(cursor.substring(0, separador));
+                return new Pontuacao(Long.parseLong(cursor.substring(separador + 1)), score, score);
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
         }
-        // Normaliza: lowercase, trim, remove múltiplos espaços, remove caracteres especiais
-        // Remove apenas caracteres não alfanuméricos (mantém letras e números)
-        String normalized = str.toLowerCase().trim().replaceAll("\\s+", " ");
-        // Remove caracteres especiais mas mantém letras acentuadas normalizadas
-        normalized = normalized.replaceAll("[^a-z0-9]", "").trim();
-        return normalized;
     }
 }
-
@@ -0,0 +1,99 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.dto.NovoMatchDto;
+import com.example.devmatch.job_posting_backend.entity.NovoMatch;
+import com.example.devmatch.job_posting_backend.repository.NovoMatchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço de leitura dos avisos de novos matches gravados pelo {@link JobMatchMaterializer}.
+ * As consultas só leem a tabela novos_matches (e o índice de vagas em memória), sem repontuar o catálogo.
+ */
+@Service
+public class NovoMatchService {
+
+    // Tamanho padrão e máximo da lista de novos matches
+    private static final int LIMITE_PADRAO = 20;
+    private static final int LIMITE_MAXIMO = 100;
+
+    @Autowired
+    private NovoMatchRepository novoMatchRepository;
+
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private JobPostingService jobPostingService;
+
+    /**
+     * Lista os novos matches não lidos de um desenvolvedor, do mais recente para o mais antigo
+     * @param usuarioId ID do desenvolvedor
+     * @param limit Quantidade máxima de avisos (padrão 20, máximo 100)
+     * @return Avisos não lidos de vagas ainda ativas
+     */
+    @Transactional(readOnly = true)
+    public List<NovoMatchDto> getNaoLidos(Long usuarioId, Integer limit) {
+        int tamanho = limit == null || limit <= 0 ? LIMITE_PADRAO : Math.min(limit, LIMITE_MAXIMO);
+        List<NovoMatch> avisos = novoMatchRepository.findNaoLidos(usuarioId, PageRequest.of(0, tamanho));
+
+        List<MatchFeatures.Vaga> vagas = new ArrayList<>(avisos.size());
+        List<Long> empresaIds = new ArrayList<>();
+        for (NovoMatch aviso : avisos) {
+            MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(aviso.getVagaId());
+            vagas.add(vaga);
+            if (vaga != null && vaga.getUsuarioId() != null) {
+                empresaIds.add(vaga.getUsuarioId());
+            }
+        }
+        Map<Long, String> nomesEmpresa = jobPostingService.getNomesEmpresa(empresaIds);
+
+        List<NovoMatchDto> resultado = new ArrayList<>(avisos.size());
+        for (int i = 0; i < avisos.size(); i++) {
+            NovoMatch aviso = avisos.get(i);
+            MatchFeatures.Vaga vaga = vagas.get(i);
+            // Vaga desativada depois do aviso: o materializador remove a entrada em seguida
+            if (vaga == null) {
+                continue;
+            }
+            resultado.add(new NovoMatchDto(
+                    aviso.getVagaId(),
+                    vaga.getTitulo(),
+                    nomesEmpresa.get(vaga.getUsuarioId()),
+                    aviso.getScore(),
+                    aviso.getDataCriacao()));
+        }
+        return resultado;
+    }
+
+    /**
+     * @param usuarioId ID do desenvolvedor
+     * @return Quantidade de novos matches não lidos
+     */
+    @Transactional(readOnly = true)
+    public long contarNaoLidos(Long usuarioId) {
+        return novoMatchRepository.countByUsuarioIdAndLidoFalse(usuarioId);
+    }
+
+    /**
+     * Marca novos matches como lidos
+     * @param usuarioId ID do desenvolvedor
+     * @param vagaIds Vagas a marcar; nulo ou vazio marca todos
+     * @return Quantidade de avisos marcados
+     */
+    @Transactional
+    public int marcarLidos(Long usuarioId, List<Long> vagaIds) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (vagaIds == null || vagaIds.isEmpty()) {
+            return novoMatchRepository.marcarTodosLidos(usuarioId, agora);
+        }
+        return novoMatchRepository.marcarLidos(usuarioId, vagaIds, agora);
+    }
+}
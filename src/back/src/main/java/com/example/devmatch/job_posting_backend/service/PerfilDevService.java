@@ -21,6 +21,15 @@ public class PerfilDevService {
     @Autowired
     private UsuarioRepository usuarioRepository;
     
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+    
+    @Autowired
+    private JobMatchMaterializer jobMatchMaterializer;
+
+    @Autowired
+    private Gazetteer gazetteer;
+    
     /**
      * Cria um novo perfil de desenvolvedor
      * @param perfilDto Dados do perfil a ser criado
@@ -42,9 +51,12 @@ public class PerfilDevService {
         PerfilDev perfil = perfilDto.toEntity();
         perfil.setDataAtualizacao(LocalDateTime.now());
         perfil.setPerfilCompleto(isPerfilCompleto(perfil));
+        resolverCoordenadas(perfil);
         
         // Salva no banco
         PerfilDev perfilSalvo = perfilDevRepository.save(perfil);
+        matchFeaturesService.invalidarPerfil(perfilSalvo.getUsuarioId());
+        jobMatchMaterializer.agendarPerfil(perfilSalvo.getUsuarioId());
         
         return PerfilDevDto.fromEntity(perfilSalvo);
     }
@@ -166,10 +178,15 @@ public class PerfilDevService {
         
         perfilExistente.setDataAtualizacao(LocalDateTime.now());
         perfilExistente.setPerfilCompleto(isPerfilCompleto(perfilExistente));
+        resolverCoordenadas(perfilExistente);
         
         // Salva as alterações
         PerfilDev perfilAtualizado = perfilDevRepository.save(perfilExistente);
         
+        // Descarta as features de matching compiladas do perfil antigo e recalcula seus matches
+        matchFeaturesService.invalidarPerfil(usuarioId);
+        jobMatchMaterializer.agendarPerfil(usuarioId);
+        
         return PerfilDevDto.fromEntity(perfilAtualizado);
     }
     
@@ -186,6 +203,17 @@ public class PerfilDevService {
         return PerfilDevDto.fromEntity(perfil);
     }
     
+    /**
+     * Preenche as coordenadas do perfil a partir da localização em texto livre
+     * (nulas quando o município não é reconhecido pelo Gazetteer)
+     * @param perfil Perfil a ser salvo
+     */
+    private void resolverCoordenadas(PerfilDev perfil) {
+        Gazetteer.Localidade localidade = gazetteer.resolver(perfil.getLocalizacao());
+        perfil.setLatitude(localidade != null ? localidade.latitude() : null);
+        perfil.setLongitude(localidade != null ? localidade.longitude() : null);
+    }
+    
     /**
      * Verifica se o perfil possui as informações mínimas necessárias
      * @param perfil Perfil a ser verificado
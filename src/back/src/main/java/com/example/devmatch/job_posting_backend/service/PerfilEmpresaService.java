@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 public class PerfilEmpresaService {
 
@@ -18,6 +20,9 @@ public class PerfilEmpresaService {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private JobPostingService jobPostingService;
+
     @Transactional
     public PerfilEmpresa criarOuAtualizar(Long usuarioId, PerfilEmpresaDto dto) {
         Usuario usuario = usuarioRepository.findById(usuarioId)
@@ -26,6 +31,7 @@ public class PerfilEmpresaService {
         PerfilEmpresa perfil = perfilEmpresaRepository.findByUsuarioId(usuarioId)
             .orElse(new PerfilEmpresa());
 
+        String localizacaoAnterior = perfil.getLocalizacao();
         perfil.setUsuario(usuario);
         perfil.setNomeEmpresa(dto.getNomeEmpresa());
         perfil.setDescricao(dto.getDescricao());
@@ -45,6 +51,10 @@ public class PerfilEmpresaService {
         perfil.setLogoUrl(dto.getLogoUrl());
 
         PerfilEmpresa perfilSalvo = perfilEmpresaRepository.save(perfil);
+        jobPostingService.invalidarNomeEmpresa(usuarioId);
+        if (!Objects.equals(localizacaoAnterior, perfilSalvo.getLocalizacao())) {
+            jobPostingService.atualizarLocalizacaoEmpresa(usuarioId);
+        }
 
         // Recarrega o perfil para garantir coleção de benefícios atualizada
         PerfilEmpresa perfilReload = perfilEmpresaRepository.findByUsuarioId(usuarioId)
@@ -0,0 +1,178 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.repository.PerfilDevRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice invertido em memória dos perfis de desenvolvedor, para o caminho inverso do matching
+ * (uma vaga contra os desenvolvedores). Mapeia o ID de cada skill para os desenvolvedores que a
+ * têm e agrupa os perfis por {@link MatchScorer.GrupoPerfil}, guardando só o bitset de skills e
+ * o grupo de cada um: as features completas não ficam em memória e são compiladas por lote
+ * na hora de pontuar.
+ */
+@Component
+public class PerfilMatchingIndex {
+
+    // Quantidade de perfis carregados por consulta ao montar o índice
+    private static final int TAMANHO_LOTE = 1000;
+
+    @Autowired
+    private PerfilDevRepository perfilDevRepository;
+
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+
+    @Autowired
+    private MatchScorer matchScorer;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // ID da skill -> IDs dos desenvolvedores que têm a skill
+    private final Map<Integer, Set<Long>> perfisPorSkill = new ConcurrentHashMap<>();
+
+    // Grupo -> IDs dos desenvolvedores do grupo
+    private final Map<MatchScorer.GrupoPerfil, Set<Long>> perfisPorGrupo = new ConcurrentHashMap<>();
+
+    // Grupo -> um perfil qualquer com os atributos do grupo (base para o teto sem skills)
+    private final Map<MatchScorer.GrupoPerfil, MatchFeatures.Perfil> representantes = new ConcurrentHashMap<>();
+
+    // ID do desenvolvedor -> o que foi indexado dele (para remover ao atualizar)
+    private final Map<Long, Indexado> indexados = new ConcurrentHashMap<>();
+
+    public PerfilMatchingIndex(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Indexa todos os perfis ao subir a aplicação (antes da materialização dos matches),
+     * compilando em lotes sem passar pelo cache de features
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(5)
+    public void carregar() {
+        List<Long> usuarioIds = perfilDevRepository.findAllUsuarioIds();
+        for (int i = 0; i < usuarioIds.size(); i += TAMANHO_LOTE) {
+            List<Long> lote = usuarioIds.subList(i, Math.min(i + TAMANHO_LOTE, usuarioIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PerfilDev perfil : perfilDevRepository.findAllByUsuarioIdInWithHabilidades(lote)) {
+                    atualizar(matchFeaturesService.compilarPerfil(perfil));
+                }
+            });
+        }
+    }
+
+    /**
+     * Seleciona os desenvolvedores candidatos para uma vaga: os que têm ao menos uma skill da
+     * vaga e os dos grupos cujo teto sem skills em comum ({@link MatchScorer#calcularTetoSemSkills})
+     * alcança o mínimo. Para vagas sem skills, todos os desenvolvedores.
+     * @param vaga Features da vaga
+     * @param minimo Compatibilidade mínima
+     * @return IDs dos desenvolvedores candidatos
+     */
+    public Set<Long> buscarCandidatos(MatchFeatures.Vaga vaga, double minimo) {
+        Set<Long> candidatos = new LinkedHashSet<>();
+        long[] skillBitsVaga = vaga.getSkillBits();
+        for (int palavra = 0; palavra < skillBitsVaga.length; palavra++) {
+            long bits = skillBitsVaga[palavra];
+            while (bits != 0) {
+                int skillId = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Set<Long> ids = perfisPorSkill.get(skillId);
+                if (ids != null) {
+                    candidatos.addAll(ids);
+                }
+            }
+        }
+        for (Map.Entry<MatchScorer.GrupoPerfil, Set<Long>> grupo : perfisPorGrupo.entrySet()) {
+            MatchFeatures.Perfil representante = representantes.get(grupo.getKey());
+            if (vaga.getSkills().length == 0
+                    || (representante != null && matchScorer.calcularTetoSemSkills(representante, vaga) >= minimo)) {
+                candidatos.addAll(grupo.getValue());
+            }
+        }
+        return candidatos;
+    }
+
+    /**
+     * Indexa (ou reindexa) um perfil compilado
+     * @param perfil Features do perfil
+     */
+    public synchronized void atualizar(MatchFeatures.Perfil perfil) {
+        Long usuarioId = perfil.getUsuarioId();
+        if (usuarioId == null) {
+            return;
+        }
+        remover(usuarioId);
+        MatchScorer.GrupoPerfil grupo = MatchScorer.GrupoPerfil.de(perfil);
+        long[] skillBits = perfil.getSkillBits();
+        for (int palavra = 0; palavra < skillBits.length; palavra++) {
+            long bits = skillBits[palavra];
+            while (bits != 0) {
+                int skillId = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                perfisPorSkill.computeIfAbsent(skillId, k -> ConcurrentHashMap.newKeySet()).add(usuarioId);
+            }
+        }
+        perfisPorGrupo.computeIfAbsent(grupo, k -> ConcurrentHashMap.newKeySet()).add(usuarioId);
+        representantes.putIfAbsent(grupo, perfil);
+        indexados.put(usuarioId, new Indexado(skillBits, grupo));
+    }
+
+    /**
+     * Remove um desenvolvedor do índice
+     * @param usuarioId ID do desenvolvedor
+     */
+    public synchronized void remover(Long usuarioId) {
+        Indexado anterior = indexados.remove(usuarioId);
+        if (anterior == null) {
+            return;
+        }
+        long[] skillBits = anterior.skillBits();
+        for (int palavra = 0; palavra < skillBits.length; palavra++) {
+            long bits = skillBits[palavra];
+            while (bits != 0) {
+                int skillId = (palavra << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Set<Long> ids = perfisPorSkill.get(skillId);
+                if (ids != null) {
+                    ids.remove(usuarioId);
+                    if (ids.isEmpty()) {
+                        perfisPorSkill.remove(skillId);
+                    }
+                }
+            }
+        }
+        Set<Long> ids = perfisPorGrupo.get(anterior.grupo());
+        if (ids != null) {
+            ids.remove(usuarioId);
+            if (ids.isEmpty()) {
+                perfisPorGrupo.remove(anterior.grupo());
+                representantes.remove(anterior.grupo());
+            }
+        }
+    }
+
+    /**
+     * @return Quantidade de desenvolvedores indexados
+     */
+    public int tamanho() {
+        return indexados.size();
+    }
+
+    private record Indexado(long[] skillBits, MatchScorer.GrupoPerfil grupo) {
+    }
+}
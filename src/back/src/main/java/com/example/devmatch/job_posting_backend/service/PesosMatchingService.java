@@ -0,0 +1,156 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.PerfilPesosMatching;
+import com.example.devmatch.job_posting_backend.repository.PerfilPesosMatchingRepository;
+import com.example.devmatch.job_posting_backend.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serviço que mantém os perfis de pesos do matching no banco e publica os planos de
+ * pontuação compilados no {@link PlanosPontuacao}, sem reiniciar a aplicação.
+ * Ao alterar um perfil, as vagas ativas afetadas são repontuadas em job_matches.
+ */
+@Service
+public class PesosMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PesosMatchingService.class);
+
+    @Autowired
+    private PerfilPesosMatchingRepository perfilPesosMatchingRepository;
+
+    @Autowired
+    private PlanosPontuacao planosPontuacao;
+
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private JobMatchMaterializer jobMatchMaterializer;
+
+    /**
+     * Carrega os perfis de pesos antes do índice de vagas e da materialização
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(-10)
+    public void carregar() {
+        recarregar();
+    }
+
+    /**
+     * Lê todos os perfis de pesos do banco, compila e publica os planos.
+     * Perfis inválidos (editados direto no banco) são ignorados e a empresa usa o plano padrão.
+     */
+    public void recarregar() {
+        PlanoPontuacao padrao = PlanoPontuacao.PADRAO;
+        Map<Long, PlanoPontuacao> proprios = new HashMap<>();
+        for (PerfilPesosMatching perfil : perfilPesosMatchingRepository.findAll()) {
+            try {
+                PlanoPontuacao plano = PlanoPontuacao.compilar(perfil);
+                if (perfil.getEmpresaUsuarioId() == null) {
+                    padrao = plano;
+                } else {
+                    proprios.put(perfil.getEmpresaUsuarioId(), plano);
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Perfil de pesos {} ignorado: {}", perfil.getId(), e.getMessage());
+            }
+        }
+        planosPontuacao.publicar(padrao, proprios);
+    }
+
+    /**
+     * Busca o perfil de pesos de uma empresa ou o padrão
+     * @param empresaUsuarioId ID do usuário da empresa (nulo para o padrão)
+     * @return Perfil salvo, ou um perfil com os valores padrão se não houver
+     */
+    @Transactional(readOnly = true)
+    public PerfilPesosMatching getPerfil(Long empresaUsuarioId) {
+        return buscar(empresaUsuarioId).orElseGet(() -> {
+            PerfilPesosMatching perfil = new PerfilPesosMatching();
+            perfil.setEmpresaUsuarioId(empresaUsuarioId);
+            return perfil;
+        });
+    }
+
+    /**
+     * Cria ou atualiza um perfil de pesos; o novo plano passa a valer após o commit
+     * @param empresaUsuarioId ID do usuário da empresa (nulo para o padrão)
+     * @param dados Pesos e fatores
+     * @return Perfil salvo
+     * @throws IllegalArgumentException se os pesos ou fatores forem inválidos
+     */
+    @Transactional
+    public PerfilPesosMatching salvar(Long empresaUsuarioId, PerfilPesosMatching dados) {
+        PlanoPontuacao.compilar(dados);
+
+        PerfilPesosMatching perfil = buscar(empresaUsuarioId).orElseGet(PerfilPesosMatching::new);
+        perfil.setEmpresaUsuarioId(empresaUsuarioId);
+        perfil.setPesoLocalizacao(dados.getPesoLocalizacao());
+        perfil.setPesoSalario(dados.getPesoSalario());
+        perfil.setPesoContrato(dados.getPesoContrato());
+        perfil.setPesoPreferencias(dados.getPesoPreferencias());
+        perfil.setPesoSkills(dados.getPesoSkills());
+        perfil.setFatorNeutro(dados.getFatorNeutro());
+        perfil.setFatorHibrido(dados.getFatorHibrido());
+        perfil.setFatorPresencialOutraLocalizacao(dados.getFatorPresencialOutraLocalizacao());
+        perfil.setFatorModalidadeDivergente(dados.getFatorModalidadeDivergente());
+        perfil.setFatorSalarioACombinar(dados.getFatorSalarioACombinar());
+        perfil.setFatorSalarioSemOverlap(dados.getFatorSalarioSemOverlap());
+        perfil.setFatorContratoSimilar(dados.getFatorContratoSimilar());
+        perfil.setFatorContratoDiferente(dados.getFatorContratoDiferente());
+        perfil.setFatorVagaSemRegime(dados.getFatorVagaSemRegime());
+        perfil.setFatorPreferenciaDivergente(dados.getFatorPreferenciaDivergente());
+        perfil.setBonusSkills(dados.getBonusSkills());
+        PerfilPesosMatching saved = perfilPesosMatchingRepository.save(perfil);
+
+        publicarERepontuar(empresaUsuarioId);
+        return saved;
+    }
+
+    /**
+     * Remove o perfil de pesos de uma empresa, que volta a usar o padrão
+     * @param empresaUsuarioId ID do usuário da empresa
+     */
+    @Transactional
+    public void remover(Long empresaUsuarioId) {
+        perfilPesosMatchingRepository.findByEmpresaUsuarioId(empresaUsuarioId).ifPresent(perfil -> {
+            perfilPesosMatchingRepository.delete(perfil);
+            publicarERepontuar(empresaUsuarioId);
+        });
+    }
+
+    private Optional<PerfilPesosMatching> buscar(Long empresaUsuarioId) {
+        return empresaUsuarioId == null
+                ? perfilPesosMatchingRepository.findFirstByEmpresaUsuarioIdIsNullOrderByIdAsc()
+                : perfilPesosMatchingRepository.findByEmpresaUsuarioId(empresaUsuarioId);
+    }
+
+    /**
+     * Publica os planos após o commit e agenda a repontuação das vagas ativas que usam o
+     * plano alterado (as da empresa ou, para o padrão, as de empresas sem plano próprio).
+     * A publicação é registrada antes dos agendamentos para rodar primeiro.
+     */
+    private void publicarERepontuar(Long empresaUsuarioId) {
+        TransactionUtils.aposCommit(this::recarregar);
+        for (MatchFeatures.Vaga vaga : jobMatchingIndex.getVagas()) {
+            boolean afetada = empresaUsuarioId == null
+                    ? !planosPontuacao.temPlanoProprio(vaga.getUsuarioId())
+                    : Objects.equals(empresaUsuarioId, vaga.getUsuarioId());
+            if (afetada) {
+                jobMatchMaterializer.agendarVaga(vaga.getVagaId());
+            }
+        }
+    }
+}
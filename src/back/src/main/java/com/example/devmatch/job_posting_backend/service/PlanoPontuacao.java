@@ -0,0 +1,125 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.PerfilPesosMatching;
+
+/**
+ * Plano de pontuação imutável usado pelo {@link MatchScorer}: pesos dos cinco critérios e
+ * fatores de crédito parcial. É compilado a partir de um {@link PerfilPesosMatching} e
+ * publicado pelo {@link PlanosPontuacao}; como nunca muda depois de criado, pode ser lido
+ * por várias threads sem sincronização.
+ */
+public final class PlanoPontuacao {
+
+    /**
+     * Plano padrão (mesmos valores usados antes de existirem perfis de pesos no banco)
+     */
+    public static final PlanoPontuacao PADRAO = new PlanoPontuacao(
+            20.0, 25.0, 15.0, 15.0, 25.0,
+            0.5, 0.7, 0.3, 0.4, 0.8, 0.3, 0.8, 0.3, 0.7, 0.4, 0.2);
+
+    private final double pesoLocalizacao;
+    private final double pesoSalario;
+    private final double pesoContrato;
+    private final double pesoPreferencias;
+    private final double pesoSkills;
+    private final double pesoTotal;
+
+    // Crédito dado a um critério não informado por um dos lados
+    private final double fatorNeutro;
+    private final double fatorHibrido;
+    private final double fatorPresencialOutraLocalizacao;
+    private final double fatorModalidadeDivergente;
+    private final double fatorSalarioACombinar;
+    // Crédito quando as faixas salariais não se sobrepõem (ou uma delas não é uma faixa)
+    private final double fatorSalarioSemOverlap;
+    private final double fatorContratoSimilar;
+    private final double fatorContratoDiferente;
+    private final double fatorVagaSemRegime;
+    private final double fatorPreferenciaDivergente;
+    // Bônus somado ao percentual de skills encontradas
+    private final double bonusSkills;
+
+    public PlanoPontuacao(double pesoLocalizacao, double pesoSalario, double pesoContrato,
+                          double pesoPreferencias, double pesoSkills,
+                          double fatorNeutro, double fatorHibrido, double fatorPresencialOutraLocalizacao,
+                          double fatorModalidadeDivergente, double fatorSalarioACombinar,
+                          double fatorSalarioSemOverlap, double fatorContratoSimilar,
+                          double fatorContratoDiferente, double fatorVagaSemRegime,
+                          double fatorPreferenciaDivergente, double bonusSkills) {
+        this.pesoLocalizacao = pesoLocalizacao;
+        this.pesoSalario = pesoSalario;
+        this.pesoContrato = pesoContrato;
+        this.pesoPreferencias = pesoPreferencias;
+        this.pesoSkills = pesoSkills;
+        this.pesoTotal = pesoLocalizacao + pesoSalario + pesoContrato + pesoPreferencias + pesoSkills;
+        this.fatorNeutro = fatorNeutro;
+        this.fatorHibrido = fatorHibrido;
+        this.fatorPresencialOutraLocalizacao = fatorPresencialOutraLocalizacao;
+        this.fatorModalidadeDivergente = fatorModalidadeDivergente;
+        this.fatorSalarioACombinar = fatorSalarioACombinar;
+        this.fatorSalarioSemOverlap = fatorSalarioSemOverlap;
+        this.fatorContratoSimilar = fatorContratoSimilar;
+        this.fatorContratoDiferente = fatorContratoDiferente;
+        this.fatorVagaSemRegime = fatorVagaSemRegime;
+        this.fatorPreferenciaDivergente = fatorPreferenciaDivergente;
+        this.bonusSkills = bonusSkills;
+    }
+
+    /**
+     * Compila um perfil de pesos em plano, validando os valores
+     * @param perfil Perfil de pesos salvo no banco
+     * @return Plano de pontuação
+     * @throws IllegalArgumentException se algum peso for negativo, a soma dos pesos for zero
+     *                                  ou algum fator estiver fora do intervalo 0-1
+     */
+    public static PlanoPontuacao compilar(PerfilPesosMatching perfil) {
+        PlanoPontuacao plano = new PlanoPontuacao(
+                perfil.getPesoLocalizacao(), perfil.getPesoSalario(), perfil.getPesoContrato(),
+                perfil.getPesoPreferencias(), perfil.getPesoSkills(),
+                perfil.getFatorNeutro(), perfil.getFatorHibrido(), perfil.getFatorPresencialOutraLocalizacao(),
+                perfil.getFatorModalidadeDivergente(), perfil.getFatorSalarioACombinar(),
+                perfil.getFatorSalarioSemOverlap(), perfil.getFatorContratoSimilar(),
+                perfil.getFatorContratoDiferente(), perfil.getFatorVagaSemRegime(),
+                perfil.getFatorPreferenciaDivergente(), perfil.getBonusSkills());
+        plano.validar();
+        return plano;
+    }
+
+    private void validar() {
+        double[] pesos = {pesoLocalizacao, pesoSalario, pesoContrato, pesoPreferencias, pesoSkills};
+        for (double peso : pesos) {
+            if (peso < 0 || Double.isNaN(peso)) {
+                throw new IllegalArgumentException("Pesos do matching não podem ser negativos");
+            }
+        }
+        if (pesoTotal <= 0) {
+            throw new IllegalArgumentException("A soma dos pesos do matching deve ser maior que zero");
+        }
+        double[] fatores = {fatorNeutro, fatorHibrido, fatorPresencialOutraLocalizacao, fatorModalidadeDivergente,
+                fatorSalarioACombinar, fatorSalarioSemOverlap, fatorContratoSimilar, fatorContratoDiferente,
+                fatorVagaSemRegime, fatorPreferenciaDivergente, bonusSkills};
+        for (double fator : fatores) {
+            if (!(fator >= 0 && fator <= 1)) {
+                throw new IllegalArgumentException("Fatores do matching devem estar entre 0 e 1");
+            }
+        }
+    }
+
+    public double getPesoLocalizacao() { return pesoLocalizacao; }
+    public double getPesoSalario() { return pesoSalario; }
+    public double getPesoContrato() { return pesoContrato; }
+    public double getPesoPreferencias() { return pesoPreferencias; }
+    public double getPesoSkills() { return pesoSkills; }
+    public double getPesoTotal() { return pesoTotal; }
+    public double getFatorNeutro() { return fatorNeutro; }
+    public double getFatorHibrido() { return fatorHibrido; }
+    public double getFatorPresencialOutraLocalizacao() { return fatorPresencialOutraLocalizacao; }
+    public double getFatorModalidadeDivergente() { return fatorModalidadeDivergente; }
+    public double getFatorSalarioACombinar() { return fatorSalarioACombinar; }
+    public double getFatorSalarioSemOverlap() { return fatorSalarioSemOverlap; }
+    public double getFatorContratoSimilar() { return fatorContratoSimilar; }
+    public double getFatorContratoDiferente() { return fatorContratoDiferente; }
+    public double getFatorVagaSemRegime() { return fatorVagaSemRegime; }
+    public double getFatorPreferenciaDivergente() { return fatorPreferenciaDivergente; }
+    public double getBonusSkills() { return bonusSkills; }
+}
@@ -0,0 +1,73 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registro dos planos de pontuação em uso. Cada empresa tem uma única referência
+ * ({@link AtomicReference}) compartilhada por todas as suas vagas compiladas, então a
+ * pontuação lê o plano com uma leitura volátil, sem consultar mapas nem travar.
+ * Ao publicar novos perfis, apenas o conteúdo das referências é trocado.
+ */
+@Component
+public class PlanosPontuacao {
+
+    // Plano padrão, também usado por vagas sem empresa
+    private final AtomicReference<PlanoPontuacao> padrao = new AtomicReference<>(PlanoPontuacao.PADRAO);
+
+    // Empresa → referência compartilhada pelas vagas da empresa
+    private final Map<Long, AtomicReference<PlanoPontuacao>> referencias = new ConcurrentHashMap<>();
+
+    // Empresas com perfil de pesos próprio; protegido pelo lock da instância
+    private Map<Long, PlanoPontuacao> proprios = Map.of();
+
+    /**
+     * Retorna a referência ao plano de uma empresa, criada na primeira chamada
+     * @param empresaUsuarioId ID do usuário da empresa (nulo para o plano padrão)
+     * @return Referência cujo conteúdo acompanha as publicações
+     */
+    public AtomicReference<PlanoPontuacao> referencia(Long empresaUsuarioId) {
+        if (empresaUsuarioId == null) {
+            return padrao;
+        }
+        AtomicReference<PlanoPontuacao> referencia = referencias.get(empresaUsuarioId);
+        if (referencia != null) {
+            return referencia;
+        }
+        synchronized (this) {
+            return referencias.computeIfAbsent(empresaUsuarioId,
+                    id -> new AtomicReference<>(proprios.getOrDefault(id, padrao.get())));
+        }
+    }
+
+    /**
+     * @param empresaUsuarioId ID do usuário da empresa (nulo para o plano padrão)
+     * @return Plano em uso pela empresa
+     */
+    public PlanoPontuacao getPlano(Long empresaUsuarioId) {
+        return referencia(empresaUsuarioId).get();
+    }
+
+    /**
+     * @param empresaUsuarioId ID do usuário da empresa
+     * @return true se a empresa tem perfil de pesos próprio
+     */
+    public synchronized boolean temPlanoProprio(Long empresaUsuarioId) {
+        return empresaUsuarioId != null && proprios.containsKey(empresaUsuarioId);
+    }
+
+    /**
+     * Troca os planos em uso
+     * @param novoPadrao Plano padrão
+     * @param novosProprios Planos das empresas com perfil próprio
+     */
+    public synchronized void publicar(PlanoPontuacao novoPadrao, Map<Long, PlanoPontuacao> novosProprios) {
+        proprios = Map.copyOf(novosProprios);
+        padrao.set(novoPadrao);
+        referencias.forEach((empresaUsuarioId, referencia) ->
+                referencia.set(proprios.getOrDefault(empresaUsuarioId, novoPadrao)));
+    }
+}
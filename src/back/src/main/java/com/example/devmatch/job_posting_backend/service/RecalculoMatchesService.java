@@ -0,0 +1,370 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.dto.ProgressoRecalculoDto;
+import com.example.devmatch.job_posting_backend.entity.PerfilDev;
+import com.example.devmatch.job_posting_backend.entity.RecalculoMatches;
+import com.example.devmatch.job_posting_backend.entity.RecalculoMatchesParte;
+import com.example.devmatch.job_posting_backend.entity.StatusRecalculo;
+import com.example.devmatch.job_posting_backend.repository.JobPostingRepository;
+import com.example.devmatch.job_posting_backend.repository.PerfilDevRepository;
+import com.example.devmatch.job_posting_backend.repository.RecalculoMatchesParteRepository;
+import com.example.devmatch.job_posting_backend.repository.RecalculoMatchesRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Recálculo completo da matriz desenvolvedor × vaga em job_matches, para reconstruir a tabela
+ * inteira após uma mudança de pesos ou uma importação em massa (o que não cabe em uma requisição).
+ * Os desenvolvedores são divididos em partes (faixas de IDs) processadas por várias threads;
+ * cada parte apaga e regrava os matches da sua faixa em uma única transação, junto com o seu
+ * checkpoint, então uma queda no meio da execução faz ela ser retomada (ao subir a aplicação)
+ * a partir das partes que faltam, sem refazer as concluídas. A pontuação é a mesma do
+ * {@link JobMatchMaterializer}; o índice de vagas descarta apenas os pares que não têm como
+ * atingir a compatibilidade mínima, então a matriz materializada é completa.
+ */
+@Service
+public class RecalculoMatchesService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecalculoMatchesService.class);
+
+    // Quantidade de linhas acumuladas antes de cada insert em lote
+    private static final int TAMANHO_LOTE_INSERCAO = 1000;
+
+    // Quantidade de vagas por consulta ao atualizar os contadores de matches no fim da execução
+    private static final int TAMANHO_LOTE_VAGAS = 1000;
+
+    // Tentativas de uma parte antes de a execução ser marcada como falha
+    private static final int MAXIMO_TENTATIVAS = 3;
+
+    private static final String SQL_APAGAR_FAIXA = "delete from job_matches where usuario_id between ? and ?";
+
+    @Autowired
+    private RecalculoMatchesRepository recalculoMatchesRepository;
+
+    @Autowired
+    private RecalculoMatchesParteRepository recalculoMatchesParteRepository;
+
+    @Autowired
+    private PerfilDevRepository perfilDevRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private JobMatchingIndex jobMatchingIndex;
+
+    @Autowired
+    private MatchFeaturesService matchFeaturesService;
+
+    @Autowired
+    private MatchScorer matchScorer;
+
+    @Autowired
+    private JobMatchMaterializer jobMatchMaterializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Desenvolvedores por parte (cada parte é um checkpoint)
+    @Value("${matching.recalculo.tamanho-parte:500}")
+    private int tamanhoParte = 500;
+
+    // Threads que processam as partes (0 = número de núcleos da máquina)
+    @Value("${matching.recalculo.threads:0}")
+    private int threads;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean executando = new AtomicBoolean();
+
+    // Progresso da execução corrente neste processo, para a vazão (pares por segundo)
+    private final AtomicLong paresNestaExecucao = new AtomicLong();
+    private volatile long inicioNestaExecucao;
+
+    private volatile ExecutorService workers;
+
+    public RecalculoMatchesService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Execução agendada (por padrão todas as noites às 3h; "-" em matching.recalculo.cron desativa)
+     */
+    @Scheduled(cron = "${matching.recalculo.cron:0 0 3 * * *}")
+    public void executarAgendado() {
+        try {
+            iniciar("agendado");
+        } catch (IllegalStateException e) {
+            log.info("Recálculo agendado ignorado: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retoma, ao subir a aplicação, a execução que estava em andamento quando ela caiu
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(20)
+    public void retomarPendente() {
+        recalculoMatchesRepository.findFirstByStatusOrderByIdDesc(StatusRecalculo.EM_ANDAMENTO)
+                .ifPresent(execucao -> {
+                    log.info("Retomando recálculo completo {} ({} de {} partes concluídas)",
+                            execucao.getId(), execucao.getPartesConcluidas(), execucao.getTotalPartes());
+                    executarEmSegundoPlano(execucao.getId());
+                });
+    }
+
+    /**
+     * Cria uma execução, dividindo os desenvolvedores em partes, e a processa em segundo plano
+     * @param origem "agendado" ou "manual"
+     * @return Progresso inicial da execução
+     * @throws IllegalStateException se já houver uma execução em andamento
+     */
+    public synchronized ProgressoRecalculoDto iniciar(String origem) {
+        if (executando.get() || recalculoMatchesRepository
+                .findFirstByStatusOrderByIdDesc(StatusRecalculo.EM_ANDAMENTO).isPresent()) {
+            throw new IllegalStateException("Já existe um recálculo completo em andamento");
+        }
+        RecalculoMatches execucao = transactionTemplate.execute(status -> criarExecucao(origem));
+        executarEmSegundoPlano(execucao.getId());
+        return paraProgresso(execucao);
+    }
+
+    /**
+     * Progresso da execução mais recente
+     * @return Progresso, ou null se nunca houve recálculo completo
+     */
+    public ProgressoRecalculoDto getProgresso() {
+        return recalculoMatchesRepository.findFirstByOrderByIdDesc().map(this::paraProgresso).orElse(null);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        ExecutorService atual = workers;
+        if (atual != null) {
+            atual.shutdownNow();
+        }
+    }
+
+    private RecalculoMatches criarExecucao(String origem) {
+        List<Long> usuarioIds = new ArrayList<>(perfilDevRepository.findAllUsuarioIds());
+        usuarioIds.sort(null);
+
+        RecalculoMatches execucao = new RecalculoMatches();
+        execucao.setOrigem(origem);
+        execucao.setStatus(StatusRecalculo.EM_ANDAMENTO);
+        execucao.setDataInicio(LocalDateTime.now());
+        execucao.setTotalPartes((usuarioIds.size() + tamanhoParte - 1) / tamanhoParte);
+        execucao = recalculoMatchesRepository.save(execucao);
+
+        // Faixas contíguas: cada parte vai até o ID anterior ao início da próxima, e a última
+        // até o maior ID possível, para incluir perfis criados durante a execução
+        List<RecalculoMatchesParte> partes = new ArrayList<>(execucao.getTotalPartes());
+        for (int i = 0, numero = 0; i < usuarioIds.size(); i += tamanhoParte, numero++) {
+            int proximo = i + tamanhoParte;
+            RecalculoMatchesParte parte = new RecalculoMatchesParte();
+            parte.setRecalculoId(execucao.getId());
+            parte.setNumero(numero);
+            parte.setUsuarioIdInicio(usuarioIds.get(i));
+            parte.setUsuarioIdFim(proximo < usuarioIds.size() ? usuarioIds.get(proximo) - 1 : Long.MAX_VALUE);
+            partes.add(parte);
+        }
+        recalculoMatchesParteRepository.saveAll(partes);
+        return execucao;
+    }
+
+    private void executarEmSegundoPlano(Long recalculoId) {
+        if (!executando.compareAndSet(false, true)) {
+            return;
+        }
+        Thread coordenador = new Thread(() -> {
+            try {
+                processar(recalculoId);
+            } catch (RuntimeException e) {
+                log.error("Falha no recálculo completo {}", recalculoId, e);
+            } finally {
+                executando.set(false);
+            }
+        }, "recalculo-matches");
+        coordenador.setDaemon(true);
+        coordenador.start();
+    }
+
+    /**
+     * Distribui as partes pendentes entre as threads e fecha a execução no final
+     */
+    private void processar(Long recalculoId) {
+        Queue<RecalculoMatchesParte> pendentes = new ConcurrentLinkedQueue<>(recalculoMatchesParteRepository
+                .findByRecalculoIdAndStatusNotOrderByNumero(recalculoId, StatusRecalculo.CONCLUIDO));
+        int quantidadeThreads = Math.max(1, Math.min(pendentes.size(),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors()));
+        AtomicReference<String> erro = new AtomicReference<>();
+        AtomicInteger sequencia = new AtomicInteger();
+        paresNestaExecucao.set(0);
+        inicioNestaExecucao = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(quantidadeThreads, r -> {
+            Thread thread = new Thread(r, "recalculo-matches-" + sequencia.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers = pool;
+        for (int i = 0; i < quantidadeThreads; i++) {
+            pool.execute(() -> {
+                RecalculoMatchesParte parte;
+                while (erro.get() == null && !Thread.currentThread().isInterrupted()
+                        && (parte = pendentes.poll()) != null) {
+                    try {
+                        processarParte(recalculoId, parte);
+                    } catch (RuntimeException e) {
+                        parte.setTentativas(parte.getTentativas() + 1);
+                        log.warn("Falha na parte {} do recálculo {} (tentativa {})",
+                                parte.getNumero(), recalculoId, parte.getTentativas(), e);
+                        if (parte.getTentativas() >= MAXIMO_TENTATIVAS) {
+                            erro.compareAndSet(null, "Parte " + parte.getNumero() + ": " + e.getMessage());
+                        } else {
+                            pendentes.add(parte);
+                        }
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        try {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            // Aplicação encerrando: a execução continua EM_ANDAMENTO e é retomada na próxima subida
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            workers = null;
+        }
+        if (erro.get() == null && !recalculoMatchesParteRepository
+                .findByRecalculoIdAndStatusNotOrderByNumero(recalculoId, StatusRecalculo.CONCLUIDO).isEmpty()) {
+            return; // Interrompida no encerramento: continua EM_ANDAMENTO e é retomada na próxima subida
+        }
+        finalizar(recalculoId, erro.get());
+    }
+
+    /**
+     * Regrava os matches de uma faixa de desenvolvedores e marca a parte como concluída,
+     * tudo na mesma transação
+     */
+    private void processarParte(Long recalculoId, RecalculoMatchesParte parte) {
+        long[] resultado = transactionTemplate.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            List<Long> usuarioIds = perfilDevRepository.findUsuarioIdsEntre(parte.getUsuarioIdInicio(), parte.getUsuarioIdFim());
+            jdbcTemplate.update(SQL_APAGAR_FAIXA, parte.getUsuarioIdInicio(), parte.getUsuarioIdFim());
+
+            long pares = 0;
+            long matches = 0;
+            List<Object[]> linhas = new ArrayList<>(TAMANHO_LOTE_INSERCAO);
+            List<PerfilDev> entidades = usuarioIds.isEmpty()
+                    ? List.of()
+                    : perfilDevRepository.findAllByUsuarioIdInWithHabilidades(usuarioIds);
+            // Compila os perfis direto do banco, sem passar pelo cache de features (não cabe a base inteira)
+            for (PerfilDev entidade : entidades) {
+                MatchFeatures.Perfil perfil = matchFeaturesService.compilarPerfil(entidade);
+                Set<Long> candidatas = jobMatchingIndex.buscarCandidatas(perfil, MatchScorer.COMPATIBILIDADE_MINIMA);
+                // Conta só os pares realmente pontuados, não os descartados pelo índice
+                pares += candidatas.size();
+                for (Long vagaId : candidatas) {
+                    MatchFeatures.Vaga vaga = jobMatchingIndex.getVaga(vagaId);
+                    if (vaga != null && jobMatchMaterializer.adicionarSeCompativel(linhas, perfil, vaga, agora) != null) {
+                        matches++;
+                    }
+                }
+                if (linhas.size() >= TAMANHO_LOTE_INSERCAO) {
+                    jobMatchMaterializer.inserir(linhas);
+                    linhas.clear();
+                }
+            }
+            jobMatchMaterializer.inserir(linhas);
+            perfilDevRepository.marcarMatchesCalculadosEntre(parte.getUsuarioIdInicio(), parte.getUsuarioIdFim(), agora);
+
+            parte.setStatus(StatusRecalculo.CONCLUIDO);
+            parte.setParesAvaliados(pares);
+            parte.setMatchesGravados(matches);
+            parte.setDataConclusao(agora);
+            recalculoMatchesParteRepository.save(parte);
+            recalculoMatchesRepository.registrarParteConcluida(recalculoId, pares, matches);
+            return new long[] {pares, matches};
+        });
+        paresNestaExecucao.addAndGet(resultado[0]);
+    }
+
+    private void finalizar(Long recalculoId, String erro) {
+        transactionTemplate.executeWithoutResult(status -> {
+            RecalculoMatches execucao = recalculoMatchesRepository.findById(recalculoId).orElseThrow();
+            execucao.setStatus(erro == null ? StatusRecalculo.CONCLUIDO : StatusRecalculo.FALHOU);
+            execucao.setErro(erro);
+            execucao.setDataFim(LocalDateTime.now());
+            recalculoMatchesRepository.save(execucao);
+        });
+        if (erro == null) {
+            List<Long> vagaIds = new ArrayList<>();
+            jobMatchingIndex.getVagas().forEach(vaga -> vagaIds.add(vaga.getVagaId()));
+            for (int i = 0; i < vagaIds.size(); i += TAMANHO_LOTE_VAGAS) {
+                List<Long> lote = vagaIds.subList(i, Math.min(i + TAMANHO_LOTE_VAGAS, vagaIds.size()));
+                transactionTemplate.executeWithoutResult(status -> jobPostingRepository.atualizarContadorMatches(lote));
+            }
+        }
+        log.info("Recálculo completo {} {}", recalculoId, erro == null ? "concluído" : "falhou: " + erro);
+    }
+
+    private ProgressoRecalculoDto paraProgresso(RecalculoMatches execucao) {
+        double percentual = execucao.getTotalPartes() > 0
+                ? execucao.getPartesConcluidas() * 100.0 / execucao.getTotalPartes()
+                : 100.0;
+        double paresPorSegundo;
+        if (execucao.getStatus() == StatusRecalculo.EM_ANDAMENTO && executando.get()) {
+            // Vazão desde que este processo começou (ou retomou) a execução
+            double segundos = (System.nanoTime() - inicioNestaExecucao) / 1e9;
+            paresPorSegundo = segundos > 0 ? paresNestaExecucao.get() / segundos : 0.0;
+        } else {
+            LocalDateTime fim = execucao.getDataFim() != null ? execucao.getDataFim() : LocalDateTime.now();
+            double segundos = execucao.getDataInicio() != null
+                    ? Duration.between(execucao.getDataInicio(), fim).toMillis() / 1000.0
+                    : 0.0;
+            paresPorSegundo = segundos > 0 ? execucao.getParesAvaliados() / segundos : 0.0;
+        }
+        return new ProgressoRecalculoDto(
+                execucao.getId(),
+                execucao.getStatus().name(),
+                execucao.getOrigem(),
+                execucao.getTotalPartes(),
+                execucao.getPartesConcluidas(),
+                Math.round(percentual * 10.0) / 10.0,
+                execucao.getParesAvaliados(),
+                execucao.getMatchesGravados(),
+                Math.round(paresPorSegundo),
+                execucao.getDataInicio(),
+                execucao.getDataFim(),
+                execucao.getErro());
+    }
+}
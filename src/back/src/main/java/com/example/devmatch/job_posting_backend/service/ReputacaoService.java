@@ -0,0 +1,175 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.entity.UserReputation;
+import com.example.devmatch.job_posting_backend.repository.UserReputationRepository;
+import com.example.devmatch.job_posting_backend.util.MapaLongDouble;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Reputações (tabela user_reputation) mantidas em memória para o ranking do matching.
+ * A nota de cada usuário é suavizada pela média bayesiana:
+ * {@code (C * mediaGlobal + n * media) / (C + n)}, com C = {@code matching.reputacao.prior}
+ * avaliações "fictícias" na média da plataforma; quem tem poucas avaliações fica perto da média
+ * e quem não tem nenhuma fica exatamente nela. O ranking combina a compatibilidade com essa nota
+ * sem nenhuma consulta por linha. Os dados ficam em mapas primitivos imutáveis depois de
+ * publicados: cada feedback gera uma cópia atualizada (avaliações são raras perto das leituras).
+ */
+@Service
+public class ReputacaoService {
+
+    // Nota máxima de uma avaliação (estrelas)
+    private static final double NOTA_MAXIMA = 5.0;
+
+    // Média usada enquanto não houver nenhuma avaliação na plataforma
+    private static final double NOTA_NEUTRA = 3.0;
+
+    @Autowired
+    private UserReputationRepository userReputationRepository;
+
+    // Peso da reputação no score de ranking (0 = só compatibilidade)
+    @Value("${matching.reputacao.peso:0.1}")
+    private double peso = 0.1;
+
+    // Quantidade de avaliações na média global somadas a cada usuário (C da média bayesiana)
+    @Value("${matching.reputacao.prior:5}")
+    private double prior = 5;
+
+    private volatile Reputacoes reputacoes = new Reputacoes(new MapaLongDouble(), new MapaLongDouble(), 0, 0);
+
+    /**
+     * Carrega todas as reputações ao subir a aplicação (antes da materialização dos matches)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(-5)
+    public void carregar() {
+        List<UserReputation> todas = userReputationRepository.findAll();
+        MapaLongDouble somas = new MapaLongDouble(todas.size());
+        MapaLongDouble quantidades = new MapaLongDouble(todas.size());
+        double somaTotal = 0;
+        double quantidadeTotal = 0;
+        for (UserReputation reputacao : todas) {
+            if (reputacao.getScoreMedio() == null || reputacao.getTotalFeedbacks() == null
+                    || reputacao.getTotalFeedbacks() <= 0) {
+                continue;
+            }
+            double quantidade = reputacao.getTotalFeedbacks();
+            double soma = reputacao.getScoreMedio() * quantidade;
+            somas.put(reputacao.getUserId(), soma);
+            quantidades.put(reputacao.getUserId(), quantidade);
+            somaTotal += soma;
+            quantidadeTotal += quantidade;
+        }
+        reputacoes = new Reputacoes(somas, quantidades, somaTotal, quantidadeTotal);
+    }
+
+    /**
+     * Atualiza a reputação de um usuário em memória. Deve ser chamado após o commit do feedback.
+     * @param usuarioId ID do usuário avaliado
+     * @param media Média das avaliações recebidas (ou null se ele não tiver mais avaliações)
+     * @param quantidade Quantidade de avaliações recebidas
+     */
+    public synchronized void atualizar(Long usuarioId, Double media, long quantidade) {
+        Reputacoes atual = reputacoes;
+        MapaLongDouble somas = atual.somas.copia();
+        MapaLongDouble quantidades = atual.quantidades.copia();
+        double somaTotal = atual.somaTotal - somas.get(usuarioId, 0.0);
+        double quantidadeTotal = atual.quantidadeTotal - quantidades.get(usuarioId, 0.0);
+        if (media == null || quantidade <= 0) {
+            somas.remove(usuarioId);
+            quantidades.remove(usuarioId);
+        } else {
+            somas.put(usuarioId, media * quantidade);
+            quantidades.put(usuarioId, quantidade);
+            somaTotal += media * quantidade;
+            quantidadeTotal += quantidade;
+        }
+        reputacoes = new Reputacoes(somas, quantidades, somaTotal, quantidadeTotal);
+    }
+
+    /**
+     * Nota suavizada de um usuário (média bayesiana, de 0 a 5)
+     * @param usuarioId ID do usuário
+     * @return Nota suavizada; a média da plataforma para quem não tem avaliações
+     */
+    public double getNotaSuavizada(Long usuarioId) {
+        return reputacoes.notaSuavizada(usuarioId, prior);
+    }
+
+    /**
+     * Score usado para ordenar resultados do matching: combinação convexa da compatibilidade
+     * com a nota suavizada do outro lado (empresa dona da vaga, para o desenvolvedor;
+     * desenvolvedor, para a empresa), ambas de 0 a 100
+     * @param compatibilidade Compatibilidade do par (0-100)
+     * @param usuarioIdAvaliado ID do usuário cuja reputação entra no ranking
+     * @return Score de ranking (0-100)
+     */
+    public double ranquear(double compatibilidade, Long usuarioIdAvaliado) {
+        if (peso <= 0) {
+            return compatibilidade;
+        }
+        return getFatorCompatibilidade() * compatibilidade + getFatorReputacao() * getNotaSuavizada(usuarioIdAvaliado);
+    }
+
+    /**
+     * Coeficientes do ranking, para recalculá-lo em SQL a partir do score gravado:
+     * {@code ranquear(c, id) == getFatorCompatibilidade() * c + getFatorReputacao() * getNotaSuavizada(id)}
+     */
+    public double getFatorCompatibilidade() {
+        return peso <= 0 ? 1.0 : 1.0 - peso;
+    }
+
+    public double getFatorReputacao() {
+        return peso <= 0 ? 0.0 : peso * 100.0 / NOTA_MAXIMA;
+    }
+
+    /**
+     * @return Média das avaliações da plataforma (nota de quem ainda não foi avaliado)
+     */
+    public double getMediaGlobal() {
+        return reputacoes.mediaGlobal;
+    }
+
+    /**
+     * @return Quantidade de avaliações na média global somadas a cada usuário (C da média bayesiana)
+     */
+    public double getPrior() {
+        return prior;
+    }
+
+    /**
+     * Snapshot imutável das reputações: soma das notas e quantidade de avaliações por usuário
+     */
+    private static final class Reputacoes {
+        private final MapaLongDouble somas;
+        private final MapaLongDouble quantidades;
+        private final double somaTotal;
+        private final double quantidadeTotal;
+        private final double mediaGlobal;
+
+        Reputacoes(MapaLongDouble somas, MapaLongDouble quantidades, double somaTotal, double quantidadeTotal) {
+            this.somas = somas;
+            this.quantidades = quantidades;
+            this.somaTotal = somaTotal;
+            this.quantidadeTotal = quantidadeTotal;
+            this.mediaGlobal = quantidadeTotal > 0 ? somaTotal / quantidadeTotal : NOTA_NEUTRA;
+        }
+
+        double notaSuavizada(Long usuarioId, double prior) {
+            if (usuarioId == null) {
+                return mediaGlobal;
+            }
+            double quantidade = quantidades.get(usuarioId, 0.0);
+            if (quantidade <= 0) {
+                return mediaGlobal;
+            }
+            return (prior * mediaGlobal + somas.get(usuarioId, 0.0)) / (prior + quantidade);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * ForkJoinPool dedicado à pontuação (CPU) de catálogos grandes no matching.
+ * Abaixo do limiar configurado a pontuação roda na thread da requisição.
+ */
+@Component
+public class ScoringExecutor {
+
+    private final ForkJoinPool pool;
+
+    // Quantidade mínima de itens pontuados para usar o pool paralelo
+    private final int limiar;
+
+    public ScoringExecutor(@Value("${matching.paralelismo.threads:0}") int threads,
+                           @Value("${matching.paralelismo.limiar:2000}") int limiar) {
+        this.pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        this.limiar = limiar;
+    }
+
+    /**
+     * @param quantidade Quantidade de itens a pontuar
+     * @return true se a pontuação deve ser dividida entre os núcleos
+     */
+    public boolean deveParalelizar(int quantidade) {
+        return quantidade >= limiar;
+    }
+
+    /**
+     * Executa uma tarefa de CPU no pool de pontuação; streams paralelos criados dentro
+     * da tarefa são divididos entre as threads desse pool
+     * @param tarefa Tarefa a executar
+     * @return Resultado da tarefa
+     */
+    public <T> T executarCpu(Supplier<T> tarefa) {
+        return pool.submit(tarefa::get).join();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdownNow();
+    }
+}
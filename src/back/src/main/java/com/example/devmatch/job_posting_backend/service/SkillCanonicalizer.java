@@ -0,0 +1,197 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolve os nomes de skills digitados por empresas e desenvolvedores para uma forma canônica
+ * ("React.js" e "ReactJS" → "react", "Postgres" → "postgresql").
+ * A resolução usa, nesta ordem: a tabela de sinônimos (skills/sinonimos.txt), a chave
+ * normalizada (sem acentos, pontuação e espaços) e, para nomes desconhecidos, a similaridade
+ * de trigramas contra o vocabulário já conhecido. O resultado de cada nome é guardado em cache,
+ * então a busca aproximada roda uma única vez por variação, na compilação das features,
+ * e nunca durante a pontuação.
+ */
+@Component
+public class SkillCanonicalizer {
+
+    private static final String ARQUIVO_SINONIMOS = "skills/sinonimos.txt";
+
+    // Similaridade mínima (coeficiente de Dice sobre trigramas) para considerar duas skills iguais
+    private static final double SIMILARIDADE_MINIMA = 0.75;
+
+    // Chaves mais curtas que isso não passam pela busca aproximada ("go" x "git", "c" x "r")
+    private static final int TAMANHO_MINIMO_APROXIMADO = 5;
+
+    // Nome normalizado (SkillDictionary.normalizar) → forma canônica
+    private final Map<String, String> resolvidas = new ConcurrentHashMap<>();
+
+    // Vocabulário conhecido: chave → forma canônica; protegido pelo lock da instância
+    private final Map<String, String> canonicaPorChave = new HashMap<>();
+
+    // Índice invertido de trigramas: trigrama → posições em chaves/quantidadeTrigramas
+    private final Map<String, List<Integer>> chavesPorTrigrama = new HashMap<>();
+    private final List<String> chaves = new ArrayList<>();
+    private final List<Integer> quantidadeTrigramas = new ArrayList<>();
+
+    public SkillCanonicalizer() {
+        carregarSinonimos();
+    }
+
+    /**
+     * Retorna a forma canônica de uma skill
+     * @param skill Nome da skill como foi cadastrado
+     * @return Forma canônica (minúsculas), ou string vazia para nomes em branco
+     */
+    public String canonizar(String skill) {
+        String normalizada = SkillDictionary.normalizar(skill);
+        if (normalizada.isEmpty()) {
+            return normalizada;
+        }
+        String canonica = resolvidas.get(normalizada);
+        if (canonica != null) {
+            return canonica;
+        }
+        return resolvidas.computeIfAbsent(normalizada, this::resolver);
+    }
+
+    /**
+     * @return Quantidade de chaves no vocabulário
+     */
+    public synchronized int tamanhoVocabulario() {
+        return chaves.size();
+    }
+
+    private synchronized String resolver(String normalizada) {
+        String chave = chave(normalizada);
+        if (chave.isEmpty()) {
+            return normalizada;
+        }
+        String canonica = canonicaPorChave.get(chave);
+        if (canonica == null) {
+            canonica = buscarAproximada(chave);
+        }
+        if (canonica == null) {
+            canonica = normalizada;
+        }
+        registrar(chave, canonica);
+        return canonica;
+    }
+
+    /**
+     * Procura no índice de trigramas a chave mais parecida com a informada
+     * @return Forma canônica da chave mais parecida, ou null se nenhuma atingir a similaridade mínima
+     */
+    private String buscarAproximada(String chave) {
+        if (chave.length() < TAMANHO_MINIMO_APROXIMADO) {
+            return null;
+        }
+        List<String> trigramas = trigramas(chave);
+        Map<Integer, Integer> emComum = new HashMap<>();
+        for (String trigrama : trigramas) {
+            List<Integer> posicoes = chavesPorTrigrama.get(trigrama);
+            if (posicoes != null) {
+                for (Integer posicao : posicoes) {
+                    emComum.merge(posicao, 1, Integer::sum);
+                }
+            }
+        }
+
+        int melhor = -1;
+        double melhorSimilaridade = SIMILARIDADE_MINIMA;
+        for (Map.Entry<Integer, Integer> entrada : emComum.entrySet()) {
+            int posicao = entrada.getKey();
+            if (chaves.get(posicao).length() < TAMANHO_MINIMO_APROXIMADO) {
+                continue;
+            }
+            double similaridade = 2.0 * entrada.getValue() / (trigramas.size() + quantidadeTrigramas.get(posicao));
+            if (similaridade > melhorSimilaridade || (similaridade == melhorSimilaridade && melhor < 0)) {
+                melhor = posicao;
+                melhorSimilaridade = similaridade;
+            }
+        }
+        return melhor >= 0 ? canonicaPorChave.get(chaves.get(melhor)) : null;
+    }
+
+    private void registrar(String chave, String canonica) {
+        if (canonicaPorChave.putIfAbsent(chave, canonica) != null) {
+            return;
+        }
+        int posicao = chaves.size();
+        chaves.add(chave);
+        List<String> trigramas = trigramas(chave);
+        quantidadeTrigramas.add(trigramas.size());
+        for (String trigrama : trigramas) {
+            chavesPorTrigrama.computeIfAbsent(trigrama, t -> new ArrayList<>()).add(posicao);
+        }
+    }
+
+    private void carregarSinonimos() {
+        ClassPathResource recurso = new ClassPathResource(ARQUIVO_SINONIMOS);
+        if (!recurso.exists()) {
+            return;
+        }
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(recurso.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.trim();
+                int separador = linha.indexOf('=');
+                if (linha.isEmpty() || linha.startsWith("#") || separador < 0) {
+                    continue;
+                }
+                String canonica = SkillDictionary.normalizar(linha.substring(0, separador));
+                registrar(chave(canonica), canonica);
+                for (String variacao : linha.substring(separador + 1).split(",")) {
+                    String chave = chave(SkillDictionary.normalizar(variacao));
+                    if (!chave.isEmpty()) {
+                        registrar(chave, canonica);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao carregar sinônimos de skills: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Chave de comparação: sem acentos e mantendo apenas letras, dígitos, '+' e '#'
+     */
+    static String chave(String normalizada) {
+        String semAcentos = Normalizer.normalize(normalizada, Normalizer.Form.NFD);
+        StringBuilder chave = new StringBuilder(semAcentos.length());
+        for (int i = 0; i < semAcentos.length(); i++) {
+            char c = semAcentos.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                chave.append(c);
+            }
+        }
+        return chave.toString();
+    }
+
+    /**
+     * Trigramas distintos da chave, com preenchimento nas pontas para valorizar o início e o fim
+     */
+    private static List<String> trigramas(String chave) {
+        String preenchida = "  " + chave + " ";
+        List<String> trigramas = new ArrayList<>(preenchida.length() - 2);
+        for (int i = 0; i + 3 <= preenchida.length(); i++) {
+            String trigrama = preenchida.substring(i, i + 3);
+            if (!trigramas.contains(trigrama)) {
+                trigramas.add(trigrama);
+            }
+        }
+        return trigramas;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dicionário global de skills usado pelo matching.
+ * Cada skill normalizada recebe um ID inteiro denso, o que permite representar o
+ * conjunto de skills de uma vaga ou de um perfil como um bitset (long[]) e calcular
+ * a interseção com AND + popcount, sem alocar strings ou listas a cada comparação.
+ */
+@Component
+public class SkillDictionary {
+
+    private final Map<String, Integer> idsPorSkill = new ConcurrentHashMap<>();
+
+    private final AtomicInteger proximoId = new AtomicInteger();
+
+    /**
+     * Normaliza uma skill para uso como chave do dicionário
+     * @param skill Nome da skill
+     * @return Skill em minúsculas e sem espaços nas pontas
+     */
+    public static String normalizar(String skill) {
+        return skill == null ? "" : skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Retorna o ID da skill, registrando-a no dicionário se ainda não existir
+     * @param skillNormalizada Skill já normalizada
+     * @return ID denso da skill
+     */
+    public int getOuRegistrar(String skillNormalizada) {
+        Integer id = idsPorSkill.get(skillNormalizada);
+        if (id != null) {
+            return id;
+        }
+        return idsPorSkill.computeIfAbsent(skillNormalizada, s -> proximoId.getAndIncrement());
+    }
+
+    /**
+     * @return Quantidade de skills registradas
+     */
+    public int tamanho() {
+        return idsPorSkill.size();
+    }
+
+    /**
+     * Monta o bitset de um conjunto de skills já normalizadas
+     * @param skillsNormalizadas Skills normalizadas (sem repetição)
+     * @return Bitset com um bit ligado por skill
+     */
+    public long[] criarBitset(Iterable<String> skillsNormalizadas) {
+        long[] bits = new long[0];
+        for (String skill : skillsNormalizadas) {
+            int id = getOuRegistrar(skill);
+            int palavra = id >>> 6;
+            if (palavra >= bits.length) {
+                bits = Arrays.copyOf(bits, palavra + 1);
+            }
+            bits[palavra] |= 1L << id;
+        }
+        return bits;
+    }
+
+    /**
+     * Conta quantas skills dois bitsets têm em comum
+     * @param a Primeiro bitset
+     * @param b Segundo bitset
+     * @return Tamanho da interseção
+     */
+    public static int contarEmComum(long[] a, long[] b) {
+        int limite = Math.min(a.length, b.length);
+        int total = 0;
+        for (int i = 0; i < limite; i++) {
+            total += Long.bitCount(a[i] & b[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Verifica se a skill de um ID está presente no bitset
+     * @param bits Bitset
+     * @param id ID da skill
+     * @return true se o bit estiver ligado
+     */
+    public static boolean contem(long[] bits, int id) {
+        int palavra = id >>> 6;
+        return palavra < bits.length && (bits[palavra] & (1L << id)) != 0;
+    }
+}
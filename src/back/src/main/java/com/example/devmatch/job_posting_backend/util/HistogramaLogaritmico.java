@@ -0,0 +1,99 @@
+package com.example.devmatch.job_posting_backend.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Esboço (sketch) de quantis com faixas logarítmicas, no estilo do DDSketch: um valor positivo x
+ * cai na faixa {@code ceil(ln(x) / ln(GAMA))}, e qualquer valor da faixa é representado com erro
+ * relativo de no máximo {@value #ERRO_RELATIVO}. Dois esboços se combinam somando as contagens
+ * faixa a faixa, então esboços diários podem ser guardados separadamente e unidos na leitura.
+ * O número de faixas depende só da amplitude dos valores (algumas centenas para dias entre uma
+ * hora e dez anos), não da quantidade de valores.
+ */
+public final class HistogramaLogaritmico {
+
+    // Erro relativo máximo do valor representado de cada faixa
+    public static final double ERRO_RELATIVO = 0.01;
+
+    public static final double GAMA = (1 + ERRO_RELATIVO) / (1 - ERRO_RELATIVO);
+
+    // Faixa reservada aos valores nulos ou negativos (abaixo de qualquer faixa real)
+    public static final int FAIXA_ZERO = -100_000;
+
+    private final int[] faixas;
+    private final long[] quantidades;
+    private final long total;
+
+    private HistogramaLogaritmico(int[] faixas, long[] quantidades) {
+        this.faixas = faixas;
+        this.quantidades = quantidades;
+        this.total = Arrays.stream(quantidades).sum();
+    }
+
+    /**
+     * @param valor Valor a classificar
+     * @return Faixa do valor
+     */
+    public static int faixa(double valor) {
+        return valor <= 0 ? FAIXA_ZERO : (int) Math.ceil(Math.log(valor) / Math.log(GAMA));
+    }
+
+    /**
+     * Mesma classificação de {@link #faixa(double)} como expressão SQL (PostgreSQL)
+     * @param expressao Expressão SQL com o valor
+     * @return Expressão SQL inteira com a faixa
+     */
+    public static String faixaSql(String expressao) {
+        return "case when " + expressao + " <= 0 then " + FAIXA_ZERO
+                + " else cast(ceil(ln(" + expressao + ") / ln(" + GAMA + ")) as integer) end";
+    }
+
+    /**
+     * @param faixa Faixa
+     * @return Valor que representa a faixa (ponto de menor erro relativo)
+     */
+    public static double valor(int faixa) {
+        return faixa == FAIXA_ZERO ? 0d : 2 * Math.pow(GAMA, faixa) / (GAMA + 1);
+    }
+
+    /**
+     * Monta o esboço a partir das linhas {faixa, quantidade} ordenadas por faixa
+     * (ex.: soma dos esboços diários agrupada por faixa no banco)
+     */
+    public static HistogramaLogaritmico deLinhas(List<Object[]> linhas) {
+        int[] faixas = new int[linhas.size()];
+        long[] quantidades = new long[linhas.size()];
+        for (int i = 0; i < linhas.size(); i++) {
+            faixas[i] = ((Number) linhas.get(i)[0]).intValue();
+            quantidades[i] = ((Number) linhas.get(i)[1]).longValue();
+        }
+        return new HistogramaLogaritmico(faixas, quantidades);
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Quantil aproximado (erro relativo de até {@value #ERRO_RELATIVO} sobre o valor exato
+     * de mesma posição)
+     * @param q Quantil entre 0 e 1 (ex.: 0.5 para a mediana)
+     * @return Valor do quantil, ou 0 se o esboço estiver vazio
+     */
+    public double quantil(double q) {
+        if (total == 0) {
+            return 0d;
+        }
+        // Posição (a partir de 0) do valor procurado na sequência ordenada
+        long posicao = (long) Math.floor(q * (total - 1));
+        long acumulado = 0;
+        for (int i = 0; i < faixas.length; i++) {
+            acumulado += quantidades[i];
+            if (acumulado > posicao) {
+                return valor(faixas[i]);
+            }
+        }
+        return valor(faixas[faixas.length - 1]);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.devmatch.job_posting_backend.util;
+
+import java.util.Arrays;
+
+/**
+ * Mapa long → double com endereçamento aberto (sondagem linear) sobre arrays primitivos,
+ * sem boxing de chaves e valores. Não é thread-safe: quem compartilha uma instância entre
+ * threads deve tratá-la como imutável depois de publicada (ver {@link #copia()}).
+ */
+public class MapaLongDouble {
+
+    private static final float FATOR_CARGA = 0.5f;
+
+    private long[] chaves;
+    private double[] valores;
+    private boolean[] ocupadas;
+    private int tamanho;
+
+    public MapaLongDouble() {
+        this(16);
+    }
+
+    /**
+     * @param capacidadeEsperada Quantidade de entradas prevista (evita redimensionamentos)
+     */
+    public MapaLongDouble(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(4, (int) (capacidadeEsperada / FATOR_CARGA)) - 1) << 1;
+        chaves = new long[capacidade];
+        valores = new double[capacidade];
+        ocupadas = new boolean[capacidade];
+    }
+
+    /**
+     * @param chave Chave
+     * @param padrao Valor retornado se a chave não existir
+     * @return Valor da chave ou o padrão
+     */
+    public double get(long chave, double padrao) {
+        int mascara = chaves.length - 1;
+        for (int i = indice(chave, mascara); ocupadas[i]; i = (i + 1) & mascara) {
+            if (chaves[i] == chave) {
+                return valores[i];
+            }
+        }
+        return padrao;
+    }
+
+    public boolean contem(long chave) {
+        int mascara = chaves.length - 1;
+        for (int i = indice(chave, mascara); ocupadas[i]; i = (i + 1) & mascara) {
+            if (chaves[i] == chave) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Grava o valor da chave, substituindo o anterior
+     */
+    public void put(long chave, double valor) {
+        if (tamanho + 1 > chaves.length * FATOR_CARGA) {
+            redimensionar(chaves.length << 1);
+        }
+        int mascara = chaves.length - 1;
+        int i = indice(chave, mascara);
+        while (ocupadas[i]) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        ocupadas[i] = true;
+        chaves[i] = chave;
+        valores[i] = valor;
+        tamanho++;
+    }
+
+    /**
+     * Remove a chave, reposicionando as entradas seguintes do mesmo agrupamento
+     */
+    public void remove(long chave) {
+        int mascara = chaves.length - 1;
+        int i = indice(chave, mascara);
+        while (ocupadas[i] && chaves[i] != chave) {
+            i = (i + 1) & mascara;
+        }
+        if (!ocupadas[i]) {
+            return;
+        }
+        ocupadas[i] = false;
+        tamanho--;
+        for (int j = (i + 1) & mascara; ocupadas[j]; j = (j + 1) & mascara) {
+            long realocada = chaves[j];
+            double valor = valores[j];
+            ocupadas[j] = false;
+            tamanho--;
+            put(realocada, valor);
+        }
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * @return Cópia independente do mapa
+     */
+    public MapaLongDouble copia() {
+        MapaLongDouble copia = new MapaLongDouble(4);
+        copia.chaves = Arrays.copyOf(chaves, chaves.length);
+        copia.valores = Arrays.copyOf(valores, valores.length);
+        copia.ocupadas = Arrays.copyOf(ocupadas, ocupadas.length);
+        copia.tamanho = tamanho;
+        return copia;
+    }
+
+    private void redimensionar(int capacidade) {
+        long[] chavesAntigas = chaves;
+        double[] valoresAntigos = valores;
+        boolean[] ocupadasAntigas = ocupadas;
+        chaves = new long[capacidade];
+        valores = new double[capacidade];
+        ocupadas = new boolean[capacidade];
+        tamanho = 0;
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (ocupadasAntigas[i]) {
+                put(chavesAntigas[i], valoresAntigos[i]);
+            }
+        }
+    }
+
+    private static int indice(long chave, int mascara) {
+        // Espalha os bits (IDs sequenciais cairiam em posições vizinhas)
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import com.example.devmatch.job_posting_backend.dto.JobMatchDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fixa as pontuações do plano padrão nos mesmos valores do cálculo original
+ * (strings e listas), para pares representativos de vaga e perfil
+ */
+class MatchScorerTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static final MatchFeatures.Salario A_COMBINAR =
+            new MatchFeatures.Salario(MatchFeatures.EstadoSalario.A_COMBINAR, 0, 0);
+    private static final MatchFeatures.Salario SEM_FAIXA =
+            new MatchFeatures.Salario(MatchFeatures.EstadoSalario.SEM_FAIXA, 0, 0);
+    private static final MatchFeatures.Salario INVALIDO =
+            new MatchFeatures.Salario(MatchFeatures.EstadoSalario.INVALIDO, 0, 0);
+
+    private static final MatchFeatures.Contrato CLT =
+            new MatchFeatures.Contrato("CLT", 1, MatchFeatures.TipoContrato.CLT.bit());
+    private static final MatchFeatures.Contrato PJ =
+            new MatchFeatures.Contrato("PJ", 2, MatchFeatures.TipoContrato.PJ.bit());
+    private static final MatchFeatures.Contrato FREELANCER =
+            new MatchFeatures.Contrato("Freelancer", 3, MatchFeatures.TipoContrato.FREELANCE.bit());
+    private static final MatchFeatures.Contrato CLT_OU_PJ = new MatchFeatures.Contrato("CLT ou PJ", 4,
+            MatchFeatures.TipoContrato.CLT.bit() | MatchFeatures.TipoContrato.PJ.bit());
+
+    private SkillDictionary skillDictionary;
+    private MatchScorer matchScorer;
+
+    @BeforeEach
+    void criarScorer() {
+        skillDictionary = new SkillDictionary();
+        matchScorer = new MatchScorer();
+        ReflectionTestUtils.setField(matchScorer, "skillDictionary", skillDictionary);
+    }
+
+    @Test
+    void paresIdeaisPontuam100() {
+        MatchFeatures.Vaga vaga = vaga(MatchFeatures.Modalidade.REMOTO, null, faixa(5000, 8000), CLT,
+                "desenvolvedor backend", MatchFeatures.AREA_BACK, "java", "spring boot", "postgresql");
+        MatchFeatures.Perfil perfil = perfil(MatchFeatures.Modalidade.REMOTO, null, faixa(5000, 8000), CLT,
+                new String[] {"backend"}, new int[] {MatchFeatures.AREA_BACK}, "java", "spring boot", "postgresql");
+
+        assertEquals(100.0, matchScorer.calcularCompatibilidade(perfil, vaga), DELTA);
+    }
+
+    @Test
+    void pontuacaoParcialEmTodosOsCriterios() {
+        // Presencial na mesma cidade (pelo texto): 20; overlap 1000/5000: 25 * 0,2 = 5;
+        // PJ x Freelancer: 15 * 0,8 = 12; preferência divergente: 15 * 0,4 = 6;
+        // 1 de 4 skills: 25 * (0,25 + 0,2) = 11,25
+        MatchFeatures.Vaga vaga = vaga(MatchFeatures.Modalidade.PRESENCIAL, "sao paulo", faixa(4000, 6000), PJ,
+                "desenvolvedor backend", MatchFeatures.AREA_BACK, "java", "spring boot", "postgresql", "docker");
+        MatchFeatures.Perfil perfil = perfil(MatchFeatures.Modalidade.PRESENCIAL, "sao paulo - sp", faixa(5000, 9000),
+                FREELANCER, new String[] {"frontend"}, new int[] {MatchFeatures.AREA_FRONT}, "docker", "react");
+
+        assertEquals(54.25, matchScorer.calcularCompatibilidade(perfil, vaga), DELTA);
+
+        MatchScorer.Componentes componentes = matchScorer.calcularComponentes(perfil, vaga);
+        assertEquals(54.25, componentes.total(), DELTA);
+        assertEquals(100.0, componentes.localizacao(), DELTA);
+        assertEquals(20.0, componentes.salario(), DELTA);
+        assertEquals(80.0, componentes.contrato(), DELTA);
+        assertEquals(40.0, componentes.preferencias(), DELTA);
+        assertEquals(45.0, componentes.skills(), DELTA);
+    }
+
+    @Test
+    void vagaSemRegimeRecebeFatorProprioEPerfilSemContratoRecebeNeutro() {
+        // Remoto x híbrido: 20; a combinar: 25 * 0,8 = 20; vaga sem regime: 15 * 0,7 = 10,5;
+        // sem preferências: 7,5; vaga sem skills: 12,5
+        MatchFeatures.Vaga semRegime = vaga(MatchFeatures.Modalidade.HIBRIDO, null, A_COMBINAR,
+                MatchFeatures.Contrato.NAO_INFORMADO, "desenvolvedor", 0);
+        MatchFeatures.Perfil comContrato = perfil(MatchFeatures.Modalidade.REMOTO, null, faixa(3000, 5000), CLT,
+                new String[0], new int[0]);
+
+        assertEquals(70.5, matchScorer.calcularCompatibilidade(comContrato, semRegime), DELTA);
+        assertEquals(70.0, matchScorer.calcularComponentes(comContrato, semRegime).contrato(), DELTA);
+
+        // O fator da vaga sem regime vale também quando o perfil não informou contrato
+        MatchFeatures.Perfil semContrato = perfil(MatchFeatures.Modalidade.REMOTO, null, faixa(3000, 5000),
+                MatchFeatures.Contrato.NAO_INFORMADO, new String[0], new int[0]);
+        assertEquals(70.0, matchScorer.calcularComponentes(semContrato, semRegime).contrato(), DELTA);
+
+        MatchFeatures.Vaga comRegime = vaga(MatchFeatures.Modalidade.HIBRIDO, null, A_COMBINAR, CLT, "desenvolvedor", 0);
+        assertEquals(50.0, matchScorer.calcularComponentes(semContrato, comRegime).contrato(), DELTA);
+    }
+
+    @Test
+    void fatoresDeLocalizacaoSalarioEContrato() {
+        MatchFeatures.Perfil presencial = perfil(MatchFeatures.Modalidade.PRESENCIAL, "recife", SEM_FAIXA, CLT,
+                new String[0], new int[0]);
+        MatchFeatures.Vaga outraCidade = vaga(MatchFeatures.Modalidade.PRESENCIAL, "curitiba", faixa(3000, 4000),
+                CLT_OU_PJ, "analista", 0);
+        MatchScorer.Componentes componentes = matchScorer.calcularComponentes(presencial, outraCidade);
+        assertEquals(30.0, componentes.localizacao(), DELTA);
+        assertEquals(30.0, componentes.salario(), DELTA);
+        // "CLT ou PJ" x "CLT" não é CLT exclusivo dos dois lados
+        assertEquals(30.0, componentes.contrato(), DELTA);
+
+        MatchFeatures.Perfil hibrido = perfil(MatchFeatures.Modalidade.HIBRIDO, null, INVALIDO, PJ,
+                new String[0], new int[0]);
+        componentes = matchScorer.calcularComponentes(hibrido, outraCidade);
+        assertEquals(70.0, componentes.localizacao(), DELTA);
+        assertEquals(50.0, componentes.salario(), DELTA);
+        assertEquals(30.0, componentes.contrato(), DELTA);
+
+        MatchFeatures.Perfil outra = perfil(MatchFeatures.Modalidade.OUTRA, null, MatchFeatures.Salario.NAO_INFORMADO,
+                PJ, new String[0], new int[0]);
+        MatchFeatures.Vaga pj = vaga(MatchFeatures.Modalidade.PRESENCIAL, "curitiba", faixa(3000, 4000),
+                new MatchFeatures.Contrato("PJ - Pessoa Jurídica", 5, MatchFeatures.TipoContrato.PJ.bit()), "analista", 0);
+        componentes = matchScorer.calcularComponentes(outra, pj);
+        assertEquals(40.0, componentes.localizacao(), DELTA);
+        assertEquals(50.0, componentes.salario(), DELTA);
+        assertEquals(100.0, componentes.contrato(), DELTA);
+    }
+
+    @Test
+    void preferenciaPeloTextoDoTitulo() {
+        MatchFeatures.Vaga vaga = vaga(MatchFeatures.Modalidade.REMOTO, null, A_COMBINAR, CLT,
+                "engenheiro de dados", 0);
+        MatchFeatures.Perfil perfil = perfil(MatchFeatures.Modalidade.REMOTO, null, A_COMBINAR, CLT,
+                new String[] {"dados"}, new int[] {0});
+        assertEquals(100.0, matchScorer.calcularComponentes(perfil, vaga).preferencias(), DELTA);
+    }
+
+    @Test
+    void caminhoDetalhadoConcordaComOCaminhoRapido() {
+        MatchFeatures.Vaga vaga = vaga(MatchFeatures.Modalidade.PRESENCIAL, "sao paulo", faixa(4000, 6000), PJ,
+                "desenvolvedor backend", MatchFeatures.AREA_BACK, "java", "spring boot", "postgresql", "docker");
+        MatchFeatures.Perfil perfil = perfil(MatchFeatures.Modalidade.PRESENCIAL, "sao paulo - sp", faixa(5000, 9000),
+                FREELANCER, new String[] {"frontend"}, new int[] {MatchFeatures.AREA_FRONT}, "docker", "react");
+
+        JobMatchDto.MatchingDetails details = new JobMatchDto.MatchingDetails();
+        assertEquals(matchScorer.calcularCompatibilidade(perfil, vaga),
+                matchScorer.calcularCompatibilidadeDetalhada(perfil, vaga, details), DELTA);
+        assertEquals(List.of("docker"), details.getSkillsEmComum());
+        assertEquals(List.of("java", "spring boot", "postgresql"), details.getSkillsFaltantes());
+        assertEquals(45.0, details.getScoreSkills(), DELTA);
+    }
+
+    @Test
+    void tetosNuncaFicamAbaixoDaCompatibilidade() {
+        MatchFeatures.Modalidade[] modalidades = MatchFeatures.Modalidade.values();
+        MatchFeatures.Salario[] salarios = {MatchFeatures.Salario.NAO_INFORMADO, A_COMBINAR, SEM_FAIXA, INVALIDO,
+                faixa(3000, 5000), faixa(4000, 9000), faixa(10000, 12000)};
+        MatchFeatures.Contrato[] contratos = {MatchFeatures.Contrato.NAO_INFORMADO, CLT, PJ, FREELANCER, CLT_OU_PJ};
+
+        List<MatchFeatures.Vaga> vagas = new ArrayList<>();
+        List<MatchFeatures.Perfil> perfis = new ArrayList<>();
+        for (MatchFeatures.Modalidade modalidade : modalidades) {
+            for (MatchFeatures.Salario salario : salarios) {
+                for (MatchFeatures.Contrato contrato : contratos) {
+                    vagas.add(vaga(modalidade, "recife", salario, contrato, "desenvolvedor backend",
+                            MatchFeatures.AREA_BACK, "java", "docker"));
+                    vagas.add(vaga(modalidade, "natal", salario, contrato, "analista", 0));
+                    perfis.add(perfil(modalidade, "recife - pe", salario, contrato,
+                            new String[] {"backend"}, new int[] {MatchFeatures.AREA_BACK}, "java"));
+                    perfis.add(perfil(modalidade, "natal", salario, contrato, new String[0], new int[0], "react"));
+                }
+            }
+        }
+
+        for (MatchFeatures.Perfil perfil : perfis) {
+            for (MatchFeatures.Vaga vaga : vagas) {
+                double compatibilidade = matchScorer.calcularCompatibilidade(perfil, vaga);
+                assertTrue(matchScorer.calcularCompatibilidadeMaxima(perfil, vaga) >= compatibilidade - DELTA);
+                double semSkills = matchScorer.calcularCompatibilidadeMaximaSemSkills(perfil, vaga);
+                if (vaga.getSkills().length > 0
+                        && SkillDictionary.contarEmComum(perfil.getSkillBits(), vaga.getSkillBits()) == 0) {
+                    assertEquals(compatibilidade, semSkills, DELTA);
+                }
+                assertTrue(matchScorer.calcularTetoSemSkills(perfil, vaga) >= semSkills - DELTA);
+            }
+        }
+    }
+
+    private static MatchFeatures.Salario faixa(int minimo, int maximo) {
+        return new MatchFeatures.Salario(MatchFeatures.EstadoSalario.FAIXA, minimo, maximo);
+    }
+
+    private MatchFeatures.Vaga vaga(MatchFeatures.Modalidade modalidade, String localizacao,
+                                    MatchFeatures.Salario salario, MatchFeatures.Contrato regime,
+                                    String titulo, int areasTitulo, String... skills) {
+        return new MatchFeatures.Vaga(1L, 10L, titulo, titulo, areasTitulo, modalidade.name(),
+                modalidade.name().toLowerCase(), modalidade, localizacao, Double.NaN, Double.NaN, null,
+                salario, regime, skills, skillDictionary.criarBitset(List.of(skills)),
+                new AtomicReference<>(PlanoPontuacao.PADRAO));
+    }
+
+    private MatchFeatures.Perfil perfil(MatchFeatures.Modalidade modalidade, String localizacao,
+                                       MatchFeatures.Salario salario, MatchFeatures.Contrato contrato,
+                                       String[] preferencias, int[] areasPreferencias, String... skills) {
+        return new MatchFeatures.Perfil(100L, modalidade, localizacao, Double.NaN, Double.NaN, salario, contrato,
+                preferencias, preferencias, areasPreferencias, skillDictionary.criarBitset(List.of(skills)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillCanonicalizerTest {
+
+    @Test
+    void variacoesDaTabelaDeSinonimosCaemNaFormaCanonica() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        assertEquals("react", canonicalizer.canonizar("React.js"));
+        assertEquals("react", canonicalizer.canonizar("ReactJS"));
+        assertEquals("react", canonicalizer.canonizar("react js"));
+        assertEquals("postgresql", canonicalizer.canonizar("Postgres"));
+        assertEquals("postgresql", canonicalizer.canonizar("PostgreSQL"));
+        assertEquals("kubernetes", canonicalizer.canonizar("K8s"));
+        assertEquals("go", canonicalizer.canonizar("Golang"));
+        assertEquals("c#", canonicalizer.canonizar("C Sharp"));
+        assertEquals("spring boot", canonicalizer.canonizar("spring-boot"));
+    }
+
+    @Test
+    void nomesEmBrancoViramStringVazia() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        assertEquals("", canonicalizer.canonizar(null));
+        assertEquals("", canonicalizer.canonizar("   "));
+    }
+
+    @Test
+    void errosDeDigitacaoAcimaDaSimilaridadeMinimaSaoResolvidos() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        assertEquals("kubernetes", canonicalizer.canonizar("Kubernets"));
+        assertEquals("elasticsearch", canonicalizer.canonizar("Elasticsearh"));
+        assertEquals("typescript", canonicalizer.canonizar("Typescrip"));
+    }
+
+    @Test
+    void nomesPoucoParecidosNaoSaoUnidos() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        // Compartilha só o início com "react": Dice bem abaixo de 0,75
+        assertEquals("redux", canonicalizer.canonizar("Redux"));
+        // Chaves curtas não passam pela busca aproximada
+        assertEquals("gox", canonicalizer.canonizar("gox"));
+        assertEquals("cobol", canonicalizer.canonizar("COBOL"));
+    }
+
+    @Test
+    void skillsNovasEntramNoVocabularioParaBuscasSeguintes() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        int antes = canonicalizer.tamanhoVocabulario();
+        assertEquals("quarkus", canonicalizer.canonizar("Quarkus"));
+        assertEquals(antes + 1, canonicalizer.tamanhoVocabulario());
+        assertEquals("quarkus", canonicalizer.canonizar("Quarkuss"));
+    }
+
+    @Test
+    void resultadoEhEstavelEntreChamadas() {
+        SkillCanonicalizer canonicalizer = new SkillCanonicalizer();
+        String primeira = canonicalizer.canonizar("Kubernets");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(primeira, canonicalizer.canonizar("kubernets"));
+        }
+    }
+
+    @Test
+    void chaveIgnoraAcentosPontuacaoEEspacos() {
+        assertEquals("reactjs", SkillCanonicalizer.chave("react.js"));
+        assertEquals("nodejs", SkillCanonicalizer.chave("node-js"));
+        assertEquals("gestaodeprojetos", SkillCanonicalizer.chave("gestão de projetos"));
+        assertEquals("c++", SkillCanonicalizer.chave("c++"));
+        assertEquals("c#", SkillCanonicalizer.chave("c #"));
+        assertTrue(SkillCanonicalizer.chave("...").isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.devmatch.job_posting_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillDictionaryTest {
+
+    @Test
+    void normalizaParaMinusculasSemEspacosNasPontas() {
+        assertEquals("spring boot", SkillDictionary.normalizar("  Spring Boot "));
+        assertEquals("", SkillDictionary.normalizar(null));
+    }
+
+    @Test
+    void idsSaoDensosEEstaveis() {
+        SkillDictionary dicionario = new SkillDictionary();
+        int java = dicionario.getOuRegistrar("java");
+        int python = dicionario.getOuRegistrar("python");
+        assertEquals(0, java);
+        assertEquals(1, python);
+        assertEquals(java, dicionario.getOuRegistrar("java"));
+        assertEquals(2, dicionario.tamanho());
+    }
+
+    @Test
+    void bitsetTemUmBitPorSkill() {
+        SkillDictionary dicionario = new SkillDictionary();
+        long[] bits = dicionario.criarBitset(List.of("java", "sql", "docker"));
+        for (String skill : List.of("java", "sql", "docker")) {
+            assertTrue(SkillDictionary.contem(bits, dicionario.getOuRegistrar(skill)));
+        }
+        assertFalse(SkillDictionary.contem(bits, dicionario.getOuRegistrar("go")));
+        assertEquals(3, SkillDictionary.contarEmComum(bits, bits));
+    }
+
+    @Test
+    void intersecaoContaSomenteSkillsEmComum() {
+        SkillDictionary dicionario = new SkillDictionary();
+        long[] vaga = dicionario.criarBitset(List.of("java", "spring boot", "postgresql", "docker"));
+        long[] perfil = dicionario.criarBitset(List.of("docker", "java", "react"));
+        assertEquals(2, SkillDictionary.contarEmComum(vaga, perfil));
+        assertEquals(2, SkillDictionary.contarEmComum(perfil, vaga));
+        assertEquals(0, SkillDictionary.contarEmComum(vaga, new long[0]));
+    }
+
+    @Test
+    void bitsetsDeTamanhosDiferentesAlemDe64Skills() {
+        SkillDictionary dicionario = new SkillDictionary();
+        List<String> muitas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            muitas.add("skill" + i);
+        }
+        long[] todas = dicionario.criarBitset(muitas);
+        assertEquals(4, todas.length);
+
+        // Perfil só com skills da primeira palavra: bitset mais curto
+        long[] curto = dicionario.criarBitset(List.of("skill3", "skill10"));
+        assertEquals(1, curto.length);
+        assertEquals(2, SkillDictionary.contarEmComum(todas, curto));
+
+        long[] longo = dicionario.criarBitset(List.of("skill3", "skill130", "skill199", "nova"));
+        assertEquals(3, SkillDictionary.contarEmComum(todas, longo));
+        assertEquals(1, SkillDictionary.contarEmComum(curto, longo));
+        assertTrue(SkillDictionary.contem(longo, dicionario.getOuRegistrar("skill199")));
+        assertFalse(SkillDictionary.contem(curto, dicionario.getOuRegistrar("skill199")));
+        assertNotEquals(dicionario.getOuRegistrar("skill3"), dicionario.getOuRegistrar("skill67"));
+    }
+}
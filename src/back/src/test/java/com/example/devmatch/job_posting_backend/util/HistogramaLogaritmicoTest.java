@@ -0,0 +1,128 @@
+package com.example.devmatch.job_posting_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramaLogaritmicoTest {
+
+    private static final double[] QUANTIS = {0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0};
+
+    @Test
+    void esbocoVazioDevolveZero() {
+        HistogramaLogaritmico esboco = HistogramaLogaritmico.deLinhas(List.of());
+        assertEquals(0, esboco.getTotal());
+        assertEquals(0d, esboco.quantil(0.5));
+    }
+
+    @Test
+    void valorDaFaixaFicaDentroDoErroRelativo() {
+        Random aleatorio = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double valor = Math.exp(aleatorio.nextDouble() * 20 - 10);
+            double representado = HistogramaLogaritmico.valor(HistogramaLogaritmico.faixa(valor));
+            assertTrue(Math.abs(representado - valor) <= valor * HistogramaLogaritmico.ERRO_RELATIVO * (1 + 1e-9),
+                    "valor " + valor + " representado por " + representado);
+        }
+    }
+
+    @Test
+    void valoresNulosOuNegativosCaemNaFaixaZero() {
+        assertEquals(HistogramaLogaritmico.FAIXA_ZERO, HistogramaLogaritmico.faixa(0));
+        assertEquals(HistogramaLogaritmico.FAIXA_ZERO, HistogramaLogaritmico.faixa(-3.5));
+        assertEquals(0d, HistogramaLogaritmico.valor(HistogramaLogaritmico.FAIXA_ZERO));
+    }
+
+    @Test
+    void quantisFicamDentroDoErroRelativoDosExatos() {
+        // Dias de contratação: de horas a alguns meses, com cauda longa e alguns zeros
+        Random aleatorio = new Random(7);
+        double[] valores = new double[20_000];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = i % 500 == 0 ? 0 : Math.floor(Math.exp(aleatorio.nextGaussian() + 3) * 24) / 24.0;
+        }
+        HistogramaLogaritmico esboco = HistogramaLogaritmico.deLinhas(linhas(contar(valores)));
+
+        double[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+        assertEquals(valores.length, esboco.getTotal());
+        for (double q : QUANTIS) {
+            double exato = ordenados[(int) Math.floor(q * (ordenados.length - 1))];
+            assertEquals(exato, esboco.quantil(q), exato * HistogramaLogaritmico.ERRO_RELATIVO * (1 + 1e-9),
+                    "quantil " + q);
+        }
+    }
+
+    @Test
+    void uniaoPelaSomaDasFaixasEquivaleAoEsbocoUnico() {
+        Random aleatorio = new Random(3);
+        double[] dia1 = new double[3000];
+        double[] dia2 = new double[5000];
+        for (int i = 0; i < dia1.length; i++) {
+            dia1[i] = 1 + aleatorio.nextDouble() * 30;
+        }
+        for (int i = 0; i < dia2.length; i++) {
+            dia2[i] = 10 + aleatorio.nextDouble() * 90;
+        }
+
+        // Mesma união que o banco faz: sum(quantidade) agrupado por faixa
+        Map<Integer, Long> somadas = contar(dia1);
+        contar(dia2).forEach((faixa, quantidade) -> somadas.merge(faixa, quantidade, Long::sum));
+        HistogramaLogaritmico uniao = HistogramaLogaritmico.deLinhas(linhas(somadas));
+
+        double[] todos = new double[dia1.length + dia2.length];
+        System.arraycopy(dia1, 0, todos, 0, dia1.length);
+        System.arraycopy(dia2, 0, todos, dia1.length, dia2.length);
+        HistogramaLogaritmico unico = HistogramaLogaritmico.deLinhas(linhas(contar(todos)));
+
+        assertEquals(unico.getTotal(), uniao.getTotal());
+        for (double q : QUANTIS) {
+            assertEquals(unico.quantil(q), uniao.quantil(q), "quantil " + q);
+        }
+    }
+
+    @Test
+    void faixaSqlUsaAMesmaFormulaDaFaixa() {
+        String sql = HistogramaLogaritmico.faixaSql("x");
+        String prefixo = "case when x <= 0 then " + HistogramaLogaritmico.FAIXA_ZERO
+                + " else cast(ceil(ln(x) / ln(";
+        String sufixo = ")) as integer) end";
+        assertTrue(sql.startsWith(prefixo), sql);
+        assertTrue(sql.endsWith(sufixo), sql);
+
+        // A constante escrita no SQL tem que ser exatamente GAMA, senão o banco classifica diferente
+        double gamaSql = Double.parseDouble(sql.substring(prefixo.length(), sql.length() - sufixo.length()));
+        assertEquals(HistogramaLogaritmico.GAMA, gamaSql);
+
+        // Avalia a expressão como o banco faria e compara com a classificação em Java
+        Random aleatorio = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            double valor = i % 1000 == 0 ? 0 : Math.floor(aleatorio.nextDouble() * 365 * 24) / 24.0;
+            int faixaSql = valor <= 0 ? HistogramaLogaritmico.FAIXA_ZERO : (int) Math.ceil(Math.log(valor) / Math.log(gamaSql));
+            assertEquals(HistogramaLogaritmico.faixa(valor), faixaSql, "valor " + valor);
+        }
+    }
+
+    private static Map<Integer, Long> contar(double[] valores) {
+        Map<Integer, Long> contagens = new TreeMap<>();
+        for (double valor : valores) {
+            contagens.merge(HistogramaLogaritmico.faixa(valor), 1L, Long::sum);
+        }
+        return contagens;
+    }
+
+    // Linhas {faixa, quantidade} ordenadas por faixa, como as devolvidas pelo repositório
+    private static List<Object[]> linhas(Map<Integer, Long> contagens) {
+        List<Object[]> linhas = new ArrayList<>();
+        new TreeMap<>(contagens).forEach((faixa, quantidade) -> linhas.add(new Object[] {faixa, quantidade}));
+        return linhas;
+    }
+}
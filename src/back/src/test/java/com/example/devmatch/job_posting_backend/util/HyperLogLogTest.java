@@ -0,0 +1,108 @@
+package com.example.devmatch.job_posting_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    @Test
+    void contadorVazioEstimaZero() {
+        assertEquals(0, new HyperLogLog().estimativa());
+    }
+
+    @Test
+    void poucosElementosSaoContadosQuaseExatamente() {
+        for (int quantidade : new int[] {1, 2, 10, 50, 100}) {
+            HyperLogLog contador = new HyperLogLog();
+            for (long id = 1; id <= quantidade; id++) {
+                contador.adicionar(id);
+            }
+            assertEquals(quantidade, contador.estimativa(), Math.max(1, quantidade * 0.02));
+        }
+    }
+
+    @Test
+    void repetirIdsNaoAlteraAEstimativa() {
+        HyperLogLog contador = new HyperLogLog();
+        for (int vez = 0; vez < 5; vez++) {
+            for (long id = 1; id <= 1000; id++) {
+                contador.adicionar(id);
+            }
+        }
+        HyperLogLog unico = new HyperLogLog();
+        for (long id = 1; id <= 1000; id++) {
+            unico.adicionar(id);
+        }
+        assertEquals(unico.estimativa(), contador.estimativa());
+    }
+
+    @Test
+    void muitosElementosFicamDentroDoErroEsperado() {
+        // Erro padrão de ~2,3%; 4 desvios dão margem para qualquer semente
+        for (int quantidade : new int[] {1_000, 10_000, 100_000, 1_000_000}) {
+            HyperLogLog contador = new HyperLogLog();
+            for (long id = 1; id <= quantidade; id++) {
+                contador.adicionar(id * 7919L);
+            }
+            double erro = Math.abs(contador.estimativa() - quantidade) / (double) quantidade;
+            assertTrue(erro < 0.092, "erro de " + erro + " para " + quantidade + " elementos");
+        }
+    }
+
+    @Test
+    void uniaoPeloMaximoPorRegistroEquivaleAoContadorUnico() {
+        // Dois dias com IDs em parte repetidos (1 a 6000 e 4001 a 10000)
+        HyperLogLog dia1 = new HyperLogLog();
+        HyperLogLog dia2 = new HyperLogLog();
+        HyperLogLog ambos = new HyperLogLog();
+        for (long id = 1; id <= 6000; id++) {
+            dia1.adicionar(id);
+            ambos.adicionar(id);
+        }
+        for (long id = 4001; id <= 10_000; id++) {
+            dia2.adicionar(id);
+            ambos.adicionar(id);
+        }
+
+        // Mesma união que o banco faz: max(rho) agrupado por registro
+        List<Object[]> linhas = new ArrayList<>();
+        for (int registro = 0; registro < HyperLogLog.REGISTROS; registro++) {
+            int rho = Math.max(dia1.valor(registro), dia2.valor(registro));
+            if (rho > 0) {
+                linhas.add(new Object[] {registro, rho});
+            }
+        }
+        HyperLogLog uniao = HyperLogLog.deLinhas(linhas);
+
+        for (int registro = 0; registro < HyperLogLog.REGISTROS; registro++) {
+            assertEquals(ambos.valor(registro), uniao.valor(registro));
+        }
+        assertEquals(ambos.estimativa(), uniao.estimativa());
+        assertEquals(10_000, uniao.estimativa(), 10_000 * 0.092);
+    }
+
+    @Test
+    void atualizarMantemOMaiorRho() {
+        HyperLogLog contador = new HyperLogLog();
+        contador.atualizar(5, 3);
+        contador.atualizar(5, 1);
+        assertEquals(3, contador.valor(5));
+        contador.atualizar(5, 7);
+        assertEquals(7, contador.valor(5));
+    }
+
+    @Test
+    void registroERhoFicamNosLimites() {
+        for (long id = -1000; id <= 100_000; id++) {
+            int registro = HyperLogLog.registro(id);
+            int rho = HyperLogLog.rho(id);
+            assertTrue(registro >= 0 && registro < HyperLogLog.REGISTROS);
+            assertTrue(rho >= 1 && rho <= 64 - HyperLogLog.PRECISAO + 1);
+        }
+    }
+}
@@ -33,7 +33,7 @@ import {
 import { getCandidaturasByVaga, atualizarStatusCandidatura } from '../../../service/candidaturaService';
 import { buscarPerfil } from '../../../service/perfilDevService';
 import { getUserById } from '../../../service/authService';
-import { getCompatibilidadeCandidato } from '../../../service/matchingService';
+import { getCompatibilidadesEmLote } from '../../../service/matchingService';
 import { getApplicationStatusColor, getApplicationStatusLabel } from '../../../utils/statusUtils';
 import { formatDate } from '../../../utils/formatUtils';
 import TechnicalTestReviewDialog from './TechnicalTestReviewDialog';
@@ -93,7 +93,12 @@ const CandidatesPanel: React.FC<CandidatesPanelProps> = ({ jobPostings }) => {
       setLoading(true);
       const candidaturasData = await getCandidaturasByVaga(vagaId);
       
-      // Buscar dados dos candidatos (usuário + perfil + compatibilidade)
+      // Compatibilidade de todos os candidatos em uma única requisição
+      const compatibilidades = await getCompatibilidadesEmLote(
+        candidaturasData.map((cand: Candidatura) => ({ desenvolvedorId: cand.usuarioId, vagaId }))
+      );
+      
+      // Buscar dados dos candidatos (usuário + perfil)
       const candidatosDetalhados = await Promise.all(
         candidaturasData.map(async (cand: Candidatura) => {
           try {
@@ -103,8 +108,7 @@ const CandidatesPanel: React.FC<CandidatesPanelProps> = ({ jobPostings }) => {
             // Buscar perfil profissional
             const perfilData = await buscarPerfil(cand.usuarioId);
             
-            // Buscar compatibilidade com a vaga
-            const compatibilidade = await getCompatibilidadeCandidato(cand.usuarioId, vagaId);
+            const compatibilidade = compatibilidades.find((c) => c.desenvolvedorId === cand.usuarioId)?.compatibilidade ?? 0;
             
             return {
               ...cand,
@@ -147,6 +151,9 @@ const CandidatesPanel: React.FC<CandidatesPanelProps> = ({ jobPostings }) => {
       for (const vaga of jobPostings) {
         try {
           const candidaturasData = await getCandidaturasByVaga(Number(vaga.id));
+          const compatibilidades = await getCompatibilidadesEmLote(
+            candidaturasData.map((cand: Candidatura) => ({ desenvolvedorId: cand.usuarioId, vagaId: Number(vaga.id) }))
+          );
           const candidatosDetalhados = await Promise.all(
             candidaturasData.map(async (cand: Candidatura) => {
               try {
@@ -156,8 +163,7 @@ const CandidatesPanel: React.FC<CandidatesPanelProps> = ({ jobPostings }) => {
                 // Buscar perfil profissional
                 const perfilData = await buscarPerfil(cand.usuarioId);
                 
-                // Buscar compatibilidade com a vaga
-                const compatibilidade = await getCompatibilidadeCandidato(cand.usuarioId, Number(vaga.id));
+                const compatibilidade = compatibilidades.find((c) => c.desenvolvedorId === cand.usuarioId)?.compatibilidade ?? 0;
                 
                 return {
                   ...cand,
@@ -19,6 +19,7 @@ interface jobPayload {
   prazoEstimado: string;
   description: string;
   localModalidade: string;
+  localizacao?: string;
   anexo?: string;
 }
 
@@ -33,6 +34,7 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
   const [prazoEstimado, setPrazoEstimado] = React.useState('');
   const [description, setDescription] = React.useState('');
   const [localModalidade, setLocalModalidade] = React.useState('');
+  const [localizacao, setLocalizacao] = React.useState('');
   const [anexo, setAnexo] = React.useState<string | undefined>(undefined);
   const [formError, setFormError] = React.useState(false);
   const [testType, setTestType] = React.useState<'none' | 'pdf' | 'questions'>('none');
@@ -50,6 +52,7 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
     setPrazoEstimado('');
     setDescription('');
     setLocalModalidade('');
+    setLocalizacao('');
     setAnexo(undefined);
     setFormError(false);
   };
@@ -63,6 +66,7 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
     setPrazoEstimado(job.prazoEstimado || '');
     setDescription(job.description || '');
     setLocalModalidade(job.localModalidade || '');
+    setLocalizacao(job.localizacao || '');
     setAnexo(job.anexo);
     const isJsonSpec = typeof job.anexo === 'string' && job.anexo.startsWith('json:testSpec:');
     if (isJsonSpec) {
@@ -133,6 +137,7 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
       prazoEstimado,
       description,
       localModalidade,
+      localizacao: localModalidade === 'Remoto' ? '' : localizacao,
       anexo: anexoToSend,
     };
     
@@ -308,7 +313,7 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
                 onChange={(e) => setDescription(e.target.value)}
               />
             </Grid>
-            <Grid item xs={12}>
+            <Grid item xs={12} md={6}>
               <FormControl fullWidth required>
                 <InputLabel>Local / Modalidade</InputLabel>
                 <Select
@@ -322,6 +327,16 @@ const JobEditDialog: React.FC<JobEditDialogProps> = (props) => {
                 </Select>
               </FormControl>
             </Grid>
+            <Grid item xs={12} md={6}>
+              <TextField
+                fullWidth
+                label="Cidade da vaga"
+                placeholder="Ex.: Belo Horizonte - MG (vazio = localização da empresa)"
+                value={localizacao}
+                disabled={localModalidade === 'Remoto'}
+                onChange={(e) => setLocalizacao(e.target.value)}
+              />
+            </Grid>
             <Grid item xs={12}>
               <Box display="flex" alignItems="center" justifyContent="space-between">
                 <Typography>Deseja incluir teste técnico?</Typography>
@@ -17,6 +17,7 @@ interface jobPayload {
   prazoEstimado: string;
   description: string;
   localModalidade: string;
+  localizacao?: string;
   anexo?: string;
 }
 
@@ -31,6 +32,7 @@ const JobFormDialog: React.FC<JobFormDialogProps> = (props) => {
   const [prazoEstimado, setPrazoEstimado] = React.useState('');
   const [description, setDescription] = React.useState('');
   const [localModalidade, setLocalModalidade] = React.useState('');
+  const [localizacao, setLocalizacao] = React.useState('');
   const [anexo, setAnexo] = React.useState<string | undefined>(undefined);
   const [formError, setFormError] = React.useState(false);
   const [testType, setTestType] = React.useState<'none' | 'pdf' | 'questions'>('none');
@@ -47,6 +49,7 @@ const JobFormDialog: React.FC<JobFormDialogProps> = (props) => {
     setPrazoEstimado('');
     setDescription('');
     setLocalModalidade('');
+    setLocalizacao('');
     setAnexo(undefined);
     setFormError(false);
   };
@@ -80,6 +83,7 @@ const JobFormDialog: React.FC<JobFormDialogProps> = (props) => {
       prazoEstimado,
       description,
       localModalidade,
+      localizacao: localModalidade === 'Remoto' ? '' : localizacao,
       anexo,
     };
     if (!title || skills.length === 0 || !experienceLevel || !regime || !modeloRemuneracao || !valorReferencia || !localModalidade) {
@@ -257,7 +261,7 @@ const JobFormDialog: React.FC<JobFormDialogProps> = (props) => {
                 onChange={(e) => setDescription(e.target.value)}
               />
             </Grid>
-            <Grid item xs={12}>
+            <Grid item xs={12} md={6}>
               <FormControl fullWidth required>
                 <InputLabel>Local / Modalidade</InputLabel>
                 <Select
@@ -271,6 +275,16 @@ const JobFormDialog: React.FC<JobFormDialogProps> = (props) => {
                 </Select>
               </FormControl>
             </Grid>
+            <Grid item xs={12} md={6}>
+              <TextField
+                fullWidth
+                label="Cidade da vaga"
+                placeholder="Ex.: Belo Horizonte - MG (vazio = localização da empresa)"
+                value={localizacao}
+                disabled={localModalidade === 'Remoto'}
+                onChange={(e) => setLocalizacao(e.target.value)}
+              />
+            </Grid>
             <Grid item xs={12} md={6}>
               <FormControl fullWidth>
                 <InputLabel>Tipo de Teste Técnico</InputLabel>
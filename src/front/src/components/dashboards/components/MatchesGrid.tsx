@@ -21,7 +21,7 @@ import {
   CheckCircle,
   Psychology,
 } from '@mui/icons-material';
-import { JobMatch } from '../../../service/matchingService';
+import { JobMatch, MatchingDetails, getExplicacaoMatching } from '../../../service/matchingService';
 import { candidatar, verificarCandidatura } from '../../../service/candidaturaService';
 import JobDetailsDialog from '../../jobs/JobDetailsDialog';
 import MatchingExplanation from '../../matching/MatchingExplanation';
@@ -39,6 +39,7 @@ const MatchesGrid: React.FC<MatchesGridProps> = ({ matches, userId, onCandidatur
   const [error, setError] = useState('');
   const [matchingExplanationOpen, setMatchingExplanationOpen] = useState(false);
   const [selectedMatch, setSelectedMatch] = useState<JobMatch | null>(null);
+  const [explicacao, setExplicacao] = useState<MatchingDetails | undefined>(undefined);
 
   React.useEffect(() => {
     checkCandidaturas();
@@ -89,14 +90,23 @@ const MatchesGrid: React.FC<MatchesGridProps> = ({ matches, userId, onCandidatur
     setDetailsOpen(true);
   };
 
-  const handleOpenMatchingExplanation = (match: JobMatch) => {
+  const handleOpenMatchingExplanation = async (match: JobMatch) => {
     setSelectedMatch(match);
+    // Exibe os scores da listagem enquanto a explicação completa é carregada
+    setExplicacao(match.matchingDetails);
     setMatchingExplanationOpen(true);
+    if (!userId) return;
+    try {
+      setExplicacao(await getExplicacaoMatching(userId, match.vagaId));
+    } catch (err) {
+      console.error('Erro ao carregar explicação do matching:', err);
+    }
   };
 
   const handleCloseMatchingExplanation = () => {
     setMatchingExplanationOpen(false);
     setSelectedMatch(null);
+    setExplicacao(undefined);
   };
 
   const getCompatibilidadeColor = (compatibilidade: number) => {
@@ -310,7 +320,7 @@ const MatchesGrid: React.FC<MatchesGridProps> = ({ matches, userId, onCandidatur
           open={matchingExplanationOpen}
           onClose={handleCloseMatchingExplanation}
           compatibilidade={selectedMatch.compatibilidade}
-          details={selectedMatch.matchingDetails}
+          details={explicacao}
           jobTitle={selectedMatch.titulo}
         />
       )}
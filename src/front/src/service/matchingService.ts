@@ -8,10 +8,11 @@ export interface MatchingDetails {
   scoreContrato: number;
   scorePreferencias: number;
   scoreSkills: number;
-  skillsEmComum: string[];
-  skillsFaltantes: string[];
-  motivosPositivos: string[];
-  sugestoesMelhoria: string[];
+  // Listas preenchidas apenas na explicação sob demanda (getExplicacaoMatching)
+  skillsEmComum?: string[];
+  skillsFaltantes?: string[];
+  motivosPositivos?: string[];
+  sugestoesMelhoria?: string[];
 }
 
 export interface JobMatch {
@@ -28,21 +29,103 @@ export interface JobMatch {
   matchingDetails?: MatchingDetails;
 }
 
+// Tamanho máximo de página aceito por /vagas-compativeis
+const LIMITE_PAGINA_VAGAS = 200;
+
 /**
  * Busca vagas compatíveis para um desenvolvedor
+ * O endpoint é paginado: segue o cursor do header X-Next-Cursor até a última página.
  * @param usuarioId ID do desenvolvedor
  * @returns Lista de vagas com percentual de compatibilidade (>= 60%)
  */
 export const getVagasCompativeis = async (usuarioId: string): Promise<JobMatch[]> => {
   try {
-    const response = await axios.get(`${API_URL}/matching/vagas-compativeis/${usuarioId}`);
-    return response.data;
+    const vagas: JobMatch[] = [];
+    let cursor: string | undefined;
+    do {
+      const response = await axios.get(`${API_URL}/matching/vagas-compativeis/${usuarioId}`, {
+        params: { limit: LIMITE_PAGINA_VAGAS, cursor },
+      });
+      vagas.push(...response.data);
+      cursor = response.headers['x-next-cursor'] || undefined;
+    } while (cursor);
+    return vagas;
   } catch (error) {
     console.error('Error fetching compatible jobs:', error);
     throw error;
   }
 };
 
+/**
+ * Busca a explicação completa do matching entre um desenvolvedor e uma vaga
+ * @param usuarioId ID do desenvolvedor
+ * @param vagaId ID da vaga
+ * @returns Detalhes do matching (scores, motivos, sugestões e skills)
+ */
+export const getExplicacaoMatching = async (usuarioId: string, vagaId: number): Promise<MatchingDetails> => {
+  try {
+    const response = await axios.get(`${API_URL}/matching/explicacao/${usuarioId}/${vagaId}`);
+    return response.data;
+  } catch (error) {
+    console.error('Error fetching matching explanation:', error);
+    throw error;
+  }
+};
+
+export interface NovoMatch {
+  vagaId: number;
+  titulo: string;
+  nomeEmpresa?: string;
+  compatibilidade: number; // 0-100
+  dataCriacao: string;
+}
+
+/**
+ * Busca os novos matches ainda não lidos de um desenvolvedor
+ * @param usuarioId ID do desenvolvedor
+ * @returns Vagas que passaram a ser compatíveis, da mais recente para a mais antiga
+ */
+export const getNovosMatches = async (usuarioId: string): Promise<NovoMatch[]> => {
+  try {
+    const response = await axios.get(`${API_URL}/matching/novos/${usuarioId}`);
+    return response.data;
+  } catch (error) {
+    console.error('Error fetching new matches:', error);
+    throw error;
+  }
+};
+
+/**
+ * Conta os novos matches não lidos de um desenvolvedor
+ * @param usuarioId ID do desenvolvedor
+ * @returns Quantidade de avisos não lidos
+ */
+export const contarNovosMatches = async (usuarioId: string): Promise<number> => {
+  try {
+    const response = await axios.get(`${API_URL}/matching/novos/${usuarioId}/quantidade`);
+    return response.data;
+  } catch (error) {
+    console.error('Error counting new matches:', error);
+    return 0;
+  }
+};
+
+/**
+ * Marca novos matches como lidos
+ * @param usuarioId ID do desenvolvedor
+ * @param vagaIds Vagas a marcar (omitido marca todos)
+ */
+export const marcarNovosMatchesLidos = async (usuarioId: string, vagaIds?: number[]): Promise<void> => {
+  try {
+    await axios.put(`${API_URL}/matching/novos/${usuarioId}/lidos`, vagaIds ?? null, {
+      headers: { 'Content-Type': 'application/json' },
+    });
+  } catch (error) {
+    console.error('Error marking new matches as read:', error);
+    throw error;
+  }
+};
+
 /**
  * Calcula compatibilidade de um candidato específico com uma vaga específica
  * @param desenvolvedorId ID do desenvolvedor/candidato
@@ -59,3 +142,28 @@ export const getCompatibilidadeCandidato = async (desenvolvedorId: number, vagaI
   }
 };
 
+export interface CompatibilidadePar {
+  desenvolvedorId: number;
+  vagaId: number;
+  compatibilidade: number; // 0-100
+}
+
+/**
+ * Calcula a compatibilidade de vários pares desenvolvedor/vaga em uma única requisição
+ * @param pares Pares desenvolvedor/vaga
+ * @returns Compatibilidade de cada par, na ordem enviada
+ */
+export const getCompatibilidadesEmLote = async (
+  pares: { desenvolvedorId: number; vagaId: number }[]
+): Promise<CompatibilidadePar[]> => {
+  if (pares.length === 0) {
+    return [];
+  }
+  try {
+    const response = await axios.post(`${API_URL}/matching/compatibilidade`, pares);
+    return response.data;
+  } catch (error) {
+    console.error('Error fetching compatibilities in batch:', error);
+    return pares.map((par) => ({ ...par, compatibilidade: 0 })); // Retorna 0 em caso de erro
+  }
+};
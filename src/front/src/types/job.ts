@@ -8,6 +8,7 @@ export interface JobPosting {
   prazoEstimado: string;
   description?: string;
   localModalidade: string;
+  localizacao?: string;
   anexo?: string;
   applications: number;
   matches: number;